@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.metamodel;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark for the creation of the runtime mapping model when the
+ * {@link SessionFactory} is built, comparing sequential creation of the
+ * persisters with parallel creation enabled via
+ * {@value AvailableSettings#MAPPING_MODEL_CREATION_PARALLELISM}.
+ *
+ * The domain model is a synthetic model of 1,000 generated entity classes,
+ * each with a basic attribute and a lazy many-to-one association to the
+ * previous entity.
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*MappingModelCreationBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1)
+public class MappingModelCreationBenchmark {
+
+	private static final int ENTITY_COUNT = 1_000;
+	private static final String PACKAGE = "org.hibernate.metamodel.generated.";
+
+	@Param({"1", "4", "8"})
+	private int parallelism;
+
+	private List<Class<?>> entityClasses;
+	private StandardServiceRegistry registry;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		entityClasses = generateEntityClasses();
+		registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:mapping_model;DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false")
+				.applySetting(AvailableSettings.MAPPING_MODEL_CREATION_PARALLELISM, parallelism)
+				.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		StandardServiceRegistryBuilder.destroy(registry);
+	}
+
+	@Benchmark
+	public SessionFactory buildSessionFactory() {
+		final MetadataSources metadataSources = new MetadataSources(registry);
+		for (Class<?> entityClass : entityClasses) {
+			metadataSources.addAnnotatedClass(entityClass);
+		}
+		final SessionFactory sessionFactory = metadataSources.buildMetadata().buildSessionFactory();
+		sessionFactory.close();
+		return sessionFactory;
+	}
+
+	// ========== Helper Methods ==========
+
+	/**
+	 * Generate the entity classes, loading them all with a single class loader.
+	 */
+	private static List<Class<?>> generateEntityClasses() {
+		final List<DynamicType.Unloaded<?>> types = new ArrayList<>(ENTITY_COUNT);
+		TypeDescription previous = null;
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			final String name = PACKAGE + entityName(i);
+			DynamicType.Builder<?> builder = new ByteBuddy()
+					.subclass(Object.class)
+					.name(name)
+					.annotateType(AnnotationDescription.Builder.ofType(Entity.class).build())
+					.defineField("id", Long.class, Visibility.PRIVATE)
+					.annotateField(AnnotationDescription.Builder.ofType(Id.class).build())
+					.defineField("name", String.class, Visibility.PRIVATE);
+			if (previous != null) {
+				builder = builder.defineField("previous", previous, Visibility.PRIVATE)
+						.annotateField(AnnotationDescription.Builder.ofType(ManyToOne.class)
+								.define("fetch", FetchType.LAZY)
+								.build());
+			}
+			types.add(builder.make());
+			previous = new TypeDescription.Latent(name, Modifier.PUBLIC, TypeDescription.Generic.OBJECT);
+		}
+
+		final DynamicType.Loaded<?> loaded = types.get(0)
+				.include(types.subList(1, ENTITY_COUNT))
+				.load(MappingModelCreationBenchmark.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+		final List<Class<?>> classes = new ArrayList<>(ENTITY_COUNT);
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			classes.add(loaded.getAllLoaded().get(types.get(i).getTypeDescription()));
+		}
+		return classes;
+	}
+
+	private static String entityName(int i) {
+		return String.format("Entity%04d", i);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access;
+
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark for reading and writing the fields of an entity which is not
+ * bytecode enhanced, comparing reflective field access with field access via
+ * hidden classes holding a constant {@code VarHandle}, enabled via
+ * {@value AvailableSettings#PROPERTY_ACCESS_METHOD_HANDLES}, and with the
+ * generated accessor of the {@link ReflectionOptimizer}.
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*PropertyAccessBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2)
+public class PropertyAccessBenchmark {
+
+	private static final String[] PROPERTY_NAMES = { "id", "name", "description", "price", "quantity" };
+
+	@Param({"reflection", "method_handles", "reflection_optimizer"})
+	private String access;
+
+	private Getter[] getters;
+	private Setter[] setters;
+	private ReflectionOptimizer.AccessOptimizer accessOptimizer;
+
+	private Product product;
+	private Object[] values;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final PropertyAccessStrategy strategy = "method_handles".equals(access)
+				? PropertyAccessStrategyMethodHandleImpl.FIELD
+				: PropertyAccessStrategyFieldImpl.INSTANCE;
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		getters = new Getter[PROPERTY_NAMES.length];
+		setters = new Setter[PROPERTY_NAMES.length];
+		for (int i = 0; i < PROPERTY_NAMES.length; i++) {
+			final PropertyAccess propertyAccess = strategy.buildPropertyAccess(Product.class, PROPERTY_NAMES[i], true);
+			propertyAccessMap.put(PROPERTY_NAMES[i], propertyAccess);
+			getters[i] = propertyAccess.getGetter();
+			setters[i] = propertyAccess.getSetter();
+		}
+		if ("reflection_optimizer".equals(access)) {
+			accessOptimizer = new BytecodeProviderImpl()
+					.getReflectionOptimizer(Product.class, propertyAccessMap)
+					.getAccessOptimizer();
+		}
+
+		product = new Product();
+		values = new Object[] { 1L, "Widget", "A widget", 9.99, 42 };
+	}
+
+	@Benchmark
+	public void getValues(Blackhole blackhole) {
+		if (accessOptimizer != null) {
+			blackhole.consume(accessOptimizer.getPropertyValues(product));
+		}
+		else {
+			for (Getter getter : getters) {
+				blackhole.consume(getter.get(product));
+			}
+		}
+	}
+
+	@Benchmark
+	public Product setValues() {
+		if (accessOptimizer != null) {
+			accessOptimizer.setPropertyValues(product, values);
+		}
+		else {
+			for (int i = 0; i < setters.length; i++) {
+				setters[i].set(product, values[i]);
+			}
+		}
+		return product;
+	}
+
+	public static class Product {
+		Long id;
+		String name;
+		String description;
+		double price;
+		int quantity;
+	}
+}
@@ -52,4 +52,18 @@ default void sessionFactoryClosing(SessionFactory factory) {
 	default void sessionFactoryClosed(SessionFactory factory) {
 		// nothing to do by default
 	}
+
+	/**
+	 * Callback to indicate that the {@linkplain org.hibernate.cfg.CacheSettings#CACHE_PRELOAD_PREFIX
+	 * preloading} of the second-level cache has finished. This callback is only made when
+	 * preloading is configured, and is usually made from a background thread.
+	 *
+	 * @param factory The factory whose cache was preloaded.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default void sessionFactoryCachePreloaded(SessionFactory factory) {
+		// nothing to do by default
+	}
 }
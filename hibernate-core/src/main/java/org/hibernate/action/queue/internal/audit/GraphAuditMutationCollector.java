@@ -6,17 +6,22 @@
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import jakarta.annotation.Nullable;
 
 import org.hibernate.Session;
 import org.hibernate.action.queue.internal.exec.PlanStepExecutorFactory;
+import org.hibernate.action.queue.internal.plan.FlushOperationGroup;
 import org.hibernate.action.queue.spi.MutationKind;
+import org.hibernate.action.queue.spi.StatementShapeKey;
 import org.hibernate.action.queue.spi.plan.FlushOperation;
 import org.hibernate.audit.EntityTrackingChangesetListener;
 import org.hibernate.audit.ModificationType;
+import org.hibernate.audit.internal.BulkAuditSupport;
 import org.hibernate.audit.spi.AuditChangeSet;
 import org.hibernate.audit.spi.ChangelogSupplier;
 import org.hibernate.audit.spi.ChangelogSupplier.ChangesetContext;
@@ -24,6 +29,7 @@
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.mutation.EntityAuditSupport;
 import org.hibernate.persister.collection.mutation.CollectionAuditSupport;
 
@@ -35,6 +41,11 @@
 
 /// Transaction-scoped audit mutation collector for the graph action queue.
 ///
+/// The audit rows of the whole transaction are written before completion,
+/// grouped by audit table, so that each table is written in JDBC batches.
+/// The changes are first reconciled with the audit rows already written by
+/// bulk mutation queries.
+///
 /// @author Steve Ebersole
 public class GraphAuditMutationCollector {
 	private final AuditChangeSet<EntityAuditSupport, CollectionAuditSupport> changeSet = new AuditChangeSet<>();
@@ -59,6 +70,10 @@ public void collectionChanged(
 		changeSet.addCollectionChange( collectionPersister, collection, ownerId, originalSnapshot, mutationSupport );
 	}
 
+	public void bulkMutationExecuted(EntityPersister entityDescriptor) {
+		changeSet.addBulkMutation( entityDescriptor );
+	}
+
 	public boolean hasWork() {
 		return !changeSet.isEmpty();
 	}
@@ -77,20 +92,43 @@ public void executeAuditMutations(SharedSessionContractImplementor session) {
 			changesetSession = changesetContext.changesetSession();
 		}
 
+		final Set<EntityKey> absorbed = changeSet.reconcileBulkMutations( new BulkAuditSupport( session ) );
 		final List<AuditChangeSet.EntityChange<EntityAuditSupport>> entityChanges = changeSet.entityChanges();
+		final List<AuditChangeSet.EntityChange<EntityAuditSupport>> writtenEntityChanges = absorbed.isEmpty()
+				? entityChanges
+				: entityChanges.stream().filter( change -> !absorbed.contains( change.entityKey() ) ).toList();
 		final List<AuditChangeSet.CollectionChange<CollectionAuditSupport>> collectionChanges = changeSet.collectionChanges();
-		final List<FlushOperation> operations = new ArrayList<>( entityChanges.size() * 2 + collectionChanges.size() * 4 );
-		createEntityTransactionEndOperations( entityChanges, changesetId, operations );
-		createEntityAuditInsertOperations( entityChanges, changesetId, session, operations );
-		createCollectionAuditOperations( collectionChanges, changesetId, operations );
+		final List<FlushOperation> entityTransactionEnds = new ArrayList<>( writtenEntityChanges.size() );
+		final List<FlushOperation> entityInserts = new ArrayList<>( writtenEntityChanges.size() );
+		final List<FlushOperation> collectionTransactionEnds = new ArrayList<>( collectionChanges.size() * 2 );
+		final List<FlushOperation> collectionInserts = new ArrayList<>( collectionChanges.size() * 2 );
+		createEntityTransactionEndOperations( writtenEntityChanges, changesetId, entityTransactionEnds );
+		createEntityAuditInsertOperations( writtenEntityChanges, changesetId, session, entityTransactionEnds.size(), entityInserts );
+		createCollectionAuditOperations(
+				collectionChanges,
+				changesetId,
+				entityTransactionEnds.size() + entityInserts.size(),
+				collectionTransactionEnds,
+				collectionInserts
+		);
+
+		// The transaction end updates of a table must precede the inserts
+		// into it, and the entity audit rows precede the collection rows
+		final List<FlushOperationGroup> groups = new ArrayList<>();
+		groupByTable( entityTransactionEnds, groups );
+		groupByTable( entityInserts, groups );
+		groupByTable( collectionTransactionEnds, groups );
+		groupByTable( collectionInserts, groups );
 
 		try {
-			if ( !operations.isEmpty() ) {
+			if ( !groups.isEmpty() ) {
 				final var executor = PlanStepExecutorFactory.create( session );
-				executor.execute( operations, null, null );
+				for ( var group : groups ) {
+					executor.execute( group.operations(), null, null );
+				}
 				executor.finishUp();
 			}
-			executeChangesetCallbacks( entityChanges, session );
+			executeChangesetCallbacks( entityChanges, changeSet.bulkMutatedEntityNames(), session );
 		}
 		finally {
 			clear();
@@ -112,8 +150,9 @@ public void clear() {
 
 	private void executeChangesetCallbacks(
 			List<AuditChangeSet.EntityChange<EntityAuditSupport>> entityChanges,
+			Set<String> bulkMutatedEntityNames,
 			SharedSessionContractImplementor session) {
-		if ( changelog == null || entityChanges.isEmpty() ) {
+		if ( changelog == null || entityChanges.isEmpty() && bulkMutatedEntityNames.isEmpty() ) {
 			return;
 		}
 
@@ -130,12 +169,13 @@ private void executeChangesetCallbacks(
 				);
 			}
 		}
-		populateModifiedEntityNames( supplier, entityChanges, session );
+		populateModifiedEntityNames( supplier, entityChanges, bulkMutatedEntityNames, session );
 	}
 
 	private void populateModifiedEntityNames(
 			@Nullable ChangelogSupplier<?> supplier,
 			List<AuditChangeSet.EntityChange<EntityAuditSupport>> entityChanges,
+			Set<String> bulkMutatedEntityNames,
 			SharedSessionContractImplementor session) {
 		if ( supplier == null || supplier.getModifiedEntitiesProperty() == null ) {
 			return;
@@ -155,6 +195,7 @@ private void populateModifiedEntityNames(
 		for ( var change : entityChanges ) {
 			entityNames.add( change.entityKey().getEntityName() );
 		}
+		entityNames.addAll( bulkMutatedEntityNames );
 		if ( changesetSession != null ) {
 			changesetSession.flush();
 		}
@@ -194,8 +235,9 @@ private void createEntityAuditInsertOperations(
 			List<AuditChangeSet.EntityChange<EntityAuditSupport>> changes,
 			Object changesetId,
 			SharedSessionContractImplementor session,
+			int ordinalBase,
 			List<FlushOperation> operations) {
-		int ordinal = operations.size();
+		int ordinal = ordinalBase;
 		for ( var change : changes ) {
 			final EntityAuditSupport mutationSupport = change.entityAuditHandler();
 			final boolean[] propertyInclusions = mutationSupport.resolvePropertyInclusions(
@@ -222,8 +264,10 @@ private void createEntityAuditInsertOperations(
 	private void createCollectionAuditOperations(
 			List<AuditChangeSet.CollectionChange<CollectionAuditSupport>> collectionChanges,
 			Object changesetId,
-			List<FlushOperation> operations) {
-		int ordinal = operations.size();
+			int ordinalBase,
+			List<FlushOperation> transactionEndOperations,
+			List<FlushOperation> insertOperations) {
+		int ordinal = ordinalBase;
 		for ( var collectionChange : collectionChanges ) {
 			final var mutationSupport = collectionChange.collectionAuditHandler();
 			final var changes = mutationSupport.resolveChanges(
@@ -240,7 +284,7 @@ private void createCollectionAuditOperations(
 							collectionChange.ownerId(),
 							change
 					);
-					operations.add( new FlushOperation(
+					transactionEndOperations.add( new FlushOperation(
 							operation.tableDescriptor(),
 							MutationKind.UPDATE,
 							operation.operation(),
@@ -260,7 +304,7 @@ private void createCollectionAuditOperations(
 							collectionChange.ownerId(),
 							change
 					);
-					operations.add( new FlushOperation(
+					insertOperations.add( new FlushOperation(
 							operation.tableDescriptor(),
 							MutationKind.INSERT,
 							operation.operation(),
@@ -272,4 +316,32 @@ private void createCollectionAuditOperations(
 			}
 		}
 	}
+
+	/// Groups the given operations by table, and then by statement shape, so that
+	/// each group can be executed as a single JDBC batch. The tables are kept in the
+	/// order in which they first occur, so that, for example, the audit row of a
+	/// joined subclass table is never written before the row of its root table.
+	private static void groupByTable(List<FlushOperation> operations, List<FlushOperationGroup> groups) {
+		final Map<String, Map<StatementShapeKey, List<FlushOperation>>> operationsByTable = new LinkedHashMap<>();
+		for ( var operation : operations ) {
+			operationsByTable.computeIfAbsent( operation.getTableExpression(), table -> new LinkedHashMap<>() )
+					.computeIfAbsent( operation.getShapeKey(), shape -> new ArrayList<>() )
+					.add( operation );
+		}
+		for ( var operationsByShape : operationsByTable.values() ) {
+			for ( var shapeOperations : operationsByShape.values() ) {
+				final var first = shapeOperations.get( 0 );
+				groups.add( new FlushOperationGroup(
+						first.getTableExpression(),
+						first.getKind(),
+						first.getShapeKey(),
+						shapeOperations,
+						first.needsIdPrePhase(),
+						first.getMutatingTableDescriptor().hasUniqueConstraints(),
+						first.getOrdinal(),
+						first.getOrigin()
+				) );
+			}
+		}
+	}
 }
@@ -396,7 +396,7 @@ private FlushOperation decomposeStaticDelete(
 	private Map<String, MutationOperation> generateStaticJdbcOperations(Map<String, TableDelete> staticOperations) {
 		final Map<String, MutationOperation> jdbcOperations = linkedMapOfSize( staticOperations.size() );
 		staticOperations.forEach( (name, operation) -> {
-			jdbcOperations.put( name, operation.createMutationOperation( null, sessionFactory ) );
+			jdbcOperations.put( name, operation.createStaticMutationOperation( sessionFactory ) );
 		} );
 		return Collections.unmodifiableMap( jdbcOperations );
 	}
@@ -214,7 +214,7 @@ private Map<String, TableInsert> generateStaticOperations() {
 	private Map<String, JdbcInsertMutation> generateStaticJdbcOperations(Map<String, TableInsert> staticOperations) {
 		final Map<String, JdbcInsertMutation> jdbcOperations = CollectionHelper.linkedMapOfSize( staticOperations.size() );
 		staticOperations.forEach( (name, operation) -> {
-			jdbcOperations.put( name, operation.createMutationOperation( null, sessionFactory ) );
+			jdbcOperations.put( name, operation.createStaticMutationOperation( sessionFactory ) );
 		} );
 		return Collections.unmodifiableMap( jdbcOperations );
 	}
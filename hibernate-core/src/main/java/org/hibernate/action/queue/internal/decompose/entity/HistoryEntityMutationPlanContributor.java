@@ -78,7 +78,7 @@ public HistoryEntityMutationPlanContributor(
 				false
 		);
 		this.staticHistoryInsert = buildHistoryInsert( entityPersister.getPropertyInsertability(), null, null );
-		this.staticHistoryEndOperation = buildHistoryEndOperation().createMutationOperation( null, sessionFactory );
+		this.staticHistoryEndOperation = buildHistoryEndOperation().createStaticMutationOperation( sessionFactory );
 	}
 
 	@Override
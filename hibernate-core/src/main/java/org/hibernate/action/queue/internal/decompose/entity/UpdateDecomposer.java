@@ -617,7 +617,7 @@ private Map<String, MutationOperation> generateStaticJdbcOperations(
 			Map<String, LogicalTableUpdate<?>> staticOperations) {
 		final Map<String, MutationOperation> jdbcOperations = new HashMap<>();
 		staticOperations.forEach( (name, operation) -> {
-			jdbcOperations.put( name, operation.createMutationOperation( null, sessionFactory ) );
+			jdbcOperations.put( name, operation.createStaticMutationOperation( sessionFactory ) );
 		} );
 		return unmodifiableMap( jdbcOperations );
 	}
@@ -9,6 +9,7 @@
 import org.hibernate.action.queue.spi.plan.FlushOperation;
 
 import org.hibernate.action.queue.spi.MutationKind;
+import org.hibernate.action.queue.spi.RowChangeListener;
 import org.hibernate.action.queue.spi.bind.JdbcValueBindings;
 import org.hibernate.action.queue.internal.cyclebreak.FixupSynthesizer;
 import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
@@ -28,6 +29,8 @@
 /// @author Steve Ebersole
 public abstract class AbstractStepExecutor implements PlanStepExecutor {
 	private final FixupSynthesizer fixupSynthesizer;
+	private final RowChangeListener rowChangeListener;
+	private RowChangeCapture rowChangeCapture;
 
 	protected final SharedSessionContractImplementor session;
 
@@ -35,6 +38,7 @@ public AbstractStepExecutor(SharedSessionContractImplementor session) {
 		this.session = session;
 
 		fixupSynthesizer = new FixupSynthesizer();
+		rowChangeListener = session.getFactory().getSessionFactoryOptions().getRowChangeListener();
 	}
 
 	@Override
@@ -173,12 +177,18 @@ protected void executeWithGeneratedValues(FlushOperation flushOperation) {
 		if ( generatedValuesDelegate != null
 				&& generatedValuesCollector.containsGeneratedValues( flushOperation.getMutatingTableDescriptor() ) ) {
 			try {
+				// the delegate binds the values itself, so bind them
+				// once more to capture them before they are executed
+				final var capturedBindings = bindForRowChangeCapture( flushOperation );
 				final var generatedValues = generatedValuesDelegate.performGraphMutation(
 						flushOperation,
 						bindPlan.getEntityInstance(),
 						session
 				);
 				generatedValuesCollector.apply( generatedValues );
+				if ( capturedBindings != null ) {
+					captureRowChangeWithGeneratedValues( flushOperation, capturedBindings );
+				}
 			}
 			catch (ConstraintViolationException cve) {
 				throw convertException( cve, flushOperation );
@@ -217,6 +227,7 @@ protected void executePreparableDirectly(
 			preparable.getExpectation().prepare( stmnt );
 			var valueBindings = new JdbcValueBindings( flushOperation.getMutatingTableDescriptor(), preparable );
 			flushOperation.getBindPlan().bindValues( valueBindings, flushOperation, session );
+			captureRowChange( flushOperation, valueBindings );
 			valueBindings.beforeStatement( stmnt, session );
 
 			final int affectedRowCount = session.getJdbcCoordinator()
@@ -259,6 +270,7 @@ protected void executeSelfExecuting(SelfExecutingUpdateOperation selfExecuting,
 				selfExecuting
 		);
 		flushOperation.getBindPlan().bindValues( graphBindings, flushOperation, session );
+		captureRowChange( flushOperation, graphBindings );
 
 		final var jdbcValueBindings = new JdbcValueBindingsImpl(
 				selfExecuting.getMutationType(),
@@ -287,6 +299,52 @@ protected void executeSelfExecuting(SelfExecutingUpdateOperation selfExecuting,
 		}
 	}
 
+	/// Record the row mutated by the given operation, whose values have just been bound,
+	/// for the configured [RowChangeListener], if any.
+	protected void captureRowChange(FlushOperation flushOperation, JdbcValueBindings valueBindings) {
+		if ( rowChangeListener != null ) {
+			rowChangeCapture().addChange( flushOperation, valueBindings );
+		}
+	}
+
+	private JdbcValueBindings bindForRowChangeCapture(FlushOperation flushOperation) {
+		if ( rowChangeListener == null ) {
+			return null;
+		}
+		else {
+			final var valueBindings = new JdbcValueBindings(
+					flushOperation.getMutatingTableDescriptor(),
+					flushOperation.getJdbcOperation()
+			);
+			flushOperation.getBindPlan().bindValues( valueBindings, flushOperation, session );
+			return valueBindings;
+		}
+	}
+
+	/// Record the row mutated by the given operation, which was executed by a
+	/// [GeneratedValuesMutationDelegate], once the generated values have been applied.
+	private void captureRowChangeWithGeneratedValues(FlushOperation flushOperation, JdbcValueBindings valueBindings) {
+		final var entity = flushOperation.getBindPlan().getEntityInstance();
+		if ( flushOperation.getKind() == MutationKind.INSERT
+				&& entity != null
+				&& flushOperation.getJdbcOperation().getMutationTarget() instanceof EntityPersister persister
+				&& persister.getGenerator().generatedOnExecution( entity, session ) ) {
+			// the key was generated by the insert, and is only known from the entity
+			rowChangeCapture().addChangeWithGeneratedKey( flushOperation, valueBindings, persister, entity, session );
+		}
+		else {
+			rowChangeCapture().addChange( flushOperation, valueBindings );
+		}
+	}
+
+	private RowChangeCapture rowChangeCapture() {
+		if ( rowChangeCapture == null ) {
+			rowChangeCapture = new RowChangeCapture( rowChangeListener );
+			session.getTransactionCompletionCallbacks().registerCallback( rowChangeCapture );
+		}
+		return rowChangeCapture;
+	}
+
 	@Override
 	public void finishUp() {
 		// nothing to do by default
@@ -116,6 +116,7 @@ private void applyToBatch(
 		var bindPlan = flushOperation.getBindPlan();
 		var valueBindings = getReusableValueBindings( preparable, flushOperation );
 		bindPlan.bindValues( valueBindings, flushOperation, session );
+		captureRowChange( flushOperation, valueBindings );
 
 		batchOperations[currentBatchIndex] = flushOperation;
 
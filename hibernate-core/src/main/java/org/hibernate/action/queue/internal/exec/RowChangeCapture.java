@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.queue.internal.exec;
+
+import org.hibernate.action.queue.spi.MutationKind;
+import org.hibernate.action.queue.spi.RowChange;
+import org.hibernate.action.queue.spi.RowChangeListener;
+import org.hibernate.action.queue.spi.bind.JdbcValueBindings;
+import org.hibernate.action.queue.spi.plan.FlushOperation;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hibernate.action.queue.spi.bind.JdbcValueBindings.resolveValue;
+
+/// Collects the rows mutated by the operations of a flush, and reports them
+/// to the [RowChangeListener] once the transaction has committed.
+///
+/// The bound values are captured as they are, and only resolved after completion,
+/// since a [delayed value][org.hibernate.action.queue.spi.bind.DelayedValueAccess]
+/// may not yet be known at the time the operation is bound.
+class RowChangeCapture implements AfterTransactionCompletionProcess {
+	private final RowChangeListener listener;
+	private final List<RowChange> changes = new ArrayList<>();
+
+	RowChangeCapture(RowChangeListener listener) {
+		this.listener = listener;
+	}
+
+	void addChange(FlushOperation flushOperation, JdbcValueBindings valueBindings) {
+		changes.add( rowChange( flushOperation, valueBindings, new LinkedHashMap<>() ) );
+	}
+
+	/// Record a row inserted with a key generated by the database, taking the key
+	/// from the given entity, to which the generated values have been applied.
+	void addChangeWithGeneratedKey(
+			FlushOperation flushOperation,
+			JdbcValueBindings valueBindings,
+			EntityPersister persister,
+			Object entity,
+			SharedSessionContractImplementor session) {
+		final var keyColumns = flushOperation.getMutatingTableDescriptor().keyDescriptor().columns();
+		final Map<String, Object> key = new LinkedHashMap<>();
+		persister.getIdentifierMapping().breakDownJdbcValues(
+				persister.getIdentifier( entity, session ),
+				(valueIndex, value, jdbcValueMapping) -> {
+					if ( valueIndex < keyColumns.size() ) {
+						key.put( keyColumns.get( valueIndex ).name(), value );
+					}
+				},
+				session
+		);
+		changes.add( rowChange( flushOperation, valueBindings, key ) );
+	}
+
+	private static RowChange rowChange(
+			FlushOperation flushOperation,
+			JdbcValueBindings valueBindings,
+			Map<String, Object> key) {
+		final Set<String> keyColumns = keyColumnNames( flushOperation );
+		final Map<String, Object> values = new LinkedHashMap<>();
+		final boolean delete = flushOperation.getKind() == MutationKind.DELETE;
+		valueBindings.getBindingGroup().forEachBinding( binding -> {
+			final String columnName = binding.getColumnName();
+			final var usage = binding.getValueDescriptor().getUsage();
+			if ( keyColumns.contains( columnName ) ) {
+				key.putIfAbsent( columnName, binding.getValue() );
+			}
+			else if ( usage == ParameterUsage.SET || delete ) {
+				values.put( columnName, binding.getValue() );
+			}
+		} );
+		return new RowChange( flushOperation.getTableExpression(), flushOperation.getKind(), key, values );
+	}
+
+	private static Set<String> keyColumnNames(FlushOperation flushOperation) {
+		final var keyColumns = flushOperation.getMutatingTableDescriptor().keyDescriptor().columns();
+		final Set<String> names = new HashSet<>( keyColumns.size() );
+		for ( var column : keyColumns ) {
+			names.add( column.name() );
+		}
+		return names;
+	}
+
+	@Override
+	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+		if ( success && !changes.isEmpty() ) {
+			final List<RowChange> resolved = new ArrayList<>( changes.size() );
+			for ( var change : changes ) {
+				resolved.add( new RowChange(
+						change.tableName(),
+						change.kind(),
+						resolveValues( change.key() ),
+						resolveValues( change.values() )
+				) );
+			}
+			listener.onCommit( Collections.unmodifiableList( resolved ) );
+		}
+	}
+
+	private static Map<String, Object> resolveValues(Map<String, Object> values) {
+		if ( values.isEmpty() ) {
+			return Map.of();
+		}
+		final Map<String, Object> resolved = new LinkedHashMap<>( values.size() );
+		values.forEach( (columnName, value) -> resolved.put( columnName, resolveValue( value ) ) );
+		return Collections.unmodifiableMap( resolved );
+	}
+}
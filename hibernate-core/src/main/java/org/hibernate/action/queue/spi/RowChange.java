@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.queue.spi;
+
+import org.hibernate.Incubating;
+
+import java.util.Map;
+
+/// A row inserted, updated or deleted by a flush of the graph-based action queue,
+/// as reported to a [RowChangeListener] after the transaction has committed.
+///
+/// @param tableName the name of the mutated table
+/// @param kind the kind of mutation
+/// @param key the values of the key columns of the row, by column name
+/// @param values the values of the other columns bound by the mutation, by column name -
+/// 	the assignments of an insert or update, or the restrictions of a delete
+///
+/// @apiNote For an insert executed with values generated by the database, such as
+/// an `IDENTITY` key, only the key is reported.
+///
+/// @see RowChangeListener
+///
+/// @since 8.1
+@Incubating
+public record RowChange(
+		String tableName,
+		MutationKind kind,
+		Map<String, Object> key,
+		Map<String, Object> values) {
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.queue.spi;
+
+import org.hibernate.Incubating;
+
+import java.util.List;
+
+/// Receives the rows mutated by each flush of the graph-based action queue once the
+/// transaction which flushed them has committed, allowing caches, search indexes and
+/// other downstream consumers to be invalidated precisely without tailing the database log.
+///
+/// Nothing is reported for a transaction which rolls back.  The listener is called
+/// on the thread completing the transaction, so an implementation which does any
+/// significant work should hand the changes off to a queue of its own.
+///
+/// @see org.hibernate.cfg.FlushSettings#ROW_CHANGE_LISTENER
+///
+/// @since 8.1
+@Incubating
+@FunctionalInterface
+public interface RowChangeListener {
+	/// Called after the transaction has committed, once for each flush of the transaction
+	/// which mutated at least one row.
+	///
+	/// @param changes the row changes, in the order the mutations were executed
+	void onCommit(List<RowChange> changes);
+}
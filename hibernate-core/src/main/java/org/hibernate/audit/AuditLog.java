@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * A service for querying the audit log. Provides access
@@ -206,6 +207,56 @@ <T> Map<ModificationType, List<T>> findEntitiesGroupedByModificationType(
 	 */
 	<T> List<AuditEntry<T>> getHistory(Class<T> entityClass, Object id);
 
+	/**
+	 * Stream the full audit history of every entity of the
+	 * given type, ordered by changeset identifier, and then
+	 * by entity identifier.
+	 * <p>
+	 * Unlike {@link #getHistory}, the entries are read from
+	 * a cursor as the stream is consumed, and each entity
+	 * snapshot is detached from the internal session once
+	 * its entry has been produced, so that the whole audit
+	 * history may be replayed using constant memory. Lazy
+	 * associations of the snapshots cannot be initialized.
+	 * <p>
+	 * The stream must be closed to release the underlying
+	 * JDBC resources, and must be consumed before this audit
+	 * log is closed.
+	 *
+	 * @param entityClass the audited entity class
+	 * @param <T> the entity type
+	 *
+	 * @return the audit history as a stream of {@link AuditEntry}
+	 *
+	 * @since 8.1
+	 */
+	<T> Stream<AuditEntry<T>> streamHistory(Class<T> entityClass);
+
+	/**
+	 * Stream the audit history of every entity of the given
+	 * type following the entry for the given changeset and
+	 * entity identifier, ordered by changeset identifier, and
+	 * then by entity identifier.
+	 * <p>
+	 * Passing the changeset and entity identifier of the last
+	 * entry consumed allows an interrupted replay to resume
+	 * where it stopped, even in the middle of a changeset,
+	 * with the restriction evaluated by the database.
+	 *
+	 * @param entityClass the audited entity class
+	 * @param afterChangesetId the changeset identifier of the
+	 * entry after which to start, exclusive
+	 * @param afterId the entity identifier of the entry after
+	 * which to start, exclusive
+	 * @param <T> the entity type
+	 *
+	 * @return the audit history as a stream of {@link AuditEntry}
+	 *
+	 * @see #streamHistory(Class)
+	 * @since 8.1
+	 */
+	<T> Stream<AuditEntry<T>> streamHistory(Class<T> entityClass, Object afterChangesetId, Object afterId);
+
 	// --- Cross-type changeset queries ---
 
 	/**
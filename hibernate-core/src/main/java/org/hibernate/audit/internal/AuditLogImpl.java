@@ -6,13 +6,16 @@
 
 import jakarta.annotation.Nullable;
 
+import org.hibernate.CacheMode;
 import org.hibernate.audit.AuditEntry;
 import org.hibernate.audit.AuditException;
 import org.hibernate.audit.AuditLog;
 import org.hibernate.audit.ModificationType;
 import org.hibernate.audit.spi.ChangelogSupplier;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.RepresentationMode;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -22,9 +25,11 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -41,6 +46,8 @@
  * @since 7.4
  */
 public class AuditLogImpl implements AuditLog {
+	private static final int DEFAULT_STREAM_FETCH_SIZE = 100;
+
 	private final SessionFactoryImplementor sessionFactory;
 	private final SharedSessionContractImplementor auditSession;
 	private final @Nullable ChangelogSupplier<?> changelogSupplier;
@@ -189,32 +196,61 @@ private <T> List<T> doFindEntitiesModifiedAt(
 			Object changesetId,
 			@Nullable ModificationType modificationType,
 			Class<T> resultType) {
+		return doFindEntitiesModifiedAt( entityName, changesetId, modificationType, resultType, null );
+	}
+
+	/**
+	 * @param types if not null, restricts a polymorphic query to the given entity types
+	 */
+	private <T> List<T> doFindEntitiesModifiedAt(
+			String entityName,
+			Object changesetId,
+			@Nullable ModificationType modificationType,
+			Class<T> resultType,
+			@Nullable List<Class<?>> types) {
 		var hql = "from " + entityName + " e where changesetId(e) = :csId";
 		if ( modificationType != null ) {
 			hql += " and modificationType(e) = :modType";
 		}
+		if ( types != null ) {
+			hql += " and type(e) in :types";
+		}
 		final var query = auditSession
 				.createSelectionQuery( hql, resultType )
 				.setParameter( "csId", changesetId );
 		if ( modificationType != null ) {
 			query.setParameter( "modType", modificationType );
 		}
+		if ( types != null ) {
+			query.setParameterList( "types", types );
+		}
 		return query.getResultList();
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> Map<ModificationType, List<T>> doFindEntitiesGroupedByModificationType(
 			String entityName, Object changesetId, Class<T> resultType) {
+		return doFindEntitiesGroupedByModificationType( entityName, changesetId, resultType, null );
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Map<ModificationType, List<T>> doFindEntitiesGroupedByModificationType(
+			String entityName, Object changesetId, Class<T> resultType, @Nullable List<Class<?>> types) {
 		final var values = ModificationType.values();
 		final Map<ModificationType, List<T>> result = new HashMap<>( values.length );
 		for ( ModificationType mt : values ) {
 			result.put( mt, new ArrayList<>() );
 		}
-		final List<Object[]> rows = auditSession.createSelectionQuery(
-				"select e, modificationType(e) from " + entityName + " e"
-						+ " where changesetId(e) = :csId",
-				Object[].class
-		).setParameter( "csId", changesetId ).getResultList();
+		var hql = "select e, modificationType(e) from " + entityName + " e"
+				+ " where changesetId(e) = :csId";
+		if ( types != null ) {
+			hql += " and type(e) in :types";
+		}
+		final var query = auditSession.createSelectionQuery( hql, Object[].class )
+				.setParameter( "csId", changesetId );
+		if ( types != null ) {
+			query.setParameterList( "types", types );
+		}
+		final List<Object[]> rows = query.getResultList();
 		for ( var row : rows ) {
 			result.get( (ModificationType) row[1] ).add( (T) row[0] );
 		}
@@ -259,6 +295,67 @@ private <T> List<AuditEntry<T>> doGetHistory(String entityName, Object id) {
 		return result;
 	}
 
+	@Override
+	public <T> Stream<AuditEntry<T>> streamHistory(Class<T> entityClass) {
+		requireNonNull( entityClass, "Entity class" );
+		return doStreamHistory( requireAuditedEntityName( entityClass ) );
+	}
+
+	@Override
+	public <T> Stream<AuditEntry<T>> streamHistory(Class<T> entityClass, Object afterChangesetId, Object afterId) {
+		requireNonNull( entityClass, "Entity class" );
+		requireNonNull( afterChangesetId, "Changeset identifier" );
+		requireNonNull( afterId, "Primary key" );
+		return doStreamHistory( requireAuditedEntityName( entityClass ), afterChangesetId, afterId );
+	}
+
+	private <T> Stream<AuditEntry<T>> doStreamHistory(String entityName) {
+		return doStreamHistory( entityName, null, null );
+	}
+
+	private <T> Stream<AuditEntry<T>> doStreamHistory(
+			String entityName,
+			@Nullable Object afterChangesetId,
+			@Nullable Object afterId) {
+		var hql = changelogName != null
+				? "select e, r, modificationType(e)"
+						+ " from " + entityName + " e"
+						+ " join " + changelogName + " r"
+						+ " on r." + changesetIdProperty + " = changesetId(e)"
+				: "select e, changesetId(e), modificationType(e)"
+						+ " from " + entityName + " e";
+		if ( afterChangesetId != null ) {
+			// the same key as the ordering, so that no entry is skipped or repeated
+			hql += " where changesetId(e) > :csId"
+					+ " or (changesetId(e) = :csId and e.id > :id)";
+		}
+		hql += " order by changesetId(e), e.id";
+
+		final var query = auditSession.createSelectionQuery( hql, Object[].class )
+				.setReadOnly( true )
+				.setCacheMode( CacheMode.IGNORE )
+				.setFetchSize( streamFetchSize() );
+		if ( afterChangesetId != null ) {
+			query.setParameter( "csId", afterChangesetId )
+					.setParameter( "id", afterId );
+		}
+		return query.getResultStream().map( row -> {
+			//noinspection unchecked
+			final var entry = new AuditEntry<>( (T) row[0], row[1], (ModificationType) row[2] );
+			// detach the snapshots read so far, so that
+			// the persistence context does not keep growing
+			if ( auditSession instanceof SessionImplementor session ) {
+				session.clear();
+			}
+			return entry;
+		} );
+	}
+
+	private int streamFetchSize() {
+		final Integer fetchSize = sessionFactory.getSessionFactoryOptions().getJdbcFetchSize();
+		return fetchSize == null ? DEFAULT_STREAM_FETCH_SIZE : fetchSize;
+	}
+
 	// --- Cross-type changeset queries ---
 
 	@Override
@@ -277,12 +374,7 @@ public Set<Class<?>> getEntityTypesModifiedAt(Object changesetId) {
 	public List<Object> findAllEntitiesModifiedAt(Object changesetId) {
 		requireNonNull( changesetId, "Changeset identifier" );
 		requireEntityChangeTracking();
-		final var entityNames = queryRevChangesEntityNames( changesetId );
-		final List<Object> result = new ArrayList<>();
-		for ( String entityName : entityNames ) {
-			result.addAll( doFindEntitiesModifiedAt( entityName, changesetId, null, Object.class ) );
-		}
-		return result;
+		return doFindAllEntitiesModifiedAt( changesetId, null );
 	}
 
 	@Override
@@ -290,10 +382,21 @@ public List<Object> findAllEntitiesModifiedAt(Object changesetId, ModificationTy
 		requireNonNull( changesetId, "Changeset identifier" );
 		requireNonNull( modificationType, "Modification type" );
 		requireEntityChangeTracking();
-		final var entityNames = queryRevChangesEntityNames( changesetId );
+		return doFindAllEntitiesModifiedAt( changesetId, modificationType );
+	}
+
+	private List<Object> doFindAllEntitiesModifiedAt(
+			Object changesetId,
+			@Nullable ModificationType modificationType) {
 		final List<Object> result = new ArrayList<>();
-		for ( String entityName : entityNames ) {
-			result.addAll( doFindEntitiesModifiedAt( entityName, changesetId, modificationType, Object.class ) );
+		for ( var query : resolveModifiedEntityQueries( queryRevChangesEntityNames( changesetId ) ) ) {
+			result.addAll( doFindEntitiesModifiedAt(
+					query.entityName(),
+					changesetId,
+					modificationType,
+					Object.class,
+					query.types()
+			) );
 		}
 		return result;
 	}
@@ -307,13 +410,50 @@ public Map<ModificationType, List<Object>> findAllEntitiesGroupedByModificationT
 		for ( ModificationType mt : values ) {
 			result.put( mt, new ArrayList<>() );
 		}
-		for ( String entityName : queryRevChangesEntityNames( changesetId ) ) {
-			doFindEntitiesGroupedByModificationType( entityName, changesetId, Object.class )
+		for ( var query : resolveModifiedEntityQueries( queryRevChangesEntityNames( changesetId ) ) ) {
+			doFindEntitiesGroupedByModificationType( query.entityName(), changesetId, Object.class, query.types() )
 					.forEach( (mt, entities) -> result.get( mt ).addAll( entities ) );
 		}
 		return result;
 	}
 
+	/**
+	 * A query for the modified entities of one entity hierarchy.
+	 *
+	 * @param entityName the queried entity, usually the root of the hierarchy
+	 * @param types the modified entity types, or {@code null} if the
+	 * entity is queried on its own
+	 */
+	private record ModifiedEntityQuery(String entityName, @Nullable List<Class<?>> types) {
+	}
+
+	/**
+	 * Groups the modified entity names by the root of their hierarchy, so that
+	 * the modified entities of a whole hierarchy are loaded by a single
+	 * polymorphic query, restricted to the modified types.
+	 */
+	private List<ModifiedEntityQuery> resolveModifiedEntityQueries(List<String> entityNames) {
+		final Map<String, List<Class<?>>> typesByRootEntityName = new LinkedHashMap<>();
+		final List<ModifiedEntityQuery> queries = new ArrayList<>();
+		for ( String entityName : new LinkedHashSet<>( entityNames ) ) {
+			final var persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( entityName );
+			final var rootPersister = persister.getRootEntityDescriptor().getEntityPersister();
+			if ( !rootPersister.hasSubclasses()
+					|| rootPersister.getAuditMapping() == null
+					// the type of a dynamic-map entity can't be passed as a parameter
+					|| persister.getRepresentationStrategy().getMode() == RepresentationMode.MAP ) {
+				queries.add( new ModifiedEntityQuery( entityName, null ) );
+			}
+			else {
+				typesByRootEntityName.computeIfAbsent( rootPersister.getEntityName(), name -> new ArrayList<>() )
+						.add( persister.getMappedClass() );
+			}
+		}
+		typesByRootEntityName.forEach( (rootEntityName, types) ->
+				queries.add( new ModifiedEntityQuery( rootEntityName, types ) ) );
+		return queries;
+	}
+
 	private List<String> queryRevChangesEntityNames(Object changesetId) {
 		return auditSession.createSelectionQuery(
 				"select element(r." + modifiedEntitiesProperty + ")"
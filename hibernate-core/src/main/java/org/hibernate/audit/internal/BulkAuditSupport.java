@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.audit.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.action.queue.internal.GraphBasedActionQueue;
+import org.hibernate.audit.ModificationType;
+import org.hibernate.audit.spi.AuditChangeSet;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.metamodel.mapping.ValuedModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.ast.tree.update.Assignment;
+import org.hibernate.sql.ast.tree.update.UpdateStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * The audit rows written by bulk mutation queries of single-table audited
+ * entities, which are written immediately rather than at transaction
+ * completion. They are reconciled with the changes made through the session
+ * using statements keyed by the identifiers of the entities changed through
+ * the session, so the entities affected by a bulk mutation are never
+ * collected.
+ *
+ * @see AuditChangeSet#reconcileBulkMutations
+ *
+ * @since 8.1
+ */
+public final class BulkAuditSupport implements AuditChangeSet.BulkMutationAuditRows {
+	private static final String AUDIT_TABLE_ALIAS = "aud_";
+
+	private final SharedSessionContractImplementor session;
+	private final Map<String, AuditTableStatements> statementsByEntityName = new HashMap<>();
+
+	public BulkAuditSupport(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	/**
+	 * Record that a bulk mutation query just wrote audit rows for entities of
+	 * the given type, in the audit change set of the current transaction.
+	 */
+	public static void bulkMutationExecuted(
+			EntityPersister entityDescriptor,
+			SharedSessionContractImplementor session) {
+		if ( session instanceof SessionImplementor sessionImplementor
+				&& sessionImplementor.getActionQueue() instanceof GraphBasedActionQueue actionQueue ) {
+			actionQueue.getAuditMutationCollector().bulkMutationExecuted( entityDescriptor );
+		}
+		else {
+			session.getAuditWorkQueue().bulkMutationExecuted( entityDescriptor, session );
+		}
+	}
+
+	@Override
+	public boolean retype(EntityKey entityKey, ModificationType from, ModificationType to) {
+		final var statements = statements( entityKey.getPersister() );
+		return execute( statements.retype(), entityKey.getIdentifier(), statements.identifierMapping(),
+				statements.modificationTypeMapping(), from, to ) > 0;
+	}
+
+	@Override
+	public boolean delete(EntityKey entityKey, @Nullable ModificationType modificationType) {
+		final var statements = statements( entityKey.getPersister() );
+		return modificationType == null
+				? execute( statements.delete(), entityKey.getIdentifier(), statements.identifierMapping(), null ) > 0
+				: execute( statements.deleteOfType(), entityKey.getIdentifier(), statements.identifierMapping(),
+						statements.modificationTypeMapping(), modificationType ) > 0;
+	}
+
+	@Override
+	public void deleteCollectionRows(EntityKey ownerKey) {
+		for ( var collectionDelete : statements( ownerKey.getPersister() ).collectionDeletes() ) {
+			execute( collectionDelete.statement(), ownerKey.getIdentifier(), collectionDelete.keyPart(), null );
+		}
+	}
+
+	private AuditTableStatements statements(EntityPersister persister) {
+		return statementsByEntityName.computeIfAbsent(
+				persister.getRootEntityName(),
+				entityName -> createStatements( persister.getRootEntityDescriptor().getEntityPersister() )
+		);
+	}
+
+	private AuditTableStatements createStatements(EntityPersister rootDescriptor) {
+		final var auditMapping = rootDescriptor.getAuditMapping();
+		final var identifierMapping = rootDescriptor.getIdentifierMapping();
+		final String tableName = rootDescriptor.getIdentifierTableDetails().getTableName();
+		final String auditTableName = auditMapping.resolveTableName( tableName );
+		final var changesetIdMapping = auditMapping.getChangesetIdMapping( tableName );
+		final var modificationTypeMapping = auditMapping.getModificationTypeMapping( tableName );
+
+		// delete from aud where id = ? and rev = ?
+		final var deleteTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+		final var deleteParameters = JdbcParametersList.newBuilder();
+		final var delete = translate( new DeleteStatement(
+				deleteTable,
+				keyRestriction( deleteTable, identifierMapping, changesetIdMapping, deleteParameters )
+		), deleteParameters );
+
+		// delete from aud where id = ? and rev = ? and revtype = ?
+		final var deleteOfTypeTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+		final var deleteOfTypeParameters = JdbcParametersList.newBuilder();
+		final var deleteOfType = translate( new DeleteStatement(
+				deleteOfTypeTable,
+				Predicate.combinePredicates(
+						keyRestriction( deleteOfTypeTable, identifierMapping, changesetIdMapping, deleteOfTypeParameters ),
+						modificationTypeRestriction( deleteOfTypeTable, modificationTypeMapping, deleteOfTypeParameters )
+				)
+		), deleteOfTypeParameters );
+
+		// update aud set revtype = ? where id = ? and rev = ? and revtype = ?
+		final var retypeTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+		final var retypeParameters = JdbcParametersList.newBuilder();
+		final var retypeParameter = new SqlTypedMappingJdbcParameter( modificationTypeMapping );
+		final var retypeRestriction = Predicate.combinePredicates(
+				keyRestriction( retypeTable, identifierMapping, changesetIdMapping, retypeParameters ),
+				modificationTypeRestriction( retypeTable, modificationTypeMapping, retypeParameters )
+		);
+		retypeParameters.add( retypeParameter );
+		final var retype = translate( new UpdateStatement(
+				retypeTable,
+				singletonList( new Assignment( new ColumnReference( retypeTable, modificationTypeMapping ), retypeParameter ) ),
+				retypeRestriction
+		), retypeParameters );
+
+		// delete from coll_aud where owner_id = ? and rev = ?
+		final List<CollectionAuditRowDelete> collectionDeletes = new ArrayList<>();
+		SqmMutationStrategyHelper.visitCollectionTables( rootDescriptor, attributeMapping -> {
+			final String collectionTableName = attributeMapping.getSeparateCollectionTable();
+			final var collectionAuditMapping = attributeMapping.getAuditMapping();
+			final var keyDescriptor = attributeMapping.getKeyDescriptor();
+			if ( collectionTableName != null && collectionAuditMapping != null
+					&& keyDescriptor.getTargetPart() instanceof EntityIdentifierMapping ) {
+				final var collectionAuditTable = new NamedTableReference(
+						collectionAuditMapping.resolveTableName( collectionTableName ),
+						AUDIT_TABLE_ALIAS
+				);
+				final var parameters = JdbcParametersList.newBuilder();
+				collectionDeletes.add( new CollectionAuditRowDelete(
+						translate( new DeleteStatement(
+								collectionAuditTable,
+								keyRestriction(
+										collectionAuditTable,
+										keyDescriptor.getKeyPart(),
+										collectionAuditMapping.getChangesetIdMapping( collectionTableName ),
+										parameters
+								)
+						), parameters ),
+						keyDescriptor.getKeyPart()
+				) );
+			}
+		} );
+
+		return new AuditTableStatements(
+				identifierMapping,
+				modificationTypeMapping,
+				delete,
+				deleteOfType,
+				retype,
+				collectionDeletes
+		);
+	}
+
+	private Predicate keyRestriction(
+			NamedTableReference tableReference,
+			ValuedModelPart keyPart,
+			SelectableMapping changesetIdMapping,
+			JdbcParametersList.Builder parameters) {
+		final var factory = session.getFactory();
+		final List<Predicate> predicates = new ArrayList<>();
+		keyPart.forEachSelectable( (index, selectable) -> {
+			final var parameter = new SqlTypedMappingJdbcParameter( selectable );
+			parameters.add( parameter );
+			predicates.add( new ComparisonPredicate(
+					new ColumnReference( tableReference, selectable ),
+					ComparisonOperator.EQUAL,
+					parameter
+			) );
+		} );
+		// bound by itself, the same way as by the bulk mutation
+		predicates.add( new ComparisonPredicate(
+				new ColumnReference( tableReference, changesetIdMapping ),
+				ComparisonOperator.EQUAL,
+				SqmMutationStrategyHelper.changesetIdExpression( factory, changesetIdMapping )
+		) );
+		Predicate restriction = null;
+		for ( var predicate : predicates ) {
+			restriction = Predicate.combinePredicates( restriction, predicate );
+		}
+		return restriction;
+	}
+
+	private static Predicate modificationTypeRestriction(
+			NamedTableReference tableReference,
+			SelectableMapping modificationTypeMapping,
+			JdbcParametersList.Builder parameters) {
+		final var parameter = new SqlTypedMappingJdbcParameter( modificationTypeMapping );
+		parameters.add( parameter );
+		return new ComparisonPredicate(
+				new ColumnReference( tableReference, modificationTypeMapping ),
+				ComparisonOperator.EQUAL,
+				parameter
+		);
+	}
+
+	private KeyedStatement translate(MutationStatement statement, JdbcParametersList.Builder parameters) {
+		final var factory = session.getFactory();
+		return new KeyedStatement(
+				factory.getJdbcServices().getJdbcEnvironment()
+						.getSqlAstTranslatorFactory()
+						.buildMutationTranslator( factory, statement )
+						.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE ),
+				parameters.build()
+		);
+	}
+
+	private int execute(
+			KeyedStatement statement,
+			Object key,
+			ValuedModelPart keyPart,
+			@Nullable SelectableMapping modificationTypeMapping,
+			ModificationType... modificationTypes) {
+		final var parameters = statement.parameters();
+		final var bindings = new JdbcParameterBindingsImpl( parameters.size() );
+		int offset = bindings.registerParametersForEachJdbcValue( key, keyPart, parameters, session );
+		for ( var modificationType : modificationTypes ) {
+			final var jdbcMapping = modificationTypeMapping.getJdbcMapping();
+			bindings.addBinding(
+					parameters.get( offset++ ),
+					new JdbcParameterBindingImpl( jdbcMapping, jdbcMapping.convertToRelationalValue( modificationType ) )
+			);
+		}
+		return session.getJdbcServices().getJdbcMutationExecutor().execute(
+				statement.operation(),
+				bindings,
+				sql -> session.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sql ),
+				(integer, preparedStatement) -> {},
+				new BaseExecutionContext( session )
+		);
+	}
+
+	private record KeyedStatement(JdbcOperationQueryMutation operation, JdbcParametersList parameters) {
+	}
+
+	private record CollectionAuditRowDelete(KeyedStatement statement, ValuedModelPart keyPart) {
+	}
+
+	private record AuditTableStatements(
+			EntityIdentifierMapping identifierMapping,
+			SelectableMapping modificationTypeMapping,
+			KeyedStatement delete,
+			KeyedStatement deleteOfType,
+			KeyedStatement retype,
+			List<CollectionAuditRowDelete> collectionDeletes) {
+	}
+}
@@ -5,15 +5,22 @@
 package org.hibernate.audit.spi;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import jakarta.annotation.Nullable;
 
 import org.hibernate.audit.ModificationType;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 
 /// Transaction-scoped audit change set with shared audit merge semantics.
 ///
@@ -29,6 +36,12 @@
 /// and owner id and are recorded once, preserving the first snapshot captured for
 /// the collection during the transaction.
 ///
+/// Bulk mutation queries write the audit rows of the entities they affect
+/// immediately. Only the entity hierarchies they mutate are recorded, not the
+/// affected entities, and the entity changes made through the session are
+/// [reconciled][#reconcileBulkMutations] with the audit rows already written
+/// before their own audit rows are written.
+///
 /// @param <E> the execution-specific entity audit handler carried with entity changes
 /// @param <C> the execution-specific collection audit handler carried with collection changes
 ///
@@ -39,6 +52,12 @@
 public class AuditChangeSet<E, C> {
 	private final Map<EntityKey, MutableEntityChange<E>> entityChanges = new LinkedHashMap<>();
 	private final Map<CollectionKey, CollectionChange<C>> collectionChanges = new LinkedHashMap<>();
+	// the ordinal of the latest bulk mutation of each entity hierarchy, by root entity name
+	private final Map<String, Integer> bulkMutations = new HashMap<>();
+	private final Set<String> bulkMutatedEntityNames = new LinkedHashSet<>();
+	// entity changes which cancelled out after a bulk mutation wrote an audit row for the entity
+	private final Set<EntityKey> cancelledEntityChanges = new LinkedHashSet<>();
+	private int bulkMutationCount;
 
 	/// Add or merge an entity audit change.
 	///
@@ -52,9 +71,17 @@ public void addEntityChange(
 			Object[] values,
 			ModificationType modificationType,
 			E entityAuditHandler) {
+		cancelledEntityChanges.remove( entityKey );
 		entityChanges.compute( entityKey, (key, existing) -> existing == null
-				? new MutableEntityChange<>( entity, values, modificationType, entityAuditHandler )
-				: merge( existing, entity, values, modificationType ) );
+				? new MutableEntityChange<>( entity, values, modificationType, entityAuditHandler, bulkMutationCount )
+				: merge( key, existing, entity, values, modificationType ) );
+	}
+
+	/// Record that a bulk mutation query wrote audit rows for the current changeset
+	/// for entities of the given type.
+	public void addBulkMutation(EntityPersister entityDescriptor) {
+		bulkMutations.put( entityDescriptor.getRootEntityName(), ++bulkMutationCount );
+		bulkMutatedEntityNames.add( entityDescriptor.getEntityName() );
 	}
 
 	/// Add a collection audit change if one has not already been captured.
@@ -97,22 +124,122 @@ public List<CollectionChange<C>> collectionChanges() {
 		return List.copyOf( collectionChanges.values() );
 	}
 
+	/// Reconcile the entity changes made through the session with the audit rows
+	/// written for the current changeset by bulk mutation queries of their entity
+	/// hierarchies, if any, so that there is still one audit row per entity:
+	///
+	/// - a change flushed before the latest bulk mutation of its hierarchy is
+	///   absorbed by the audit row the bulk mutation wrote for the entity, which
+	///   reflects the later state of the entity, and takes the merged modification
+	///   type, for example ADD for an entity created earlier in the transaction
+	/// - a change flushed after a bulk mutation supersedes the audit row it wrote
+	///   for the entity, which is deleted
+	///
+	/// Pending collection changes of an entity deleted by a bulk mutation are
+	/// discarded in favor of the audit rows written by the bulk mutation.
+	///
+	/// @return the keys of the absorbed entity changes, whose audit rows must not
+	///         be written again
+	public Set<EntityKey> reconcileBulkMutations(BulkMutationAuditRows auditRows) {
+		final Set<EntityKey> absorbed = new HashSet<>();
+		if ( bulkMutations.isEmpty() ) {
+			return absorbed;
+		}
+		for ( var entityKey : cancelledEntityChanges ) {
+			auditRows.delete( entityKey, null );
+		}
+		final var iterator = entityChanges.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			final var entry = iterator.next();
+			final var entityKey = entry.getKey();
+			final var change = entry.getValue();
+			final Integer latestBulkMutation = bulkMutations.get( entityKey.getPersister().getRootEntityName() );
+			if ( latestBulkMutation == null ) {
+				continue;
+			}
+			if ( latestBulkMutation > change.bulkMutationCount ) {
+				switch ( change.modificationType ) {
+					case ADD -> {
+						if ( auditRows.retype( entityKey, ModificationType.MOD, ModificationType.ADD ) ) {
+							absorbed.add( entityKey );
+						}
+						else if ( auditRows.delete( entityKey, ModificationType.DEL ) ) {
+							// created and then deleted in the same transaction
+							iterator.remove();
+							removeCollectionChanges( entityKey );
+							auditRows.deleteCollectionRows( entityKey );
+						}
+					}
+					case MOD -> {
+						if ( auditRows.retype( entityKey, ModificationType.MOD, ModificationType.MOD ) ) {
+							absorbed.add( entityKey );
+						}
+						else if ( auditRows.retype( entityKey, ModificationType.DEL, ModificationType.DEL ) ) {
+							change.modificationType = ModificationType.DEL;
+							absorbed.add( entityKey );
+							removeCollectionChanges( entityKey );
+						}
+					}
+					case DEL -> {
+						// a deleted entity is not affected by later bulk mutations
+					}
+				}
+			}
+			else if ( change.modificationType == ModificationType.ADD
+					&& auditRows.delete( entityKey, ModificationType.DEL ) ) {
+				// the entity deleted by the bulk mutation was created again
+				change.modificationType = ModificationType.MOD;
+			}
+			else {
+				auditRows.delete( entityKey, null );
+			}
+		}
+		return absorbed;
+	}
+
+	private void removeCollectionChanges(EntityKey ownerKey) {
+		final var ownerPersister = ownerKey.getPersister();
+		final var mappingMetamodel = ownerPersister.getFactory().getMappingMetamodel();
+		collectionChanges.keySet().removeIf( collectionKey -> {
+			final var collectionOwnerPersister =
+					mappingMetamodel.getCollectionDescriptor( collectionKey.getRole() )
+							.getOwnerEntityPersister();
+			return collectionOwnerPersister.getRootEntityName().equals( ownerPersister.getRootEntityName() )
+				&& ownerPersister.getIdentifierType().isEqual( collectionKey.getKey(), ownerKey.getIdentifier() );
+		} );
+	}
+
+	/// Return the names of the entities mutated by bulk mutation queries.
+	public Set<String> bulkMutatedEntityNames() {
+		return Set.copyOf( bulkMutatedEntityNames );
+	}
+
 	public boolean isEmpty() {
-		return entityChanges.isEmpty() && collectionChanges.isEmpty();
+		return entityChanges.isEmpty() && collectionChanges.isEmpty() && bulkMutatedEntityNames.isEmpty();
 	}
 
 	public void clear() {
 		entityChanges.clear();
 		collectionChanges.clear();
+		bulkMutations.clear();
+		bulkMutatedEntityNames.clear();
+		cancelledEntityChanges.clear();
+		bulkMutationCount = 0;
 	}
 
-	private static <E> MutableEntityChange<E> merge(
+	private MutableEntityChange<E> merge(
+			EntityKey entityKey,
 			MutableEntityChange<E> existing,
 			Object entity,
 			Object[] newValues,
 			ModificationType incoming) {
 		final ModificationType merged = mergeModificationType( existing.modificationType, incoming );
 		if ( merged == null ) {
+			final Integer latestBulkMutation = bulkMutations.get( entityKey.getPersister().getRootEntityName() );
+			if ( latestBulkMutation != null && latestBulkMutation > existing.bulkMutationCount ) {
+				// the audit row written by the bulk mutation must be removed
+				cancelledEntityChanges.add( entityKey );
+			}
 			return null;
 		}
 		else {
@@ -121,6 +248,7 @@ private static <E> MutableEntityChange<E> merge(
 			if ( entity != null ) {
 				existing.entity = entity;
 			}
+			existing.bulkMutationCount = bulkMutationCount;
 			return existing;
 		}
 	}
@@ -179,21 +307,46 @@ private static ModificationType mergeModificationType(
 			C collectionAuditHandler) {
 	}
 
+	/// The audit rows written for the current changeset by bulk mutation queries,
+	/// which are reconciled with the entity changes made through the session.
+	///
+	/// @see #reconcileBulkMutations
+	public interface BulkMutationAuditRows {
+		/// Change the modification type of the audit row of the given entity, if
+		/// it has the given modification type.
+		///
+		/// @return whether the entity has such an audit row
+		boolean retype(EntityKey entityKey, ModificationType from, ModificationType to);
+
+		/// Delete the audit row of the given entity, if it has the given
+		/// modification type, or regardless of its modification type if `null`.
+		///
+		/// @return whether the entity had such an audit row
+		boolean delete(EntityKey entityKey, @Nullable ModificationType modificationType);
+
+		/// Delete the audit rows of the collections owned by the given entity.
+		void deleteCollectionRows(EntityKey ownerKey);
+	}
+
 	private static class MutableEntityChange<E> {
 		Object entity;
 		Object[] values;
 		ModificationType modificationType;
 		final E entityAuditHandler;
+		// the number of bulk mutations executed when the change was last flushed
+		int bulkMutationCount;
 
 		private MutableEntityChange(
 				Object entity,
 				Object[] values,
 				ModificationType modificationType,
-				E entityAuditHandler) {
+				E entityAuditHandler,
+				int bulkMutationCount) {
 			this.entity = entity;
 			this.values = values;
 			this.modificationType = modificationType;
 			this.entityAuditHandler = entityAuditHandler;
+			this.bulkMutationCount = bulkMutationCount;
 		}
 	}
 }
@@ -13,11 +13,13 @@
 import org.hibernate.annotations.Changelog;
 import org.hibernate.audit.EntityTrackingChangesetListener;
 import org.hibernate.audit.ModificationType;
+import org.hibernate.audit.internal.BulkAuditSupport;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TransactionCompletionCallbacks;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.mutation.AuditMutationWriter;
 
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
@@ -38,7 +40,9 @@
  *     <li>DEL + ADD -> MOD (entity re-created with potentially different state)
  * </ul>
  * All audit rows (INSERT + optional REVEND UPDATE) are written
- * at {@code beforeTransactionCompletion}.
+ * at {@code beforeTransactionCompletion}, after the entries have
+ * been reconciled with the audit rows already written by
+ * {@linkplain #bulkMutationExecuted bulk mutation queries}.
  *
  * @see AuditWriter
  * @since 7.4
@@ -76,6 +80,24 @@ public void enqueue(
 		changeSet.addEntityChange( entityKey, entity, values, modificationType, writer );
 	}
 
+	/**
+	 * Record that a bulk mutation query wrote audit rows for entities
+	 * of the given type.
+	 *
+	 * @param entityDescriptor the entity persister
+	 * @param session the current session
+	 */
+	public void bulkMutationExecuted(
+			EntityPersister entityDescriptor,
+			SharedSessionContractImplementor session) {
+		if ( !registered ) {
+			session.getTransactionCompletionCallbacks().registerCallback( this );
+			trackingListener = resolveTrackingListener( session );
+			registered = true;
+		}
+		changeSet.addBulkMutation( entityDescriptor );
+	}
+
 	/**
 	 * Enqueue a collection for deferred audit row writing.
 	 * On first enqueue, the current snapshot is captured. Subsequent
@@ -143,16 +165,19 @@ public void setChangesetContext(Object changelog, Session changesetSession) {
 	@Override
 	public void doBeforeTransactionCompletion(SharedSessionContractImplementor session) {
 		try {
+			final var absorbed = changeSet.reconcileBulkMutations( new BulkAuditSupport( session ) );
 			// Entity audit rows first
 			for ( var entry : changeSet.entityChanges() ) {
 				final var entityKey = entry.entityKey();
-				entry.entityAuditHandler().writeAuditRow(
-						entityKey,
-						entry.entity(),
-						entry.values(),
-						entry.modificationType(),
-						session
-				);
+				if ( !absorbed.contains( entityKey ) ) {
+					entry.entityAuditHandler().writeAuditRow(
+							entityKey,
+							entry.entity(),
+							entry.values(),
+							entry.modificationType(),
+							session
+					);
+				}
 				if ( trackingListener != null ) {
 					trackingListener.entityChanged(
 							entityKey.getPersister().getMappedClass(),
@@ -200,6 +225,7 @@ private void populateModifiedEntityNames(SharedSessionContractImplementor sessio
 			for ( var change : changeSet.entityChanges() ) {
 				entityNames.add( change.entityKey().getEntityName() );
 			}
+			entityNames.addAll( changeSet.bulkMutatedEntityNames() );
 			castNonNull( changesetSession ).flush();
 		}
 	}
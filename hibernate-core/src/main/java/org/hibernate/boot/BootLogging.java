@@ -22,6 +22,7 @@
 import org.jboss.logging.annotations.ValidIdRanges;
 
 import static org.jboss.logging.Logger.Level.DEBUG;
+import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.TRACE;
 import static org.jboss.logging.Logger.Level.WARN;
 
@@ -464,4 +465,12 @@ public interface BootLogging extends BasicLogger {
 	@LogMessage(level = TRACE)
 	@Message(id = 160248, value = "Binding named native mutation query '%s' to [%s]")
 	void bindingNamedNativeMutation(String queryName, String bindingTarget);
+
+	@LogMessage(level = INFO)
+	@Message(id = 160249, value = "Startup phase %s took %s ms")
+	void startupPhase(String phase, long millis);
+
+	@LogMessage(level = INFO)
+	@Message(id = 160250, value = "Startup phase %s took %s ms for '%s'")
+	void startupPhaseForRole(String phase, long millis, String role);
 }
@@ -35,6 +35,7 @@
 import org.hibernate.boot.model.internal.SecondaryTableFromAnnotationSecondPass;
 import org.hibernate.boot.model.internal.SecondaryTableSecondPass;
 import org.hibernate.boot.model.internal.SetBasicValueTypeSecondPass;
+import org.hibernate.boot.model.internal.SoftDeleteHelper;
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Database;
@@ -1737,12 +1738,33 @@ public void processSecondPasses(MetadataBuildingContext buildingContext) {
 			processCachingOverrides();
 
 			processValueResolvers( buildingContext );
+
+			processSoftDeleteIndexes( buildingContext );
 		}
 		finally {
 			inSecondPass = false;
 		}
 	}
 
+	private void processSoftDeleteIndexes(MetadataBuildingContext buildingContext) {
+		// the indicator column of an entity belongs to its root table,
+		// so the tables of joined subclasses cannot have partial indexes
+		for ( var entityBinding : getEntityBindings() ) {
+			if ( entityBinding instanceof RootClass rootClass ) {
+				SoftDeleteHelper.addSoftDeleteIndexes( rootClass, rootClass.getRootTable(), buildingContext );
+			}
+		}
+		for ( var collectionBinding : getCollectionBindings() ) {
+			if ( !collectionBinding.isOneToMany() ) {
+				SoftDeleteHelper.addSoftDeleteIndexes(
+						collectionBinding,
+						collectionBinding.getCollectionTable(),
+						buildingContext
+				);
+			}
+		}
+	}
+
 	private void processValueResolvers(MetadataBuildingContext buildingContext) {
 		if ( valueResolvers != null ) {
 			while ( !valueResolvers.isEmpty() ) {
@@ -8,6 +8,8 @@
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.tool.schema.spi.DelayedDropAction;
 import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
@@ -32,12 +34,19 @@ class SessionFactoryObserverForSchemaExport implements SessionFactoryObserver {
 
 	@Override
 	public void sessionFactoryCreated(SessionFactory factory) {
-		SchemaManagementToolCoordinator.process(
-				metadata,
-				getRegistry( factory ),
-				factory.getProperties(),
-				action -> delayedDropAction = action
-		);
+		final var registry = getRegistry( factory );
+		final var span = registry.requireService( StartupProfiler.class ).begin( StartupPhase.SCHEMA_MANAGEMENT );
+		try {
+			SchemaManagementToolCoordinator.process(
+					metadata,
+					registry,
+					factory.getProperties(),
+					action -> delayedDropAction = action
+			);
+		}
+		finally {
+			span.complete();
+		}
 	}
 
 	@Override
@@ -32,6 +32,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.SessionEventListener;
 import org.hibernate.SessionFactoryObserver;
+import org.hibernate.action.queue.spi.RowChangeListener;
 import org.hibernate.audit.AuditStrategy;
 import org.hibernate.StatementObserver;
 import org.hibernate.boot.model.internal.TemporalHelper;
@@ -162,6 +163,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private StatementObserver statementObserver;
 	private Supplier<? extends Interceptor> statelessInterceptorSupplier;
 	private StatementInspector statementInspector;
+	private final RowChangeListener rowChangeListener;
 	private final Class<? extends SessionEventListener> autoSessionEventListener;
 	private final List<SessionFactoryObserver> sessionFactoryObserverList = new ArrayList<>();
 
@@ -178,6 +180,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean initializeLazyStateOutsideTransactions;
 	private final boolean bidirectionalAssociationManagementEnabled;
 	private int defaultBatchFetchSize;
+	private int adaptiveBatchFetchMaxSize;
+	private int subselectFetchArrayMaxSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
 	private boolean orderUpdatesEnabled;
@@ -216,6 +220,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean preferJavaTimeJdbcTypes;
 	private final boolean preferNativeEnumTypes;
 	private final boolean preferLocaleLanguageTagEnabled;
+	private final boolean deferredLoaderCreationEnabled;
+	private final boolean sqlStringInterningEnabled;
 	private final int preferredSqlTypeCodeForBoolean;
 	private final int preferredSqlTypeCodeForDuration;
 	private final int preferredSqlTypeCodeForUuid;
@@ -229,6 +235,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheAssembledResultsEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
@@ -372,6 +379,12 @@ public BootstrapContext getBootstrapContext() {
 						settings.get( STATEMENT_INSPECTOR )
 				);
 
+		rowChangeListener =
+				strategySelector.resolveStrategy(
+						RowChangeListener.class,
+						settings.get( ROW_CHANGE_LISTENER )
+				);
+
 
 		autoSessionEventListener = getAutoSessionEventsListener( settings, strategySelector );
 
@@ -418,7 +431,9 @@ public BootstrapContext getBootstrapContext() {
 		tenantCredentialsMapper = MultiTenancy.getTenantCredentialsMapper( settings, serviceRegistry );
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
+		adaptiveBatchFetchMaxSize = getInt( ADAPTIVE_BATCH_FETCH_MAX_SIZE, settings, 0 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
+		subselectFetchArrayMaxSize = getInt( SUBSELECT_FETCH_ARRAY_MAX_SIZE, settings, 1000 );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
@@ -460,6 +475,8 @@ public BootstrapContext getBootstrapContext() {
 		preferJavaTimeJdbcTypes = MetadataBuildingContext.isPreferJavaTimeJdbcTypesEnabled( configurationService );
 		preferNativeEnumTypes = MetadataBuildingContext.isPreferNativeEnumTypesEnabled( configurationService );
 		preferLocaleLanguageTagEnabled = MetadataBuildingContext.isPreferNativeEnumTypesEnabled( configurationService );
+		deferredLoaderCreationEnabled = configurationService.getSetting( DEFER_LOADER_CREATION, BOOLEAN, false );
+		sqlStringInterningEnabled = configurationService.getSetting( INTERN_SQL_STRINGS, BOOLEAN, false );
 		preferredSqlTypeCodeForBoolean = ConfigurationHelper.getPreferredSqlTypeCodeForBoolean( serviceRegistry );
 		preferredSqlTypeCodeForDuration = ConfigurationHelper.getPreferredSqlTypeCodeForDuration( serviceRegistry );
 		preferredSqlTypeCodeForUuid = ConfigurationHelper.getPreferredSqlTypeCodeForUuid( serviceRegistry );
@@ -480,6 +497,8 @@ public BootstrapContext getBootstrapContext() {
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL
 					);
+			queryCacheAssembledResultsEnabled =
+					configurationService.getSetting( QUERY_CACHE_ASSEMBLED_RESULTS, BOOLEAN, false );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy(
 							TimestampsCacheFactory.class,
@@ -502,6 +521,7 @@ public BootstrapContext getBootstrapContext() {
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			queryCacheAssembledResultsEnabled = false;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
@@ -1258,6 +1278,16 @@ public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return adaptiveBatchFetchMaxSize;
+	}
+
+	@Override
+	public int getSubselectFetchArrayMaxSize() {
+		return subselectFetchArrayMaxSize;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1332,6 +1362,11 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheAssembledResultsEnabled() {
+		return queryCacheAssembledResultsEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1574,6 +1609,21 @@ public boolean isPreferLocaleLanguageTagEnabled() {
 		return preferLocaleLanguageTagEnabled;
 	}
 
+	@Override
+	public boolean isDeferredLoaderCreationEnabled() {
+		return deferredLoaderCreationEnabled;
+	}
+
+	@Override
+	public boolean isSqlStringInterningEnabled() {
+		return sqlStringInterningEnabled;
+	}
+
+	@Override
+	public RowChangeListener getRowChangeListener() {
+		return rowChangeListener;
+	}
+
 	@Override
 	@Nonnull
 	public FormatMapper getJsonFormatMapper() {
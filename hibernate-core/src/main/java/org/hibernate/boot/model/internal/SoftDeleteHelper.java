@@ -9,7 +9,9 @@
 import org.hibernate.boot.model.convert.internal.ConverterDescriptors;
 import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
 import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.ImplicitIndexNameSource;
 import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.SoftDeletable;
@@ -20,7 +22,11 @@
 import org.hibernate.metamodel.mapping.internal.SoftDeleteMappingImpl;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.hibernate.cfg.StateManagementSettings.SOFT_DELETE_INDEXES;
+import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.internal.util.StringHelper.coalesce;
 import static org.hibernate.internal.util.StringHelper.isBlank;
 
@@ -130,6 +136,104 @@ private static void applyColumnName(
 		softDeleteColumn.setName( physicalColumnName.render( database.getDialect() ) );
 	}
 
+	/**
+	 * Creates a partial index restricted to the rows which are not deleted
+	 * for the columns of each unique key and foreign key of the table holding
+	 * the soft-delete indicator of the given entity or collection, if
+	 * {@value org.hibernate.cfg.StateManagementSettings#SOFT_DELETE_INDEXES}
+	 * is enabled and the dialect supports partial indexes.
+	 * <p>
+	 * Must be called once the unique keys and foreign keys have been bound.
+	 *
+	 * @param target The soft-deletable entity or collection
+	 * @param table The table holding the soft-delete indicator
+	 * @param context The processing context for access to needed info and services
+	 */
+	public static void addSoftDeleteIndexes(SoftDeletable target, Table table, MetadataBuildingContext context) {
+		final var softDeleteColumn = target.getSoftDeleteColumn();
+		final var dialect = context.getMetadataCollector().getDatabase().getDialect();
+		if ( softDeleteColumn != null
+				&& dialect.supportsPartialIndexes()
+				&& context.getBootstrapContext().getConfigurationService()
+						.getSetting( SOFT_DELETE_INDEXES, BOOLEAN, false ) ) {
+			final String condition =
+					nonDeletedCondition( softDeleteColumn, target.getSoftDeleteStrategy(), dialect );
+			for ( var column : table.getColumns() ) {
+				if ( column.isUnique() ) {
+					addSoftDeleteIndex( table, List.of( column ), softDeleteColumn, condition, context );
+				}
+			}
+			for ( var uniqueKey : table.getUniqueKeys().values() ) {
+				addSoftDeleteIndex( table, uniqueKey.getColumns(), softDeleteColumn, condition, context );
+			}
+			for ( var foreignKey : table.getForeignKeyCollection() ) {
+				addSoftDeleteIndex( table, foreignKey.getColumns(), softDeleteColumn, condition, context );
+			}
+		}
+	}
+
+	private static void addSoftDeleteIndex(
+			Table table,
+			List<Column> columns,
+			Column softDeleteColumn,
+			String condition,
+			MetadataBuildingContext context) {
+		if ( !columns.isEmpty() && !columns.contains( softDeleteColumn ) ) {
+			// the indicator column is part of the implicit name,
+			// so that it differs from the name of a plain index
+			final String indexName = context.getBuildingOptions().getImplicitNamingStrategy()
+					.determineIndexName( new ImplicitIndexNameSource() {
+						@Override
+						public Identifier getTableName() {
+							return table.getNameIdentifier();
+						}
+
+						@Override
+						public List<Identifier> getColumnNames() {
+							final List<Identifier> columnNames = new ArrayList<>( columns.size() + 1 );
+							for ( var column : columns ) {
+								columnNames.add( column.getNameIdentifier( context ) );
+							}
+							columnNames.add( softDeleteColumn.getNameIdentifier( context ) );
+							return columnNames;
+						}
+
+						@Override
+						public Identifier getUserProvidedIdentifier() {
+							return null;
+						}
+
+						@Override
+						public MetadataBuildingContext getBuildingContext() {
+							return context;
+						}
+					} )
+					.render( context.getMetadataCollector().getDatabase().getDialect() );
+			final var index = table.getOrCreateIndex( indexName );
+			// a unique key and a foreign key may share their columns
+			if ( index.getColumnSpan() == 0 ) {
+				columns.forEach( index::addColumn );
+				index.setPredicate( condition );
+			}
+		}
+	}
+
+	/**
+	 * The condition satisfied by rows which are not deleted, rendered as the
+	 * {@linkplain SoftDeleteMappingImpl#createNonDeletedRestriction restriction
+	 * applied when loading} the entity, so that a partial index matches it.
+	 */
+	private static String nonDeletedCondition(Column softDeleteColumn, SoftDeleteType strategy, Dialect dialect) {
+		final String columnName = softDeleteColumn.getQuotedName( dialect );
+		if ( strategy == SoftDeleteType.TIMESTAMP ) {
+			return columnName + " is null";
+		}
+		else {
+			final var resolution = ( (BasicValue) softDeleteColumn.getValue() ).resolve();
+			return columnName + " = " + SoftDeleteMappingImpl.indicatorLiteralText( resolution, false, dialect );
+		}
+	}
+
 	public static SoftDeleteMappingImpl resolveSoftDeleteMapping(
 			SoftDeletableModelPart softDeletableModelPart,
 			SoftDeletable bootMapping,
@@ -10,6 +10,7 @@
 
 import org.hibernate.annotations.Temporal;
 import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.ImplicitIndexNameSource;
 import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.spi.InFlightMetadataCollector;
@@ -29,7 +30,9 @@
 import org.hibernate.persister.state.internal.TemporalStateManagement;
 import org.hibernate.temporal.spi.ChangesetCoordinator;
 
+import static org.hibernate.cfg.StateManagementSettings.TEMPORAL_TABLE_INDEXES;
 import static org.hibernate.cfg.StateManagementSettings.TEMPORAL_TABLE_STRATEGY;
+import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.temporal.TemporalTableStrategy.AUTO;
 import static org.hibernate.temporal.TemporalTableStrategy.NATIVE;
 import static org.hibernate.temporal.TemporalTableStrategy.SINGLE_TABLE;
@@ -93,6 +96,7 @@ public static void bindTemporalColumns(
 				context
 		);
 		addTemporalCheckConstraint( temporalTable, rowStartColumn, rowEndColumn, context );
+		addTemporalIndex( temporalTable, rowStartColumn, rowEndColumn, context );
 		addAuxiliaryObjects( temporalTable, partitioned, currentPartitionName, historyPartitionName, context );
 		addSecondPass( target, context );
 	}
@@ -363,6 +367,46 @@ private static void addTemporalCheckConstraint(
 		}
 	}
 
+	private static void addTemporalIndex(
+			Table table,
+			Column rowStartColumn,
+			Column rowEndColumn,
+			MetadataBuildingContext context) {
+		if ( context.getTemporalTableStrategy() != NATIVE
+				&& context.getBootstrapContext().getConfigurationService()
+						.getSetting( TEMPORAL_TABLE_INDEXES, BOOLEAN, false ) ) {
+			// the ending column comes first, since every temporal
+			// restriction tests it for null or for a lower bound
+			final String indexName = context.getBuildingOptions().getImplicitNamingStrategy()
+					.determineIndexName( new ImplicitIndexNameSource() {
+						@Override
+						public Identifier getTableName() {
+							return table.getNameIdentifier();
+						}
+
+						@Override
+						public List<Identifier> getColumnNames() {
+							return List.of( rowEndColumn.getNameIdentifier( context ),
+									rowStartColumn.getNameIdentifier( context ) );
+						}
+
+						@Override
+						public Identifier getUserProvidedIdentifier() {
+							return null;
+						}
+
+						@Override
+						public MetadataBuildingContext getBuildingContext() {
+							return context;
+						}
+					} )
+					.render( context.getMetadataCollector().getDatabase().getDialect() );
+			final var index = table.getOrCreateIndex( indexName );
+			index.addColumn( rowEndColumn );
+			index.addColumn( rowStartColumn );
+		}
+	}
+
 	private static void handleTemporalColumnGeneration(
 			Column rowStartColumn, Column rowEndColumn,
 			MetadataBuildingContext context) {
@@ -61,6 +61,8 @@
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.mapping.Table;
 import org.hibernate.models.internal.MutableClassDetailsRegistry;
@@ -164,12 +166,20 @@ public static MetadataImplementor complete(
 
 		handleTypes( bootstrapContext, options, metadataCollector );
 
-		final var domainModelSource = processManagedResources(
-				managedResources,
-				metadataCollector,
-				bootstrapContext,
-				options.getMappingDefaults()
-		);
+		final var startupProfiler = bootstrapContext.getServiceRegistry().requireService( StartupProfiler.class );
+		final var categorization = startupProfiler.begin( StartupPhase.CATEGORIZATION );
+		final DomainModelSource domainModelSource;
+		try {
+			domainModelSource = processManagedResources(
+					managedResources,
+					metadataCollector,
+					bootstrapContext,
+					options.getMappingDefaults()
+			);
+		}
+		finally {
+			categorization.complete();
+		}
 
 		final var rootMetadataBuildingContext = new MetadataBuildingContextRootImpl(
 				"orm",
@@ -197,12 +207,18 @@ public static MetadataImplementor complete(
 				metadataCollector
 		);
 
-		processAdditionalMappingContributions( metadataCollector, options,
-				bootstrapContext.getClassLoaderService(), rootMetadataBuildingContext );
+		final var binding = startupProfiler.begin( StartupPhase.BINDING );
+		try {
+			processAdditionalMappingContributions( metadataCollector, options,
+					bootstrapContext.getClassLoaderService(), rootMetadataBuildingContext );
 
-		applyExtraQueryImports( managedResources, metadataCollector );
+			applyExtraQueryImports( managedResources, metadataCollector );
 
-		return metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+			return metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+		}
+		finally {
+			binding.complete();
+		}
 	}
 
 	@Internal
@@ -325,29 +341,48 @@ public void finishUp() {
 			}
 		};
 
-		processor.prepare();
+		final var startupProfiler = bootstrapContext.getServiceRegistry().requireService( StartupProfiler.class );
+		final var binding = startupProfiler.begin( StartupPhase.BINDING );
+		try {
+			processor.prepare();
 
-		processor.processTypeDefinitions();
-		processor.processQueryRenames();
-		processor.processAuxiliaryDatabaseObjectDefinitions();
+			processor.processTypeDefinitions();
+			processor.processQueryRenames();
+			processor.processAuxiliaryDatabaseObjectDefinitions();
 
-		processor.processIdentifierGenerators();
-		processor.processFilterDefinitions();
-		processor.processFetchProfiles();
+			processor.processIdentifierGenerators();
+			processor.processFilterDefinitions();
+			processor.processFetchProfiles();
 
-		processor.prepareForEntityHierarchyProcessing();
-		processor.processEntityHierarchies( new HashSet<>() );
-		processor.postProcessEntityHierarchies();
+			processor.prepareForEntityHierarchyProcessing();
+			processor.processEntityHierarchies( new HashSet<>() );
+			processor.postProcessEntityHierarchies();
 
-		processor.processResultSetMappings();
+			processor.processResultSetMappings();
+		}
+		finally {
+			binding.complete();
+		}
 
-		metadataCollector.processSecondPasses( rootMetadataBuildingContext );
+		final var secondPasses = startupProfiler.begin( StartupPhase.SECOND_PASSES );
+		try {
+			metadataCollector.processSecondPasses( rootMetadataBuildingContext );
+		}
+		finally {
+			secondPasses.complete();
+		}
 
-		// Make sure collections are fully bound before processing
-		// named queries as hbm result set mappings require it
-		processor.processNamedQueries();
+		final var finishUp = startupProfiler.begin( StartupPhase.BINDING );
+		try {
+			// Make sure collections are fully bound before processing
+			// named queries as hbm result set mappings require it
+			processor.processNamedQueries();
 
-		processor.finishUp();
+			processor.finishUp();
+		}
+		finally {
+			finishUp.complete();
+		}
 	}
 
 	@Internal
@@ -19,6 +19,8 @@
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.JpaOrmXmlPersistenceUnitDefaultAware;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.mapping.FetchProfile;
 import org.hibernate.mapping.MetadataSource;
 import org.hibernate.models.spi.ClassDetails;
@@ -198,11 +200,20 @@ public void processEntityHierarchies(Set<String> processedEntityNames) {
 		final var inheritanceStatePerClass =
 				buildInheritanceStates( orderedClasses, rootMetadataBuildingContext );
 
+		final var startupProfiler =
+				rootMetadataBuildingContext.getBootstrapContext().getServiceRegistry()
+						.requireService( StartupProfiler.class );
 		for ( var clazz : orderedClasses ) {
 			if ( !processedEntityNames.contains( clazz.getName() )
 					&& !clazz.getName().endsWith( ".package-info" ) ) {
-				bindClass( clazz, inheritanceStatePerClass, rootMetadataBuildingContext );
-				bindFetchProfilesForClass( clazz, rootMetadataBuildingContext );
+				final var span = startupProfiler.begin( StartupPhase.BINDING, clazz.getName() );
+				try {
+					bindClass( clazz, inheritanceStatePerClass, rootMetadataBuildingContext );
+					bindFetchProfilesForClass( clazz, rootMetadataBuildingContext );
+				}
+				finally {
+					span.complete();
+				}
 				processedEntityNames.add( clazz.getName() );
 			}
 		}
@@ -16,6 +16,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Locale;
 
 /**
@@ -45,4 +46,20 @@ public interface ScannerLogger extends BasicLogger {
 	@LogMessage(level = Logger.Level.DEBUG)
 	@Message(id = 60003, value = "Unable to resolve class [%s] named in persistence unit [%s]")
 	void unableToResolveClass(String className, URL rootUrl);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = 60004, value = "Ignoring scanning snapshot [%s] (%s); scanning the persistence unit instead")
+	void ignoringScanningSnapshot(URL snapshot, String reason);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = 60005, value = "Using scanning snapshot [%s] listing %s managed classes")
+	void usingScanningSnapshot(URL snapshot, int classCount);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = 60006, value = "Ignoring cached Jandex index [%s]: %s")
+	void ignoringCachedIndex(Path cacheFile, String reason);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = 60007, value = "Unable to cache Jandex index for archive [%s]: %s")
+	void unableToCacheIndex(Path archiveFile, String reason);
 }
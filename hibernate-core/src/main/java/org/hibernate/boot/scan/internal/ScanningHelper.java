@@ -5,6 +5,7 @@
 package org.hibernate.boot.scan.internal;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
@@ -13,16 +14,23 @@
 import org.hibernate.boot.scan.spi.Scanner;
 import org.hibernate.boot.scan.spi.ScanningProvider;
 import org.hibernate.boot.scan.spi.ScanningResult;
+import org.hibernate.boot.scan.spi.ScanningSnapshot;
 import org.hibernate.cfg.PersistenceSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.jpa.HibernatePersistenceConfiguration;
 
+import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * @author Steve Ebersole
@@ -38,6 +46,11 @@ public static ScanningResult performScanning(
 
 		final var classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
 		final var configurationService = serviceRegistry.requireService( ConfigurationService.class );
+		final var snapshot = readSnapshot( boundaries, configurationService );
+		if ( snapshot != null ) {
+			return snapshot;
+		}
+
 		final var archiveDescriptorFactory = determineArchiveDescriptorFactory( configurationService, classLoaderService );
 		final var scanningContext = new ScanningContextImpl(
 				archiveDescriptorFactory,
@@ -45,7 +58,44 @@ public static ScanningResult performScanning(
 		);
 		final ScanningProvider scanningProvider = determineScanningProvider( configurationService, classLoaderService );
 		final Scanner scanner = scanningProvider.builderScanner( scanningContext );
-		return scanner.scan( boundaries );
+		final var span = serviceRegistry.requireService( StartupProfiler.class ).begin( StartupPhase.SCANNING );
+		try {
+			return scanner.scan( boundaries );
+		}
+		finally {
+			span.complete();
+		}
+	}
+
+	/**
+	 * Read the {@linkplain ScanningSnapshot snapshots} of the results of scanning
+	 * written at build time into the given archives of a persistence unit, if every
+	 * one of the archives has one, and they are all still usable.
+	 *
+	 * @see PersistenceSettings#SCANNING_SNAPSHOT
+	 */
+	public static @Nullable ScanningResult readSnapshot(
+			@Nonnull URL[] boundaries,
+			@Nonnull ConfigurationService configurationService) {
+		final String resourceName = configurationService.getSetting(
+				PersistenceSettings.SCANNING_SNAPSHOT,
+				StandardConverters.STRING,
+				ScanningSnapshot.DEFAULT_RESOURCE_NAME
+		);
+		final Set<String> packages = new LinkedHashSet<>();
+		final Set<String> classes = new LinkedHashSet<>();
+		final Set<URI> mappingFiles = new LinkedHashSet<>();
+		for ( URL boundary : boundaries ) {
+			final var snapshot = ScanningSnapshot.read( boundary, resourceName );
+			if ( snapshot == null ) {
+				// an archive without a usable snapshot must be scanned
+				return null;
+			}
+			packages.addAll( snapshot.discoveredPackages() );
+			classes.addAll( snapshot.discoveredClasses() );
+			mappingFiles.addAll( snapshot.mappingFiles() );
+		}
+		return new ScanningResultImpl( packages, classes, mappingFiles );
 	}
 
 	private static URL[] collectUrls(HibernatePersistenceConfiguration cfg) {
@@ -0,0 +1,328 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.scan.spi;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.hibernate.Incubating;
+import org.hibernate.Version;
+import org.hibernate.boot.scan.internal.ScanningResultImpl;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.hibernate.boot.scan.internal.ScannerLogger.SCANNER_LOGGER;
+
+/// A versioned snapshot of a [ScanningResult], written at build time by the
+/// Hibernate Gradle and Maven plugins, and read at runtime in place of scanning
+/// the persistence unit.
+///
+/// The snapshot describes the archive which contains it, and is only ever read
+/// from the archives of the persistence unit itself, never from elsewhere on the
+/// classpath. It records the version of Hibernate which wrote it, along with a
+/// checksum of its content. A snapshot written by a different version of Hibernate,
+/// one which fails its checksum, or one which lists a class or mapping file which
+/// cannot be found in the same archive is ignored, and the persistence unit is
+/// scanned as usual.
+///
+/// @see org.hibernate.cfg.PersistenceSettings#SCANNING_SNAPSHOT
+///
+/// @since 8.1
+@Incubating
+public final class ScanningSnapshot {
+	/// The default name of the classpath resource containing the snapshot.
+	public static final String DEFAULT_RESOURCE_NAME = "META-INF/hibernate-scanning.snapshot";
+
+	private static final String FORMAT_VERSION = "1";
+
+	private static final String FORMAT = "format";
+	private static final String HIBERNATE_VERSION = "hibernate";
+	private static final String CLASSES = "classes";
+	private static final String PACKAGES = "packages";
+	private static final String MAPPING_FILES = "mapping-files";
+	private static final String CHECKSUM = "checksum";
+
+	// compared by name, since the classes are loaded by the class loader of the build
+	private static final String DISCOVERABLE = "jakarta.persistence.spi.Discoverable";
+	private static final String JAKARTA_DATA_REPOSITORY = "jakarta.data.repository.Repository";
+
+	private ScanningSnapshot() {
+	}
+
+	/// Discover the managed classes and annotated packages in the given directories
+	/// of compiled classes, exactly as scanning would: a class or package is managed
+	/// if it is annotated with an annotation marked [@Discoverable][jakarta.persistence.spi.Discoverable],
+	/// or is a Jakarta Data repository. The standard `META-INF/orm.xml` is not part of
+	/// the snapshot, since it is always processed anyway.
+	///
+	/// @param roots The output directories of the build.
+	/// @param classLoader A class loader able to load the classes in the given
+	/// directories, along with their dependencies. Classes are loaded but not
+	/// initialized.
+	public static ScanningResult discover(@Nonnull Collection<Path> roots, @Nonnull ClassLoader classLoader)
+			throws IOException {
+		final Set<String> classes = new TreeSet<>();
+		final Set<String> packages = new TreeSet<>();
+		for ( var root : roots ) {
+			if ( !Files.isDirectory( root ) ) {
+				continue;
+			}
+			try ( Stream<Path> files = Files.walk( root ) ) {
+				for ( var file : (Iterable<Path>) files::iterator ) {
+					final String relativeName = root.relativize( file ).toString().replace( '\\', '/' );
+					if ( relativeName.endsWith( ".class" ) ) {
+						final String className =
+								relativeName.substring( 0, relativeName.length() - ".class".length() )
+										.replace( '/', '.' );
+						discover( className, classLoader, classes, packages );
+					}
+				}
+			}
+		}
+		return new ScanningResultImpl( packages, classes, Set.of() );
+	}
+
+	private static void discover(String className, ClassLoader classLoader, Set<String> classes, Set<String> packages) {
+		final Class<?> type;
+		try {
+			type = Class.forName( className, false, classLoader );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			// a class with a missing optional dependency cannot be a managed class
+			return;
+		}
+		for ( Annotation annotation : type.getDeclaredAnnotations() ) {
+			if ( isDiscoverable( annotation.annotationType() ) ) {
+				if ( className.endsWith( ".package-info" ) ) {
+					packages.add( className.substring( 0, className.length() - ".package-info".length() ) );
+				}
+				else {
+					classes.add( className );
+				}
+				return;
+			}
+		}
+	}
+
+	private static boolean isDiscoverable(Class<? extends Annotation> annotationType) {
+		if ( JAKARTA_DATA_REPOSITORY.equals( annotationType.getName() ) ) {
+			return true;
+		}
+		for ( Annotation metaAnnotation : annotationType.getDeclaredAnnotations() ) {
+			if ( DISCOVERABLE.equals( metaAnnotation.annotationType().getName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/// Write a snapshot of the given result.
+	///
+	/// @apiNote The mapping files of the result should be given as
+	/// relative URIs naming resources of the archive which is to
+	/// contain the snapshot.
+	public static void write(@Nonnull ScanningResult result, @Nonnull OutputStream outputStream) throws IOException {
+		final String classes = join( result.discoveredClasses() );
+		final String packages = join( result.discoveredPackages() );
+		final String mappingFiles = join( result.mappingFiles().stream().map( URI::toString ).toList() );
+		final Writer writer = new OutputStreamWriter( outputStream, StandardCharsets.UTF_8 );
+		writer.write( "# Hibernate ORM scanning snapshot - generated at build time, do not edit\n" );
+		writeEntry( writer, FORMAT, FORMAT_VERSION );
+		writeEntry( writer, HIBERNATE_VERSION, Version.getVersionString() );
+		writeEntry( writer, CLASSES, classes );
+		writeEntry( writer, PACKAGES, packages );
+		writeEntry( writer, MAPPING_FILES, mappingFiles );
+		writeEntry( writer, CHECKSUM,
+				checksum( FORMAT_VERSION, Version.getVersionString(), classes, packages, mappingFiles ) );
+		writer.flush();
+	}
+
+	private static void writeEntry(Writer writer, String key, String value) throws IOException {
+		writer.write( key );
+		writer.write( '=' );
+		writer.write( value );
+		writer.write( '\n' );
+	}
+
+	/// Read the snapshot with the given resource name from the given archive
+	/// of a persistence unit, returning `null` if the archive contains no
+	/// snapshot, or if the snapshot is not usable, in which case the reason
+	/// is logged.
+	///
+	/// @param archive The root URL or one of the jar file URLs of the
+	/// persistence unit.
+	/// @param resourceName The name of the snapshot within the archive.
+	public static @Nullable ScanningResult read(@Nonnull URL archive, @Nonnull String resourceName) {
+		final URL base = resolveArchiveBase( archive );
+		if ( base == null ) {
+			return null;
+		}
+		final URL snapshot = resolve( base, resourceName );
+		if ( snapshot == null ) {
+			return null;
+		}
+		final var properties = new Properties();
+		try ( InputStream stream = snapshot.openStream() ) {
+			properties.load( new InputStreamReader( stream, StandardCharsets.UTF_8 ) );
+		}
+		catch (FileNotFoundException e) {
+			return null;
+		}
+		catch (IOException e) {
+			SCANNER_LOGGER.ignoringScanningSnapshot( snapshot, "unable to read snapshot: " + e.getMessage() );
+			return null;
+		}
+
+		final String format = properties.getProperty( FORMAT, "" );
+		final String version = properties.getProperty( HIBERNATE_VERSION, "" );
+		final String classes = properties.getProperty( CLASSES, "" );
+		final String packages = properties.getProperty( PACKAGES, "" );
+		final String mappingFiles = properties.getProperty( MAPPING_FILES, "" );
+		if ( !FORMAT_VERSION.equals( format ) ) {
+			SCANNER_LOGGER.ignoringScanningSnapshot( snapshot, "unsupported format '" + format + "'" );
+			return null;
+		}
+		if ( !Version.getVersionString().equals( version ) ) {
+			SCANNER_LOGGER.ignoringScanningSnapshot( snapshot, "written by Hibernate " + version );
+			return null;
+		}
+		if ( !checksum( format, version, classes, packages, mappingFiles )
+				.equals( properties.getProperty( CHECKSUM ) ) ) {
+			SCANNER_LOGGER.ignoringScanningSnapshot( snapshot, "checksum mismatch" );
+			return null;
+		}
+
+		// the snapshot must describe the archive which contains it,
+		// and not some other archive which happens to be on the classpath
+		final Set<String> discoveredClasses = split( classes );
+		for ( String className : discoveredClasses ) {
+			if ( !exists( resolve( base, className.replace( '.', '/' ) + ".class" ) ) ) {
+				SCANNER_LOGGER.ignoringScanningSnapshot( snapshot, "class '" + className + "' not found in " + archive );
+				return null;
+			}
+		}
+		final Set<URI> discoveredMappingFiles = new LinkedHashSet<>();
+		for ( String mappingFile : split( mappingFiles ) ) {
+			final URI uri = resolveMappingFile( base, mappingFile );
+			if ( uri == null ) {
+				SCANNER_LOGGER.ignoringScanningSnapshot( snapshot, "mapping file '" + mappingFile + "' not found in " + archive );
+				return null;
+			}
+			discoveredMappingFiles.add( uri );
+		}
+		SCANNER_LOGGER.usingScanningSnapshot( snapshot, discoveredClasses.size() );
+		return new ScanningResultImpl( split( packages ), discoveredClasses, discoveredMappingFiles );
+	}
+
+	/// The URL against which the entries of the given archive may be resolved:
+	/// the directory itself, or the root of the jar file.
+	private static @Nullable URL resolveArchiveBase(URL archive) {
+		final String location = archive.toExternalForm();
+		try {
+			if ( "jar".equals( archive.getProtocol() ) ) {
+				return new URL( location.endsWith( "/" ) ? location : location + "/" );
+			}
+			else if ( "file".equals( archive.getProtocol() ) ) {
+				if ( location.endsWith( "/" ) ) {
+					return archive;
+				}
+				else {
+					final Path path = Path.of( archive.toURI() );
+					return Files.isDirectory( path )
+							? new URL( location + "/" )
+							: new URL( "jar:" + location + "!/" );
+				}
+			}
+			else {
+				// some other kind of archive, which can only be scanned
+				return null;
+			}
+		}
+		catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static @Nullable URL resolve(URL base, String entryName) {
+		try {
+			return new URL( base, entryName );
+		}
+		catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	private static boolean exists(@Nullable URL url) {
+		if ( url == null ) {
+			return false;
+		}
+		try ( InputStream ignored = url.openStream() ) {
+			return true;
+		}
+		catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static @Nullable URI resolveMappingFile(URL base, String mappingFile) {
+		final URI uri = URI.create( mappingFile );
+		if ( uri.isAbsolute() ) {
+			return uri;
+		}
+		final URL url = resolve( base, mappingFile );
+		try {
+			return exists( url ) ? url.toURI() : null;
+		}
+		catch (URISyntaxException e) {
+			return null;
+		}
+	}
+
+	private static String join(Collection<String> names) {
+		return String.join( ",", new TreeSet<>( names ) );
+	}
+
+	private static Set<String> split(String names) {
+		return names.isEmpty() ? Set.of() : new LinkedHashSet<>( List.of( names.split( "," ) ) );
+	}
+
+	private static String checksum(String... entries) {
+		try {
+			final var digest = MessageDigest.getInstance( "SHA-256" );
+			for ( String entry : entries ) {
+				digest.update( entry.getBytes( StandardCharsets.UTF_8 ) );
+				digest.update( (byte) '\n' );
+			}
+			return HexFormat.of().formatHex( digest.digest() );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required of every Java platform
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -45,6 +45,7 @@
 import org.hibernate.query.sqm.sql.spi.SqmTranslatorFactory;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.action.queue.spi.RowChangeListener;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.format.FormatMapper;
 
@@ -199,6 +200,16 @@ public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return delegate.getAdaptiveBatchFetchMaxSize();
+	}
+
+	@Override
+	public int getSubselectFetchArrayMaxSize() {
+		return delegate.getSubselectFetchArrayMaxSize();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -284,6 +295,11 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheAssembledResultsEnabled() {
+		return delegate.isQueryCacheAssembledResultsEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -561,6 +577,21 @@ public boolean isPreferLocaleLanguageTagEnabled() {
 		return delegate.isPreferLocaleLanguageTagEnabled();
 	}
 
+	@Override
+	public boolean isDeferredLoaderCreationEnabled() {
+		return delegate.isDeferredLoaderCreationEnabled();
+	}
+
+	@Override
+	public boolean isSqlStringInterningEnabled() {
+		return delegate.isSqlStringInterningEnabled();
+	}
+
+	@Override
+	public RowChangeListener getRowChangeListener() {
+		return delegate.getRowChangeListener();
+	}
+
 	@Override
 	@Nonnull
 	public FormatMapper getJsonFormatMapper() {
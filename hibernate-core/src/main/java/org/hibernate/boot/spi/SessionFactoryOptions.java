@@ -41,6 +41,7 @@
 import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.action.queue.spi.RowChangeListener;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.ObjectJavaType;
 import org.hibernate.type.format.FormatMapper;
@@ -260,6 +261,32 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * The maximum size to which batch fetching may grow the batch size of an
+	 * entity or collection role which is repeatedly batch fetched in a session.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of owners for which subselect fetching passes the keys of
+	 * the owners as an array parameter instead of re-executing the original query.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_ARRAY_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getSubselectFetchArrayMaxSize() {
+		return 1000;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.FetchSettings#MAX_FETCH_DEPTH
 	 */
@@ -371,6 +398,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * Should the query cache store fully assembled {@code record} results?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ASSEMBLED_RESULTS
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isQueryCacheAssembledResultsEnabled() {
+		return false;
+	}
+
 	/**
 	 * A factory for the {@link TimestampsCache} used to track invalidation
 	 * of cached query result sets.
@@ -699,6 +738,46 @@ default boolean isCollectionsInDefaultFetchGroupEnabled() {
 	 */
 	boolean isPreferLocaleLanguageTagEnabled();
 
+	/**
+	 * Should the loaders and mutation plans of entities and collections be built
+	 * on first use, instead of when the {@code SessionFactory} is created?
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#DEFER_LOADER_CREATION
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isDeferredLoaderCreationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the SQL generated for the mapping model be interned, so that it may
+	 * be shared with other {@code SessionFactory} instances in the same JVM?
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#INTERN_SQL_STRINGS
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isSqlStringInterningEnabled() {
+		return false;
+	}
+
+	/**
+	 * The {@link RowChangeListener} to notify of the rows mutated by each
+	 * flush of the graph-based action queue, or {@code null} if there is none.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#ROW_CHANGE_LISTENER
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nullable
+	default RowChangeListener getRowChangeListener() {
+		return null;
+	}
+
 	/**
 	 * The format mapper to use for serializing/deserializing JSON data.
 	 *
@@ -29,6 +29,7 @@
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.StubMethod;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -43,12 +44,14 @@
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
 import org.hibernate.bytecode.enhance.spi.UnsupportedEnhancementStrategy;
 import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.Managed;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,6 +65,7 @@
 import static java.util.Collections.emptyList;
 import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
 import static net.bytebuddy.matcher.ElementMatchers.isGetter;
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
 import static net.bytebuddy.matcher.ElementMatchers.isSetter;
 import static net.bytebuddy.matcher.ElementMatchers.isStatic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
@@ -73,6 +77,7 @@
 import static org.hibernate.bytecode.enhance.internal.bytebuddy.ModelTypePool.buildModelTypePool;
 import static org.hibernate.bytecode.enhance.internal.bytebuddy.PersistentAttributeTransformer.collectPersistentFields;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.ENTITY_INSTANCE_GETTER_NAME;
+import static org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl.INSTANTIATOR_PROXY_NAMING_SUFFIX;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.PERSISTENCE_INFO_SETTER_NAME;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_CHANGER_NAME;
 import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.TRACKER_CLEAR_NAME;
@@ -185,6 +190,55 @@ public void discoverTypes(String className, byte[] originalBytes) {
 		}
 	}
 
+	@Override
+	public Map<String, byte[]> generateRuntimeClasses(String className, byte[] bytes) {
+		final String safeClassName = className.replace( '/', '.' );
+		typePool.registerClassNameAndBytes( safeClassName, bytes );
+		try {
+			final var typeDescription = typePool.describe( safeClassName ).resolve();
+			if ( typeDescription.isInterface() || typeDescription.isRecord() ) {
+				return Map.of();
+			}
+			final boolean entity = enhancementContext.isEntityClass( typeDescription );
+			if ( !entity && !enhancementContext.isCompositeClass( typeDescription ) ) {
+				return Map.of();
+			}
+			final Map<String, byte[]> generatedClasses = new HashMap<>();
+			if ( !typeDescription.isAbstract() ) {
+				// the instantiator used by the reflection optimizer, which
+				// can only call a non-private no-arg constructor
+				final var constructors =
+						typeDescription.getDeclaredMethods()
+								.filter( isConstructor().and( takesArguments( 0 ) ).and( not( isPrivate() ) ) );
+				if ( !constructors.isEmpty() ) {
+					final String instantiatorName = safeClassName + INSTANTIATOR_PROXY_NAMING_SUFFIX;
+					generatedClasses.put( instantiatorName,
+							byteBuddyState.make( typePool, byteBuddy -> byteBuddy
+									.subclass( constants.TypeInstantiationOptimizer )
+									.name( instantiatorName )
+									.method( constants.newInstanceMethodName )
+									.intercept( MethodCall.construct( constructors.getOnly() ) )
+							).getBytes() );
+				}
+			}
+			if ( entity && !typeDescription.isFinal() ) {
+				// the proxy of an entity mapped by annotations implements
+				// HibernateProxy in addition to extending the entity class
+				final var proxy =
+						new ByteBuddyProxyHelper( byteBuddyState )
+								.buildUnloadedProxy( typePool, typeDescription, List.of( constants.TypeHibernateProxy ) );
+				generatedClasses.put( proxy.getTypeDescription().getName(), proxy.getBytes() );
+			}
+			return generatedClasses;
+		}
+		catch (RuntimeException e) {
+			throw new EnhancementException( "Failed to generate runtime classes for class " + className, e );
+		}
+		finally {
+			typePool.deregisterClassNameAndBytes( safeClassName );
+		}
+	}
+
 	private DynamicType.Builder<?> doEnhance(
 			Supplier<DynamicType.Builder<?>> builderSupplier,
 			TypeDescription managedCtClass) {
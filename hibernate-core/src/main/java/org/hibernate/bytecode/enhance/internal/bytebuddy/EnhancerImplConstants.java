@@ -44,6 +44,7 @@
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyConfiguration;
 
 import static net.bytebuddy.matcher.ElementMatchers.isDefaultFinalizer;
@@ -101,6 +102,7 @@ public final class EnhancerImplConstants {
 	final TypeDefinition TypeCompositeOwnerTracker = TypeDescription.ForLoadedType.of( CompositeOwnerTracker.class );
 	public final TypeDefinition TypeInstantiationOptimizer = TypeDescription.ForLoadedType.of(
 			ReflectionOptimizer.InstantiationOptimizer.class );
+	final TypeDefinition TypeHibernateProxy = TypeDescription.ForLoadedType.of( HibernateProxy.class );
 
 	//Careful with the following types being used: the ByteBuddy receiver often supports overloading, and using
 	//one of the other specific types in the declaration might lead to unexpectedly invoking a different method.
@@ -4,6 +4,10 @@
  */
 package org.hibernate.bytecode.enhance.spi;
 
+import java.util.Map;
+
+import org.hibernate.Incubating;
+
 /**
  * Class responsible for performing enhancement.
  *
@@ -41,4 +45,29 @@ public interface Enhancer {
 	 * @since 6.3
 	 */
 	void discoverTypes(String className, byte[] originalBytes) throws EnhancementException;
+
+	/**
+	 * Generates, ahead of time, the classes which would otherwise be generated at
+	 * runtime for the given managed class: the instantiator used by the
+	 * {@linkplain org.hibernate.bytecode.spi.ReflectionOptimizer reflection optimizer},
+	 * and the proxy class of an entity. When these classes are packaged along with the
+	 * managed class, the {@link org.hibernate.bytecode.spi.BytecodeProvider} loads them
+	 * instead of generating them.
+	 * <p>
+	 * This method must be called with the final form of the class, that is, after
+	 * {@linkplain #enhance enhancement}, and by an {@code Enhancer} whose class loader
+	 * sees the enhanced form of its supertypes.
+	 *
+	 * @param className The name of the managed class.
+	 * @param bytes The byte code of the managed class, as it will be packaged.
+	 *
+	 * @return The byte code of the generated classes, keyed by class name.
+	 *
+	 * @throws EnhancementException Indicates a problem generating the classes
+	 * @since 8.1
+	 */
+	@Incubating
+	default Map<String, byte[]> generateRuntimeClasses(String className, byte[] bytes) throws EnhancementException {
+		return Map.of();
+	}
 }
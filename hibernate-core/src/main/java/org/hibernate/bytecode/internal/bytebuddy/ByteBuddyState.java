@@ -170,6 +170,11 @@ void clearState() {
 
 	/**
 	 * Load a class generated by ByteBuddy.
+	 * <p>
+	 * If a class with the given name is already defined by the class loader of the
+	 * reference class, for example because it was generated at build time by
+	 * {@link org.hibernate.bytecode.enhance.spi.Enhancer#generateRuntimeClasses},
+	 * that class is returned, and no class is generated.
 	 *
 	 * @param referenceClass The main class for which to create a class - might be an interface.
 	 * @param className The name under which the class shall be created.
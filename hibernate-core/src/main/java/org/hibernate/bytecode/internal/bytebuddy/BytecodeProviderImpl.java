@@ -60,7 +60,7 @@
 
 public class BytecodeProviderImpl implements BytecodeProvider {
 
-	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "$HibernateInstantiator";
+	public static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "$HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
 	private static final String OPTIMIZER_PROXY_BRIDGE_NAMING_SUFFIX = "$HibernateAccessOptimizerBridge";
 
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.CacheMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.annotation.Nullable;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.cfg.CacheSettings.CACHE_PRELOAD_PREFIX;
+import static org.hibernate.cfg.CacheSettings.CACHE_PRELOAD_RATE_LIMIT;
+import static org.hibernate.cfg.CacheSettings.CACHE_PRELOAD_THREADS;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * Reads the entities configured via {@value org.hibernate.cfg.CacheSettings#CACHE_PRELOAD_PREFIX}
+ * into the second-level cache once the {@code SessionFactory} has been created.
+ * <p>
+ * Each entity is read by a {@link org.hibernate.StatelessSession} in {@link CacheMode#PUT},
+ * so that the cache entries are written through the usual
+ * {@link org.hibernate.cache.spi.access.EntityDataAccess#putFromLoad putFromLoad()}
+ * path, using a bounded pool of background threads. When every entity has been
+ * preloaded, the {@link SessionFactoryObserver#sessionFactoryCachePreloaded}
+ * callback is made.
+ */
+public class CachePreloader implements SessionFactoryObserver {
+
+	private static final String ALL = "all";
+
+	private final Map<String, String> queriesByEntityName;
+	private final int threads;
+	private final int rateLimit;
+	private final SessionFactoryObserver completionObserver;
+
+	private transient volatile ExecutorService executor;
+
+	private CachePreloader(
+			Map<String, String> queriesByEntityName,
+			int threads,
+			int rateLimit,
+			SessionFactoryObserver completionObserver) {
+		this.queriesByEntityName = queriesByEntityName;
+		this.threads = threads;
+		this.rateLimit = rateLimit;
+		this.completionObserver = completionObserver;
+	}
+
+	/**
+	 * Create a {@code CachePreloader} for the given configuration settings.
+	 *
+	 * @param completionObserver notified when preloading has finished
+	 *
+	 * @return the preloader, or {@code null} if no preloading is configured
+	 */
+	public static @Nullable CachePreloader create(
+			Map<String, Object> settings,
+			SessionFactoryObserver completionObserver) {
+		final String prefix = CACHE_PRELOAD_PREFIX + '.';
+		final Map<String, String> queriesByEntityName = new LinkedHashMap<>();
+		settings.forEach( (key, value) -> {
+			if ( key.startsWith( prefix ) && value != null ) {
+				queriesByEntityName.put( key.substring( prefix.length() ), value.toString().trim() );
+			}
+		} );
+		if ( queriesByEntityName.isEmpty() ) {
+			return null;
+		}
+		else {
+			final int threads = getInt( CACHE_PRELOAD_THREADS, settings, 1 );
+			final int rateLimit = getInt( CACHE_PRELOAD_RATE_LIMIT, settings, 0 );
+			return new CachePreloader(
+					queriesByEntityName,
+					Math.max( 1, Math.min( threads, queriesByEntityName.size() ) ),
+					Math.max( 0, rateLimit ),
+					completionObserver
+			);
+		}
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final var sessionFactory = (SessionFactoryImplementor) factory;
+		executor = newFixedThreadPool( threads, runnable -> {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Cache Preload Thread" );
+			return thread;
+		} );
+		final var preloads = new CompletableFuture<?>[queriesByEntityName.size()];
+		int index = 0;
+		for ( var entry : queriesByEntityName.entrySet() ) {
+			final String entityName = entry.getKey();
+			final String query = entry.getValue();
+			preloads[index++] =
+					CompletableFuture.runAsync( () -> preload( sessionFactory, entityName, query ), executor );
+		}
+		CompletableFuture.allOf( preloads ).whenComplete( (result, failure) -> {
+			executor.shutdown();
+			if ( !sessionFactory.isClosed() ) {
+				L2CACHE_LOGGER.finishedPreloadingCache();
+				completionObserver.sessionFactoryCachePreloaded( sessionFactory );
+			}
+		} );
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final var executor = this.executor;
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+	}
+
+	private void preload(SessionFactoryImplementor sessionFactory, String entityName, String query) {
+		final var persister = sessionFactory.getMappingMetamodel().findEntityDescriptor( entityName );
+		if ( persister == null ) {
+			L2CACHE_LOGGER.unableToPreloadEntityCache( entityName, "unknown entity" );
+		}
+		else if ( !persister.canWriteToCache() ) {
+			L2CACHE_LOGGER.unableToPreloadEntityCache( entityName, "entity is not cacheable" );
+		}
+		else {
+			L2CACHE_LOGGER.preloadingEntityCache( entityName );
+			final String hql =
+					ALL.equals( query.toLowerCase( Locale.ROOT ) )
+							? "from " + persister.getEntityName()
+							: query;
+			final long start = System.nanoTime();
+			try ( var session = sessionFactory.openStatelessSession() ) {
+				session.setCacheMode( CacheMode.PUT );
+				final long count = session.fromTransaction( transaction -> {
+					long loaded = 0;
+					try ( var results =
+							session.createSelectionQuery( hql, persister.getMappedClass() )
+									.setReadOnly( true )
+									.getResultStream() ) {
+						final var iterator = results.iterator();
+						while ( iterator.hasNext() ) {
+							iterator.next();
+							throttle( start, ++loaded );
+						}
+					}
+					return loaded;
+				} );
+				L2CACHE_LOGGER.preloadedEntityCache(
+						count,
+						entityName,
+						TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+				);
+			}
+			catch (RuntimeException e) {
+				L2CACHE_LOGGER.unableToPreloadEntityCache( entityName, e.getMessage() );
+			}
+		}
+	}
+
+	/**
+	 * Pause the current thread if it is preloading faster
+	 * than the configured {@linkplain #rateLimit rate limit}.
+	 */
+	private void throttle(long start, long loaded) {
+		if ( rateLimit > 0 ) {
+			final long due = start + loaded * TimeUnit.SECONDS.toNanos( 1 ) / rateLimit;
+			final long delay = due - System.nanoTime();
+			if ( delay > 0 ) {
+				LockSupport.parkNanos( delay );
+			}
+		}
+	}
+}
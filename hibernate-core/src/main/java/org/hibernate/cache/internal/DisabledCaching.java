@@ -149,6 +149,16 @@ public void evictRegion(@Nonnull String regionName) {
 		// nothing to do
 	}
 
+	@Override
+	public void evictRegion(@Nonnull String regionName, @Nonnull String tenantIdentifier) {
+		// nothing to do
+	}
+
+	@Override
+	public void evictTenantData(@Nonnull String tenantIdentifier) {
+		// nothing to do
+	}
+
 
 	@Override
 	public void evictAll() {
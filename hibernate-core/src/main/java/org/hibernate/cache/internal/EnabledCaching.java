@@ -507,6 +507,27 @@ public void evictRegion(@Nonnull String regionName) {
 		}
 	}
 
+	@Override
+	public void evictTenantData(@Nonnull String tenantIdentifier) {
+		LOG.evictingTenantData( tenantIdentifier );
+		for ( var region : regionsByName.values() ) {
+			region.clear( tenantIdentifier );
+		}
+		for ( var region : queryResultsRegionsByDuplicateName.values() ) {
+			region.clear( tenantIdentifier );
+		}
+	}
+
+	@Override
+	public void evictRegion(@Nonnull String regionName, @Nonnull String tenantIdentifier) {
+		getRegion( regionName ).clear( tenantIdentifier );
+		final var queryResultsRegionWithDuplicateName =
+				queryResultsRegionsByDuplicateName.get( regionName );
+		if ( queryResultsRegionWithDuplicateName != null ) {
+			queryResultsRegionWithDuplicateName.clear( tenantIdentifier );
+		}
+	}
+
 	@Override
 	@Nonnull
 	public <T> T unwrap(@Nonnull Class<T> type) {
@@ -11,6 +11,7 @@
 import jakarta.annotation.Nullable;
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -128,6 +129,32 @@ default void evictQueries() throws HibernateException {
 		}
 	}
 
+	/**
+	 * Evict the data cached on behalf of the given tenant from every domain
+	 * data and query results region. Regions which are not
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA partitioned
+	 * by tenant} are cleared entirely.
+	 *
+	 * @see Region#clear(String)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	void evictTenantData(@Nonnull String tenantIdentifier);
+
+	/**
+	 * Evict the data cached on behalf of the given tenant from the named
+	 * region. If the region is not
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA partitioned
+	 * by tenant}, it is cleared entirely.
+	 *
+	 * @see Region#clear(String)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	void evictRegion(@Nonnull String regionName, @Nonnull String tenantIdentifier);
+
 	/**
 	 * Close this "cache", releasing all underlying resources.
 	 */
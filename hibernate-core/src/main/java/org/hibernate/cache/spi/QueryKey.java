@@ -60,6 +60,7 @@ public static QueryKey from(
 	private final Integer firstRow;
 	private final Integer maxRows;
 	private final String[] enabledFilterNames;
+	private final String assembledResultForm;
 
 	/**
 	 * For performance reasons, the hashCode is cached; however, it is marked transient so that it can be
@@ -78,9 +79,37 @@ public QueryKey(
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
 		this.enabledFilterNames = enabledFilterNames.toArray( String[]::new );
+		this.assembledResultForm = null;
 		this.hashCode = generateHashCode();
 	}
 
+	private QueryKey(QueryKey queryKey, String assembledResultForm) {
+		this.sqlQueryString = queryKey.sqlQueryString;
+		this.parameterBindingsMemento = queryKey.parameterBindingsMemento;
+		this.firstRow = queryKey.firstRow;
+		this.maxRows = queryKey.maxRows;
+		this.enabledFilterNames = queryKey.enabledFilterNames;
+		this.assembledResultForm = assembledResultForm;
+		this.hashCode = generateHashCode();
+	}
+
+	/**
+	 * A key identifying the fully assembled results of the query identified
+	 * by this key, as opposed to the JDBC values which are usually cached.
+	 *
+	 * @param assembledResultForm a description of the shape of the assembled
+	 *                            results, which must distinguish every form
+	 *                            in which the results of this SQL query may
+	 *                            be assembled
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ASSEMBLED_RESULTS
+	 *
+	 * @since 8.1
+	 */
+	public QueryKey forAssembledResults(String assembledResultForm) {
+		return new QueryKey( this, assembledResultForm );
+	}
+
 	/**
 	 * Deserialization hook used to re-init the cached hashcode which is needed for proper clustering support.
 	 *
@@ -105,6 +134,7 @@ private int generateHashCode() {
 //		result = 37 * result + ( maxRows==null ? 0 : maxRows );
 		result = 37 * result + parameterBindingsMemento.hashCode();
 		result = 37 * result + Arrays.hashCode( enabledFilterNames );
+		result = 37 * result + Objects.hashCode( assembledResultForm );
 		return result;
 	}
 
@@ -116,7 +146,8 @@ public boolean equals(Object other) {
 			&& Objects.equals( this.maxRows, that.maxRows )
 			// Set's `#equals` impl does a deep check, so `Objects#equals` is a good check
 			&& Objects.equals( this.parameterBindingsMemento, that.parameterBindingsMemento )
-			&& Arrays.equals( this.enabledFilterNames, that.enabledFilterNames );
+			&& Arrays.equals( this.enabledFilterNames, that.enabledFilterNames )
+			&& Objects.equals( this.assembledResultForm, that.assembledResultForm );
 	}
 
 	@Override
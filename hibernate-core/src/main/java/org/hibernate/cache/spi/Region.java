@@ -6,6 +6,7 @@
 
 import jakarta.annotation.Nonnull;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 
@@ -48,6 +49,22 @@ public interface Region {
 	 */
 	void clear();
 
+	/**
+	 * Clear the data cached in the region on behalf of the given tenant.
+	 *
+	 * @implNote The default implementation clears all data in the region,
+	 *           since a region does not in general know which tenant its
+	 *           entries belong to.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default void clear(@Nonnull String tenantIdentifier) {
+		clear();
+	}
+
 	/**
 	 * The "end state" contract of the region's lifecycle.  Called
 	 * during {@link org.hibernate.SessionFactory#close()} to give
@@ -389,4 +389,39 @@ void checkingReadWriteLockWriteability(
 			long unlockTimestamp,
 			long txTimestamp,
 			Object newVersion);
+
+	@LogMessage(level = DEBUG)
+	@Message(
+			value = "Preloading second-level cache for entity [%s]",
+			id = NAMESPACE + 50
+	)
+	void preloadingEntityCache(String entityName);
+
+	@LogMessage(level = INFO)
+	@Message(
+			value = "Preloaded %s instances of entity [%s] into the second-level cache in %s ms",
+			id = NAMESPACE + 51
+	)
+	void preloadedEntityCache(long count, String entityName, long milliseconds);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Unable to preload second-level cache for entity [%s]: %s",
+			id = NAMESPACE + 52
+	)
+	void unableToPreloadEntityCache(String entityName, String reason);
+
+	@LogMessage(level = DEBUG)
+	@Message(
+			value = "Finished preloading second-level cache",
+			id = NAMESPACE + 53
+	)
+	void finishedPreloadingCache();
+
+	@LogMessage(level = DEBUG)
+	@Message(
+			value = "Evicting second-level cache data of tenant [%s]",
+			id = NAMESPACE + 54
+	)
+	void evictingTenantData(String tenantIdentifier);
 }
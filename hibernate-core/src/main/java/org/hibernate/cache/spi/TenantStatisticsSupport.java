@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.hibernate.Incubating;
+import org.hibernate.stat.TenantCacheStatistics;
+
+/**
+ * Optional contract for a {@link Region} defining support for statistics
+ * of the entries cached on behalf of each tenant.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface TenantStatisticsSupport {
+	/**
+	 * The statistics of the given tenant, or {@code null} if the region is not
+	 * partitioned by tenant, or has never held entries for the tenant.
+	 */
+	@Nullable
+	TenantCacheStatistics getTenantStatistics(@Nonnull String tenantIdentifier);
+}
@@ -9,14 +9,17 @@
 
 import org.hibernate.cache.spi.DirectAccessRegion;
 import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TenantStatisticsSupport;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.TenantCacheStatistics;
 
 /**
  * Bridge between DirectAccessRegion and StorageAccess
  *
  * @author Steve Ebersole
  */
-public abstract class DirectAccessRegionTemplate extends AbstractRegion implements DirectAccessRegion {
+public abstract class DirectAccessRegionTemplate extends AbstractRegion
+		implements DirectAccessRegion, TenantStatisticsSupport {
 	private final StorageAccess storageAccess;
 
 	/**
@@ -55,6 +58,24 @@ public void clear() {
 		getStorageAccess().evictData();
 	}
 
+	@Override
+	public void clear(@Nonnull String tenantIdentifier) {
+		if ( getStorageAccess() instanceof TenantPartitionedStorageAccess tenantPartitionedStorageAccess ) {
+			tenantPartitionedStorageAccess.evictData( tenantIdentifier );
+		}
+		else {
+			clear();
+		}
+	}
+
+	@Override
+	@Nullable
+	public TenantCacheStatistics getTenantStatistics(@Nonnull String tenantIdentifier) {
+		return getStorageAccess() instanceof TenantPartitionedStorageAccess tenantPartitionedStorageAccess
+				? tenantPartitionedStorageAccess.getTenantStatistics( tenantIdentifier )
+				: null;
+	}
+
 	@Override
 	public void destroy() {
 		getStorageAccess().release();
@@ -14,10 +14,12 @@
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TenantStatisticsSupport;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.stat.TenantCacheStatistics;
 
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
@@ -39,7 +41,7 @@
  *
  * @author Steve Ebersole
  */
-public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
+public class DomainDataRegionTemplate extends AbstractDomainDataRegion implements TenantStatisticsSupport {
 
 	private final DomainDataStorageAccess storageAccess;
 
@@ -63,6 +65,23 @@ public DomainDataStorageAccess getCacheStorageAccess() {
 		return storageAccess;
 	}
 
+	@Override
+	public void clear(@Nonnull String tenantIdentifier) {
+		if ( storageAccess instanceof TenantPartitionedStorageAccess tenantPartitionedStorageAccess ) {
+			tenantPartitionedStorageAccess.evictData( tenantIdentifier );
+		}
+		else {
+			clear();
+		}
+	}
+
+	@Override
+	@Nullable
+	public TenantCacheStatistics getTenantStatistics(@Nonnull String tenantIdentifier) {
+		return storageAccess instanceof TenantPartitionedStorageAccess tenantPartitionedStorageAccess
+				? tenantPartitionedStorageAccess.getTenantStatistics( tenantIdentifier )
+				: null;
+	}
 
 	@Override
 	@Nonnull
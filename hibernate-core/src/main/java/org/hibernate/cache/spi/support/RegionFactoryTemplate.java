@@ -5,6 +5,7 @@
 package org.hibernate.cache.spi.support;
 
 import jakarta.annotation.Nonnull;
+import org.hibernate.Incubating;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
@@ -13,8 +14,12 @@
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
+import static org.hibernate.cfg.CacheSettings.CACHE_TENANT_QUOTA;
+import static org.hibernate.engine.config.spi.StandardConverters.INTEGER;
+
 /**
  * @author Steve Ebersole
  */
@@ -28,7 +33,8 @@ public DomainDataRegion buildDomainDataRegion(
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				partitionByTenant( regionConfig.getRegionName(),
+						createDomainDataStorageAccess( regionConfig, buildingContext ) ),
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
@@ -46,6 +52,52 @@ protected DomainDataStorageAccess createDomainDataStorageAccess(
 		throw new UnsupportedOperationException( "Not implemented by caching provider" );
 	}
 
+	/**
+	 * The maximum number of entries a single tenant may hold in each domain
+	 * data or query results region, or {@code 0} if regions should not be
+	 * partitioned by tenant.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	protected int getTenantQuota() {
+		return getOptions().getServiceRegistry().requireService( ConfigurationService.class )
+				.getSetting( CACHE_TENANT_QUOTA, INTEGER, 0 );
+	}
+
+	/**
+	 * Wrap the given storage of a region in a
+	 * {@link TenantPartitionedStorageAccess} if a {@linkplain #getTenantQuota
+	 * tenant quota} is configured.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nonnull
+	protected StorageAccess partitionByTenant(
+			@Nonnull String regionName,
+			@Nonnull StorageAccess storageAccess) {
+		final int quota = getTenantQuota();
+		return quota > 0 ? new TenantPartitionedStorageAccess( regionName, storageAccess, quota ) : storageAccess;
+	}
+
+	/**
+	 * Wrap the given storage of a domain data region in a
+	 * {@link TenantPartitionedStorageAccess} if a {@linkplain #getTenantQuota
+	 * tenant quota} is configured.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nonnull
+	protected DomainDataStorageAccess partitionByTenant(
+			@Nonnull String regionName,
+			@Nonnull DomainDataStorageAccess storageAccess) {
+		return (DomainDataStorageAccess) partitionByTenant( regionName, (StorageAccess) storageAccess );
+	}
+
 	@Override
 	@Nonnull
 	public QueryResultsRegion buildQueryResultsRegion(
@@ -55,7 +107,7 @@ public QueryResultsRegion buildQueryResultsRegion(
 		return new QueryResultsRegionTemplate(
 				regionName,
 				this,
-				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+				partitionByTenant( regionName, createQueryResultsRegionStorageAccess( regionName, sessionFactory ) )
 		);
 	}
 
@@ -0,0 +1,350 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.TenantCacheStatistics;
+
+/**
+ * A {@link DomainDataStorageAccess} which partitions the entries of a
+ * region by the tenant of the session which cached them, limiting the
+ * number of entries each tenant may hold to a fixed quota. When a tenant
+ * exceeds its quota, its least recently accessed entries are evicted from
+ * the underlying storage, leaving the entries of other tenants untouched.
+ * Entries {@linkplain SoftLock locked} by a {@code read-write} access
+ * strategy are never evicted, so a tenant may briefly exceed its quota
+ * while its entries are locked.
+ * <p>
+ * The keys of each tenant are tracked in access order, so that the entries
+ * of a tenant may also be {@linkplain #evictData(String) evicted} without
+ * clearing the whole region. Keys whose entries were expired by the caching
+ * provider are forgotten when they are next looked up, counted, or considered
+ * for eviction. Entries cached by a session without a tenant identifier are
+ * neither tracked nor limited.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA
+ *
+ * @since 8.1
+ */
+@Incubating
+public class TenantPartitionedStorageAccess implements DomainDataStorageAccess {
+	private final String regionName;
+	private final StorageAccess delegate;
+	private final int quota;
+
+	private final ConcurrentMap<String, TenantPartition> partitions = new ConcurrentHashMap<>();
+
+	public TenantPartitionedStorageAccess(
+			@Nonnull String regionName,
+			@Nonnull StorageAccess delegate,
+			int quota) {
+		if ( quota <= 0 ) {
+			throw new IllegalArgumentException( "Tenant quota must be positive" );
+		}
+		this.regionName = regionName;
+		this.delegate = delegate;
+		this.quota = quota;
+	}
+
+	@Nonnull
+	public StorageAccess getDelegate() {
+		return delegate;
+	}
+
+	public int getQuota() {
+		return quota;
+	}
+
+	@Nullable
+	public TenantCacheStatistics getTenantStatistics(@Nonnull String tenantIdentifier) {
+		return partitions.get( tenantIdentifier );
+	}
+
+	private @Nullable TenantPartition partition(SharedSessionContractImplementor session) {
+		final String tenantIdentifier = session.getTenantIdentifier();
+		return tenantIdentifier == null
+				? null
+				: partitions.computeIfAbsent( tenantIdentifier, TenantPartition::new );
+	}
+
+	@Override
+	@Nullable
+	public Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		final Object value = delegate.getFromCache( key, session );
+		final var partition = partition( session );
+		if ( partition != null ) {
+			if ( value == null ) {
+				partition.missCount.increment();
+				// the entry may have been expired by the caching provider
+				partition.remove( key );
+			}
+			else {
+				partition.hitCount.increment();
+				partition.touch( key );
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		delegate.putIntoCache( key, value, session );
+		added( key, session );
+	}
+
+	@Override
+	public void putFromLoad(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		if ( delegate instanceof DomainDataStorageAccess domainDataStorageAccess ) {
+			domainDataStorageAccess.putFromLoad( key, value, session );
+		}
+		else {
+			delegate.putIntoCache( key, value, session );
+		}
+		added( key, session );
+	}
+
+	private void added(Object key, SharedSessionContractImplementor session) {
+		final var partition = partition( session );
+		if ( partition != null ) {
+			partition.putCount.increment();
+			partition.add( key );
+			partition.evictOverQuota( session );
+		}
+	}
+
+	@Override
+	public void removeFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+		final var partition = partition( session );
+		if ( partition != null ) {
+			partition.remove( key );
+		}
+	}
+
+	@Override
+	public void clearCache(@Nonnull SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+		partitions.values().forEach( TenantPartition::clear );
+	}
+
+	@Override
+	public boolean contains(@Nonnull Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+		partitions.values().forEach( TenantPartition::clear );
+	}
+
+	@Override
+	public void evictData(@Nonnull Object key) {
+		delegate.evictData( key );
+		for ( var partition : partitions.values() ) {
+			partition.remove( key );
+		}
+	}
+
+	/**
+	 * Remove every entry cached on behalf of the given tenant, regardless
+	 * of transaction/locking.
+	 */
+	public void evictData(@Nonnull String tenantIdentifier) {
+		final var partition = partitions.get( tenantIdentifier );
+		if ( partition != null ) {
+			for ( Object key : partition.clear() ) {
+				delegate.evictData( key );
+			}
+		}
+	}
+
+	@Override
+	public void release() {
+		partitions.clear();
+		delegate.release();
+	}
+
+	/**
+	 * An access to a key of a tenant, which is stale once the key has been
+	 * accessed again or is no longer tracked.
+	 */
+	private record Access(Object key, long stamp) {
+	}
+
+	private final class TenantPartition implements TenantCacheStatistics {
+		private final String tenantIdentifier;
+
+		// the stamp of the latest access to each key of the tenant
+		private final ConcurrentMap<Object, Long> keys = new ConcurrentHashMap<>();
+		// the accesses in the order they happened, including stale ones,
+		// which are discarded when polled, or purged once they pile up
+		private final Queue<Access> accesses = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger accessCount = new AtomicInteger();
+		private final AtomicLong accessSequence = new AtomicLong();
+
+		private final LongAdder hitCount = new LongAdder();
+		private final LongAdder missCount = new LongAdder();
+		private final LongAdder putCount = new LongAdder();
+		private final LongAdder evictionCount = new LongAdder();
+
+		private TenantPartition(String tenantIdentifier) {
+			this.tenantIdentifier = tenantIdentifier;
+		}
+
+		/**
+		 * Track the given key as the most recently accessed key of the tenant.
+		 */
+		private void add(Object key) {
+			final long stamp = accessSequence.incrementAndGet();
+			keys.put( key, stamp );
+			enqueue( key, stamp );
+		}
+
+		/**
+		 * Mark the given key as the most recently accessed key of the
+		 * tenant, if it is tracked.
+		 */
+		private void touch(Object key) {
+			final long stamp = accessSequence.incrementAndGet();
+			if ( keys.replace( key, stamp ) != null ) {
+				enqueue( key, stamp );
+			}
+		}
+
+		private void enqueue(Object key, long stamp) {
+			accesses.add( new Access( key, stamp ) );
+			if ( accessCount.incrementAndGet() > 2 * ( keys.size() + quota ) ) {
+				accesses.removeIf( access -> {
+					final boolean stale = !isCurrent( access );
+					if ( stale ) {
+						accessCount.decrementAndGet();
+					}
+					return stale;
+				} );
+			}
+		}
+
+		private boolean isCurrent(Access access) {
+			final Long stamp = keys.get( access.key() );
+			return stamp != null && stamp == access.stamp();
+		}
+
+		/**
+		 * Evict the least recently accessed entries of the tenant until it
+		 * is back within its quota, skipping locked entries and forgetting
+		 * expired ones. Each tracked key is considered at most once.
+		 */
+		private void evictOverQuota(SharedSessionContractImplementor session) {
+			int candidates = keys.size();
+			while ( keys.size() > quota && candidates > 0 ) {
+				final Access oldest = accesses.poll();
+				if ( oldest == null ) {
+					return;
+				}
+				accessCount.decrementAndGet();
+				if ( isCurrent( oldest ) ) {
+					candidates--;
+					final Object key = oldest.key();
+					final Object value = delegate.getFromCache( key, session );
+					if ( value == null ) {
+						// expired by the caching provider
+						keys.remove( key, oldest.stamp() );
+					}
+					else if ( value instanceof SoftLock ) {
+						// the lock must survive until the transaction completes
+						enqueue( key, oldest.stamp() );
+					}
+					else if ( keys.remove( key, oldest.stamp() ) ) {
+						delegate.evictData( key );
+						evictionCount.increment();
+					}
+				}
+			}
+		}
+
+		private void remove(Object key) {
+			keys.remove( key );
+		}
+
+		private List<Object> clear() {
+			// the accesses of the removed keys are now stale
+			final List<Object> removed = new ArrayList<>( keys.keySet() );
+			keys.keySet().removeAll( removed );
+			return removed;
+		}
+
+		@Override
+		public String getRegionName() {
+			return regionName;
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return tenantIdentifier;
+		}
+
+		@Override
+		public long getPutCount() {
+			return putCount.sum();
+		}
+
+		@Override
+		public long getHitCount() {
+			return hitCount.sum();
+		}
+
+		@Override
+		public long getMissCount() {
+			return missCount.sum();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return evictionCount.sum();
+		}
+
+		@Override
+		public long getElementCount() {
+			// forget the keys whose entries were expired by the caching provider
+			keys.keySet().removeIf( key -> !delegate.contains( key ) );
+			return keys.size();
+		}
+
+		@Override
+		public String toString() {
+			return "TenantCacheStatistics"
+					+ "[region=" + regionName
+					+ ",tenant=" + tenantIdentifier
+					+ ",hitCount=" + hitCount
+					+ ",missCount=" + missCount
+					+ ",putCount=" + putCount
+					+ ",evictionCount=" + evictionCount
+					+ ",elementCount=" + getElementCount()
+					+ ']';
+		}
+	}
+}
@@ -107,6 +107,28 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, the query cache stores the fully assembled result list
+	 * of a cacheable query whose result type is a Java {@code record} built
+	 * purely from basic values, so that a cache hit returns the records
+	 * directly instead of reassembling them from the cached JDBC values.
+	 * Since the cached records are shared, this applies only to records
+	 * which are {@link java.io.Serializable} and whose components are of
+	 * immutable basic types.
+	 * <p>
+	 * Queries which return entities, collections, or embeddables, or which
+	 * use a {@link org.hibernate.query.TupleTransformer} or
+	 * {@link org.hibernate.query.ResultListTransformer}, are always cached
+	 * in the usual form.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #USE_QUERY_CACHE
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_CACHE_ASSEMBLED_RESULTS = "hibernate.cache.query_cache_assembled_results";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -242,6 +264,66 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * Entity cache preloading properties follow the pattern
+	 * {@code hibernate.cache.preload.packagename.ClassName query}
+	 * where {@code query} is either {@code all}, to preload every row, or an
+	 * HQL query returning instances of the cacheable entity. The matching
+	 * entities are read into the second-level cache in the background once
+	 * the {@code SessionFactory} has been created.
+	 *
+	 * @see #CACHE_PRELOAD_THREADS
+	 * @see #CACHE_PRELOAD_RATE_LIMIT
+	 * @see org.hibernate.SessionFactoryObserver#sessionFactoryCachePreloaded
+	 * @since 8.1
+	 */
+	@Incubating
+	String CACHE_PRELOAD_PREFIX = "hibernate.cache.preload";
+
+	/**
+	 * The maximum number of threads used to {@linkplain #CACHE_PRELOAD_PREFIX preload}
+	 * entity cache regions.
+	 *
+	 * @settingDefault {@code 1}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String CACHE_PRELOAD_THREADS = "hibernate.cache.preload_threads";
+
+	/**
+	 * The maximum number of entities per second {@linkplain #CACHE_PRELOAD_PREFIX preloaded}
+	 * into the second-level cache by each preloading thread, or {@code 0} for no limit.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String CACHE_PRELOAD_RATE_LIMIT = "hibernate.cache.preload_rate_limit";
+
+	/**
+	 * The maximum number of entries a single tenant may hold in each domain data
+	 * or query results region of the second-level cache. When set, the entries of
+	 * each region are partitioned by the tenant identifier of the session which
+	 * cached them, and once a tenant exceeds its quota, its least recently
+	 * accessed entries are evicted without affecting the entries of other
+	 * tenants. The entries of one tenant may then be evicted using
+	 * {@link org.hibernate.cache.spi.CacheImplementor#evictTenantData(String)},
+	 * and {@linkplain org.hibernate.stat.CacheRegionStatistics#getTenantStatistics
+	 * statistics} are collected for each tenant.
+	 * <p>
+	 * This setting is honored by caching providers based on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}.
+	 *
+	 * @settingDefault {@code 0}, meaning that regions are not partitioned by tenant
+	 *
+	 * @see org.hibernate.cache.spi.support.TenantPartitionedStorageAccess
+	 * @since 8.1
+	 */
+	@Incubating
+	String CACHE_TENANT_QUOTA = "hibernate.cache.tenant_quota";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
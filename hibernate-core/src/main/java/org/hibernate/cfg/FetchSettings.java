@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,26 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Specifies the maximum size to which the batch size of an entity or collection
+	 * role may grow when batch fetching adapts to demand. Each time a session
+	 * repeatedly batch fetches the same entity or collection role, the size of the
+	 * next batch is doubled, up to this maximum, so that associations which are
+	 * always traversed are fetched in fewer round trips.
+	 * <p>
+	 * Adaptive batch sizing applies only when batches are passed to the database as
+	 * a single {@linkplain org.hibernate.type.SqlTypes#ARRAY array} parameter, since
+	 * only then the SQL does not depend on the size of the batch.
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 *
+	 * @settingDefault 0 (batch sizes do not adapt)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.adaptive_batch_fetch_max_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -46,4 +67,28 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * Specifies the maximum number of owners for which subselect fetching passes the
+	 * already-known keys of the owners to the database as a single
+	 * {@linkplain org.hibernate.type.SqlTypes#ARRAY array} parameter, instead of
+	 * re-executing the query which loaded the owners as a subquery. This avoids
+	 * repeating the work of an expensive original query, but is only possible when
+	 * the {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 * dialect} passes multiple values using arrays, and the collection key is a
+	 * single column referring to the primary key of the owner.
+	 * <p>
+	 * When more owners than this were loaded, or when the dialect does not use
+	 * arrays, the original query is re-executed. A value of {@code 0} disables
+	 * the use of an array parameter.
+	 *
+	 * @see #USE_SUBSELECT_FETCH
+	 * @see org.hibernate.annotations.FetchMode#SUBSELECT
+	 *
+	 * @settingDefault 1000
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String SUBSELECT_FETCH_ARRAY_MAX_SIZE = "hibernate.subselect_fetch_array_max_size";
 }
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
+
 /// Settings related to flush behavior.
 ///
 /// @see BatchSettings#STATEMENT_BATCH_SIZE
@@ -112,4 +114,24 @@ public interface FlushSettings {
 	///
 	/// @since 8.0
 	String GRAPH_DEFER_IDENTITY_INSERTS = "hibernate.flush.queue.graph.defer_identity_inserts";
+
+	/// Specifies a [org.hibernate.action.queue.spi.RowChangeListener] to be notified, after
+	/// each transaction commits, of the rows inserted, updated and deleted by the flushes of
+	/// the graph-based action queue during the transaction, with the table, key and bound
+	/// column values of each row.
+	///
+	/// Accepts any of:
+	///
+	///   - an instance of `RowChangeListener`,
+	///   - a [Class] representing a class that implements `RowChangeListener`, or
+	///   - the name of a class that implements `RowChangeListener`.
+	///
+	/// When no listener is specified, the flush does not capture row changes at all.
+	///
+	/// @see org.hibernate.action.queue.spi.RowChangeListener
+	/// @see org.hibernate.action.queue.spi.RowChange
+	///
+	/// @since 8.1
+	@Incubating
+	String ROW_CHANGE_LISTENER = "hibernate.flush.row_change_listener";
 }
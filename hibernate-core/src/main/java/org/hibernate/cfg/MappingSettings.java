@@ -625,4 +625,77 @@ public interface MappingSettings {
 	 */
 	String USE_NATIONALIZED_CHARACTER_DATA = "hibernate.use_nationalized_character_data";
 
+	/**
+	 * Specifies the number of threads used to create entity and collection persisters,
+	 * and to build their loaders, when the {@link SessionFactory} is created. A value
+	 * greater than {@code 1} enables parallel creation of the runtime mapping model,
+	 * which can substantially reduce the startup time of applications with many
+	 * entities. The callbacks which link persisters to each other are still made
+	 * in a single thread, in the usual order.
+	 *
+	 * @settingDefault {@code 1} (persisters are created sequentially)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String MAPPING_MODEL_CREATION_PARALLELISM = "hibernate.mapping.parallelism";
+
+	/**
+	 * When enabled, the loaders and mutation plans of an entity or collection are
+	 * not built when the {@link SessionFactory} is created, but the first time the
+	 * entity or collection is actually loaded or written. This reduces the startup
+	 * time and the memory footprint of applications which map a large domain model
+	 * but only use a small part of it.
+	 * <p>
+	 * The runtime mapping model itself is always built eagerly, since the persisters
+	 * of associated entities and collections refer to each other.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String DEFER_LOADER_CREATION = "hibernate.mapping.defer_loader_creation";
+
+	/**
+	 * When enabled, the {@code property}, {@code field} and {@code mixed} strategies for
+	 * accessing the attributes of a class which is not bytecode enhanced read and write
+	 * each attribute through a {@linkplain java.lang.invoke.MethodHandles.Lookup#defineHiddenClass
+	 * hidden class} generated for its field or method, instead of calling
+	 * {@link java.lang.reflect.Field} or {@link java.lang.reflect.Method} reflectively.
+	 * The hidden class holds a {@link java.lang.invoke.VarHandle} or
+	 * {@link java.lang.invoke.MethodHandle} obtained via
+	 * {@link java.lang.invoke.MethodHandles#privateLookupIn} in a {@code static final}
+	 * field, which the JIT treats as a constant, so that the access may be inlined.
+	 * <p>
+	 * An attribute whose class is not open to Hibernate is still accessed reflectively.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String PROPERTY_ACCESS_METHOD_HANDLES = "hibernate.property_access.method_handles";
+
+	/**
+	 * When enabled, the SQL generated for the runtime mapping model is interned:
+	 * the table and column expressions of every mapped selectable, and the static
+	 * SQL which persisters and loaders generate once and keep, for example, the SQL
+	 * to load an entity by id, or to insert, update or delete a row. The SQL of
+	 * queries is never interned, since it is not bounded by the mapping. Several
+	 * {@link SessionFactory} instances built from the same {@code Metadata} for the
+	 * same {@code Dialect} then share a single copy of each of these strings,
+	 * instead of each factory holding its own.
+	 * <p>
+	 * The mapping model objects themselves are never shared between factories,
+	 * since they refer to the {@code SessionFactory} which created them.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String INTERN_SQL_STRINGS = "hibernate.mapping.intern_sql_strings";
 }
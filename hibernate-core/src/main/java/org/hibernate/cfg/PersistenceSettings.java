@@ -153,6 +153,27 @@ public interface PersistenceSettings {
 	 */
 	String SCANNER_ARCHIVE_INTERPRETER = "hibernate.archive.interpreter";
 
+	/**
+	 * Specifies the name of the resource containing a
+	 * {@linkplain org.hibernate.boot.scan.spi.ScanningSnapshot snapshot} of the
+	 * results of scanning, written at build time by the Hibernate Gradle or Maven
+	 * plugin. The resource is only looked for in the root and jar files of the
+	 * persistence unit. When every one of these archives contains the resource,
+	 * and it was written by the same version of Hibernate, the managed classes,
+	 * packages, and mapping files it lists are used instead of scanning the
+	 * persistence unit. A snapshot which fails its checksum, or which lists a
+	 * class not found in the archive containing it, is ignored, and the
+	 * persistence unit is scanned as usual.
+	 *
+	 * @settingDefault {@value org.hibernate.boot.scan.spi.ScanningSnapshot#DEFAULT_RESOURCE_NAME}
+	 *
+	 * @see #SCANNING
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String SCANNING_SNAPSHOT = "hibernate.archive.scanning_snapshot";
+
 	/**
 	 * Allows JPA callbacks (via {@link jakarta.persistence.PreUpdate} and friends) to be
 	 * completely disabled. Mostly useful to save some memory when they are not used.
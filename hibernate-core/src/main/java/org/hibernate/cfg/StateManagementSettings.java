@@ -14,7 +14,8 @@
 /**
  * Settings related to {@linkplain org.hibernate.persister.state.spi.StateManagement
  * customized state management}, {@linkplain org.hibernate.annotations.Temporal
- * temporal entities}, and {@linkplain org.hibernate.annotations.Audited audited
+ * temporal entities}, {@linkplain org.hibernate.annotations.Audited audited
+ * entities}, and {@linkplain org.hibernate.annotations.SoftDelete soft-deletable
  * entities}.
  *
  * @author Gavin King
@@ -97,6 +98,55 @@ public interface StateManagementSettings {
 	 */
 	String CHANGESET_ID_SUPPLIER = "hibernate.temporal.changeset_id_supplier";
 
+	/**
+	 * When enabled, schema export creates an index on the effectivity
+	 * columns of each table holding
+	 * {@linkplain org.hibernate.annotations.Temporal temporal data}
+	 * when using the {@link TemporalTableStrategy#SINGLE_TABLE} or
+	 * {@link TemporalTableStrategy#HISTORY_TABLE} mapping strategy.
+	 * <p>
+	 * The index covers the ending column followed by the starting
+	 * column, so that both the {@code rowEnd is null} restriction of
+	 * current-state reads and the half-open range restriction
+	 * {@code rowStart <= :instant and (rowEnd is null or rowEnd > :instant)}
+	 * of reads "as of" an instant may be evaluated as index range
+	 * scans over many entities.
+	 * <p>
+	 * With the {@link TemporalTableStrategy#NATIVE} strategy, indexing
+	 * of the system-versioned table is left to the database.
+	 *
+	 * @settingDefault {@code false}
+	 * @see org.hibernate.annotations.Temporal
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String TEMPORAL_TABLE_INDEXES = "hibernate.temporal.create_indexes";
+
+	/**
+	 * When enabled, schema export creates a partial index restricted
+	 * to rows which are not deleted for the columns of each unique key
+	 * and foreign key of the table holding the indicator column of a
+	 * {@linkplain org.hibernate.annotations.SoftDelete soft-deletable}
+	 * entity or collection, on databases which
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsPartialIndexes
+	 * support partial indexes}. The tables of joined subclasses do not
+	 * hold the indicator column, and so are not indexed.
+	 * <p>
+	 * The condition of each index uses the same literal as the restriction
+	 * to non-deleted rows applied when loading the entity, so that the index
+	 * matches the restriction. The indexes are named by the
+	 * {@linkplain org.hibernate.boot.model.naming.ImplicitNamingStrategy
+	 * implicit naming strategy}, and are validated like any other index.
+	 *
+	 * @settingDefault {@code false}
+	 * @see org.hibernate.annotations.SoftDelete
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String SOFT_DELETE_INDEXES = "hibernate.soft_delete.create_indexes";
+
 	/**
 	 * Specifies the audit strategy for
 	 * {@linkplain org.hibernate.annotations.Audited audited} entities.
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -41,4 +42,21 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When enabled, specifies that the time spent in each phase of the bootstrap
+	 * process, along with the slowest entities of the phases which are timed per
+	 * entity, should be logged once the {@code SessionFactory} is initialized.
+	 * <p>
+	 * Startup phases are always reported to Java Flight Recorder when Hibernate
+	 * JFR is available, independently of this setting.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.event.monitor.spi.StartupProfiler
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String LOG_STARTUP_SUMMARY = "hibernate.log_startup_summary";
 }
@@ -621,6 +621,11 @@ public boolean qualifyIndexName() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsPartialIndexes() {
+		return true;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return CockroachDBIdentityColumnSupport.INSTANCE;
@@ -3007,6 +3007,20 @@ public boolean qualifyIndexName() {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support partial indexes, that is, indexes with
+	 * a {@code where} clause restricting the rows which are indexed?
+	 *
+	 * @return {@code true} if partial indexes are supported
+	 *
+	 * @see org.hibernate.mapping.Index#getPredicate()
+	 *
+	 * @since 8.1
+	 */
+	public boolean supportsPartialIndexes() {
+		return false;
+	}
+
 	/**
 	 * Slight variation on {@link #getCreateTableString}. Here, we have
 	 * the command used to create a table when there is no primary key
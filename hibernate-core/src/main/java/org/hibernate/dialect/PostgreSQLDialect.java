@@ -1178,6 +1178,11 @@ public boolean qualifyIndexName() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsPartialIndexes() {
+		return true;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return PostgreSQLIdentityColumnSupport.INSTANCE;
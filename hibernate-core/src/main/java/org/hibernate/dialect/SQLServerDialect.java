@@ -1127,6 +1127,12 @@ public String getCreateIndexString(boolean unique) {
 		return unique ? "create unique nonclustered index" : "create index";
 	}
 
+	@Override
+	public boolean supportsPartialIndexes() {
+		// filtered indexes
+		return true;
+	}
+
 	@Override
 	public String getCreateIndexTail(boolean unique, List<Column> columns) {
 		if ( unique ) {
@@ -923,6 +923,11 @@ public boolean supportsIfExistsBeforeConstraintName() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsPartialIndexes() {
+		return false;
+	}
+
 
 	@Override
 	public boolean supportsDistinctFromPredicate() {
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityEntryExtraState;
+import org.hibernate.engine.spi.PersistenceContext;
+
+/**
+ * Remembers the {@linkplain org.hibernate.sql.exec.spi.ExecutionContext#getQueryIdentifier
+ * identifier} of the query which loaded an entity, so that later fetches of its lazy
+ * associations may be attributed to that query.
+ *
+ * @see org.hibernate.stat.QueryStatistics#getTriggeredFetchCounts()
+ *
+ * @since 8.1
+ */
+public final class LoadingQueryExtraState implements EntityEntryExtraState {
+	private final String query;
+	private EntityEntryExtraState next;
+
+	private LoadingQueryExtraState(String query) {
+		this.query = query;
+	}
+
+	/**
+	 * Record the query which loaded the entity of the given entry, unless
+	 * it was already loaded by an earlier query.
+	 */
+	public static void setLoadingQuery(EntityEntry entry, String query) {
+		if ( entry.getExtraState( LoadingQueryExtraState.class ) == null ) {
+			entry.addExtraState( new LoadingQueryExtraState( query ) );
+		}
+	}
+
+	/**
+	 * The query which loaded the entity of the given entry, if any.
+	 */
+	public static @Nullable String getLoadingQuery(@Nullable EntityEntry entry) {
+		if ( entry == null ) {
+			return null;
+		}
+		else {
+			final var extraState = entry.getExtraState( LoadingQueryExtraState.class );
+			return extraState == null ? null : extraState.query;
+		}
+	}
+
+	/**
+	 * The query which loaded the owner of the given collection, if any.
+	 */
+	public static @Nullable String getLoadingQuery(
+			PersistentCollection<?> collection,
+			PersistenceContext persistenceContext) {
+		final Object owner = collection.getOwner();
+		return owner == null ? null : getLoadingQuery( persistenceContext.getEntry( owner ) );
+	}
+
+	@Override
+	public void addExtraState(EntityEntryExtraState extraState) {
+		if ( next == null ) {
+			next = extraState;
+		}
+		else {
+			next.addExtraState( extraState );
+		}
+	}
+
+	@Override
+	public <T extends EntityEntryExtraState> T getExtraState(Class<T> extraStateType) {
+		if ( next == null ) {
+			return null;
+		}
+		else if ( extraStateType.isInstance( next ) ) {
+			return extraStateType.cast( next );
+		}
+		else {
+			return next.getExtraState( extraStateType );
+		}
+	}
+}
@@ -66,6 +66,10 @@
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS; by default, the pool does not wait for a connection to be returned
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.SECONDS; checked at every validation interval, disabled by default
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -104,6 +108,8 @@ private PooledConnections buildPool(Map<String,Object> configuration, ServiceReg
 		final int minSize = getInt( MIN_SIZE, configuration, 1 );
 		final int maxSize = getInt( POOL_SIZE, configuration, 20 );
 		final int initialSize = getInt( INITIAL_SIZE, configuration, minSize );
+		final long acquisitionTimeout = getLong( ACQUISITION_TIMEOUT, configuration, 0 );
+		final long leakDetectionThreshold = getLong( LEAK_DETECTION_THRESHOLD, configuration, 0 );
 
 		if ( loginTimeout!= null ) {
 			DriverManager.setLoginTimeout( loginTimeout );
@@ -160,6 +166,8 @@ private PooledConnections buildPool(Map<String,Object> configuration, ServiceReg
 				.initialSize( initialSize )
 				.minSize( minSize )
 				.maxSize( maxSize )
+				.acquisitionTimeout( acquisitionTimeout )
+				.leakDetectionThreshold( leakDetectionThreshold )
 				.validator( this )
 				.build();
 	}
@@ -8,24 +8,41 @@
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hibernate.internal.log.ConnectionInfoLogger.CONNECTION_INFO_LOGGER;
 
 class PooledConnections {
 
+	private static final long WAIT_SLICE = MILLISECONDS.toNanos( 100 );
+
 	// Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent}
 	// package, from which the original pooling code here is was derived.
 	// See http://ovaraksin.blogspot.com/2013/08/simple-and-lightweight-pool.html
 
 	private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+	// a returned connection is handed directly to a thread waiting for one, if any
+	private final LinkedTransferQueue<Connection> availableConnections = new LinkedTransferQueue<>();
+	// the size of the pool, including connections which are still being opened;
+	// a slot is reserved before a connection is opened, so no lock is needed
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	// only populated when leak detection is enabled
+	private final Map<Connection, Checkout> checkouts = new ConcurrentHashMap<>();
 
 	private final ConnectionCreator connectionCreator;
 	private final ConnectionValidator connectionValidator;
 	private final boolean autoCommit;
 	private final int minSize;
 	private final int maxSize;
+	private final long acquisitionTimeout;
+	private final long leakDetectionThreshold;
 
 	private volatile boolean primed;
 
@@ -39,6 +56,8 @@ private PooledConnections(
 		autoCommit = builder.autoCommit;
 		maxSize = builder.maxSize;
 		minSize = builder.minSize;
+		acquisitionTimeout = builder.acquisitionTimeout;
+		leakDetectionThreshold = builder.leakDetectionThreshold;
 		addConnections( builder.initialSize );
 	}
 
@@ -62,9 +81,36 @@ else if ( size > maxSize ) {
 			CONNECTION_INFO_LOGGER.removingConnectionsFromPool( numberToBeRemoved );
 			removeConnections( numberToBeRemoved );
 		}
+
+		if ( leakDetectionThreshold > 0 ) {
+			detectLeaks();
+		}
+	}
+
+	/**
+	 * Report every connection which has been checked out for longer than the
+	 * {@linkplain DriverManagerConnectionProvider#LEAK_DETECTION_THRESHOLD leak
+	 * detection threshold}. Each checkout is reported at most once.
+	 */
+	private void detectLeaks() {
+		final long now = System.nanoTime();
+		checkouts.forEach( (connection, checkout) -> {
+			final long checkedOutFor = now - checkout.time();
+			if ( checkedOutFor > SECONDS.toNanos( leakDetectionThreshold )
+					&& checkouts.remove( connection, checkout ) ) {
+				CONNECTION_INFO_LOGGER.possibleConnectionLeak(
+						checkout.threadName(),
+						NANOSECONDS.toSeconds( checkedOutFor ),
+						checkout.acquisitionPoint()
+				);
+			}
+		} );
 	}
 
 	void add(Connection conn) {
+		if ( leakDetectionThreshold > 0 ) {
+			checkouts.remove( conn );
+		}
 		final Connection connection = releaseConnection( conn );
 		if ( connection != null ) {
 			availableConnections.offer( connection );
@@ -89,25 +135,85 @@ private Connection releaseConnection(Connection conn) {
 	}
 
 	Connection poll() {
+		final long deadline = System.nanoTime() + MILLISECONDS.toNanos( acquisitionTimeout );
 		Connection conn;
 		do {
 			conn = availableConnections.poll();
 			if ( conn == null ) {
-				synchronized (allConnections) {
-					if ( allConnections.size() < maxSize ) {
-						addConnections( 1 );
-						return poll();
-					}
+				conn = openConnectionIfPossible();
+				if ( conn == null ) {
+					conn = awaitConnection( deadline );
 				}
-				throw new HibernateException(
-						"The internal connection pool has reached its maximum size and no connection is currently available" );
 			}
 			conn = prepareConnection( conn );
 		}
 		while ( conn == null );
+		if ( leakDetectionThreshold > 0 ) {
+			final var thread = Thread.currentThread();
+			checkouts.put( conn, new Checkout( System.nanoTime(), thread.getName(),
+					new Exception( "Connection acquired by thread '" + thread.getName() + "'" ) ) );
+		}
 		return conn;
 	}
 
+	/**
+	 * Open a new connection if the pool has not reached its maximum size.
+	 *
+	 * @return the new connection, or {@code null} if the pool is full
+	 */
+	private Connection openConnectionIfPossible() {
+		int count;
+		do {
+			count = connectionCount.get();
+			if ( count >= maxSize ) {
+				return null;
+			}
+		}
+		while ( !connectionCount.compareAndSet( count, count + 1 ) );
+
+		final Connection connection;
+		try {
+			connection = connectionCreator.createConnection();
+		}
+		catch (RuntimeException e) {
+			connectionCount.decrementAndGet();
+			throw e;
+		}
+		allConnections.add( connection );
+		return connection;
+	}
+
+	/**
+	 * Wait until another thread returns a connection to the pool, or until a
+	 * slot is freed by closing an invalid connection, for at most the
+	 * {@linkplain DriverManagerConnectionProvider#ACQUISITION_TIMEOUT
+	 * acquisition timeout}.
+	 */
+	private Connection awaitConnection(long deadline) {
+		long remaining;
+		while ( ( remaining = deadline - System.nanoTime() ) > 0 ) {
+			try {
+				// closing an invalid connection does not wake the waiting threads,
+				// so wait in slices, and check for a free slot between them
+				final Connection conn =
+						availableConnections.poll( Math.min( remaining, WAIT_SLICE ), NANOSECONDS );
+				if ( conn != null ) {
+					return conn;
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+			final Connection conn = openConnectionIfPossible();
+			if ( conn != null ) {
+				return conn;
+			}
+		}
+		throw new HibernateException(
+				"The internal connection pool has reached its maximum size and no connection is currently available" );
+	}
+
 	protected Connection prepareConnection(Connection conn) {
 		Exception t = null;
 		try {
@@ -135,7 +241,11 @@ protected void closeConnection(Connection conn, Throwable t) {
 			}
 		}
 		finally {
-			if ( !allConnections.remove( conn ) ) {
+			if ( allConnections.remove( conn ) ) {
+				connectionCount.decrementAndGet();
+				checkouts.remove( conn );
+			}
+			else {
 				CONNECTION_INFO_LOGGER.connectionRemoveFailed();
 			}
 		}
@@ -155,7 +265,7 @@ public void close() throws SQLException {
 	}
 
 	public int size() {
-		return allConnections.size();
+		return connectionCount.get();
 	}
 
 	protected void removeConnections(int numberToBeRemoved) {
@@ -170,8 +280,10 @@ protected void removeConnections(int numberToBeRemoved) {
 
 	protected void addConnections(int numberOfConnections) {
 		for ( int i = 0; i < numberOfConnections; i++ ) {
-			Connection connection = connectionCreator.createConnection();
-			allConnections.add( connection );
+			final Connection connection = openConnectionIfPossible();
+			if ( connection == null ) {
+				break;
+			}
 			availableConnections.add( connection );
 		}
 	}
@@ -188,6 +300,9 @@ public Iterable<Connection> getAllConnections() {
 		return allConnections;
 	}
 
+	private record Checkout(long time, String threadName, Exception acquisitionPoint) {
+	}
+
 	static class Builder {
 		private final ConnectionCreator connectionCreator;
 		private ConnectionValidator connectionValidator;
@@ -195,6 +310,8 @@ static class Builder {
 		private int initialSize = 1;
 		private int minSize = 1;
 		private int maxSize = 20;
+		private long acquisitionTimeout;
+		private long leakDetectionThreshold;
 
 		Builder(ConnectionCreator connectionCreator) {
 			this.connectionCreator = connectionCreator;
@@ -220,6 +337,16 @@ Builder maxSize(int maxSize) {
 			return this;
 		}
 
+		Builder acquisitionTimeout(long acquisitionTimeout) {
+			this.acquisitionTimeout = acquisitionTimeout;
+			return this;
+		}
+
+		Builder leakDetectionThreshold(long leakDetectionThreshold) {
+			this.leakDetectionThreshold = leakDetectionThreshold;
+			return this;
+		}
+
 		Builder validator(ConnectionValidator connectionValidator) {
 			this.connectionValidator = connectionValidator;
 			return this;
@@ -64,6 +64,14 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The number of batch loads already performed for each entity name or collection
+	 * role, used by {@link #getAdaptiveBatchSize} to grow the batch size of entities
+	 * and collections which are repeatedly batch fetched. Unlike the queued keys, this
+	 * history is retained when the queue is {@linkplain #clear() cleared}.
+	 */
+	private @Nullable Map<String, Integer> batchLoadCounts;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -459,6 +467,41 @@ else if ( !isCached( loadedKey, collectionPersister ) ) {
 		return keys;
 	}
 
+	// adaptive batch size support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Determine the size of the next batch to load for the given entity name or
+	 * collection role, and record that a batch load is about to happen.
+	 * <p>
+	 * The first batch load uses the given batch size. Each repeated batch load of
+	 * the same role in this session doubles the batch size, up to the configured
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 * maximum}, since the association is evidently being traversed for all owners.
+	 *
+	 * @param role The entity name or collection role
+	 * @param batchSize The configured batch size for the role
+	 *
+	 * @return The size of the next batch
+	 *
+	 * @since 8.1
+	 */
+	public int getAdaptiveBatchSize(String role, int batchSize) {
+		final int maxBatchSize =
+				getSession().getFactory().getSessionFactoryOptions()
+						.getAdaptiveBatchFetchMaxSize();
+		if ( maxBatchSize <= batchSize ) {
+			return batchSize;
+		}
+		else {
+			if ( batchLoadCounts == null ) {
+				batchLoadCounts = mapOfSize( 8 );
+			}
+			final int previousLoads = batchLoadCounts.merge( role, 1, Integer::sum ) - 1;
+			final long adaptiveBatchSize = (long) batchSize << Math.min( previousLoads, 31 );
+			return (int) Math.min( adaptiveBatchSize, maxBatchSize );
+		}
+	}
+
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
@@ -26,6 +26,7 @@
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EntityCopyObserverFactory;
+import org.hibernate.event.monitor.spi.StartupProfile;
 import org.hibernate.event.spi.EventEngine;
 import org.hibernate.graph.GraphParser;
 import org.hibernate.graph.RootGraph;
@@ -164,6 +165,15 @@ default JpaMetamodel getJpaMetamodel() {
 	@Nonnull
 	EventEngine getEventEngine();
 
+	/**
+	 * The time spent in each phase of the startup of this factory.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nonnull
+	StartupProfile getStartupProfile();
+
 	/**
 	 * Obtain the {@link EntityNotFoundDelegate}
 	 */
@@ -14,6 +14,7 @@
 import org.hibernate.sql.results.internal.ResultsHelper;
 
 import static org.hibernate.collection.spi.AbstractPersistentCollection.checkPersister;
+import static org.hibernate.engine.internal.LoadingQueryExtraState.getLoadingQuery;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
 import static org.hibernate.loader.internal.CacheLoadHelper.initializeCollectionFromCache;
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
@@ -53,13 +54,26 @@ public void onInitializeCollection(@Nonnull InitializeCollectionEvent event) {
 			}
 			else {
 				EVENT_LISTENER_LOGGER.collectionNotCached();
-				loadedPersister.initialize( loadedKey, source );
+				final String role = loadedPersister.getRole();
+				final var eventMonitor = source.getEventMonitor();
+				final var lazyFetchEvent = eventMonitor.beginLazyFetchEvent();
+				final String loadingQuery = getLoadingQuery( collection, persistenceContext );
+				boolean success = false;
+				try {
+					loadedPersister.initialize( loadedKey, source );
+					success = true;
+				}
+				finally {
+					eventMonitor.completeLazyFetchEvent( lazyFetchEvent, loadedKey, role,
+							loadingQuery, success, source );
+				}
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				EVENT_LISTENER_LOGGER.collectionInitialized();
 
 				final var statistics = source.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.fetchCollection( role );
+					statistics.queryTriggeredFetch( loadingQuery, role );
 				}
 			}
 		}
@@ -24,8 +24,10 @@
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.AbstractLazyInitializer;
 
 import static org.hibernate.engine.internal.CacheHelper.writingToCache;
+import static org.hibernate.engine.internal.LoadingQueryExtraState.setLoadingQuery;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
@@ -637,13 +639,29 @@ protected Object loadFromDatasource(@Nonnull LoadEvent event, @Nonnull EntityPer
 					infoString( persister, event.getEntityId(), event.getFactory() ) );
 		}
 
-		final Object entity = persister.load(
-				event.getEntityId(),
-				event.getInstanceToLoad(),
-				event.getLockOptions(),
-				event.getSession(),
-				event.getReadOnly()
-		);
+		final var session = event.getSession();
+		final boolean associationFetch = event.isAssociationFetch();
+		final var eventMonitor = session.getEventMonitor();
+		final var lazyFetchEvent = associationFetch ? eventMonitor.beginLazyFetchEvent() : null;
+		final String loadingQuery = associationFetch ? loadingQuery( event, persister ) : null;
+		boolean success = false;
+		final Object entity;
+		try {
+			entity = persister.load(
+					event.getEntityId(),
+					event.getInstanceToLoad(),
+					event.getLockOptions(),
+					session,
+					event.getReadOnly()
+			);
+			success = true;
+		}
+		finally {
+			if ( associationFetch ) {
+				eventMonitor.completeLazyFetchEvent( lazyFetchEvent, event.getEntityId(),
+						persister.getEntityName(), loadingQuery, success, session );
+			}
+		}
 
 		// todo (6.0) : this is a change from previous versions
 		//		specifically the load call previously always returned a non-proxy
@@ -653,11 +671,33 @@ protected Object loadFromDatasource(@Nonnull LoadEvent event, @Nonnull EntityPer
 
 		final var lazyInitializer = extractLazyInitializer( entity );
 		final Object impl = lazyInitializer != null ? lazyInitializer.getImplementation() : entity;
+		if ( loadingQuery != null && impl != null ) {
+			// fetches of the associations of the fetched entity
+			// are attributed to the query which loaded its owner
+			final var entityEntry = session.getPersistenceContextInternal().getEntry( impl );
+			if ( entityEntry != null ) {
+				setLoadingQuery( entityEntry, loadingQuery );
+			}
+		}
 		final var statistics = event.getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
+		if ( associationFetch && statistics.isStatisticsEnabled() ) {
 			statistics.fetchEntity( event.getEntityClassName() );
+			statistics.queryTriggeredFetch( loadingQuery, persister.getEntityName() );
 		}
 		return impl;
 	}
 
+	/**
+	 * The query which loaded the owner of the proxy being initialized, if any.
+	 */
+	private static @Nullable String loadingQuery(LoadEvent event, EntityPersister persister) {
+		final var session = event.getSession();
+		final Object proxy =
+				session.getPersistenceContextInternal()
+						.getProxy( session.generateEntityKey( event.getEntityId(), persister ) );
+		return extractLazyInitializer( proxy ) instanceof AbstractLazyInitializer lazyInitializer
+				? lazyInitializer.getLoadingQuery()
+				: null;
+	}
+
 }
@@ -332,4 +332,14 @@ public void completeCollectionUpdateEvent(@Nullable DiagnosticEvent event, @Nonn
 	public void completeCollectionRemoveEvent(@Nullable DiagnosticEvent event, @Nonnull Object id, @Nonnull String role, boolean success, @Nonnull SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginLazyFetchEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeLazyFetchEvent(@Nullable DiagnosticEvent event, @Nonnull Object id, @Nonnull String role, @Nullable String query, boolean success, @Nonnull SharedSessionContractImplementor session) {
+
+	}
 }
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.monitor.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.StartupMonitor;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfile;
+import org.hibernate.event.monitor.spi.StartupProfiler;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static org.hibernate.boot.BootLogging.BOOT_LOGGER;
+
+/**
+ * Standard implementation of {@link StartupProfiler}. Spans may be begun and
+ * completed concurrently, since persisters may be created in parallel.
+ *
+ * @since 8.1
+ */
+public final class StartupProfilerImpl implements StartupProfiler {
+	private static final Comparator<Timing> SLOWEST_FIRST =
+			Comparator.comparing( Timing::duration ).reversed();
+
+	private final @Nullable StartupMonitor startupMonitor;
+	private final boolean logSummary;
+
+	private final Map<StartupPhase, LongAdder> phaseNanos = new ConcurrentHashMap<>();
+	private final Queue<Timing> roleTimings = new ConcurrentLinkedQueue<>();
+
+	public StartupProfilerImpl(@Nullable StartupMonitor startupMonitor, boolean logSummary) {
+		this.startupMonitor = startupMonitor;
+		this.logSummary = logSummary;
+	}
+
+	@Override
+	public @Nonnull Span begin(@Nonnull StartupPhase phase) {
+		return begin( phase, null );
+	}
+
+	@Override
+	public @Nonnull Span begin(@Nonnull StartupPhase phase, @Nullable String role) {
+		final DiagnosticEvent event = startupMonitor == null ? null : startupMonitor.beginStartupPhaseEvent();
+		final long start = System.nanoTime();
+		return () -> {
+			final long elapsed = System.nanoTime() - start;
+			if ( startupMonitor != null ) {
+				startupMonitor.completeStartupPhaseEvent( event, phase, role );
+			}
+			if ( role == null ) {
+				phaseNanos.computeIfAbsent( phase, p -> new LongAdder() ).add( elapsed );
+			}
+			else {
+				roleTimings.add( new Timing( phase, role, Duration.ofNanos( elapsed ) ) );
+			}
+		};
+	}
+
+	@Override
+	public @Nonnull StartupProfile completeStartup() {
+		// drain the timings, so that the next session factory
+		// built using this registry has a profile of its own
+		final Map<StartupPhase, Duration> durations = new EnumMap<>( StartupPhase.class );
+		for ( var phase : StartupPhase.values() ) {
+			final var nanos = phaseNanos.remove( phase );
+			if ( nanos != null ) {
+				durations.put( phase, Duration.ofNanos( nanos.sum() ) );
+			}
+		}
+		final List<Timing> timings = new ArrayList<>();
+		Timing timing;
+		while ( ( timing = roleTimings.poll() ) != null ) {
+			timings.add( timing );
+		}
+		final List<Timing> slowest = new ArrayList<>();
+		for ( var phase : StartupPhase.values() ) {
+			timings.stream()
+					.filter( t -> t.phase() == phase )
+					.sorted( SLOWEST_FIRST )
+					.limit( SLOWEST_ROLE_COUNT )
+					.forEach( slowest::add );
+		}
+		final var profile = new StartupProfile( unmodifiableMap( durations ), unmodifiableList( slowest ) );
+		if ( logSummary ) {
+			logSummary( profile );
+		}
+		return profile;
+	}
+
+	private static void logSummary(StartupProfile profile) {
+		profile.phaseDurations().forEach( (phase, duration) -> {
+			BOOT_LOGGER.startupPhase( phase.name(), duration.toMillis() );
+			for ( var timing : profile.getSlowestRoles( phase ) ) {
+				BOOT_LOGGER.startupPhaseForRole( phase.name(), timing.duration().toMillis(), timing.role() );
+			}
+		} );
+	}
+}
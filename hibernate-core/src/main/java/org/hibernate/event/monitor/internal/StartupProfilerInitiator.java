@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.monitor.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.event.monitor.spi.StartupMonitor;
+import org.hibernate.event.monitor.spi.StartupProfiler;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import jakarta.annotation.Nonnull;
+
+import static org.hibernate.cfg.StatisticsSettings.LOG_STARTUP_SUMMARY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+
+/**
+ * Initiates the {@link StartupProfiler}, reporting to the first available
+ * {@link StartupMonitor}, if any.
+ *
+ * @since 8.1
+ */
+public class StartupProfilerInitiator implements StandardServiceInitiator<StartupProfiler> {
+	public static final StartupProfilerInitiator INSTANCE = new StartupProfilerInitiator();
+
+	@Nonnull
+	@Override
+	public Class<StartupProfiler> getServiceInitiated() {
+		return StartupProfiler.class;
+	}
+
+	@Override
+	public StartupProfiler initiateService(@Nonnull Map<String, Object> configurationValues, @Nonnull ServiceRegistryImplementor registry) {
+		final var startupMonitors =
+				registry.requireService( ClassLoaderService.class )
+						.loadJavaServices( StartupMonitor.class );
+		return new StartupProfilerImpl(
+				startupMonitors.isEmpty() ? null : startupMonitors.iterator().next(),
+				getBoolean( LOG_STARTUP_SUMMARY, configurationValues )
+		);
+	}
+}
@@ -203,6 +203,23 @@ void completePrePartialFlush(
 
 	void completeCollectionRemoveEvent(@Nullable DiagnosticEvent event, @Nonnull Object id, @Nonnull String role, boolean success, @Nonnull SharedSessionContractImplementor session);
 
+	/**
+	 * @since 8.1
+	 */
+	@Nullable DiagnosticEvent beginLazyFetchEvent();
+
+	/**
+	 * Report the fetch of a lazy entity or collection by a separate query.
+	 *
+	 * @param id The identifier of the entity, or key of the collection
+	 * @param role The entity name or collection role
+	 * @param query The query which loaded the owner of the lazy association,
+	 *              or {@code null} if the owner was not loaded by a query
+	 *
+	 * @since 8.1
+	 */
+	void completeLazyFetchEvent(@Nullable DiagnosticEvent event, @Nonnull Object id, @Nonnull String role, @Nullable String query, boolean success, @Nonnull SharedSessionContractImplementor session);
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.monitor.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.JavaServiceLoadable;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Contract implemented by services which report the {@linkplain StartupPhase
+ * phases} of the bootstrap process as they happen, as {@linkplain DiagnosticEvent
+ * diagnostic events}.
+ * <p>
+ * For example, this interface is implemented by Hibernate JFR to report
+ * startup phases to Java Flight Recorder.
+ *
+ * @apiNote This an incubating API, subject to change.
+ *
+ * @see StartupProfiler
+ *
+ * @since 8.1
+ */
+@JavaServiceLoadable
+@Incubating
+public interface StartupMonitor {
+	@Nullable DiagnosticEvent beginStartupPhaseEvent();
+
+	/**
+	 * @param role the entity name, collection role, or class name, when the
+	 *             event times a single element of the phase, or {@code null}
+	 *             when it times the whole phase
+	 */
+	void completeStartupPhaseEvent(
+			@Nullable DiagnosticEvent startupPhaseEvent,
+			@Nonnull StartupPhase phase,
+			@Nullable String role);
+}
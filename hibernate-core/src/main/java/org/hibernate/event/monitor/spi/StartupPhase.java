@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.monitor.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * A phase of the bootstrap process timed by the {@link StartupProfiler}.
+ * <p>
+ * Phases may be nested: the {@linkplain #SESSION_FACTORY_INITIALIZATION
+ * initialization of the session factory} includes the creation of its
+ * persisters, mapping model, and loaders, along with any schema management.
+ *
+ * @since 8.1
+ */
+@Incubating
+public enum StartupPhase {
+	/**
+	 * Scanning of the persistence unit for managed classes.
+	 */
+	SCANNING,
+	/**
+	 * Processing of XML mappings and categorization of the domain model.
+	 */
+	CATEGORIZATION,
+	/**
+	 * Binding of the domain model to the boot-time mapping model, excluding
+	 * {@linkplain #SECOND_PASSES second passes}. Timed per class.
+	 */
+	BINDING,
+	/**
+	 * Processing of the second passes queued during binding.
+	 */
+	SECOND_PASSES,
+	/**
+	 * Creation of the entity and collection persisters. Timed per entity
+	 * and per collection role.
+	 */
+	PERSISTER_CREATION,
+	/**
+	 * Creation of the runtime mapping model, linking the persisters to each
+	 * other, and building the constraint model.
+	 */
+	MAPPING_MODEL_CREATION,
+	/**
+	 * Creation of the loaders and mutation plans of the persisters. Timed
+	 * per entity.
+	 */
+	LOADER_CREATION,
+	/**
+	 * Export, update, or validation of the schema at startup.
+	 */
+	SCHEMA_MANAGEMENT,
+	/**
+	 * The whole initialization of the session factory.
+	 */
+	SESSION_FACTORY_INITIALIZATION
+}
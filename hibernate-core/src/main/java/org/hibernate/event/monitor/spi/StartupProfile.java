@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.monitor.spi;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Incubating;
+import org.hibernate.event.monitor.spi.StartupProfiler.Timing;
+import jakarta.annotation.Nonnull;
+
+/**
+ * The profile of the startup of a single session factory, as recorded by the
+ * {@link StartupProfiler}.
+ *
+ * @param phaseDurations the total time spent in each phase, in the order of the phases
+ * @param slowestRoles the slowest elements of the phases which are timed per entity,
+ *                     collection role, or class, slowest first
+ *
+ * @see org.hibernate.engine.spi.SessionFactoryImplementor#getStartupProfile()
+ *
+ * @since 8.1
+ */
+@Incubating
+public record StartupProfile(
+		@Nonnull Map<StartupPhase, Duration> phaseDurations,
+		@Nonnull List<Timing> slowestRoles) {
+
+	/**
+	 * The slowest elements of the given phase, slowest first.
+	 */
+	public @Nonnull List<Timing> getSlowestRoles(@Nonnull StartupPhase phase) {
+		return slowestRoles.stream().filter( timing -> timing.phase() == phase ).toList();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.monitor.spi;
+
+import java.time.Duration;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Times the {@linkplain StartupPhase phases} of the bootstrap process, reporting
+ * each phase to any {@linkplain StartupMonitor startup monitors} as it happens,
+ * and keeping the total time spent in each phase, along with the slowest elements
+ * of the phases which are timed per entity, collection role, or class.
+ * <p>
+ * Once a session factory is initialized, the timings kept so far are handed over
+ * to it as its {@linkplain StartupProfile profile}, and may be logged as a summary.
+ * The profiler then starts afresh, so that each session factory built using the
+ * same service registry has a profile of its own.
+ *
+ * @apiNote This an incubating API, subject to change.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#LOG_STARTUP_SUMMARY
+ * @see org.hibernate.engine.spi.SessionFactoryImplementor#getStartupProfile()
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface StartupProfiler extends Service {
+	/**
+	 * The number of the slowest elements of each phase kept by the profiler.
+	 */
+	int SLOWEST_ROLE_COUNT = 10;
+
+	/**
+	 * Begin timing the given phase.
+	 */
+	@Nonnull Span begin(@Nonnull StartupPhase phase);
+
+	/**
+	 * Begin timing the given element of the given phase.
+	 *
+	 * @param role the entity name, collection role, or class name
+	 */
+	@Nonnull Span begin(@Nonnull StartupPhase phase, @Nonnull String role);
+
+	/**
+	 * Called once a session factory is initialized, or has failed to initialize,
+	 * to obtain the profile of its startup, and log the summary, if enabled. All
+	 * but the slowest elements of each phase are discarded, and the profiler is
+	 * reset, ready for the startup of the next session factory.
+	 */
+	@Nonnull StartupProfile completeStartup();
+
+	/**
+	 * The timing of a phase, or of an element of a phase, in progress.
+	 */
+	interface Span {
+		/**
+		 * Stop timing, recording the elapsed time.
+		 */
+		void complete();
+	}
+
+	/**
+	 * The time taken by a phase, or by an element of a phase.
+	 *
+	 * @param role the entity name, collection role, or class name,
+	 *             or {@code null} for the whole phase
+	 */
+	record Timing(@Nonnull StartupPhase phase, @Nullable String role, @Nonnull Duration duration) {
+	}
+}
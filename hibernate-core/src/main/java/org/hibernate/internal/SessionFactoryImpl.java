@@ -45,6 +45,7 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.cfg.internal.DomainDataRegionConfigImpl;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.CachePreloader;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.context.internal.JTASessionContext;
@@ -71,6 +72,9 @@
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.event.monitor.internal.EmptyEventMonitor;
 import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfile;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.event.service.spi.EventListenerGroups;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EntityCopyObserverFactory;
@@ -194,6 +198,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 
 	private final transient SessionFactoryServiceRegistry serviceRegistry;
 	private final transient EventEngine eventEngine;
+	private final transient StartupProfile startupProfile;
 	private final transient JdbcServices jdbcServices;
 	private final transient SqlStringGenerationContext sqlStringGenerationContext;
 
@@ -240,6 +245,8 @@ public SessionFactoryImpl(
 			final SessionFactoryOptions options,
 			final BootstrapContext bootstrapContext) {
 		SESSION_FACTORY_LOGGER.buildingSessionFactory();
+		final var startupProfiler = options.getServiceRegistry().requireService( StartupProfiler.class );
+		final var initialization = startupProfiler.begin( StartupPhase.SESSION_FACTORY_INITIALIZATION );
 		typeConfiguration = bootstrapContext.getTypeConfiguration();
 
 		sessionFactoryOptions = options;
@@ -273,6 +280,12 @@ public SessionFactoryImpl(
 		for ( var sessionFactoryObserver : options.getSessionFactoryObservers() ) {
 			observerChain.addObserver( sessionFactoryObserver );
 		}
+		if ( options.isSecondLevelCacheEnabled() ) {
+			final var cachePreloader = CachePreloader.create( settings, observerChain );
+			if ( cachePreloader != null ) {
+				observerChain.addObserver( cachePreloader );
+			}
+		}
 
 		filters = new HashMap<>( bootMetamodel.getFilterDefinitions() );
 
@@ -372,6 +385,10 @@ public SessionFactoryImpl(
 			observerChain.sessionFactoryCreated( this );
 		}
 		catch ( Exception e ) {
+			initialization.complete();
+			// discard the profile of the failed startup
+			startupProfiler.completeStartup();
+
 			disintegrate( e, integratorObserver );
 
 			try {
@@ -383,6 +400,8 @@ public SessionFactoryImpl(
 			throw e;
 		}
 
+		initialization.complete();
+		startupProfile = startupProfiler.completeStartup();
 		SESSION_FACTORY_LOGGER.instantiatedFactory( uuid );
 	}
 
@@ -734,6 +753,12 @@ public EventEngine getEventEngine() {
 		return eventEngine;
 	}
 
+	@Override
+	@Nonnull
+	public StartupProfile getStartupProfile() {
+		return startupProfile;
+	}
+
 	@Override
 	@Nonnull
 	public JdbcServices getJdbcServices() {
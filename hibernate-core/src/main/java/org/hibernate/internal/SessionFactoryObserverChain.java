@@ -59,4 +59,15 @@ public void sessionFactoryClosed(SessionFactory factory) {
 			observers.get( index ).sessionFactoryClosed( factory );
 		}
 	}
+
+	@Override
+	public void sessionFactoryCachePreloaded(SessionFactory factory) {
+		if ( observers == null ) {
+			return;
+		}
+
+		for ( SessionFactoryObserver observer : observers ) {
+			observer.sessionFactoryCachePreloaded( factory );
+		}
+	}
 }
@@ -102,6 +102,7 @@
 import static org.hibernate.cfg.QuerySettings.CRITERIA_COPY_TREE;
 import static org.hibernate.engine.internal.CacheHelper.usingCache;
 import static org.hibernate.engine.internal.CacheHelper.writingToCache;
+import static org.hibernate.engine.internal.LoadingQueryExtraState.getLoadingQuery;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.PersistenceContexts.createPersistenceContext;
@@ -1381,6 +1382,7 @@ public void initializeCollection(@Nonnull PersistentCollection<?> collection, bo
 				SESSION_LOGGER.collectionInitializedFromCache();
 			}
 			else {
+				final String loadingQuery = getLoadingQuery( collection, persistenceContext );
 				loadedPersister.initialize( loadedKey, this );
 				if ( !collection.wasInitialized() || persistenceContext.getCollectionEntry( collection ) == null ) {
 					handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
@@ -1389,6 +1391,7 @@ public void initializeCollection(@Nonnull PersistentCollection<?> collection, bo
 				final var statistics = getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.queryTriggeredFetch( loadingQuery, loadedPersister.getRole() );
 				}
 			}
 		}
@@ -128,4 +128,8 @@ public interface ConnectionInfoLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Could not set login timeout", id = 10001024)
 	void couldNotSetLoginTimeout(@Cause SQLException e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Possible connection leak: a connection acquired by thread '%s' has not been returned to the pool after %s seconds", id = 10001025)
+	void possibleConnectionLeak(String threadName, long seconds, @Cause Exception acquisitionPoint);
 }
@@ -28,6 +28,8 @@
 import org.hibernate.bytecode.spi.ClassTransformer;
 import org.hibernate.cfg.PersistenceSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.jpa.HibernatePersistenceConfiguration;
 import org.hibernate.jpa.HibernatePersistenceProvider;
@@ -41,6 +43,7 @@
 import java.util.Properties;
 import java.util.function.BiConsumer;
 
+import static org.hibernate.boot.scan.internal.ScanningHelper.readSnapshot;
 import static org.hibernate.cfg.MappingSettings.GLOBALLY_QUOTED_IDENTIFIERS;
 import static org.hibernate.cfg.SchemaToolingSettings.JAKARTA_HBM2DDL_DATABASE_ACTION;
 import static org.hibernate.cfg.SchemaToolingSettings.JAKARTA_HBM2DDL_SCRIPTS_ACTION;
@@ -238,6 +241,11 @@ private static ScanningResult performScanning(
 
 		final var classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
 		final var configurationService = serviceRegistry.requireService( ConfigurationService.class );
+		final var snapshot = readSnapshot( boundaries, configurationService );
+		if ( snapshot != null ) {
+			return snapshot;
+		}
+
 		final var archiveDescriptorFactory = determineArchiveDescriptorFactory( configurationService, classLoaderService );
 		final var scanningContext = new ScanningContextImpl(
 				archiveDescriptorFactory,
@@ -245,7 +253,13 @@ private static ScanningResult performScanning(
 		);
 		final ScanningProvider scanningProvider = determineScanningProvider( configurationService, classLoaderService );
 		final Scanner scanner = scanningProvider.builderScanner( scanningContext );
-		return scanner.scan( boundaries );
+		final var span = serviceRegistry.requireService( StartupProfiler.class ).begin( StartupPhase.SCANNING );
+		try {
+			return scanner.scan( boundaries );
+		}
+		finally {
+			span.complete();
+		}
 	}
 
 	private static URL[] collectUrls(HibernatePersistenceConfiguration cfg) {
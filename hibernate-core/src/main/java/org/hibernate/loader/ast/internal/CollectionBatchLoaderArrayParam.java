@@ -109,7 +109,7 @@ public CollectionBatchLoaderArrayParam(
 				.getJdbcEnvironment()
 				.getSqlAstTranslatorFactory()
 				.buildSelectTranslator( getSessionFactory(), sqlSelect )
-				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+				.translateStatic( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
 	}
 
 	@Override
@@ -135,7 +135,7 @@ private PersistentCollection<?> loadWithConversion(
 					collectionInfoString( getLoadable(), keyBeingLoaded ) );
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = adaptiveBatchSize( session );
 		final Object[] keysToInitialize = new Object[length];
 		final Object[] domainKeys = new Object[length];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
@@ -183,32 +183,57 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 					collectionInfoString( getLoadable(), key ), keysToInitialize );
 		}
 
-		assert jdbcSelectOperation != null;
-		assert jdbcParameter != null;
+		final var jdbcParameterBindings = createJdbcParameterBindings( keysToInitialize );
+		executeLoad(
+				jdbcParameterBindings,
+				SubselectFetch.createRegistrationHandler(
+						session.getPersistenceContext().getBatchFetchQueue(),
+						sqlSelect,
+						JdbcParametersList.singleton( jdbcParameter ),
+						jdbcParameterBindings
+				),
+				session
+		);
+	}
 
+	/**
+	 * Bind the given keys as the single array parameter of the {@linkplain #getSqlAst query}.
+	 */
+	JdbcParameterBindings createJdbcParameterBindings(Object[] keysToInitialize) {
+		assert jdbcParameter != null;
 		final var jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
 		jdbcParameterBindings.addBinding(
 				jdbcParameter,
 				new JdbcParameterBindingImpl( arraySqlTypedMapping.getJdbcMapping(), keysToInitialize )
 		);
+		return jdbcParameterBindings;
+	}
 
+	/**
+	 * Execute the query, registering the entities it loads with the given handler.
+	 */
+	void executeLoad(
+			JdbcParameterBindings jdbcParameterBindings,
+			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
+			SharedSessionContractImplementor session) {
+		assert jdbcSelectOperation != null;
 		session.getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelectOperation,
 				jdbcParameterBindings,
-				new ExecutionContextWithSubselectFetchHandler(
-						session,
-						SubselectFetch.createRegistrationHandler(
-								session.getPersistenceContext().getBatchFetchQueue(),
-								sqlSelect,
-								JdbcParametersList.singleton( jdbcParameter ),
-								jdbcParameterBindings
-						)
-				),
+				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
 	}
 
+	SelectStatement getSqlAst() {
+		return sqlSelect;
+	}
+
+	JdbcParametersList getJdbcParameters() {
+		return JdbcParametersList.singleton( jdbcParameter );
+	}
+
 	@Override
 	void finishInitializingKeys(Object[] keys, SharedSessionContractImplementor session) {
 		for ( Object initializedKey : keys ) {
@@ -221,6 +246,14 @@ Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImp
 		assert !getLoadable().getKeyDescriptor().isEmbedded()
 			&& getLoadable().getKeyDescriptor().getKeyPart().getSingleJdbcMapping().getValueConverter() == null
 				: "Should use loadWithConversion() instead";
-		return super.resolveKeysToInitialize( keyBeingLoaded, session );
+		return super.resolveKeysToInitialize( keyBeingLoaded, adaptiveBatchSize( session ), session );
+	}
+
+	/**
+	 * The SQL does not depend on the length of the array, so the batch may grow.
+	 */
+	private int adaptiveBatchSize(SharedSessionContractImplementor session) {
+		return session.getPersistenceContextInternal().getBatchFetchQueue()
+				.getAdaptiveBatchSize( getLoadable().getNavigableRole().getFullPath(), getDomainBatchSize() );
 	}
 }
@@ -77,7 +77,7 @@ public CollectionLoaderSingleKey(
 		jdbcSelect =
 				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
 						.buildSelectTranslator( sessionFactory, sqlAst )
-						.translate( NO_BINDINGS, QueryOptions.NONE );
+						.translateStatic( NO_BINDINGS, QueryOptions.NONE );
 	}
 
 	@Override
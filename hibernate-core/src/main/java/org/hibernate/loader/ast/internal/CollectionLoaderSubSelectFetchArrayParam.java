@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.List;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.pretty.MessageHelper.collectionInfoString;
+
+/**
+ * A one-time use {@link CollectionLoader} for applying a subselect fetch by
+ * passing the keys of the owners which were loaded by the original query as
+ * a single {@linkplain org.hibernate.type.SqlTypes#ARRAY array} parameter,
+ * instead of re-executing the original query as a subquery.
+ *
+ * @see CollectionLoaderSubSelectFetch
+ * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_ARRAY_MAX_SIZE
+ */
+public class CollectionLoaderSubSelectFetchArrayParam implements CollectionLoader {
+	private final PluralAttributeMapping attributeMapping;
+	private final SubselectFetch subselect;
+	private final CollectionBatchLoaderArrayParam arrayParamLoader;
+
+	public CollectionLoaderSubSelectFetchArrayParam(
+			PluralAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			CollectionBatchLoaderArrayParam arrayParamLoader) {
+		this.attributeMapping = attributeMapping;
+		this.subselect = subselect;
+		this.arrayParamLoader = arrayParamLoader;
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return attributeMapping;
+	}
+
+	@Override
+	public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImplementor session) {
+		final var collectionDescriptor = attributeMapping.getCollectionDescriptor();
+		final var persistenceContext = session.getPersistenceContextInternal();
+		final var collection =
+				persistenceContext.getCollection( session.generateCollectionKey( collectionDescriptor, triggerKey ) );
+
+		final var ownerKeys = subselect.getResultingEntityKeys();
+		final List<Object> keys = arrayList( ownerKeys.size() );
+		keys.add( triggerKey );
+		for ( var ownerKey : ownerKeys ) {
+			// the collection key is the id of the owner
+			final Object key = ownerKey.getIdentifier();
+			final var containedCollection =
+					persistenceContext.getCollection( session.generateCollectionKey( collectionDescriptor, key ) );
+			if ( containedCollection != null
+					&& containedCollection != collection
+					&& !containedCollection.wasInitialized() ) {
+				keys.add( key );
+			}
+		}
+
+		if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.batchFetchingCollection( collectionInfoString( attributeMapping, triggerKey ) );
+		}
+		final Object[] keysToInitialize = keys.toArray();
+		final var jdbcParameterBindings = arrayParamLoader.createJdbcParameterBindings( keysToInitialize );
+		// subselect fetches of the loaded elements are keyed by this query, not the original one
+		final var subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				persistenceContext.getBatchFetchQueue(),
+				arrayParamLoader.getSqlAst(),
+				arrayParamLoader.getJdbcParameters(),
+				jdbcParameterBindings
+		);
+		arrayParamLoader.executeLoad( jdbcParameterBindings, subSelectFetchableKeysHandler, session );
+		arrayParamLoader.finishInitializingKeys( keysToInitialize, session );
+		return collection;
+	}
+}
@@ -132,7 +132,7 @@ class DatabaseSnapshotExecutor {
 		jdbcSelect =
 				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
 						.buildSelectTranslator( sessionFactory, selectStatement )
-						.translate( null, QueryOptions.NONE );
+						.translateStatic( null, QueryOptions.NONE );
 	}
 
 	Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
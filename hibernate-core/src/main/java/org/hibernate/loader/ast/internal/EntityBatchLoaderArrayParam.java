@@ -103,7 +103,7 @@ public EntityBatchLoaderArrayParam(
 		jdbcSelectOperation =
 				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
 						.buildSelectTranslator( sessionFactory, sqlAst )
-						.translate( NO_BINDINGS, QueryOptions.NONE );
+						.translateStatic( NO_BINDINGS, QueryOptions.NONE );
 	}
 
 	@Override
@@ -114,15 +114,17 @@ public int getDomainBatchSize() {
 	@AllowReflection
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
-		final Object[] idsToLoad = new Object[domainBatchSize];
-		session.getPersistenceContextInternal().getBatchFetchQueue()
-				.collectBatchLoadableEntityIds(
-						domainBatchSize,
-						(index, value) -> idsToLoad[index] = value,
-						pkValue,
-						getLoadable()
-				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		final var batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		// the SQL does not depend on the length of the array, so the batch may grow
+		final int batchSize = batchFetchQueue.getAdaptiveBatchSize( getLoadable().getEntityName(), domainBatchSize );
+		final Object[] idsToLoad = new Object[batchSize];
+		batchFetchQueue.collectBatchLoadableEntityIds(
+				batchSize,
+				(index, value) -> idsToLoad[index] = value,
+				pkValue,
+				getLoadable()
+		);
+		return trimIdBatch( batchSize, idsToLoad );
 	}
 
 	@Override
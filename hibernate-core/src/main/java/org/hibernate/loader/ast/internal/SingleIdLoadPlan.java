@@ -58,7 +58,7 @@ public SingleIdLoadPlan(
 				sessionFactory.getJdbcServices().getJdbcEnvironment()
 						.getSqlAstTranslatorFactory()
 						.buildSelectTranslator( sessionFactory, sqlAst )
-						.translate(
+						.translateStatic(
 								null,
 								new QueryOptionsAdapter() {
 									@Override
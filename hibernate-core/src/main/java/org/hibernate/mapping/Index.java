@@ -34,6 +34,7 @@ public class Index implements Exportable, Serializable {
 	private String type = "";
 	private String using = "";
 	private String options = "";
+	private String predicate;
 	private final java.util.List<Selectable> selectables = new ArrayList<>();
 	private final java.util.Map<Selectable, String> selectableOrderMap = new HashMap<>();
 
@@ -77,6 +78,22 @@ public void setOptions(String options) {
 		this.options = options;
 	}
 
+	/**
+	 * The condition of a partial index, restricting the rows which
+	 * are indexed, or {@code null} if every row is indexed.
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsPartialIndexes()
+	 *
+	 * @since 8.1
+	 */
+	public String getPredicate() {
+		return predicate;
+	}
+
+	public void setPredicate(String predicate) {
+		this.predicate = predicate;
+	}
+
 	public int getColumnSpan() {
 		return selectables.size();
 	}
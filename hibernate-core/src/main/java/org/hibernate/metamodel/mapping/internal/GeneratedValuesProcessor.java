@@ -89,7 +89,7 @@ public GeneratedValuesProcessor(
 			jdbcSelect =
 					sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
 							.buildSelectTranslator( sessionFactory, selectStatement )
-							.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+							.translateStatic( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
 			jdbcParameters = builder.build();
 		}
 	}
@@ -155,13 +155,14 @@ public static SelectableMapping from(
 					? null
 					: parentPath.append( column.getQuotedName( dialect ) );
 		}
+		final boolean internSql = creationContext.getSessionFactoryOptions().isSqlStringInterningEnabled();
 		return new SelectableMappingImpl(
-				containingTableExpression,
-				columnExpression,
+				intern( containingTableExpression, internSql ),
+				intern( columnExpression, internSql ),
 				selectablePath,
-				selectable.getCustomReadExpression(),
-				selectable.getWriteExpr( jdbcMapping, dialect,
-						creationContext.getBootModel() ),
+				intern( selectable.getCustomReadExpression(), internSql ),
+				intern( selectable.getWriteExpr( jdbcMapping, dialect,
+						creationContext.getBootModel() ), internSql ),
 				length,
 				arrayLength,
 				precision,
@@ -177,6 +178,14 @@ public static SelectableMapping from(
 		);
 	}
 
+	/**
+	 * Intern the given SQL fragment if
+	 * {@value org.hibernate.cfg.MappingSettings#INTERN_SQL_STRINGS} is enabled.
+	 */
+	private static String intern(@Nullable String expression, boolean internSql) {
+		return internSql && expression != null ? expression.intern() : expression;
+	}
+
 	@Override
 	public String toString() {
 		return String.format(
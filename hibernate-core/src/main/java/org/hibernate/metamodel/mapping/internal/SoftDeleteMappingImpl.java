@@ -6,6 +6,7 @@
 
 import org.hibernate.annotations.SoftDeleteType;
 import org.hibernate.cache.MutableCacheKeyBuilder;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.function.CurrentFunction;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -131,26 +132,11 @@ public SoftDeleteMappingImpl(
 			nonDeletedLiteralText = null;
 		}
 		else {
-			//noinspection unchecked
-			final var converter =
-					(BasicValueConverter<Boolean, ?>)
-							resolution.getValueConverter();
-			//noinspection unchecked
-			final JdbcLiteralFormatter<Object> literalFormatter =
-					resolution.getJdbcMapping().getJdbcLiteralFormatter();
-
-			if ( converter == null ) {
-				// the database column is BIT or BOOLEAN: pass-thru
-				deletedLiteralValue = true;
-				nonDeletedLiteralValue = false;
-			}
-			else {
-				deletedLiteralValue = converter.toRelationalValue( true );
-				nonDeletedLiteralValue = converter.toRelationalValue( false );
-			}
-
-			deletedLiteralText = literalFormatter.toJdbcLiteral( deletedLiteralValue, dialect, null );
-			nonDeletedLiteralText = literalFormatter.toJdbcLiteral( nonDeletedLiteralValue, dialect, null );
+			deletedLiteralValue = indicatorValue( resolution, true );
+			nonDeletedLiteralValue = indicatorValue( resolution, false );
+
+			deletedLiteralText = indicatorLiteralText( resolution, true, dialect );
+			nonDeletedLiteralText = indicatorLiteralText( resolution, false, dialect );
 
 			deletionIndicator = deletedLiteralValue;
 
@@ -159,6 +145,28 @@ public SoftDeleteMappingImpl(
 		}
 	}
 
+	private static Object indicatorValue(BasicValue.Resolution<?> resolution, boolean deleted) {
+		//noinspection unchecked
+		final var converter =
+				(BasicValueConverter<Boolean, ?>)
+						resolution.getValueConverter();
+		// if there's no converter, the database column is BIT or BOOLEAN: pass-thru
+		return converter == null ? deleted : converter.toRelationalValue( deleted );
+	}
+
+	/**
+	 * The SQL literal for the given state of a boolean soft-delete indicator.
+	 * This is the literal rendered by the {@linkplain #createNonDeletedRestriction
+	 * restriction to non-deleted rows}, and so partial indexes whose condition
+	 * uses it match the restriction.
+	 */
+	public static String indicatorLiteralText(BasicValue.Resolution<?> resolution, boolean deleted, Dialect dialect) {
+		//noinspection unchecked
+		final JdbcLiteralFormatter<Object> literalFormatter =
+				resolution.getJdbcMapping().getJdbcLiteralFormatter();
+		return literalFormatter.toJdbcLiteral( indicatorValue( resolution, deleted ), dialect, null );
+	}
+
 	@Override
 	public SoftDeleteType getSoftDeleteStrategy() {
 		return strategy;
@@ -5,11 +5,14 @@
 package org.hibernate.metamodel.model.domain.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -22,6 +25,8 @@
 import org.hibernate.action.queue.internal.constraint.ConstraintModelBuilder;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Component;
 import org.hibernate.mapping.MappedSuperclass;
@@ -67,7 +72,9 @@
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
 
+import static org.hibernate.cfg.MappingSettings.MAPPING_MODEL_CREATION_PARALLELISM;
 import static org.hibernate.internal.util.collections.ArrayHelper.toStringArray;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.internal.JpaMetamodelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetamodelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
@@ -146,22 +153,105 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 		bootModel.getEntityBindings()
 				.forEach( persistentClass -> persistentClass.prepareForMappingModel( context ) );
 
-		final var persisterFactory =
-				jpaMetamodel.getServiceRegistry()
-						.requireService( PersisterFactory.class );
-		final var cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
+		final int parallelism = getInt( MAPPING_MODEL_CREATION_PARALLELISM, context.getSettings(), 1 );
+		final var pool = parallelism > 1 ? createPool( parallelism ) : null;
+		try {
+			finishInitialization( context, bootModel, pool );
+		}
+		finally {
+			if ( pool != null ) {
+				pool.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Creates the pool used to create persisters and build their loaders when
+	 * {@value org.hibernate.cfg.MappingSettings#MAPPING_MODEL_CREATION_PARALLELISM}
+	 * is enabled. The worker threads see the same context class loader as the
+	 * bootstrapping thread.
+	 */
+	private static ForkJoinPool createPool(int parallelism) {
+		final var classLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "hibernate-mapping-model-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( classLoader );
+					return thread;
+				},
+				null,
+				false
 		);
+	}
+
+	/**
+	 * Apply the given function to each of the given elements, in the given pool
+	 * if there is one, returning the results in the iteration order of the elements.
+	 */
+	private static <T, R> List<R> map(
+			java.util.Collection<T> elements,
+			Function<? super T, ? extends R> function,
+			@Nullable ForkJoinPool pool) {
+		if ( pool == null ) {
+			final List<R> results = new ArrayList<>( elements.size() );
+			for ( var element : elements ) {
+				results.add( function.apply( element ) );
+			}
+			return results;
+		}
+		else {
+			return pool.submit( () -> elements.parallelStream().<R>map( function ).toList() ).join();
+		}
+	}
+
+	/**
+	 * Apply the given action to each of the given elements, in the given pool
+	 * if there is one.
+	 */
+	private static <T> void forEach(
+			java.util.Collection<T> elements,
+			Consumer<? super T> action,
+			@Nullable ForkJoinPool pool) {
+		if ( pool == null ) {
+			elements.forEach( action );
+		}
+		else {
+			pool.submit( () -> elements.parallelStream().forEach( action ) ).join();
+		}
+	}
+
+	private void finishInitialization(
+			RuntimeModelCreationContext context,
+			MetadataImplementor bootModel,
+			@Nullable ForkJoinPool pool) {
+		final var serviceRegistry = jpaMetamodel.getServiceRegistry();
+		final var persisterFactory = serviceRegistry.requireService( PersisterFactory.class );
+		final var startupProfiler = serviceRegistry.requireService( StartupProfiler.class );
+		final var cache = context.getCache();
+		final var persisterCreation = startupProfiler.begin( StartupPhase.PERSISTER_CREATION );
+		try {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					startupProfiler,
+					context,
+					pool
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					startupProfiler,
+					context,
+					pool
+			);
+		}
+		finally {
+			persisterCreation.complete();
+		}
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
@@ -169,40 +259,72 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 		// triggers
 		// 		- linkWithSuperType (which links persisters with others in their hierarchy)
 		// 		- prepareMappingModel (which builds id-mappings, attribute mappings, fk-descriptors, etc.)
-		MappingModelCreationProcess.process( entityPersisterMap, collectionPersisterMap, context );
-
-		// triggers
-		//      - build table mappings after the mapping model is ready and before the constraint model
-		//		- collecting insert and update generated attributes
-		//		- building insert and update generation delegates
-		for ( var persister : entityPersisterMap.values() ) {
-			persister.postInstantiate( bootModel.getEntityBinding( persister.getEntityName() ) );
-			registerEntityNameResolvers( persister, entityNameResolvers );
-		}
+		final var mappingModelCreation = startupProfiler.begin( StartupPhase.MAPPING_MODEL_CREATION );
+		try {
+			MappingModelCreationProcess.process( entityPersisterMap, collectionPersisterMap, context );
+
+			// triggers
+			//      - build table mappings after the mapping model is ready and before the constraint model
+			//		- collecting insert and update generated attributes
+			//		- building insert and update generation delegates
+			for ( var persister : entityPersisterMap.values() ) {
+				persister.postInstantiate( bootModel.getEntityBinding( persister.getEntityName() ) );
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
 
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// Build the constraint model AFTER tableMappings exist but BEFORE tableDescriptors are built
-		// (which need the constraint model)
-		constraintModel = ConstraintModelBuilder.buildConstraintModel(
-				this,
-				context.getGraphPlanningOptions(),
-				bootModel,
-				context.getSqlStringGenerationContext()
-		);
+			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+			// Build the constraint model AFTER tableMappings exist but BEFORE tableDescriptors are built
+			// (which need the constraint model)
+			constraintModel = ConstraintModelBuilder.buildConstraintModel(
+					this,
+					context.getGraphPlanningOptions(),
+					bootModel,
+					context.getSqlStringGenerationContext()
+			);
 
-		// Build tableDescriptors for all persisters BEFORE prepareLoaders()
-		// This is necessary because subclass persisters may reference their root persister's
-		// tableDescriptors (e.g., JoinedSubclassEntityPersister.getIdentifierTableDescriptor)
-		for ( var persister : entityPersisterMap.values() ) {
-			persister.buildTableDescriptorsEarly();
+			// Build tableDescriptors for all persisters BEFORE prepareLoaders()
+			// This is necessary because subclass persisters may reference their root persister's
+			// tableDescriptors (e.g., JoinedSubclassEntityPersister.getIdentifierTableDescriptor)
+			for ( var persister : entityPersisterMap.values() ) {
+				persister.buildTableDescriptorsEarly();
+			}
+		}
+		finally {
+			mappingModelCreation.complete();
 		}
 
 		// Now that all tableDescriptors exist, we can safely build loaders and decomposers
-		for ( var persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
-		}
+		// (the persisters are independent of each other from here on, so this may be done
+		// in parallel, or deferred until each persister is first used)
+		final var loaderCreation = startupProfiler.begin( StartupPhase.LOADER_CREATION );
+		try {
+			if ( !context.getSessionFactoryOptions().isDeferredLoaderCreationEnabled() ) {
+				// a persister may be registered under both its entity name and its
+				// class name, but its loaders must be prepared exactly once
+				final List<EntityPersister> entityPersisters = new ArrayList<>();
+				for ( var entityBinding : bootModel.getEntityBindings() ) {
+					entityPersisters.add( entityPersisterMap.get( entityBinding.getEntityName() ) );
+				}
+				forEach(
+						entityPersisters,
+						persister -> {
+							final var span = startupProfiler.begin( StartupPhase.LOADER_CREATION, persister.getEntityName() );
+							try {
+								persister.prepareLoaders();
+							}
+							finally {
+								span.complete();
+							}
+						},
+						pool
+				);
+			}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			forEach( collectionPersisterMap.values(), CollectionPersister::postInstantiate, pool );
+		}
+		finally {
+			loaderCreation.complete();
+		}
 
 		registerEmbeddableMappingType( bootModel );
 
@@ -232,16 +354,32 @@ private void processBootEntities(
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cache,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final var model : entityBindings ) {
-			final var rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final var entityPersister =
-					persisterFactory.createEntityPersister(
-							model,
-							cache.getEntityRegionAccess( rootEntityRole ),
-							cache.getNaturalIdCacheRegionAccessStrategy( rootEntityRole ),
-							modelCreationContext
-					);
+			StartupProfiler startupProfiler,
+			RuntimeModelCreationContext modelCreationContext,
+			@Nullable ForkJoinPool pool) {
+		// the persisters may be created in parallel, but they're
+		// always registered in the order of the entity bindings
+		final var entityPersisters = map(
+				entityBindings,
+				model -> {
+					final var span = startupProfiler.begin( StartupPhase.PERSISTER_CREATION, model.getEntityName() );
+					try {
+						final var rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+						return persisterFactory.createEntityPersister(
+								model,
+								cache.getEntityRegionAccess( rootEntityRole ),
+								cache.getNaturalIdCacheRegionAccessStrategy( rootEntityRole ),
+								modelCreationContext
+						);
+					}
+					finally {
+						span.complete();
+					}
+				},
+				pool
+		);
+		for ( final var entityPersister : entityPersisters ) {
+			final var model = modelCreationContext.getBootModel().getEntityBinding( entityPersister.getEntityName() );
 			final String entityName = model.getEntityName();
 			entityPersisterMap.put( entityName, entityPersister );
 			// Also register the persister under the class name if available,
@@ -282,14 +420,28 @@ private void processBootCollections(
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final var model : collectionBindings ) {
-			final String role = model.getRole();
-			final var persister =
-					persisterFactory.createCollectionPersister( model,
-							cacheImplementor.getCollectionRegionAccess( new NavigableRole( role ) ),
-							modelCreationContext );
-			collectionPersisterMap.put( role, persister );
+			StartupProfiler startupProfiler,
+			RuntimeModelCreationContext modelCreationContext,
+			@Nullable ForkJoinPool pool) {
+		final var collectionPersisters = map(
+				collectionBindings,
+				model -> {
+					final var span = startupProfiler.begin( StartupPhase.PERSISTER_CREATION, model.getRole() );
+					try {
+						return persisterFactory.createCollectionPersister(
+								model,
+								cacheImplementor.getCollectionRegionAccess( new NavigableRole( model.getRole() ) ),
+								modelCreationContext
+						);
+					}
+					finally {
+						span.complete();
+					}
+				},
+				pool
+		);
+		for ( final var persister : collectionPersisters ) {
+			collectionPersisterMap.put( persister.getRole(), persister );
 			if ( persister.getIndexType() instanceof org.hibernate.type.EntityType entityType ) {
 				registerEntityParticipant( entityType, persister );
 			}
@@ -41,10 +41,12 @@
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.Generator;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.loader.ast.internal.CollectionBatchLoaderArrayParam;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
 import org.hibernate.loader.ast.internal.CollectionLoaderSingleKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
+import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetchArrayParam;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionLoader;
@@ -138,6 +140,7 @@
 import static org.hibernate.internal.util.StringHelper.unqualify;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.jdbc.Expectations.createExpectation;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 import static org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper.getTableIdentifierExpression;
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
 import static org.hibernate.sql.Template.renderWhereStringTemplate;
@@ -240,8 +243,9 @@
 
 	private final Comparator<?> comparator;
 
-	private CollectionLoader collectionLoader;
-	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionLoader collectionLoader;
+	private volatile CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionBatchLoaderArrayParam subSelectArrayParamLoader;
 
 	private PluralAttributeMapping attributeMapping;
 	private volatile Set<String> affectingFetchProfiles;
@@ -716,15 +720,12 @@ protected String determineTableName(Table table) {
 
 	@Override
 	public void postInstantiate() throws MappingException {
-		collectionLoader =
-				hasNamedQueryLoader()
-						// We pass null as metamodel because we did the initialization during construction already
-						? createNamedQueryCollectionLoader( this, getNamedQueryMemento( null ) )
-						: createCollectionLoader( new LoadQueryInfluencers( factory ) );
-
-		if ( attributeMapping.getIndexDescriptor() != null ) {
-			collectionElementLoaderByIndex =
-					new CollectionElementLoaderByIndex( attributeMapping, new LoadQueryInfluencers( factory ), factory );
+		// build the loaders now, unless their creation is deferred to first use
+		if ( !factory.getSessionFactoryOptions().isDeferredLoaderCreationEnabled() ) {
+			collectionLoader = createStandardCollectionLoader();
+			if ( attributeMapping.getIndexDescriptor() != null ) {
+				collectionElementLoaderByIndex = createStandardElementLoaderByIndex();
+			}
 		}
 
 		// Build collection table descriptor
@@ -786,28 +787,50 @@ public void initialize(Object key, SharedSessionContractImplementor session) thr
 		determineLoaderToUse( key, session ).load( key, session );
 	}
 
+	private CollectionLoader createStandardCollectionLoader() {
+		return hasNamedQueryLoader()
+				// We pass null as metamodel because we did the initialization during construction already
+				? createNamedQueryCollectionLoader( this, getNamedQueryMemento( null ) )
+				: createCollectionLoader( new LoadQueryInfluencers( factory ) );
+	}
+
+	private CollectionElementLoaderByIndex createStandardElementLoaderByIndex() {
+		return new CollectionElementLoaderByIndex( attributeMapping, new LoadQueryInfluencers( factory ), factory );
+	}
+
 	// lazily initialize instance field via 'double-checked locking'
 	// see https://en.wikipedia.org/wiki/Double-checked_locking on why 'volatile' and local copy is used
-//	protected CollectionLoader getStandardCollectionLoader() {
-//		CollectionLoader localCopy = standardCollectionLoader;
-//		if ( localCopy == null ) {
-//			synchronized (this) {
-//				localCopy = standardCollectionLoader;
-//				if ( localCopy == null ) {
-//					localCopy = createCollectionLoader( new LoadQueryInfluencers( factory ) );
-//					standardCollectionLoader  = localCopy;
-//				}
-//			}
-//		}
-//		return localCopy;
-//	}
+	// (the loaders are only created here if their creation is deferred to first use)
+	private CollectionElementLoaderByIndex getStandardElementLoaderByIndex() {
+		CollectionElementLoaderByIndex localCopy = collectionElementLoaderByIndex;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = collectionElementLoaderByIndex;
+				if ( localCopy == null ) {
+					localCopy = createStandardElementLoaderByIndex();
+					collectionElementLoaderByIndex = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
 
 	private boolean hasNamedQueryLoader() {
 		return queryLoaderName != null;
 	}
 
 	public CollectionLoader getCollectionLoader() {
-		return collectionLoader;
+		CollectionLoader localCopy = collectionLoader;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = collectionLoader;
+				if ( localCopy == null ) {
+					localCopy = createStandardCollectionLoader();
+					collectionLoader = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContractImplementor session) {
@@ -847,7 +870,47 @@ private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContrac
 	}
 
 	protected CollectionLoader createSubSelectLoader(SubselectFetch subselect, SharedSessionContractImplementor session) {
-		return new CollectionLoaderSubSelectFetch( attributeMapping, null, subselect, session );
+		final int arrayMaxSize = factory.getSessionFactoryOptions().getSubselectFetchArrayMaxSize();
+		if ( subselect.getResultingEntityKeys().size() <= arrayMaxSize && canUseArrayParameterForSubSelect() ) {
+			// pass the keys we already know instead of re-executing the original query
+			return new CollectionLoaderSubSelectFetchArrayParam(
+					attributeMapping,
+					subselect,
+					getSubSelectArrayParamLoader( session.getLoadQueryInfluencers(), arrayMaxSize )
+			);
+		}
+		else {
+			return new CollectionLoaderSubSelectFetch( attributeMapping, null, subselect, session );
+		}
+	}
+
+	private boolean canUseArrayParameterForSubSelect() {
+		final var keyDescriptor = attributeMapping.getKeyDescriptor();
+		return collectionType.useLHSPrimaryKey()
+			&& keyDescriptor.getJdbcTypeCount() == 1
+			&& !keyDescriptor.isEmbedded()
+			&& keyDescriptor.getKeyPart().getSingleJdbcMapping().getValueConverter() == null
+			&& supportsSqlArrayType( factory.getJdbcServices().getDialect() );
+	}
+
+	private CollectionBatchLoaderArrayParam getSubSelectArrayParamLoader(
+			LoadQueryInfluencers influencers, int arrayMaxSize) {
+		if ( attributeMapping.isAffectedByInfluencers( influencers, true ) ) {
+			return new CollectionBatchLoaderArrayParam( arrayMaxSize, influencers, attributeMapping, factory );
+		}
+		else {
+			var loader = subSelectArrayParamLoader;
+			if ( loader == null ) {
+				loader = new CollectionBatchLoaderArrayParam(
+						arrayMaxSize,
+						new LoadQueryInfluencers( factory ),
+						attributeMapping,
+						factory
+				);
+				subSelectArrayParamLoader = loader;
+			}
+			return loader;
+		}
 	}
 //
 //	private CollectionLoader reusableCollectionLoader;
@@ -1498,7 +1561,7 @@ public Object getElementByIndex(Object key, Object index, SharedSessionContractI
 					.load( key, index, session );
 		}
 		else {
-			return collectionElementLoaderByIndex.load( key, index, session );
+			return getStandardElementLoaderByIndex().load( key, index, session );
 		}
 	}
 
@@ -1817,7 +1880,7 @@ private JdbcDeleteMutation buildCustomSqlDeleteAllOperation(MutatingTableReferen
 	private JdbcMutationOperation buildGeneratedDeleteAllOperation(MutatingTableReference tableReference) {
 		return getSqlAstTranslatorFactory()
 				.buildModelMutationTranslator( generateDeleteAllAst( tableReference ), getFactory() )
-				.translate( null, MutationQueryOptions.INSTANCE );
+				.translateStatic( null, MutationQueryOptions.INSTANCE );
 	}
 
 	public RestrictedTableMutation<JdbcMutationOperation> generateDeleteAllAst(MutatingTableReference tableReference) {
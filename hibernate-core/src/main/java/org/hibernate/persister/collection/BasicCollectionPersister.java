@@ -340,7 +340,7 @@ else if ( indexDescriptor != null ) {
 	private JdbcMutationOperation buildGeneratedInsertRowOperation(MutatingTableReference tableReference) {
 		return getSqlAstTranslatorFactory()
 				.buildModelMutationTranslator( generateInsertRowAst( tableReference ), getFactory() )
-				.translate( null, MutationQueryOptions.INSTANCE );
+				.translateStatic( null, MutationQueryOptions.INSTANCE );
 	}
 
 	private TableMutation<JdbcMutationOperation> generateInsertRowAst(MutatingTableReference tableReference) {
@@ -444,7 +444,7 @@ private void applyInsertRowValues(
 	private JdbcMutationOperation generateUpdateRowOperation(MutatingTableReference tableReference) {
 		return getSqlAstTranslatorFactory()
 				.buildModelMutationTranslator( generateUpdateRowAst( tableReference ), getFactory() )
-				.translate( null, MutationQueryOptions.INSTANCE );
+				.translateStatic( null, MutationQueryOptions.INSTANCE );
 	}
 
 	private RestrictedTableMutation<JdbcMutationOperation> generateUpdateRowAst(MutatingTableReference tableReference) {
@@ -568,7 +568,7 @@ private void applyUpdateRowRestrictions(
 	private JdbcMutationOperation generateDeleteRowOperation(MutatingTableReference tableReference) {
 		return getSqlAstTranslatorFactory()
 				.buildModelMutationTranslator( generateDeleteRowAst( tableReference ), getFactory() )
-				.translate( null, MutationQueryOptions.INSTANCE );
+				.translateStatic( null, MutationQueryOptions.INSTANCE );
 	}
 
 	private RestrictedTableMutation<JdbcMutationOperation> generateDeleteRowAst(MutatingTableReference tableReference) {
@@ -383,7 +383,7 @@ private WriteIndexCoordinator buildWriteIndexCoordinator() {
 	private JdbcMutationOperation generateDeleteRowOperation(MutatingTableReference tableReference) {
 		return getSqlAstTranslatorFactory()
 				.buildModelMutationTranslator( generateDeleteRowAst( tableReference ), getFactory() )
-				.translate( null, MutationQueryOptions.INSTANCE );
+				.translateStatic( null, MutationQueryOptions.INSTANCE );
 	}
 
 	public RestrictedTableMutation<JdbcMutationOperation> generateDeleteRowAst(MutatingTableReference tableReference) {
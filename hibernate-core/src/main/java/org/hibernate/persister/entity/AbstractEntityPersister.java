@@ -393,6 +393,7 @@
 	private InsertDecomposer insertDecomposer;
 	private UpdateDecomposer updateDecomposer;
 	private DeleteDecomposer deleteDecomposer;
+	private volatile boolean loadersPrepared;
 
 	private EntityTableMapping[] tableMappings;
 	private InsertCoordinator insertCoordinator;
@@ -493,6 +494,9 @@ protected AbstractEntityPersister(
 		//set it here, but don't call it, since it's still uninitialized!
 		factory = creationContext.getSessionFactory();
 
+		// unless deferred, prepareLoaders() is called by the metamodel during startup
+		loadersPrepared = !factoryOptions.isDeferredLoaderCreationEnabled();
+
 		sqlAliasStem = SqlAliasStemHelper.INSTANCE.generateStemFromEntityName( persistentClass.getEntityName() );
 
 		navigableRole = new NavigableRole( persistentClass.getEntityName() );
@@ -1095,21 +1099,25 @@ public String[] getRootTableKeyColumnNames() {
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
+		ensureLoadersPrepared();
 		return lazyLoadPlanByFetchGroup.get( fetchGroup );
 	}
 
 	@Override
 	public InsertDecomposer getInsertDecomposer() {
+		ensureLoadersPrepared();
 		return insertDecomposer;
 	}
 
 	@Override
 	public UpdateDecomposer getUpdateDecomposer() {
+		ensureLoadersPrepared();
 		return updateDecomposer;
 	}
 
 	@Override
 	public DeleteDecomposer getDeleteDecomposer() {
+		ensureLoadersPrepared();
 		return deleteDecomposer;
 	}
 
@@ -2158,7 +2166,7 @@ public String getDiscriminatorAlias(String suffix) {
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -3466,6 +3474,26 @@ public void prepareLoaders() {
 		logStaticSQL();
 	}
 
+	/**
+	 * Prepare the loaders if this has not yet happened, which is the case
+	 * the first time they're needed if
+	 * {@value org.hibernate.cfg.MappingSettings#DEFER_LOADER_CREATION}
+	 * is enabled.
+	 */
+	private void ensureLoadersPrepared() {
+		// 'double-checked locking', the write to the volatile field
+		// publishes the loaders assigned before it, including those
+		// assigned by a subclass which overrides prepareLoaders()
+		if ( !loadersPrepared ) {
+			synchronized ( this ) {
+				if ( !loadersPrepared ) {
+					prepareLoaders();
+					loadersPrepared = true;
+				}
+			}
+		}
+	}
+
 	protected InsertDecomposer buildInsertDecomposer(SessionFactoryImplementor factory) {
 		return new InsertDecomposer(
 				this,
@@ -4185,6 +4213,7 @@ private boolean hasNamedQueryLoader() {
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
+		ensureLoadersPrepared();
 		return singleIdLoader;
 	}
 
@@ -4248,6 +4277,7 @@ else if ( interceptor.isAttributeLoaded( nameOfAttributeBeingAccessed ) ) {
 
 	@Override
 	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		ensureLoadersPrepared();
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
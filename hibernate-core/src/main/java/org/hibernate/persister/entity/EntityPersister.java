@@ -143,6 +143,10 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 * The distinct phase is used to ensure that all
 	 * {@linkplain org.hibernate.metamodel.mapping.TableDetails}
 	 * are available across the entire model
+	 * <p>
+	 * When {@value org.hibernate.cfg.MappingSettings#DEFER_LOADER_CREATION}
+	 * is enabled, this phase is skipped, and the persister is responsible
+	 * for preparing its loaders when they're first needed.
 	 */
 	default void prepareLoaders() {
 	}
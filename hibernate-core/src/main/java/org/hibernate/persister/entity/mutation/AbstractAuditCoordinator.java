@@ -39,10 +39,10 @@ protected AbstractAuditCoordinator(EntityPersister entityPersister, SessionFacto
 		this.auditBatchKey = new BasicBatchKey( entityPersister.getEntityName() + "#AUDIT_INSERT" );
 		this.staticAuditInsertGroup = entityPersister.isDynamicInsert()
 				? null
-				: createOperationGroup( null, entityAuditSupport.getStaticAuditInsertMutationGroup() );
+				: createStaticOperationGroup( entityAuditSupport.getStaticAuditInsertMutationGroup() );
 		this.transactionEndUpdateGroup = entityAuditSupport.getTransactionEndUpdateMutationGroup() == null
 				? null
-				: createOperationGroup( null, entityAuditSupport.getTransactionEndUpdateMutationGroup() );
+				: createStaticOperationGroup( entityAuditSupport.getTransactionEndUpdateMutationGroup() );
 	}
 
 	/**
@@ -418,11 +418,15 @@ protected void applyPartitionKeyRestriction(Function<String,RestrictedTableMutat
 		}
 	}
 
-	MutationOperationGroup createMutationOperationGroup(TableUpdateBuilderStandard<MutationOperation> tableUpdateBuilder) {
+	MutationOperationGroup createMutationOperationGroup(
+			TableUpdateBuilderStandard<MutationOperation> tableUpdateBuilder,
+			boolean staticSql) {
 		final var tableMutation = tableUpdateBuilder.buildMutation();
 		return singleOperation(
 				new MutationGroupSingle( MutationType.DELETE, entityPersister(), tableMutation ),
-				tableMutation.createMutationOperation( null, factory() )
+				staticSql
+						? tableMutation.createStaticMutationOperation( factory() )
+						: tableMutation.createMutationOperation( null, factory() )
 		);
 	}
 }
@@ -124,12 +124,31 @@ protected BatchKeyAccess resolveBatchKeyAccess(boolean dynamicUpdate, SharedSess
 	protected abstract BatchKey getBatchKey();
 
 	protected MutationOperationGroup createOperationGroup(ValuesAnalysis valuesAnalysis, MutationGroup mutationGroup) {
+		return createOperationGroup( valuesAnalysis, mutationGroup, false );
+	}
+
+	/**
+	 * Create the operations of a mutation group which the coordinator builds
+	 * once and keeps, interning their SQL if
+	 * {@value org.hibernate.cfg.MappingSettings#INTERN_SQL_STRINGS} is enabled.
+	 */
+	protected MutationOperationGroup createStaticOperationGroup(MutationGroup mutationGroup) {
+		return createOperationGroup( null, mutationGroup, true );
+	}
+
+	private MutationOperationGroup createOperationGroup(
+			ValuesAnalysis valuesAnalysis,
+			MutationGroup mutationGroup,
+			boolean staticSql) {
 		final int numberOfTableMutations = mutationGroup.getNumberOfTableMutations();
 		switch ( numberOfTableMutations ) {
 			case 0:
 				return noOperations( mutationGroup );
 			case 1: {
-				final var operation = createOperation( valuesAnalysis, mutationGroup.getSingleTableMutation() );
+				final var singleTableMutation = mutationGroup.getSingleTableMutation();
+				final var operation = staticSql
+						? createStaticOperation( singleTableMutation )
+						: createOperation( valuesAnalysis, singleTableMutation );
 				return operation == null
 						? noOperations( mutationGroup )
 						: singleOperation( mutationGroup, operation );
@@ -140,7 +159,9 @@ protected MutationOperationGroup createOperationGroup(ValuesAnalysis valuesAnaly
 				int skipped = 0;
 				for ( int i = 0; i < mutationGroup.getNumberOfTableMutations(); i++ ) {
 					final var tableMutation = mutationGroup.getTableMutation( i );
-					final var operation = tableMutation.createMutationOperation( valuesAnalysis, factory );
+					final var operation = staticSql
+							? tableMutation.createStaticMutationOperation( factory )
+							: tableMutation.createMutationOperation( valuesAnalysis, factory );
 					if ( operation != null ) {
 						operations[outputIndex++] = operation;
 					}
@@ -166,6 +187,10 @@ protected MutationOperation createOperation(ValuesAnalysis valuesAnalysis, Table
 		return singleTableMutation.createMutationOperation( valuesAnalysis, factory() );
 	}
 
+	protected MutationOperation createStaticOperation(TableMutation<?> singleTableMutation) {
+		return singleTableMutation.createStaticMutationOperation( factory() );
+	}
+
 	// Used by Hibernate Reactive
 	protected boolean hasValueGenerationOnExecution(
 			Object entity,
@@ -42,7 +42,7 @@ protected MutationOperationGroup generateOperationGroup(
 				session
 		);
 
-		return createMutationOperationGroup( tableUpdateBuilder );
+		return createMutationOperationGroup( tableUpdateBuilder, loadedState == null );
 	}
 
 	private static void applySoftDelete(
@@ -40,7 +40,11 @@ protected MutationOperationGroup generateOperationGroup(
 
 		applyTableDeleteDetails( deleteGroupBuilder, rowId, loadedState, applyVersion, session );
 
-		return createOperationGroup( null, deleteGroupBuilder.buildMutationGroup() );
+		final var mutationGroup = deleteGroupBuilder.buildMutationGroup();
+		// without a loaded state, the group is built once and kept
+		return loadedState == null
+				? createStaticOperationGroup( mutationGroup )
+				: createOperationGroup( null, mutationGroup );
 	}
 
 	private void applyTableDeleteDetails(
@@ -88,6 +88,6 @@ protected MutationOperationGroup generateOperationGroup(
 				session
 		);
 
-		return createMutationOperationGroup( tableUpdateBuilder );
+		return createMutationOperationGroup( tableUpdateBuilder, loadedState == null );
 	}
 }
@@ -127,7 +127,10 @@ private MutationOperationGroup buildHistoryInsertGroup(
 		final var tableMutation = insertBuilder.buildMutation();
 		return singleOperation(
 				new MutationGroupSingle( MutationType.INSERT, entityPersister(), tableMutation ),
-				tableMutation.createMutationOperation( null, factory() )
+				// without an entity, the group is built once and kept
+				entity == null
+						? tableMutation.createStaticMutationOperation( factory() )
+						: tableMutation.createMutationOperation( null, factory() )
 		);
 	}
 
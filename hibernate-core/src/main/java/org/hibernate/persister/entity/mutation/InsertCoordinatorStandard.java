@@ -503,7 +503,7 @@ public MutationOperationGroup generateStaticOperationGroup() {
 				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder( createTableInsertBuilder( tableMapping, false ) )
 		);
 		applyTableInsertDetails( insertGroupBuilder, persister.getPropertyInsertability(), null, null, false );
-		return createOperationGroup( null, insertGroupBuilder.buildMutationGroup() );
+		return createStaticOperationGroup( insertGroupBuilder.buildMutationGroup() );
 	}
 
 	private TableMutationBuilder<?> createTableInsertBuilder(
@@ -1760,7 +1760,7 @@ protected MutationOperationGroup buildStaticUpdateGroup() {
 		);
 
 		// build the mutation-group (SQL AST) and convert it into a jdbc-operations (SQL String, etc) group
-		return createOperationGroup( valuesAnalysis, updateGroupBuilder.buildMutationGroup() );
+		return createStaticOperationGroup( updateGroupBuilder.buildMutationGroup() );
 	}
 
 	protected boolean includeInStaticUpdate(
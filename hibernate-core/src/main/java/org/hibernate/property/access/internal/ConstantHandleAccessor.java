@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import org.hibernate.Internal;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Reads or writes an attribute through a {@link java.lang.invoke.VarHandle} or
+ * {@link java.lang.invoke.MethodHandle} held in a {@code static final} field of
+ * a {@linkplain java.lang.invoke.MethodHandles.Lookup#defineHiddenClass hidden
+ * class} generated for the field or method of the attribute. Since the JIT treats
+ * the handle as a constant, the access may be inlined, just like a direct call.
+ *
+ * @see ConstantHandleAccessors
+ *
+ * @since 8.1
+ */
+@Internal
+public interface ConstantHandleAccessor {
+	/**
+	 * Read the field, or call the getter method, of the given owner.
+	 */
+	@Nullable Object get(Object owner) throws Throwable;
+
+	/**
+	 * Write the field, or call the setter method, of the given owner.
+	 */
+	void set(Object owner, @Nullable Object value) throws Throwable;
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Internal;
+
+import jakarta.annotation.Nullable;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Generates a {@link ConstantHandleAccessor} for a field or method, by defining
+ * a {@linkplain MethodHandles.Lookup#defineHiddenClassWithClassData hidden class}
+ * from the bytecode of {@link FieldHandleAccessor} or {@link MethodHandleAccessor},
+ * which are compiled as templates, with the handle for the field or method as its
+ * class data. The hidden classes are not strongly linked to the class loader of
+ * Hibernate, so they are unloaded along with the accessors.
+ *
+ * @since 8.1
+ */
+@Internal
+public final class ConstantHandleAccessors {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private ConstantHandleAccessors() {
+	}
+
+	private static final class Templates {
+		private static final @Nullable byte[] FIELD = template( "FieldHandleAccessor" );
+		private static final @Nullable byte[] METHOD = template( "MethodHandleAccessor" );
+
+		private static @Nullable byte[] template(String name) {
+			try ( InputStream stream = ConstantHandleAccessors.class.getResourceAsStream( name + ".class" ) ) {
+				// the class file might not be available, for example, in a native image
+				return stream == null ? null : stream.readAllBytes();
+			}
+			catch (IOException e) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * An accessor which reads and writes the given field, or {@code null} if
+	 * the field is not accessible via {@link MethodHandles#privateLookupIn}.
+	 */
+	public static @Nullable ConstantHandleAccessor fieldAccessor(Field field) {
+		try {
+			return define( Templates.FIELD, lookup( field ).unreflectVarHandle( field ) );
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * An accessor which calls the given getter method, or {@code null} if the
+	 * method is not accessible via {@link MethodHandles#privateLookupIn}.
+	 */
+	public static @Nullable ConstantHandleAccessor getterAccessor(Method method) {
+		try {
+			return define( Templates.METHOD,
+					lookup( method ).unreflect( method ).asType( methodType( Object.class, Object.class ) ) );
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * An accessor which calls the given setter method, or {@code null} if the
+	 * method is not accessible via {@link MethodHandles#privateLookupIn}.
+	 */
+	public static @Nullable ConstantHandleAccessor setterAccessor(Method method) {
+		try {
+			return define( Templates.METHOD,
+					lookup( method ).unreflect( method ).asType( methodType( void.class, Object.class, Object.class ) ) );
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private static MethodHandles.Lookup lookup(Member member) throws IllegalAccessException {
+		return MethodHandles.privateLookupIn( member.getDeclaringClass(), LOOKUP );
+	}
+
+	private static @Nullable ConstantHandleAccessor define(@Nullable byte[] template, Object handle)
+			throws IllegalAccessException {
+		if ( template == null ) {
+			return null;
+		}
+		final var hiddenClassLookup = LOOKUP.defineHiddenClassWithClassData( template, handle, true );
+		try {
+			return (ConstantHandleAccessor)
+					hiddenClassLookup.findConstructor( hiddenClassLookup.lookupClass(), methodType( void.class ) )
+							.invoke();
+		}
+		catch (Error | IllegalAccessException e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new HibernateException( "Could not instantiate hidden class accessor", e );
+		}
+	}
+}
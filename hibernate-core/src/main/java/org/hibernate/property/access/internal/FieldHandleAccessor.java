@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * The template of the hidden classes which access a field. Each hidden class
+ * defined from this template receives the {@link VarHandle} for its field as
+ * class data. This class itself is never loaded.
+ *
+ * @see ConstantHandleAccessors#fieldAccessor
+ */
+final class FieldHandleAccessor implements ConstantHandleAccessor {
+	private static final VarHandle FIELD;
+
+	static {
+		try {
+			FIELD = MethodHandles.classData( MethodHandles.lookup(), "_", VarHandle.class );
+		}
+		catch (IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	@Override
+	public Object get(Object owner) {
+		return FIELD.get( owner );
+	}
+
+	@Override
+	public void set(Object owner, Object value) {
+		FIELD.set( owner, value );
+	}
+}
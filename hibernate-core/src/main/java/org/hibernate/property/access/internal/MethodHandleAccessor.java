@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * The template of the hidden classes which call a getter or setter method.
+ * Each hidden class defined from this template receives the {@link MethodHandle}
+ * for its method as class data, adapted to the type {@code (Object)Object} for a
+ * getter, or {@code (Object,Object)void} for a setter. This class itself is never
+ * loaded.
+ *
+ * @see ConstantHandleAccessors#getterAccessor
+ * @see ConstantHandleAccessors#setterAccessor
+ */
+final class MethodHandleAccessor implements ConstantHandleAccessor {
+	private static final MethodHandle METHOD;
+
+	static {
+		try {
+			METHOD = MethodHandles.classData( MethodHandles.lookup(), "_", MethodHandle.class );
+		}
+		catch (IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	@Override
+	public Object get(Object owner) throws Throwable {
+		return (Object) METHOD.invokeExact( owner );
+	}
+
+	@Override
+	public void set(Object owner, Object value) throws Throwable {
+		METHOD.invokeExact( owner, value );
+	}
+}
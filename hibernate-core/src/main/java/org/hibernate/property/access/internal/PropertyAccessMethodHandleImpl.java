@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldHandleImpl;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodHandleImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldHandleImpl;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodHandleImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
+
+import jakarta.annotation.Nullable;
+
+import static java.lang.reflect.Modifier.isFinal;
+
+/**
+ * A {@link PropertyAccess} which replaces the reflective getter and setter
+ * built by another strategy with ones which delegate to a {@link ConstantHandleAccessor}
+ * generated for the field or method. A getter or setter is left as it is when its field
+ * or method is not accessible via {@link java.lang.invoke.MethodHandles#privateLookupIn},
+ * for example, because the package which declares it is not open to Hibernate, and a
+ * setter is left as it is for a final field.
+ *
+ * @see PropertyAccessStrategyMethodHandleImpl
+ */
+public class PropertyAccessMethodHandleImpl implements PropertyAccess {
+	private final PropertyAccessStrategy strategy;
+
+	private final Getter getter;
+	private final @Nullable Setter setter;
+
+	public PropertyAccessMethodHandleImpl(
+			PropertyAccessStrategy strategy,
+			Class<?> containerJavaType,
+			String propertyName,
+			PropertyAccess reflectiveAccess) {
+		this.strategy = strategy;
+		this.getter = handleGetter( containerJavaType, propertyName, reflectiveAccess.getGetter() );
+		this.setter = handleSetter( containerJavaType, propertyName, reflectiveAccess.getSetter() );
+	}
+
+	private static Getter handleGetter(Class<?> containerJavaType, String propertyName, Getter getter) {
+		// subclasses of these have additional semantics
+		if ( getter.getClass() == GetterFieldImpl.class ) {
+			final var field = ( (GetterFieldImpl) getter ).getField();
+			final var accessor = ConstantHandleAccessors.fieldAccessor( field );
+			if ( accessor != null ) {
+				return new GetterFieldHandleImpl( containerJavaType, propertyName, field, accessor );
+			}
+		}
+		else if ( getter.getClass() == GetterMethodImpl.class ) {
+			final var method = ( (GetterMethodImpl) getter ).getMethod();
+			final var accessor = ConstantHandleAccessors.getterAccessor( method );
+			if ( accessor != null ) {
+				return new GetterMethodHandleImpl( containerJavaType, propertyName, method, accessor );
+			}
+		}
+		return getter;
+	}
+
+	private static @Nullable Setter handleSetter(Class<?> containerJavaType, String propertyName, @Nullable Setter setter) {
+		// subclasses of these have additional semantics
+		if ( setter != null && setter.getClass() == SetterFieldImpl.class ) {
+			final var field = ( (SetterFieldImpl) setter ).getField();
+			// a VarHandle cannot write a final field
+			if ( !isFinal( field.getModifiers() ) ) {
+				final var accessor = ConstantHandleAccessors.fieldAccessor( field );
+				if ( accessor != null ) {
+					return new SetterFieldHandleImpl( containerJavaType, propertyName, field, accessor );
+				}
+			}
+		}
+		else if ( setter != null && setter.getClass() == SetterMethodImpl.class ) {
+			final var method = ( (SetterMethodImpl) setter ).getMethod();
+			final var accessor = ConstantHandleAccessors.setterAccessor( method );
+			if ( accessor != null ) {
+				return new SetterMethodHandleImpl( containerJavaType, propertyName, method, accessor );
+			}
+		}
+		return setter;
+	}
+
+	@Override
+	public PropertyAccessStrategy getPropertyAccessStrategy() {
+		return strategy;
+	}
+
+	@Override
+	public Getter getGetter() {
+		return getter;
+	}
+
+	@Override
+	public @Nullable Setter getSetter() {
+		return setter;
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.internal;
+
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+
+/**
+ * Wraps one of the {@code property}, {@code field} or {@code mixed} strategies, accessing
+ * the property via {@linkplain ConstantHandleAccessor hidden classes} holding a constant
+ * handle for the field or method instead of reflection, wherever the declaring class of
+ * the field or method is open to Hibernate.
+ *
+ * @see org.hibernate.cfg.MappingSettings#PROPERTY_ACCESS_METHOD_HANDLES
+ */
+public class PropertyAccessStrategyMethodHandleImpl implements PropertyAccessStrategy {
+	public static final PropertyAccessStrategy BASIC =
+			new PropertyAccessStrategyMethodHandleImpl( PropertyAccessStrategyBasicImpl.INSTANCE );
+	public static final PropertyAccessStrategy FIELD =
+			new PropertyAccessStrategyMethodHandleImpl( PropertyAccessStrategyFieldImpl.INSTANCE );
+	public static final PropertyAccessStrategy MIXED =
+			new PropertyAccessStrategyMethodHandleImpl( PropertyAccessStrategyMixedImpl.INSTANCE );
+
+	/**
+	 * The method handle based variant of the given strategy, or the given
+	 * strategy itself if it has no such variant.
+	 */
+	public static PropertyAccessStrategy with(PropertyAccessStrategy strategy) {
+		if ( strategy == PropertyAccessStrategyBasicImpl.INSTANCE ) {
+			return BASIC;
+		}
+		else if ( strategy == PropertyAccessStrategyFieldImpl.INSTANCE ) {
+			return FIELD;
+		}
+		else if ( strategy == PropertyAccessStrategyMixedImpl.INSTANCE ) {
+			return MIXED;
+		}
+		else {
+			return strategy;
+		}
+	}
+
+	private final PropertyAccessStrategy delegate;
+
+	private PropertyAccessStrategyMethodHandleImpl(PropertyAccessStrategy delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public PropertyAccess buildPropertyAccess(Class<?> containerJavaType, String propertyName, boolean setterRequired) {
+		return new PropertyAccessMethodHandleImpl(
+				this,
+				containerJavaType,
+				propertyName,
+				delegate.buildPropertyAccess( containerJavaType, propertyName, setterRequired )
+		);
+	}
+}
@@ -11,6 +11,9 @@
 import org.hibernate.property.access.spi.PropertyAccessStrategyResolver;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
+import static org.hibernate.cfg.MappingSettings.PROPERTY_ACCESS_METHOD_HANDLES;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+
 /**
  * @author Steve Ebersole
  */
@@ -28,6 +31,7 @@ public Class<PropertyAccessStrategyResolver> getServiceInitiated() {
 
 	@Override
 	public PropertyAccessStrategyResolver initiateService(@Nonnull Map<String, Object> configurationValues, @Nonnull ServiceRegistryImplementor registry) {
-		return new PropertyAccessStrategyResolverStandardImpl( registry );
+		return new PropertyAccessStrategyResolverStandardImpl( registry,
+				getBoolean( PROPERTY_ACCESS_METHOD_HANDLES, configurationValues ) );
 	}
 }
@@ -27,9 +27,21 @@
  */
 public class PropertyAccessStrategyResolverStandardImpl implements PropertyAccessStrategyResolver {
 	private final ServiceRegistry serviceRegistry;
+	private final boolean useMethodHandles;
 
 	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry) {
+		this( serviceRegistry, false );
+	}
+
+	/**
+	 * @param useMethodHandles Whether the attributes of classes which are not
+	 * bytecode enhanced should be accessed via method handles
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#PROPERTY_ACCESS_METHOD_HANDLES
+	 */
+	public PropertyAccessStrategyResolverStandardImpl(ServiceRegistry serviceRegistry, boolean useMethodHandles) {
 		this.serviceRegistry = serviceRegistry;
+		this.useMethodHandles = useMethodHandles;
 	}
 
 	@Override
@@ -51,16 +63,20 @@ else if ( MIXED.getExternalName().equals( explicitAccessStrategyName ) ) {
 		}
 
 		if ( isNotEmpty( explicitAccessStrategyName ) ) {
-			return resolveExplicitlyNamedPropertyAccessStrategy( explicitAccessStrategyName );
+			return withMethodHandles( resolveExplicitlyNamedPropertyAccessStrategy( explicitAccessStrategyName ) );
 		}
 		else if ( representationMode == RepresentationMode.MAP ) {
 			return MAP.getStrategy();
 		}
 		else {
-			return BASIC.getStrategy();
+			return withMethodHandles( BASIC.getStrategy() );
 		}
 	}
 
+	private PropertyAccessStrategy withMethodHandles(PropertyAccessStrategy strategy) {
+		return useMethodHandles ? PropertyAccessStrategyMethodHandleImpl.with( strategy ) : strategy;
+	}
+
 	protected PropertyAccessStrategy resolveExplicitlyNamedPropertyAccessStrategy(String explicitAccessStrategyName) {
 		final var builtInStrategyEnum = BuiltInPropertyAccessStrategies.interpret( explicitAccessStrategyName );
 		return builtInStrategyEnum != null
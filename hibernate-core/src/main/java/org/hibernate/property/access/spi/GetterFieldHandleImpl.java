@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.spi;
+
+import java.lang.reflect.Field;
+
+import org.hibernate.Internal;
+import org.hibernate.property.access.internal.ConstantHandleAccessor;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Field-based implementation of Getter which reads the field via a {@link ConstantHandleAccessor}
+ *
+ * @see org.hibernate.cfg.MappingSettings#PROPERTY_ACCESS_METHOD_HANDLES
+ */
+@Internal
+public class GetterFieldHandleImpl extends GetterFieldImpl {
+	private final ConstantHandleAccessor accessor;
+
+	public GetterFieldHandleImpl(Class<?> containerClass, String propertyName, Field field, ConstantHandleAccessor accessor) {
+		super( containerClass, propertyName, field );
+		this.accessor = accessor;
+	}
+
+	@Override
+	public @Nullable Object get(Object owner) {
+		try {
+			return accessor.get( owner );
+		}
+		catch (Error error) {
+			// HHH-16403 Don't wrap Error
+			throw error;
+		}
+		catch (Throwable e) {
+			// the field was not read, so let reflection report the problem
+			return super.get( owner );
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.spi;
+
+import java.lang.reflect.Method;
+
+import org.hibernate.Internal;
+import org.hibernate.PropertyAccessException;
+import org.hibernate.property.access.internal.ConstantHandleAccessor;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Implementation of Getter which calls the getter method via a {@link ConstantHandleAccessor}
+ *
+ * @see org.hibernate.cfg.MappingSettings#PROPERTY_ACCESS_METHOD_HANDLES
+ */
+@Internal
+public class GetterMethodHandleImpl extends GetterMethodImpl {
+	private final Class<?> containerClass;
+	private final String propertyName;
+	private final ConstantHandleAccessor accessor;
+
+	public GetterMethodHandleImpl(Class<?> containerClass, String propertyName, Method getterMethod, ConstantHandleAccessor accessor) {
+		super( containerClass, propertyName, getterMethod );
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.accessor = accessor;
+	}
+
+	@Override
+	public @Nullable Object get(Object owner) {
+		try {
+			return accessor.get( owner );
+		}
+		catch (Error error) {
+			// HHH-16403 Don't wrap Error
+			throw error;
+		}
+		catch (Throwable e) {
+			throw new PropertyAccessException(
+					e,
+					"Exception occurred inside",
+					false,
+					containerClass,
+					propertyName
+			);
+		}
+	}
+}
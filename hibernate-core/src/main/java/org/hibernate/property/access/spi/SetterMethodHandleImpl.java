@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.property.access.spi;
+
+import java.lang.reflect.Method;
+
+import org.hibernate.Internal;
+import org.hibernate.PropertyAccessException;
+import org.hibernate.PropertySetterAccessException;
+import org.hibernate.property.access.internal.ConstantHandleAccessor;
+
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.internal.util.PrimitiveHelper.boxedType;
+
+/**
+ * Implementation of Setter which calls the setter method via a {@link ConstantHandleAccessor}
+ *
+ * @see org.hibernate.cfg.MappingSettings#PROPERTY_ACCESS_METHOD_HANDLES
+ */
+@Internal
+public class SetterMethodHandleImpl extends SetterMethodImpl {
+	private final String propertyName;
+	private final Class<?> parameterType;
+	private final ConstantHandleAccessor accessor;
+
+	public SetterMethodHandleImpl(Class<?> containerClass, String propertyName, Method setterMethod, ConstantHandleAccessor accessor) {
+		super( containerClass, propertyName, setterMethod );
+		this.propertyName = propertyName;
+		this.parameterType = setterMethod.getParameterTypes()[0];
+		this.accessor = accessor;
+	}
+
+	@Override
+	public void set(Object target, @Nullable Object value) {
+		if ( value == null && parameterType.isPrimitive() ) {
+			throw new PropertyAccessException(
+					null,
+					"Null value was assigned to a property of primitive type",
+					true,
+					getContainerClass(),
+					propertyName
+			);
+		}
+		try {
+			accessor.set( target, value );
+		}
+		catch (Error error) {
+			// HHH-16403 Don't wrap Error
+			throw error;
+		}
+		catch (ClassCastException e) {
+			if ( value != null && !boxedType( parameterType ).isInstance( value ) ) {
+				throw new PropertySetterAccessException(
+						e,
+						getContainerClass(),
+						propertyName,
+						parameterType,
+						target,
+						value
+				);
+			}
+			else {
+				throw exceptionInside( e );
+			}
+		}
+		catch (Throwable e) {
+			throw exceptionInside( e );
+		}
+	}
+
+	private PropertyAccessException exceptionInside(Throwable cause) {
+		return new PropertyAccessException(
+				cause,
+				"Exception occurred inside",
+				true,
+				getContainerClass(),
+				propertyName
+		);
+	}
+}
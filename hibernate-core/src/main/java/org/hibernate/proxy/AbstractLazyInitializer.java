@@ -7,6 +7,7 @@
 import jakarta.annotation.Nullable;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.audit.AuditLog;
 import org.hibernate.LazyInitializationException;
 import org.hibernate.SessionException;
@@ -42,6 +43,8 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	private String sessionFactoryName;
 	private boolean allowLoadOutsideTransaction;
 
+	private transient @Nullable String loadingQuery;
+
 	/**
 	 * Main constructor.
 	 *
@@ -534,4 +537,28 @@ public boolean isUnwrap() {
 	public void setUnwrap(boolean unwrap) {
 		this.unwrap = unwrap;
 	}
+
+	/**
+	 * The {@linkplain org.hibernate.sql.exec.spi.ExecutionContext#getQueryIdentifier
+	 * identifier} of the query which loaded the entity holding this proxy, to which
+	 * the initialization of this proxy is attributed.
+	 *
+	 * @see org.hibernate.stat.QueryStatistics#getTriggeredFetchCounts()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public @Nullable String getLoadingQuery() {
+		return loadingQuery;
+	}
+
+	/**
+	 * @see #getLoadingQuery()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public void setLoadingQuery(@Nullable String loadingQuery) {
+		this.loadingQuery = loadingQuery;
+	}
 }
@@ -47,9 +47,18 @@ public Class<?> buildProxy(
 			final Class<?> persistentClass,
 			final Class<?>[] interfaces) {
 		final String proxyClassName = persistentClass.getTypeName() + "$" + PROXY_NAMING_SUFFIX;
-		return byteBuddyState.loadProxy( persistentClass, proxyClassName,
+		final var proxyClass = byteBuddyState.loadProxy( persistentClass, proxyClassName,
 				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ),
 						new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
+		// the proxy class might have been generated at build time,
+		// for a different set of proxy interfaces
+		for ( var proxyInterface : interfaces ) {
+			if ( !proxyInterface.isAssignableFrom( proxyClass ) ) {
+				throw new HibernateException( "Proxy class '" + proxyClassName
+						+ "' does not implement '" + proxyInterface.getName() + "'" );
+			}
+		}
+		return proxyClass;
 	}
 
 	/**
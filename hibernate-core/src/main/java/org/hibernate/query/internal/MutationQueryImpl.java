@@ -51,6 +51,7 @@
 import org.hibernate.query.sqm.internal.MultiTableUpdateQueryPlan;
 import org.hibernate.query.sqm.internal.SimpleDeleteQueryPlan;
 import org.hibernate.query.sqm.internal.SimpleNonSelectQueryPlan;
+import org.hibernate.query.sqm.internal.SimpleUpdateQueryPlan;
 import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.spi.InterpretationsKeySource;
 import org.hibernate.query.sqm.spi.SqmStatementAccess;
@@ -310,9 +311,16 @@ private NonSelectQueryPlan buildUpdateQueryPlan() {
 		final String entityName = sqmUpdate.getTarget().getModel().getHibernateEntityName();
 		final var persister = getMappingMetamodel().getEntityDescriptor( entityName );
 		final var multiTableStrategy = persister.getSqmMultiTableMutationStrategy();
-		return multiTableStrategy == null
-				? new SimpleNonSelectQueryPlan( sqmUpdate, domainParameterXref )
-				: new MultiTableUpdateQueryPlan( sqmUpdate, domainParameterXref, multiTableStrategy );
+		if ( multiTableStrategy != null ) {
+			return new MultiTableUpdateQueryPlan( sqmUpdate, domainParameterXref, multiTableStrategy );
+		}
+		else if ( persister.getAuditMapping() != null ) {
+			// SimpleUpdateQueryPlan also writes the audit rows of the updated entities
+			return new SimpleUpdateQueryPlan( persister, sqmUpdate, domainParameterXref );
+		}
+		else {
+			return new SimpleNonSelectQueryPlan( sqmUpdate, domainParameterXref );
+		}
 	}
 
 	private NonSelectQueryPlan buildInsertQueryPlan() {
@@ -4,10 +4,13 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import org.hibernate.audit.ModificationType;
+import org.hibernate.audit.internal.BulkAuditSupport;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.MutableObject;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
@@ -21,6 +24,7 @@
 import org.hibernate.sql.ast.tree.from.MutatingTableReferenceGroupWrapper;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
@@ -32,7 +36,9 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper.buildColumnReferenceExpression;
 
@@ -44,6 +50,7 @@ public class SimpleDeleteQueryPlan extends SimpleNonSelectQueryPlan {
 	private final EntityPersister entityDescriptor;
 
 	private volatile List<JdbcOperationQueryMutation> collectionTableDeletes;
+	private volatile List<JdbcOperationQueryMutation> auditTableMutations;
 
 	public SimpleDeleteQueryPlan(
 			EntityPersister entityDescriptor,
@@ -64,9 +71,7 @@ protected Interpretation buildInterpretation(
 		final var statement =
 				(AbstractUpdateOrDeleteStatement)
 						sqmInterpretation.interpretation().statement();
-		final ArrayList<JdbcOperationQueryMutation> collectionTableDeletes = new ArrayList<>();
-		SqmMutationStrategyHelper.visitCollectionTableDeletes(
-				entityDescriptor,
+		final BiFunction<TableReference, PluralAttributeMapping, Predicate> collectionRestrictionProducer =
 				(tableReference, attributeMapping) -> {
 					final TableGroup collectionTableGroup = new MutatingTableReferenceGroupWrapper(
 							new NavigablePath( attributeMapping.getRootPathName() ),
@@ -119,12 +124,37 @@ protected Interpretation buildInterpretation(
 							additionalPredicate.get(),
 							new InSubQueryPredicate( fkColumnExpression, matchingIdSubQuery, false )
 					);
-				},
+				};
+		final ArrayList<JdbcOperationQueryMutation> collectionTableDeletes = new ArrayList<>();
+		SqmMutationStrategyHelper.visitCollectionTableDeletes(
+				entityDescriptor,
+				collectionRestrictionProducer,
 				sqmInterpretation.jdbcParameterBindings(),
 				context.getQueryOptions(),
 				collectionTableDeletes::add
 		);
 		this.collectionTableDeletes = collectionTableDeletes;
+
+		final ArrayList<JdbcOperationQueryMutation> auditTableMutations = new ArrayList<>();
+		if ( SqmMutationStrategyHelper.visitAuditTableMutations(
+				entityDescriptor,
+				statement,
+				emptyList(),
+				ModificationType.DEL,
+				sqmInterpretation.jdbcParameterBindings(),
+				context.getQueryOptions(),
+				auditTableMutations::add
+		) ) {
+			// the audit rows of the collection rows about to be deleted
+			SqmMutationStrategyHelper.visitCollectionAuditTableMutations(
+					entityDescriptor,
+					collectionRestrictionProducer,
+					sqmInterpretation.jdbcParameterBindings(),
+					context.getQueryOptions(),
+					auditTableMutations::add
+			);
+		}
+		this.auditTableMutations = auditTableMutations;
 		return sqmInterpretation;
 	}
 
@@ -141,6 +171,23 @@ protected List<JdbcOperationQueryMutation> getCollectionTableDeletes() {
 	protected int execute(CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> sqmInterpretation, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) {
 		final var factory = executionContext.getSession().getFactory();
 		final var jdbcMutationExecutor = factory.getJdbcServices().getJdbcMutationExecutor();
+		// the audit rows are selected from the rows about to be deleted
+		int auditRows = 0;
+		for ( var auditMutation : auditTableMutations ) {
+			auditRows += jdbcMutationExecutor.execute(
+					auditMutation,
+					jdbcParameterBindings,
+					sql -> executionContext.getSession()
+							.getJdbcCoordinator()
+							.getStatementPreparer()
+							.prepareStatement( sql ),
+					(integer, preparedStatement) -> {},
+					executionContext
+			);
+		}
+		if ( auditRows > 0 ) {
+			BulkAuditSupport.bulkMutationExecuted( entityDescriptor, executionContext.getSession() );
+		}
 		for ( var delete : collectionTableDeletes ) {
 			jdbcMutationExecutor.execute(
 					delete,
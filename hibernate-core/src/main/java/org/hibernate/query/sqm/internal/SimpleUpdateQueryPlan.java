@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.audit.ModificationType;
+import org.hibernate.audit.internal.BulkAuditSupport;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
+import org.hibernate.query.sqm.tree.spi.SqmDmlStatement;
+import org.hibernate.query.sqm.tree.spi.update.SqmUpdateStatement;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.ast.tree.update.UpdateStatement;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * A single-table bulk update which also records the updated rows in the
+ * audit table of an {@linkplain org.hibernate.annotations.Audited audited}
+ * entity, using set-based {@code insert ... select} statements.
+ *
+ * @since 8.1
+ */
+public class SimpleUpdateQueryPlan extends SimpleNonSelectQueryPlan {
+
+	private final EntityPersister entityDescriptor;
+
+	private volatile List<JdbcOperationQueryMutation> auditTableMutations;
+
+	public SimpleUpdateQueryPlan(
+			EntityPersister entityDescriptor,
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref) {
+		super( sqmUpdate, domainParameterXref );
+		this.entityDescriptor = entityDescriptor;
+	}
+
+	@Override
+	protected Interpretation buildInterpretation(
+			SqmDmlStatement<?> sqm,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final var sqmInterpretation = super.buildInterpretation( sqm, domainParameterXref, context );
+		final var statement = (UpdateStatement) sqmInterpretation.interpretation().statement();
+		final ArrayList<JdbcOperationQueryMutation> auditTableMutations = new ArrayList<>();
+		// if the assignments cannot be audited with an insert ... select,
+		// the update is executed without writing audit rows, as it used to be
+		SqmMutationStrategyHelper.visitAuditTableMutations(
+				entityDescriptor,
+				statement,
+				statement.getAssignments(),
+				ModificationType.MOD,
+				sqmInterpretation.jdbcParameterBindings(),
+				context.getQueryOptions(),
+				auditTableMutations::add
+		);
+		this.auditTableMutations = auditTableMutations;
+		return sqmInterpretation;
+	}
+
+	// For Hibernate Reactive
+	protected List<JdbcOperationQueryMutation> getAuditTableMutations() {
+		return auditTableMutations;
+	}
+
+	@Override
+	protected int execute(
+			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> sqmInterpretation,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		final var session = executionContext.getSession();
+		final var jdbcMutationExecutor = session.getFactory().getJdbcServices().getJdbcMutationExecutor();
+		// the audit rows apply the assignments to the rows before they are
+		// updated, since the update might change which rows are restricted
+		int auditRows = 0;
+		for ( var auditMutation : auditTableMutations ) {
+			auditRows += jdbcMutationExecutor.execute(
+					auditMutation,
+					jdbcParameterBindings,
+					sql -> session
+							.getJdbcCoordinator()
+							.getStatementPreparer()
+							.prepareStatement( sql ),
+					(integer, preparedStatement) -> {},
+					executionContext
+			);
+		}
+		if ( auditRows > 0 ) {
+			BulkAuditSupport.bulkMutationExecuted( entityDescriptor, session );
+		}
+		return super.execute( sqmInterpretation, jdbcParameterBindings, executionContext );
+	}
+}
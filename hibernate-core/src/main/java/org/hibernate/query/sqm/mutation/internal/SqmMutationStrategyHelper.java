@@ -5,11 +5,16 @@
 package org.hibernate.query.sqm.mutation.internal;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import org.hibernate.audit.ModificationType;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.mapping.Any;
@@ -28,6 +33,7 @@
 import org.hibernate.metamodel.mapping.Association;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.AuditMapping;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.DiscriminatedAssociationModelPart;
 import org.hibernate.metamodel.mapping.EmbeddableMappingType;
@@ -39,6 +45,7 @@
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableConsumer;
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.ValuedModelPart;
 import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
@@ -46,22 +53,41 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.tree.AbstractUpdateOrDeleteStatement;
+import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcLiteral;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingSqlFragmentExpression;
+import org.hibernate.sql.ast.tree.expression.SqlTuple;
+import org.hibernate.sql.ast.tree.from.MutatingTableReferenceGroupWrapper;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.TableReference;
+import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
+import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
+import org.hibernate.sql.ast.tree.predicate.NullnessPredicate;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.internal.TemporalJdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 /**
  * @author Steve Ebersole
  */
 public class SqmMutationStrategyHelper {
+	private static final String AUDIT_TABLE_ALIAS = "aud_";
+
 	private SqmMutationStrategyHelper() {
 	}
 
@@ -217,6 +243,377 @@ private static void visitCollectionTableDeletes(
 		);
 	}
 
+	/**
+	 * Visit the statements which record the rows affected by a bulk update or
+	 * delete of a single-table audited entity in its audit table, reusing the
+	 * restriction of the given mutation statement:
+	 * <ol>
+	 * <li>a {@code delete} of the audit rows of the affected entities already
+	 *     written for the current changeset, so that repeated bulk mutations
+	 *     in one transaction leave one audit row per entity and changeset,
+	 * <li>for the validity audit strategy, an {@code update} setting the
+	 *     invalidating changeset of the previous audit rows, and
+	 * <li>an {@code insert ... select} of the new audit rows, in which the
+	 *     given assignments are evaluated against the current table rows.
+	 * </ol>
+	 * The statements must be executed <em>before</em> the bulk mutation itself.
+	 * Audit rows of entities changed through the session are written later, at
+	 * transaction completion, and are reconciled with the rows written by bulk
+	 * mutations by the {@link org.hibernate.audit.spi.AuditChangeSet} of the
+	 * transaction.
+	 *
+	 * @return {@code false} if the assignments cannot be evaluated by an
+	 *         {@code insert ... select}, in which case nothing is visited
+	 */
+	public static boolean visitAuditTableMutations(
+			EntityPersister entityDescriptor,
+			AbstractUpdateOrDeleteStatement statement,
+			List<Assignment> assignments,
+			ModificationType modificationType,
+			JdbcParameterBindings jdbcParameterBindings,
+			QueryOptions queryOptions,
+			Consumer<JdbcOperationQueryMutation> jdbcOperationConsumer) {
+		final var auditMapping = entityDescriptor.getAuditMapping();
+		if ( auditMapping == null ) {
+			return false;
+		}
+		final Map<String, Expression> assignedValues = new HashMap<>();
+		for ( var assignment : assignments ) {
+			final var columnReferences = assignment.getAssignable().getColumnReferences();
+			final var assignedValue = assignment.getAssignedValue();
+			if ( columnReferences.size() == 1 ) {
+				assignedValues.put( columnReferences.get( 0 ).getColumnExpression(), assignedValue );
+			}
+			else if ( assignedValue instanceof SqlTuple tuple ) {
+				for ( int i = 0; i < columnReferences.size(); i++ ) {
+					assignedValues.put( columnReferences.get( i ).getColumnExpression(), tuple.getExpressions().get( i ) );
+				}
+			}
+			else {
+				// a tuple assigned from a subquery cannot be split into columns
+				return false;
+			}
+		}
+		final var sessionFactory = entityDescriptor.getFactory();
+		final var sourceTable = statement.getTargetTable();
+		final String sourceTableName = sourceTable.getTableExpression();
+		final String auditTableName = auditMapping.resolveTableName( sourceTableName );
+		final var changesetIdMapping = auditMapping.getChangesetIdMapping( sourceTableName );
+		final var modificationTypeMapping = auditMapping.getModificationTypeMapping( sourceTableName );
+		final var invalidatingChangesetIdMapping = auditMapping.getInvalidatingChangesetIdMapping( sourceTableName );
+		final Supplier<Expression> changesetId = () -> changesetIdExpression( sessionFactory, changesetIdMapping );
+
+		// delete the audit rows already written for the current changeset
+		final var auditDeleteTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+		final Predicate currentChangeset = new ComparisonPredicate(
+				new ColumnReference( auditDeleteTable, changesetIdMapping ),
+				ComparisonOperator.EQUAL,
+				changesetId.get()
+		);
+		acceptMutation(
+				new DeleteStatement(
+						auditDeleteTable,
+						Predicate.combinePredicates(
+								currentChangeset,
+								matchingIdPredicate( auditDeleteTable, entityDescriptor, statement )
+						)
+				),
+				sessionFactory,
+				jdbcParameterBindings,
+				queryOptions,
+				jdbcOperationConsumer
+		);
+
+		// end the previous audit rows for the validity strategy
+		if ( invalidatingChangesetIdMapping != null ) {
+			final var auditUpdateTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+			final var invalidatingChangesetId = new ColumnReference( auditUpdateTable, invalidatingChangesetIdMapping );
+			acceptMutation(
+					new UpdateStatement(
+							auditUpdateTable,
+							singletonList( new Assignment( invalidatingChangesetId, changesetId.get() ) ),
+							Predicate.combinePredicates(
+									new NullnessPredicate( invalidatingChangesetId ),
+									matchingIdPredicate( auditUpdateTable, entityDescriptor, statement )
+							)
+					),
+					sessionFactory,
+					jdbcParameterBindings,
+					queryOptions,
+					jdbcOperationConsumer
+			);
+		}
+
+		// insert the new audit rows, applying the assignments of an update
+		final var auditInsertTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+		final var auditInsert = new InsertSelectStatement( auditInsertTable, emptyList() );
+		final var auditRowQuery = new QuerySpec( false );
+		final var selectClause = auditRowQuery.getSelectClause();
+		for ( var selectable : auditedSelectables( entityDescriptor, sourceTableName ) ) {
+			final Expression assignedValue = assignedValues.get( selectable.getSelectionExpression() );
+			auditInsert.addTargetColumnReference( new ColumnReference( auditInsertTable, selectable ) );
+			selectClause.addSqlSelection( new SqlSelectionImpl(
+					selectClause.getSqlSelections().size(),
+					assignedValue == null ? new ColumnReference( sourceTable, selectable ) : assignedValue
+			) );
+		}
+		auditInsert.addTargetColumnReference( new ColumnReference( auditInsertTable, changesetIdMapping ) );
+		selectClause.addSqlSelection( new SqlSelectionImpl( selectClause.getSqlSelections().size(), changesetId.get() ) );
+		if ( modificationTypeMapping != null ) {
+			auditInsert.addTargetColumnReference( new ColumnReference( auditInsertTable, modificationTypeMapping ) );
+			selectClause.addSqlSelection( new SqlSelectionImpl(
+					selectClause.getSqlSelections().size(),
+					new JdbcLiteral<>( modificationType, modificationTypeMapping.getJdbcMapping() )
+			) );
+		}
+		auditRowQuery.getFromClause().addRoot( new MutatingTableReferenceGroupWrapper(
+				new NavigablePath( entityDescriptor.getRootPathName() ),
+				entityDescriptor,
+				sourceTable
+		) );
+		if ( statement.getRestriction() != null ) {
+			auditRowQuery.applyPredicate( statement.getRestriction() );
+		}
+		auditInsert.setSourceSelectStatement( auditRowQuery );
+		acceptMutation( auditInsert, sessionFactory, jdbcParameterBindings, queryOptions, jdbcOperationConsumer );
+		return true;
+	}
+
+	/**
+	 * Visit the statements which record the rows of the collection tables owned
+	 * by the entities affected by a bulk delete in the audit tables of audited
+	 * collections, given the restriction of the collection table rows to delete:
+	 * <ol>
+	 * <li>for the validity audit strategy, an {@code update} setting the
+	 *     invalidating changeset of the previous audit rows, and
+	 * <li>an {@code insert ... select} of an audit row of type
+	 *     {@link ModificationType#DEL DEL} for each collection table row.
+	 * </ol>
+	 * The statements must be executed <em>before</em> the collection table rows
+	 * are deleted.
+	 */
+	public static void visitCollectionAuditTableMutations(
+			EntityMappingType entityDescriptor,
+			BiFunction<TableReference, PluralAttributeMapping, Predicate> restrictionProducer,
+			JdbcParameterBindings jdbcParameterBindings,
+			QueryOptions queryOptions,
+			Consumer<JdbcOperationQueryMutation> jdbcOperationConsumer) {
+		visitCollectionTables( entityDescriptor, attributeMapping -> {
+			final String collectionTableName = attributeMapping.getSeparateCollectionTable();
+			final var auditMapping = attributeMapping.getAuditMapping();
+			if ( collectionTableName != null && auditMapping != null ) {
+				visitCollectionAuditTableMutations(
+						attributeMapping,
+						collectionTableName,
+						auditMapping,
+						restrictionProducer,
+						jdbcParameterBindings,
+						queryOptions,
+						jdbcOperationConsumer
+				);
+			}
+		} );
+	}
+
+	private static void visitCollectionAuditTableMutations(
+			PluralAttributeMapping attributeMapping,
+			String collectionTableName,
+			AuditMapping auditMapping,
+			BiFunction<TableReference, PluralAttributeMapping, Predicate> restrictionProducer,
+			JdbcParameterBindings jdbcParameterBindings,
+			QueryOptions queryOptions,
+			Consumer<JdbcOperationQueryMutation> jdbcOperationConsumer) {
+		final var sessionFactory = attributeMapping.getCollectionDescriptor().getFactory();
+		final String auditTableName = auditMapping.resolveTableName( collectionTableName );
+		final var changesetIdMapping = auditMapping.getChangesetIdMapping( collectionTableName );
+		final var modificationTypeMapping = auditMapping.getModificationTypeMapping( collectionTableName );
+		final var invalidatingChangesetIdMapping = auditMapping.getInvalidatingChangesetIdMapping( collectionTableName );
+		final var keyPart = attributeMapping.getKeyDescriptor().getKeyPart();
+
+		// end the previous audit rows for the validity strategy
+		if ( invalidatingChangesetIdMapping != null ) {
+			final var collectionTable = new NamedTableReference( collectionTableName, DeleteStatement.DEFAULT_ALIAS, true );
+			final var matchingKeySubQuery = collectionRowQuery( attributeMapping, collectionTable, restrictionProducer );
+			matchingKeySubQuery.getSelectClause().addSqlSelection(
+					new SqlSelectionImpl( 0, keyExpression( collectionTable, keyPart ) )
+			);
+			final var auditUpdateTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+			final var invalidatingChangesetId = new ColumnReference( auditUpdateTable, invalidatingChangesetIdMapping );
+			acceptMutation(
+					new UpdateStatement(
+							auditUpdateTable,
+							singletonList( new Assignment(
+									invalidatingChangesetId,
+									changesetIdExpression( sessionFactory, changesetIdMapping )
+							) ),
+							Predicate.combinePredicates(
+									new NullnessPredicate( invalidatingChangesetId ),
+									new InSubQueryPredicate(
+											keyExpression( auditUpdateTable, keyPart ),
+											matchingKeySubQuery,
+											false
+									)
+							)
+					),
+					sessionFactory,
+					jdbcParameterBindings,
+					queryOptions,
+					jdbcOperationConsumer
+			);
+		}
+
+		// insert the audit rows of the deleted collection rows
+		final var collectionTable = new NamedTableReference( collectionTableName, DeleteStatement.DEFAULT_ALIAS, true );
+		final var auditInsertTable = new NamedTableReference( auditTableName, AUDIT_TABLE_ALIAS );
+		final var auditInsert = new InsertSelectStatement( auditInsertTable, emptyList() );
+		final var auditRowQuery = collectionRowQuery( attributeMapping, collectionTable, restrictionProducer );
+		final var selectClause = auditRowQuery.getSelectClause();
+		final SelectableConsumer columnConsumer = (index, selectable) -> {
+			auditInsert.addTargetColumnReference( new ColumnReference( auditInsertTable, selectable ) );
+			selectClause.addSqlSelection( new SqlSelectionImpl(
+					selectClause.getSqlSelections().size(),
+					new ColumnReference( collectionTable, selectable )
+			) );
+		};
+		keyPart.forEachSelectable( columnConsumer );
+		final var identifierDescriptor = attributeMapping.getIdentifierDescriptor();
+		if ( identifierDescriptor != null ) {
+			identifierDescriptor.forEachSelectable( columnConsumer );
+		}
+		else if ( attributeMapping.getIndexDescriptor() != null ) {
+			attributeMapping.getIndexDescriptor().forEachInsertable( columnConsumer );
+		}
+		attributeMapping.getElementDescriptor().forEachInsertable( columnConsumer );
+		auditInsert.addTargetColumnReference( new ColumnReference( auditInsertTable, changesetIdMapping ) );
+		selectClause.addSqlSelection( new SqlSelectionImpl(
+				selectClause.getSqlSelections().size(),
+				changesetIdExpression( sessionFactory, changesetIdMapping )
+		) );
+		auditInsert.addTargetColumnReference( new ColumnReference( auditInsertTable, modificationTypeMapping ) );
+		selectClause.addSqlSelection( new SqlSelectionImpl(
+				selectClause.getSqlSelections().size(),
+				new JdbcLiteral<>( ModificationType.DEL, modificationTypeMapping.getJdbcMapping() )
+		) );
+		auditInsert.setSourceSelectStatement( auditRowQuery );
+		acceptMutation( auditInsert, sessionFactory, jdbcParameterBindings, queryOptions, jdbcOperationConsumer );
+	}
+
+	private static QuerySpec collectionRowQuery(
+			PluralAttributeMapping attributeMapping,
+			NamedTableReference collectionTable,
+			BiFunction<TableReference, PluralAttributeMapping, Predicate> restrictionProducer) {
+		final var querySpec = new QuerySpec( false );
+		querySpec.getFromClause().addRoot( new MutatingTableReferenceGroupWrapper(
+				new NavigablePath( attributeMapping.getRootPathName() ),
+				attributeMapping,
+				collectionTable
+		) );
+		querySpec.applyPredicate( restrictionProducer.apply( collectionTable, attributeMapping ) );
+		return querySpec;
+	}
+
+	/**
+	 * The expression for the identifier of the current changeset, as written
+	 * to the given changeset column of an audit table by bulk mutations.
+	 */
+	public static Expression changesetIdExpression(
+			SessionFactoryImplementor sessionFactory,
+			SelectableMapping changesetIdMapping) {
+		final var dialect = sessionFactory.getJdbcServices().getDialect();
+		return sessionFactory.getChangesetCoordinator().useServerTimestamp( dialect )
+				? new SelfRenderingSqlFragmentExpression( dialect.currentTimestamp(), changesetIdMapping.getJdbcMapping() )
+				: new TemporalJdbcParameter( changesetIdMapping );
+	}
+
+	/**
+	 * The identifier, discriminator, and audited attribute columns of the given
+	 * table, including the columns of subclasses sharing the table.
+	 */
+	private static List<SelectableMapping> auditedSelectables(
+			EntityPersister entityDescriptor,
+			String tableName) {
+		final Map<String, SelectableMapping> selectables = new LinkedHashMap<>();
+		entityDescriptor.getIdentifierMapping().forEachSelectable(
+				(index, selectable) -> selectables.put( selectable.getSelectionExpression(), selectable )
+		);
+		final var discriminatorMapping = entityDescriptor.getDiscriminatorMapping();
+		if ( discriminatorMapping != null && discriminatorMapping.hasPhysicalColumn() ) {
+			selectables.put( discriminatorMapping.getSelectionExpression(), discriminatorMapping );
+		}
+		final List<EntityMappingType> entityTypes = new ArrayList<>();
+		entityTypes.add( entityDescriptor );
+		entityTypes.addAll( entityDescriptor.getSubMappingTypes() );
+		for ( var entityType : entityTypes ) {
+			final var persister = entityType.getEntityPersister();
+			final var attributeMappings = persister.getAttributeMappings();
+			for ( int i = 0; i < attributeMappings.size(); i++ ) {
+				final var attributeMapping = attributeMappings.get( i );
+				if ( !( attributeMapping instanceof PluralAttributeMapping )
+						&& !persister.isPropertyAuditedExcluded( i ) ) {
+					attributeMapping.forEachSelectable( (index, selectable) -> {
+						if ( selectable.isInsertable() && !selectable.isFormula()
+								&& tableName.equals( selectable.getContainingTableExpression() ) ) {
+							selectables.putIfAbsent( selectable.getSelectionExpression(), selectable );
+						}
+					} );
+				}
+			}
+		}
+		return new ArrayList<>( selectables.values() );
+	}
+
+	/**
+	 * A predicate matching the rows of the given table whose identifier is
+	 * one of the identifiers of the rows affected by the given statement.
+	 */
+	private static Predicate matchingIdPredicate(
+			NamedTableReference tableReference,
+			EntityPersister entityDescriptor,
+			AbstractUpdateOrDeleteStatement statement) {
+		final var identifierMapping = entityDescriptor.getIdentifierMapping();
+		final var matchingIdSubQuery = new QuerySpec( false );
+		matchingIdSubQuery.getSelectClause().addSqlSelection(
+				new SqlSelectionImpl( 0, keyExpression( statement.getTargetTable(), identifierMapping ) )
+		);
+		matchingIdSubQuery.getFromClause().addRoot( new MutatingTableReferenceGroupWrapper(
+				new NavigablePath( entityDescriptor.getRootPathName() ),
+				entityDescriptor,
+				statement.getTargetTable()
+		) );
+		if ( statement.getRestriction() != null ) {
+			matchingIdSubQuery.applyPredicate( statement.getRestriction() );
+		}
+		return new InSubQueryPredicate(
+				keyExpression( tableReference, identifierMapping ),
+				matchingIdSubQuery,
+				false
+		);
+	}
+
+	private static Expression keyExpression(TableReference tableReference, ValuedModelPart keyPart) {
+		final List<ColumnReference> columnReferences = new ArrayList<>( keyPart.getJdbcTypeCount() );
+		keyPart.forEachSelectable(
+				(index, selectable) -> columnReferences.add( new ColumnReference( tableReference, selectable ) )
+		);
+		return columnReferences.size() == 1
+				? columnReferences.get( 0 )
+				: new SqlTuple( columnReferences, keyPart );
+	}
+
+	private static void acceptMutation(
+			MutationStatement sqlAst,
+			SessionFactoryImplementor sessionFactory,
+			JdbcParameterBindings jdbcParameterBindings,
+			QueryOptions queryOptions,
+			Consumer<JdbcOperationQueryMutation> jdbcOperationConsumer) {
+		jdbcOperationConsumer.accept(
+				sessionFactory.getJdbcServices().getJdbcEnvironment()
+						.getSqlAstTranslatorFactory()
+						.buildMutationTranslator( sessionFactory, sqlAst )
+						.translate( jdbcParameterBindings, queryOptions )
+		);
+	}
+
 	/**
 	 * Returns the entity descriptors whose soft-delete tables need to be updated.
 	 * Only {@code TABLE_PER_CLASS} requires multiple targets (one per concrete
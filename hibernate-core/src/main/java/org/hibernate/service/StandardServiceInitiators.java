@@ -29,6 +29,7 @@
 import org.hibernate.engine.transaction.jta.platform.internal.JtaPlatformInitiator;
 import org.hibernate.engine.transaction.jta.platform.internal.JtaPlatformResolverInitiator;
 import org.hibernate.event.internal.EntityCopyObserverFactoryInitiator;
+import org.hibernate.event.monitor.internal.StartupProfilerInitiator;
 import org.hibernate.internal.util.cache.InternalCacheFactoryInitiator;
 import org.hibernate.loader.ast.internal.BatchLoaderFactoryInitiator;
 import org.hibernate.persister.internal.PersisterClassResolverInitiator;
@@ -167,6 +168,9 @@ private static List<StandardServiceInitiator<?>> buildStandardServiceInitiatorLi
 		// InternalCacheFactoryService
 		serviceInitiators.add( InternalCacheFactoryInitiator.INSTANCE );
 
+		// StartupProfiler
+		serviceInitiators.add( StartupProfilerInitiator.INSTANCE );
+
 		serviceInitiators.trimToSize();
 
 		return unmodifiableList( serviceInitiators );
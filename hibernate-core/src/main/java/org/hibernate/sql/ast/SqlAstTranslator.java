@@ -8,6 +8,7 @@
 import java.util.Set;
 
 import org.hibernate.Incubating;
+import org.hibernate.Internal;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.query.sqm.tuple.internal.AnonymousTupleTableGroupProducer;
@@ -31,6 +32,19 @@
 	 */
 	T translate(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions);
 
+	/**
+	 * Perform the translation of a statement whose SQL is generated once and
+	 * kept by a persister or loader, interning the SQL if
+	 * {@value org.hibernate.cfg.MappingSettings#INTERN_SQL_STRINGS} is enabled.
+	 * The SQL of other statements, for example of queries, is never interned.
+	 *
+	 * @since 8.1
+	 */
+	@Internal
+	default T translateStatic(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+		return translate( jdbcParameterBindings, queryOptions );
+	}
+
 	/**
 	 * The SQL AST being translated.
 	 *
@@ -295,9 +295,11 @@
 
 	// pre-req state
 	private final SessionFactoryImplementor sessionFactory;
+	private final boolean internSql;
 
 	// In-flight state
 	private final StringBuilder sqlBuffer = new StringBuilder();
+	private boolean staticSql;
 
 	private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
 	private int[] parameterIdToBinderIndex;
@@ -355,6 +357,7 @@ protected AbstractSqlAstTranslator(SessionFactoryImplementor sessionFactory, Sta
 		this.dialect = jdbcServices.getDialect();
 		this.statementStack.push( statement );
 		this.parameterMarkerStrategy = jdbcServices.getParameterMarkerStrategy();
+		this.internSql = sessionFactory.getSessionFactoryOptions().isSqlStringInterningEnabled();
 
 		if ( statement instanceof SelectStatement selectStatement ) {
 			// ideally we'd only do this if there are LockOptions,
@@ -431,6 +434,16 @@ public String getSql() {
 		return sqlBuffer.toString();
 	}
 
+	/**
+	 * The SQL of the translated JDBC operation, interned if it is the static
+	 * SQL of a persister or loader and
+	 * {@value org.hibernate.cfg.MappingSettings#INTERN_SQL_STRINGS} is enabled.
+	 */
+	private String getOperationSql() {
+		final String sql = sqlBuffer.toString();
+		return internSql && staticSql ? sql.intern() : sql;
+	}
+
 	// For Blaze-Persistence until its function rendering code doesn't depend on SQL fragments anymore
 	@Internal
 	public StringBuilder getSqlBuffer() {
@@ -779,6 +792,12 @@ private static CteContainer matchCteContainerByStatement(final Statement stmt, f
 				: null;
 	}
 
+	@Override
+	public T translateStatic(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+		staticSql = true;
+		return translate( jdbcParameterBindings, queryOptions );
+	}
+
 	@Override
 	public T translate(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		try {
@@ -823,7 +842,7 @@ protected JdbcOperationQueryDelete translateDelete(DeleteStatement sqlAst) {
 		visitDeleteStatement( sqlAst );
 
 		return new JdbcOperationQueryDelete(
-				getSql(),
+				getOperationSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getAppliedParameterBindings()
@@ -834,7 +853,7 @@ protected JdbcOperationQueryUpdate translateUpdate(UpdateStatement sqlAst) {
 		visitUpdateStatement( sqlAst );
 
 		return new JdbcOperationQueryUpdate(
-				getSql(),
+				getOperationSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getAppliedParameterBindings()
@@ -845,7 +864,7 @@ protected JdbcOperationQueryInsert translateInsert(InsertSelectStatement sqlAst)
 		visitInsertStatement( sqlAst );
 
 		return new JdbcOperationQueryInsertImpl(
-				getSql(),
+				getOperationSql(),
 				getParameterBinders(),
 				getAffectedTableNames(),
 				getUniqueConstraintNameThatMayFail(sqlAst)
@@ -877,7 +896,7 @@ protected JdbcSelect translateSelect(SelectStatement selectStatement) {
 
 		final int rowsToSkip;
 		final JdbcOperationQuerySelect jdbcSelect = new JdbcOperationQuerySelect(
-				getSql(),
+				getOperationSql(),
 				getParameterBinders(),
 				buildJdbcValuesMappingProducer( selectStatement ),
 				getAffectedTableNames(),
@@ -8675,7 +8694,7 @@ protected enum LockStrategy {
 	private T translateTableMutation(TableMutation<?> mutation) {
 		mutation.accept( this );
 		//noinspection unchecked
-		return (T) mutation.createMutationOperation( getSql(), parameterBinders );
+		return (T) mutation.createMutationOperation( getOperationSql(), parameterBinders );
 	}
 
 	@Override
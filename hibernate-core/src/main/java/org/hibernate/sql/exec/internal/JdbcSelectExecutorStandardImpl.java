@@ -4,14 +4,18 @@
  */
 package org.hibernate.sql.exec.internal;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -33,6 +37,7 @@
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -127,6 +132,25 @@ private <T, R> T doExecuteQuery(
 
 		final var session = executionContext.getSession();
 		final var factory = session.getFactory();
+
+		final var assembledResultsCacheKey = resolveAssembledResultsCacheKey(
+				jdbcSelect,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultsConsumer
+		);
+		if ( assembledResultsCacheKey != null ) {
+			final var assembledResults =
+					getAssembledResultsFromCache( assembledResultsCacheKey, jdbcSelect, executionContext );
+			if ( assembledResults != null ) {
+				// the cached list is shared, so hand out a copy,
+				// but the records themselves are immutable
+				//noinspection unchecked
+				return (T) new ArrayList<>( assembledResults );
+			}
+		}
+
 		final var logicalConnection = session.getJdbcCoordinator().getLogicalConnection();
 
 		final var connection = logicalConnection.getPhysicalConnection();
@@ -143,7 +167,8 @@ private <T, R> T doExecuteQuery(
 		final var jdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
-				resultsConsumer.canResultsBeCached(),
+				// assembled results are cached instead of the JDBC values
+				assembledResultsCacheKey == null && resultsConsumer.canResultsBeCached(),
 				executionContext,
 				deferredResultSetAccess
 		);
@@ -197,7 +222,8 @@ public boolean shouldReturnProxies() {
 		final var valuesProcessingState = new JdbcValuesSourceProcessingStateStandardImpl(
 				loadedValuesCollector,
 				processingOptions,
-				executionContext
+				executionContext,
+				loadingQuery( jdbcSelect, executionContext )
 		);
 
 		final var rowReader = ResultsHelper.createRowReader(
@@ -221,6 +247,14 @@ public boolean shouldReturnProxies() {
 
 			jdbcSelect.performPostActions( true, statementAccess, connection, executionContext, loadedValuesCollector );
 
+			if ( assembledResultsCacheKey != null
+					// records built from basic values only, no entities
+					// or embeddables which would need initializers
+					&& rowReader.getInitializerCount() == 0
+					&& result instanceof List<?> list ) {
+				putAssembledResultsIntoCache( assembledResultsCacheKey, list, jdbcSelect, executionContext );
+			}
+
 			if ( stats ) {
 				logQueryStatistics( jdbcSelect, executionContext, startTime, result, statistics );
 			}
@@ -233,6 +267,151 @@ public boolean shouldReturnProxies() {
 		}
 	}
 
+	/**
+	 * Determine the identifier of the given query, to which later fetches of
+	 * the lazy associations of the entities it loads are attributed, if there
+	 * are statistics or events to report them to.
+	 *
+	 * @return the query identifier, or {@code null} if fetches are not attributed
+	 */
+	private static @Nullable String loadingQuery(JdbcSelect jdbcSelect, ExecutionContext executionContext) {
+		if ( executionContext.hasQueryExecutionToBeAddedToStatistics() ) {
+			final var session = executionContext.getSession();
+			return session.getFactory().getStatistics().isStatisticsEnabled()
+				|| !( session.getEventMonitor() instanceof EmptyEventMonitor )
+					? executionContext.getQueryIdentifier( jdbcSelect.getSqlString() )
+					: null;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * If the {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_ASSEMBLED_RESULTS
+	 * assembled results} of the given query may be cached, determine the key under
+	 * which they are stored.
+	 *
+	 * @return the cache key, or {@code null} if assembled results are not cacheable
+	 */
+	private static QueryKey resolveAssembledResultsCacheKey(
+			JdbcSelect jdbcSelect,
+			ExecutionContext executionContext,
+			RowTransformer<?> rowTransformer,
+			Class<?> domainResultType,
+			ResultsConsumer<?, ?> resultsConsumer) {
+		final var session = executionContext.getSession();
+		final var options = session.getFactory().getSessionFactoryOptions();
+		final var queryOptions = executionContext.getQueryOptions();
+		if ( options.isQueryCacheEnabled()
+				&& options.isQueryCacheAssembledResultsEnabled()
+				&& queryOptions.isResultCachingEnabled() == Boolean.TRUE
+				&& resultsConsumer instanceof ListResultsConsumer
+				&& domainResultType != null
+				&& domainResultType.isRecord()
+				&& queryOptions.getTupleTransformer() == null
+				&& queryOptions.getResultListTransformer() == null
+				&& jdbcSelect.getLoadedValuesCollectorFactory() == null
+				&& isImmutableAndSerializable( domainResultType, session.getFactory() ) ) {
+			final var rowTransformerClass =
+					rowTransformer == null
+							? RowTransformerStandardImpl.class
+							: rowTransformer.getClass();
+			// the same SQL may be assembled in different ways,
+			// depending on the requested result type
+			final String assembledResultForm =
+					domainResultType.getName()
+							+ '/' + rowTransformerClass.getName()
+							+ '/' + resultsConsumer;
+			return QueryKey.from(
+					jdbcSelect.getSqlString(),
+					queryOptions.getLimit(),
+					executionContext.getQueryParameterBindings(),
+					session
+			).forAssembledResults( assembledResultForm );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Is the given record type {@link Serializable}, with components of
+	 * immutable, serializable basic types only? The assembled results are
+	 * shared between callers, and might be replicated by the cache provider.
+	 */
+	private static boolean isImmutableAndSerializable(Class<?> recordType, SessionFactoryImplementor factory) {
+		if ( !Serializable.class.isAssignableFrom( recordType ) ) {
+			return false;
+		}
+		final var typeConfiguration = factory.getTypeConfiguration();
+		for ( var component : recordType.getRecordComponents() ) {
+			final Class<?> componentType = component.getType();
+			if ( !componentType.isPrimitive() ) {
+				final var basicType = typeConfiguration.getBasicTypeForJavaType( componentType );
+				if ( basicType == null
+						|| basicType.getJavaTypeDescriptor().getMutabilityPlan().isMutable()
+						|| !Serializable.class.isAssignableFrom( componentType ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static List<?> getAssembledResultsFromCache(
+			QueryKey assembledResultsCacheKey,
+			JdbcSelect jdbcSelect,
+			ExecutionContext executionContext) {
+		if ( resolveCacheMode( executionContext ).isGetEnabled() ) {
+			final var session = executionContext.getSession();
+			final var factory = session.getFactory();
+			final var queryCache = factory.getCache()
+					.getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() );
+			final var assembledResults = queryCache.get(
+					assembledResultsCacheKey,
+					jdbcSelect.getAffectedTableNames(),
+					session
+			);
+			final var statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
+				final String regionName = queryCache.getRegion().getName();
+				if ( assembledResults != null ) {
+					statistics.queryCacheHit( queryIdentifier, regionName );
+				}
+				else {
+					statistics.queryCacheMiss( queryIdentifier, regionName );
+				}
+			}
+			return assembledResults;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static void putAssembledResultsIntoCache(
+			QueryKey assembledResultsCacheKey,
+			List<?> assembledResults,
+			JdbcSelect jdbcSelect,
+			ExecutionContext executionContext) {
+		if ( resolveCacheMode( executionContext ).isPutEnabled() ) {
+			final var session = executionContext.getSession();
+			final var factory = session.getFactory();
+			final var queryCache = factory.getCache()
+					.getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() );
+			final boolean put = queryCache.put( assembledResultsCacheKey, assembledResults, session );
+			final var statistics = factory.getStatistics();
+			if ( put && statistics.isStatisticsEnabled() ) {
+				statistics.queryCachePut(
+						executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+						queryCache.getRegion().getName()
+				);
+			}
+		}
+	}
+
 	private void logQueryStatistics(
 			JdbcSelect jdbcSelect,
 			ExecutionContext executionContext,
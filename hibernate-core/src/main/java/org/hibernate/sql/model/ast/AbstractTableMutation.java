@@ -96,18 +96,26 @@ protected static  <T> void forEachThing(List<T> list, BiConsumer<Integer,T> acti
 
 	@Override
 	public O createMutationOperation(ValuesAnalysis valuesAnalysis, SessionFactoryImplementor factory) {
+		//noinspection unchecked
+		return (O) translator( factory ).translate( null, MutationQueryOptions.INSTANCE );
+	}
+
+	@Override
+	public O createStaticMutationOperation(SessionFactoryImplementor factory) {
+		//noinspection unchecked
+		return (O) translator( factory ).translateStatic( null, MutationQueryOptions.INSTANCE );
+	}
+
+	private SqlAstTranslator<JdbcMutationOperation> translator(SessionFactoryImplementor factory) {
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = factory
 				.getJdbcServices()
 				.getJdbcEnvironment()
 				.getSqlAstTranslatorFactory();
 		//noinspection unchecked
-		final SqlAstTranslator<JdbcMutationOperation> translator = sqlAstTranslatorFactory.buildModelMutationTranslator(
+		return sqlAstTranslatorFactory.buildModelMutationTranslator(
 				(TableMutation<JdbcMutationOperation>) this,
 				factory
 		);
-
-		//noinspection unchecked
-		return (O) translator.translate( null, MutationQueryOptions.INSTANCE );
 	}
 
 	/**
@@ -7,6 +7,7 @@
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.hibernate.Internal;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.ast.tree.Statement;
@@ -81,6 +82,20 @@ default String getTableName() {
 
 	O createMutationOperation(ValuesAnalysis valuesAnalysis, SessionFactoryImplementor sessionFactory);
 
+	/**
+	 * Create the operation for a mutation which a persister builds once and
+	 * keeps, interning its SQL if
+	 * {@value org.hibernate.cfg.MappingSettings#INTERN_SQL_STRINGS} is enabled.
+	 *
+	 * @see org.hibernate.sql.ast.SqlAstTranslator#translateStatic
+	 *
+	 * @since 8.1
+	 */
+	@Internal
+	default O createStaticMutationOperation(SessionFactoryImplementor sessionFactory) {
+		return createMutationOperation( null, sessionFactory );
+	}
+
 	/**
 	 * A {@link org.hibernate.sql.ast.SqlAstTranslator} callback to create
 	 * an appropriate mutation using the translated sql and parameter binders.
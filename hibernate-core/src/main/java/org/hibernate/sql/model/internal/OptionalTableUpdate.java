@@ -142,6 +142,12 @@ public MutationOperation createMutationOperation(ValuesAnalysis valuesAnalysis,
 		);
 	}
 
+	@Override
+	public MutationOperation createStaticMutationOperation(SessionFactoryImplementor factory) {
+		// the SQL is generated when the operation is performed
+		return createMutationOperation( null, factory );
+	}
+
 	@Override
 	protected MutationOperation createMutationOperation(
 			TableMapping tableDetails,
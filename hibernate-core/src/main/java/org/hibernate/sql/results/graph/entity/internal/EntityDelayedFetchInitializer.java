@@ -18,6 +18,7 @@
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.AbstractLazyInitializer;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -220,6 +221,14 @@ else if ( referencedModelPart.isOptional() && referencedModelPart.isLazy() ) {
 				lazyInitializer.setUnwrap(
 						referencedModelPart.isUnwrapProxy()
 							&& concreteDescriptor.isInstrumented() );
+				final String loadingQuery = rowProcessingState.getJdbcValuesSourceProcessingState().getLoadingQuery();
+				if ( loadingQuery != null
+						&& lazyInitializer instanceof AbstractLazyInitializer abstractLazyInitializer
+						&& abstractLazyInitializer.isUninitialized()
+						&& abstractLazyInitializer.getLoadingQuery() == null ) {
+					// initializing the proxy is attributed to the query which loaded its owner
+					abstractLazyInitializer.setLoadingQuery( loadingQuery );
+				}
 			}
 			return instance;
 		}
@@ -9,6 +9,8 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.annotation.Nullable;
+import org.hibernate.engine.internal.LoadingQueryExtraState;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -28,6 +30,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private final JdbcValuesSourceProcessingOptions processingOptions;
 	private final LoadedValuesCollector loadedValuesCollector;
 	private final ExecutionContext executionContext;
+	private final @Nullable String loadingQuery;
 
 	private List<EntityHolder> loadingEntityHolders;
 	private List<EntityHolder> reloadedEntityHolders;
@@ -40,9 +43,23 @@ public JdbcValuesSourceProcessingStateStandardImpl(
 			LoadedValuesCollector loadedValuesCollector,
 			JdbcValuesSourceProcessingOptions processingOptions,
 			ExecutionContext executionContext) {
+		this( loadedValuesCollector, processingOptions, executionContext, null );
+	}
+
+	/**
+	 * @param loadingQuery the identifier of the query, if later fetches of
+	 *                     the lazy associations of the entities it loads
+	 *                     are to be attributed to it
+	 */
+	public JdbcValuesSourceProcessingStateStandardImpl(
+			LoadedValuesCollector loadedValuesCollector,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			ExecutionContext executionContext,
+			@Nullable String loadingQuery) {
 		this.loadedValuesCollector = loadedValuesCollector;
 		this.executionContext = executionContext;
 		this.processingOptions = processingOptions;
+		this.loadingQuery = loadingQuery;
 
 		if ( executionContext.getSession().isEventSource() ) {
 			final var eventSource = executionContext.getSession().asEventSource();
@@ -76,6 +93,11 @@ public JdbcValuesSourceProcessingOptions getProcessingOptions() {
 		return processingOptions;
 	}
 
+	@Override
+	public @Nullable String getLoadingQuery() {
+		return loadingQuery;
+	}
+
 	@Override
 	public PreLoadEvent getPreLoadEvent() {
 		return preLoadEvent;
@@ -150,6 +172,14 @@ public SharedSessionContractImplementor getSession() {
 	public void finishUp() {
 		// now we can finalize loading collections
 		finishLoadingCollections();
+		if ( loadingQuery != null && loadingEntityHolders != null ) {
+			for ( var holder : loadingEntityHolders ) {
+				final var entityEntry = holder.getEntityEntry();
+				if ( entityEntry != null ) {
+					LoadingQueryExtraState.setLoadingQuery( entityEntry, loadingQuery );
+				}
+			}
+		}
 		getSession().getPersistenceContextInternal()
 				.postLoad( this, null );
 	}
@@ -6,6 +6,9 @@
 
 import java.util.List;
 
+import jakarta.annotation.Nullable;
+import org.hibernate.Incubating;
+
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -35,6 +38,20 @@ default QueryOptions getQueryOptions() {
 
 	JdbcValuesSourceProcessingOptions getProcessingOptions();
 
+	/**
+	 * The {@linkplain ExecutionContext#getQueryIdentifier identifier} of the
+	 * query whose results are being processed, if later fetches of the lazy
+	 * associations of the entities it loads are to be attributed to it.
+	 *
+	 * @see org.hibernate.stat.QueryStatistics#getTriggeredFetchCounts()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default @Nullable String getLoadingQuery() {
+		return null;
+	}
+
 	PreLoadEvent getPreLoadEvent();
 	PostLoadEvent getPostLoadEvent();
 
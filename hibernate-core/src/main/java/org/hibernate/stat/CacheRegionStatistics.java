@@ -6,6 +6,10 @@
 
 import java.io.Serializable;
 
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.hibernate.Incubating;
+
 /**
  * Second-level cache statistics of a specific region.
  *
@@ -76,4 +80,18 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * Statistics about the entries cached in this region on behalf of the
+	 * given tenant, or {@code null} if the region is not
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA partitioned
+	 * by tenant}, or has never held entries for the tenant.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nullable
+	default TenantCacheStatistics getTenantStatistics(@Nonnull String tenantIdentifier) {
+		return null;
+	}
 }
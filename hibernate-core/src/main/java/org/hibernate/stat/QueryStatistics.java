@@ -5,6 +5,11 @@
 package org.hibernate.stat;
 
 import java.io.Serializable;
+import java.util.Map;
+
+import org.hibernate.Incubating;
+
+import static java.util.Collections.emptyMap;
 
 /**
  * Statistics relating to a particular query written in HQL or SQL.
@@ -103,4 +108,37 @@ default long getPlanCompilationTotalMicroseconds() {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of separate queries executed to fetch lazy associations
+	 * of entities returned by this query, keyed by entity name or collection
+	 * role. A large count for a role relative to the {@linkplain #getExecutionCount
+	 * execution count} indicates an N+1 select problem, which might be solved by
+	 * fetching the association using a {@code join fetch}, an entity graph, or
+	 * batch fetching.
+	 * <p>
+	 * A fetch is attributed to the query which loaded the entity owning the
+	 * fetched collection or holding the fetched proxy, provided statistics are
+	 * enabled when that query is executed. An entity fetched this way passes
+	 * the query on to the fetches of its own associations.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default Map<String, Long> getTriggeredFetchCounts() {
+		return emptyMap();
+	}
+
+	/**
+	 * The total number of separate queries executed to fetch lazy associations
+	 * of entities returned by this query.
+	 *
+	 * @see #getTriggeredFetchCounts()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default long getTriggeredFetchCount() {
+		return 0;
+	}
 }
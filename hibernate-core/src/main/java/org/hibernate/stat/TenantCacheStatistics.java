@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * Second-level cache statistics of a single tenant within a region
+ * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_TENANT_QUOTA
+ * partitioned by tenant}. The counts are accumulated from the time
+ * the region was created.
+ *
+ * @see CacheRegionStatistics#getTenantStatistics(String)
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface TenantCacheStatistics extends Serializable {
+
+	String getRegionName();
+
+	String getTenantIdentifier();
+
+	/**
+	 * The number of cache puts into the region on behalf of the tenant
+	 */
+	long getPutCount();
+
+	/**
+	 * The number of successful cache look-ups against the region on behalf
+	 * of the tenant
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of unsuccessful cache look-ups against the region on behalf
+	 * of the tenant
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries of the tenant evicted from the region because
+	 * the tenant exceeded its quota
+	 */
+	long getEvictionCount();
+
+	/**
+	 * The number of entries currently held in the region on behalf of the
+	 * tenant, excluding entries the cache provider has expired
+	 */
+	long getElementCount();
+}
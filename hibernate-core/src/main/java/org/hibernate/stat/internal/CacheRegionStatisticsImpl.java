@@ -7,10 +7,13 @@
 import java.io.Serializable;
 import java.util.concurrent.atomic.LongAdder;
 
+import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.TenantStatisticsSupport;
 import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.TenantCacheStatistics;
 
 /**
  * Second level cache statistics of a specific region
@@ -20,6 +23,7 @@
 public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Serializable {
 	private final String regionName;
 	private final transient @Nullable ExtendedStatisticsSupport extendedStatisticsSupport;
+	private final transient @Nullable TenantStatisticsSupport tenantStatisticsSupport;
 
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
@@ -32,6 +36,10 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 				region instanceof ExtendedStatisticsSupport extended
 						? extended
 						: null;
+		tenantStatisticsSupport =
+				region instanceof TenantStatisticsSupport tenantSupport
+						? tenantSupport
+						: null;
 	}
 
 	@Override
@@ -80,6 +88,13 @@ public long getSizeInMemory() {
 				: extendedStatisticsSupport.getSizeInMemory();
 	}
 
+	@Override
+	public @Nullable TenantCacheStatistics getTenantStatistics(@Nonnull String tenantIdentifier) {
+		return tenantStatisticsSupport == null
+				? null
+				: tenantStatisticsSupport.getTenantStatistics( tenantIdentifier );
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
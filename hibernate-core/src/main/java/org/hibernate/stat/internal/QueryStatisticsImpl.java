@@ -4,6 +4,9 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -35,6 +38,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final Map<String, LongAdder> triggeredFetchCounts = new ConcurrentHashMap<>();
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -151,6 +156,28 @@ public long getPlanCompilationTotalMicroseconds() {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * Queries executed to fetch lazy associations of
+	 * entities returned by this query, by role
+	 */
+	public Map<String, Long> getTriggeredFetchCounts() {
+		final Map<String, Long> counts = new TreeMap<>();
+		triggeredFetchCounts.forEach( (role, count) -> counts.put( role, count.sum() ) );
+		return counts;
+	}
+
+	/**
+	 * Queries executed to fetch lazy associations of
+	 * entities returned by this query
+	 */
+	public long getTriggeredFetchCount() {
+		long total = 0;
+		for ( var count : triggeredFetchCounts.values() ) {
+			total += count.sum();
+		}
+		return total;
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -184,6 +211,10 @@ void compiled(long microseconds) {
 		planCompilationTotalMicroseconds.addAndGet( microseconds );
 	}
 
+	void incrementTriggeredFetchCount(String role) {
+		triggeredFetchCounts.computeIfAbsent( role, r -> new LongAdder() ).increment();
+	}
+
 	void incrementCacheHitCount() {
 		cacheHitCount.increment();
 	}
@@ -217,6 +248,7 @@ public String toString() {
 			+ ",executionAvgTime=" + getExecutionAvgTime()
 			+ ",executionMaxTime=" + executionMaxTime
 			+ ",executionMinTime=" + executionMinTime
+			+ ",triggeredFetchCounts=" + getTriggeredFetchCounts()
 			+ ']';
 	}
 }
@@ -733,6 +733,13 @@ public void queryExecuted(String query, int rows, long time) {
 		}
 	}
 
+	@Override
+	public void queryTriggeredFetch(String query, String role) {
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementTriggeredFetchCount( role );
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		queryCacheHitCount.increment();
@@ -124,6 +124,23 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback to indicate that an entity or collection was fetched by a separate
+	 * query after the entities which own it were returned by the given query.
+	 * Such fetches indicate that the query might benefit from fetching the
+	 * association eagerly, using a {@code join fetch}, an entity graph, or
+	 * batch fetching.
+	 *
+	 * @param query The query which loaded the owner of the association, or
+	 *              {@code null} if the owner was not loaded by a query
+	 * @param role The entity name or collection role
+	 *
+	 * @since 8.1
+	 */
+	default void queryTriggeredFetch(String query, String role) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
@@ -48,6 +48,11 @@ public String[] getSqlCreateStrings(Index index, Metadata metadata, SqlStringGen
 		createIndex.append( " (" );
 		appendColumnList( index, createIndex );
 		createIndex.append( ")" );
+		// the filter of a SQL Server index precedes its with options
+		final String predicate = index.getPredicate();
+		if ( isNotBlank( predicate ) && dialect.supportsPartialIndexes() ) {
+			createIndex.append( " where " ).append( predicate );
+		}
 		String options = index.getOptions();
 		if ( isNotBlank( options ) ) {
 			createIndex.append( " " ).append( options );
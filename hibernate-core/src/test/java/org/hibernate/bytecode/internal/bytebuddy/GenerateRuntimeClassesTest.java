@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.spi.ByteCodeHelper;
+import org.hibernate.proxy.HibernateProxy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EnhancerImpl#generateRuntimeClasses}
+ */
+public class GenerateRuntimeClassesTest {
+
+	@Test
+	public void testGeneratedClassesUsedAtRuntime() throws Exception {
+		final String entityName = SimpleEntity.class.getName();
+		final byte[] enhanced = new EnhancerImpl( new DefaultEnhancementContext(), new ByteBuddyState() )
+				.enhance( entityName, readByteCode( SimpleEntity.class ) );
+		assertThat( enhanced ).isNotNull();
+
+		final Map<String, byte[]> classes = new HashMap<>(
+				new EnhancerImpl( new DefaultEnhancementContext(), new ByteBuddyState() )
+						.generateRuntimeClasses( entityName, enhanced )
+		);
+		final String instantiatorName = entityName + "$HibernateInstantiator";
+		final String proxyName = entityName + "$HibernateProxy";
+		assertThat( classes ).containsOnlyKeys( instantiatorName, proxyName );
+
+		classes.put( entityName, enhanced );
+		final var classLoader = new DefiningClassLoader( classes );
+		final Class<?> entityClass = classLoader.loadClass( entityName );
+
+		final var bytecodeProvider = new BytecodeProviderImpl();
+		final var instantiator =
+				bytecodeProvider.getReflectionOptimizer( entityClass, Map.of() )
+						.getInstantiationOptimizer();
+		assertThat( instantiator.getClass() ).isSameAs( classLoader.loadClass( instantiatorName ) );
+		assertThat( instantiator.newInstance() ).isInstanceOf( entityClass );
+
+		final Class<?> proxyClass =
+				bytecodeProvider.getByteBuddyProxyHelper()
+						.buildProxy( entityClass, new Class<?>[] { HibernateProxy.class } );
+		assertThat( proxyClass ).isSameAs( classLoader.loadClass( proxyName ) );
+		assertThat( proxyClass.getConstructor().newInstance() ).isInstanceOf( HibernateProxy.class );
+	}
+
+	@Test
+	public void testNoClassesForNonManagedClass() throws IOException {
+		assertThat( new EnhancerImpl( new DefaultEnhancementContext(), new ByteBuddyState() )
+				.generateRuntimeClasses( Bean.class.getName(), readByteCode( Bean.class ) ) )
+				.isEmpty();
+	}
+
+	private static byte[] readByteCode(Class<?> clazz) throws IOException {
+		return ByteCodeHelper.readByteCode( clazz.getClassLoader()
+				.getResourceAsStream( clazz.getName().replace( '.', '/' ) + ".class" ) );
+	}
+
+	public static class Bean {
+		private String name;
+	}
+
+	/**
+	 * Defines the given classes itself, as if they had been packaged
+	 * together, and delegates to its parent for any other class.
+	 */
+	private static class DefiningClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classes;
+
+		private DefiningClassLoader(Map<String, byte[]> classes) {
+			super( GenerateRuntimeClassesTest.class.getClassLoader() );
+			this.classes = classes;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			synchronized ( getClassLoadingLock( name ) ) {
+				final byte[] bytes = classes.get( name );
+				if ( bytes == null ) {
+					return super.loadClass( name, resolve );
+				}
+				final Class<?> loaded = findLoadedClass( name );
+				return loaded != null ? loaded : defineClass( name, bytes, 0, bytes.length );
+			}
+		}
+	}
+}
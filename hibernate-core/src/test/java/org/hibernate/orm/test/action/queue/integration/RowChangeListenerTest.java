@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.action.queue.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.action.queue.spi.MutationKind;
+import org.hibernate.action.queue.spi.RowChange;
+import org.hibernate.action.queue.spi.RowChangeListener;
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value FlushSettings#ROW_CHANGE_LISTENER}
+ */
+@DomainModel(annotatedClasses = { RowChangeListenerTest.Book.class, RowChangeListenerTest.Magazine.class })
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = FlushSettings.FLUSH_QUEUE_TYPE, value = "graph"),
+		@Setting(name = FlushSettings.ROW_CHANGE_LISTENER,
+				value = "org.hibernate.orm.test.action.queue.integration.RowChangeListenerTest$CollectingListener")
+})
+public class RowChangeListenerTest {
+
+	public static class CollectingListener implements RowChangeListener {
+		static final List<RowChange> CHANGES = new ArrayList<>();
+
+		@Override
+		public void onCommit(List<RowChange> changes) {
+			CHANGES.addAll( changes );
+		}
+	}
+
+	@BeforeEach
+	void clearChanges() {
+		CollectingListener.CHANGES.clear();
+	}
+
+	@AfterEach
+	void cleanup(SessionFactoryScope scope) {
+		scope.dropData();
+	}
+
+	@Test
+	void testChangesReportedAfterCommit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.flush();
+			// nothing is reported before the transaction commits
+			assertThat( CollectingListener.CHANGES ).isEmpty();
+		} );
+		assertThat( CollectingListener.CHANGES ).singleElement().satisfies( change -> {
+			assertThat( change.tableName() ).isEqualToIgnoringCase( "books" );
+			assertThat( change.kind() ).isEqualTo( MutationKind.INSERT );
+			assertThat( change.key() ).containsOnlyKeys( "book_id" ).containsValue( 1L );
+			assertThat( change.values() ).containsEntry( "title", "Hibernate in Action" );
+		} );
+
+		CollectingListener.CHANGES.clear();
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		assertThat( CollectingListener.CHANGES ).singleElement().satisfies( change -> {
+			assertThat( change.kind() ).isEqualTo( MutationKind.UPDATE );
+			assertThat( change.key() ).containsEntry( "book_id", 1L );
+			assertThat( change.values() ).containsEntry( "title", "Java Persistence with Hibernate" );
+		} );
+
+		CollectingListener.CHANGES.clear();
+		scope.inTransaction( session -> session.remove( session.find( Book.class, 1L ) ) );
+		assertThat( CollectingListener.CHANGES ).singleElement().satisfies( change -> {
+			assertThat( change.kind() ).isEqualTo( MutationKind.DELETE );
+			assertThat( change.key() ).containsEntry( "book_id", 1L );
+		} );
+	}
+
+	@Test
+	void testGeneratedKeyReported(SessionFactoryScope scope) {
+		final Magazine magazine = new Magazine( "Hibernate Monthly" );
+		scope.inTransaction( session -> session.persist( magazine ) );
+		assertThat( CollectingListener.CHANGES ).singleElement().satisfies( change -> {
+			assertThat( change.tableName() ).isEqualToIgnoringCase( "magazines" );
+			assertThat( change.kind() ).isEqualTo( MutationKind.INSERT );
+			assertThat( change.key() ).containsOnlyKeys( "magazine_id" ).containsValue( magazine.id );
+			assertThat( change.values() ).containsEntry( "title", "Hibernate Monthly" );
+		} );
+	}
+
+	@Test
+	void testNothingReportedAfterRollback(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			session.persist( new Book( 2L, "Unpublished" ) );
+			session.flush();
+			session.getTransaction().rollback();
+		} );
+		assertThat( CollectingListener.CHANGES ).isEmpty();
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "books")
+	static class Book {
+		@Id
+		@Column(name = "book_id")
+		Long id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	@Table(name = "magazines")
+	static class Magazine {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		@Column(name = "magazine_id")
+		Long id;
+		String title;
+
+		Magazine() {
+		}
+
+		Magazine(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -44,6 +44,8 @@
 		settings = {
 				@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10"),
 				@Setting(name = AvailableSettings.FORMAT_SQL, value = "false"),
+				// always re-execute the original query as a subquery
+				@Setting(name = AvailableSettings.SUBSELECT_FETCH_ARRAY_MAX_SIZE, value = "0"),
 		}
 )
 @JiraKey("HHH-16624")
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE}
+ */
+@DomainModel( annotatedClasses = {
+		AdaptiveBatchFetchTest.Owner.class,
+		AdaptiveBatchFetchTest.Item.class
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "16" ) )
+public class AdaptiveBatchFetchTest {
+
+	private static final int COUNT = 20;
+
+	@Test
+	public void testEntityBatchSizeGrows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final List<Owner> owners = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				owners.add( session.getReference( Owner.class, i ) );
+			}
+			statementInspector.clear();
+
+			for ( Owner owner : owners ) {
+				assertThat( owner.getName() ).isEqualTo( "owner-" + owner.getId() );
+			}
+			assertThat( owners ).allMatch( Hibernate::isInitialized );
+			// batches of 2, 4, 8 and 16 with arrays, batches of 2 otherwise
+			assertThat( statementInspector.getSqlQueries() ).hasSize( supportsArrays( scope ) ? 4 : COUNT / 2 );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchSizeGrows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final List<Owner> owners =
+					session.createSelectionQuery( "from Owner order by id", Owner.class ).getResultList();
+			statementInspector.clear();
+
+			for ( Owner owner : owners ) {
+				assertThat( owner.getItems() ).hasSize( 1 );
+			}
+			// batches of 2, 4, 8 and 16 with arrays, batches of 2 otherwise
+			assertThat( statementInspector.getSqlQueries() ).hasSize( supportsArrays( scope ) ? 4 : COUNT / 2 );
+		} );
+	}
+
+	private static boolean supportsArrays(SessionFactoryScope scope) {
+		return MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() );
+	}
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Owner owner = new Owner( i, "owner-" + i );
+				session.persist( owner );
+				session.persist( new Item( i, owner ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Entity( name = "Owner" )
+	@Table( name = "adaptive_owner" )
+	@BatchSize( size = 2 )
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "owner" )
+		@BatchSize( size = 2 )
+		private List<Item> items = new ArrayList<>();
+
+		protected Owner() {
+			// for use by Hibernate
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "adaptive_item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Owner owner;
+
+		protected Item() {
+			// for use by Hibernate
+		}
+
+		public Item(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+}
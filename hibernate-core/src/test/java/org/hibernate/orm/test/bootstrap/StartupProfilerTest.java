@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StartupProfiler} and {@value AvailableSettings#LOG_STARTUP_SUMMARY}
+ */
+@DomainModel(annotatedClasses = {
+		StartupProfilerTest.Shelf.class,
+		StartupProfilerTest.Drawer.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.LOG_STARTUP_SUMMARY, value = "true"))
+public class StartupProfilerTest {
+
+	@Test
+	public void testProfile(SessionFactoryScope scope) {
+		final var startupProfile = scope.getSessionFactory().getStartupProfile();
+		assertThat( startupProfile.phaseDurations() ).containsKeys(
+				StartupPhase.CATEGORIZATION,
+				StartupPhase.BINDING,
+				StartupPhase.SECOND_PASSES,
+				StartupPhase.PERSISTER_CREATION,
+				StartupPhase.MAPPING_MODEL_CREATION,
+				StartupPhase.LOADER_CREATION,
+				StartupPhase.SESSION_FACTORY_INITIALIZATION
+		);
+		assertThat( startupProfile.getSlowestRoles( StartupPhase.PERSISTER_CREATION ) )
+				.extracting( StartupProfiler.Timing::role )
+				.contains(
+						Shelf.class.getName(),
+						Drawer.class.getName(),
+						Shelf.class.getName() + ".labels"
+				);
+		assertThat( startupProfile.getSlowestRoles( StartupPhase.LOADER_CREATION ) )
+				.extracting( StartupProfiler.Timing::role )
+				.contains( Shelf.class.getName(), Drawer.class.getName() );
+		assertThat( startupProfile.getSlowestRoles( StartupPhase.BINDING ) )
+				.extracting( StartupProfiler.Timing::role )
+				.contains( Shelf.class.getName(), Drawer.class.getName() );
+	}
+
+	@Test
+	public void testProfilePerSessionFactory(DomainModelScope modelScope, SessionFactoryScope scope) {
+		final var firstProfile = scope.getSessionFactory().getStartupProfile();
+		try ( var sessionFactory = (SessionFactoryImplementor) modelScope.getDomainModel().buildSessionFactory() ) {
+			final var secondProfile = sessionFactory.getStartupProfile();
+			// the metadata was built once, for the first factory
+			assertThat( secondProfile.phaseDurations() )
+					.containsKeys( StartupPhase.PERSISTER_CREATION, StartupPhase.SESSION_FACTORY_INITIALIZATION )
+					.doesNotContainKeys( StartupPhase.CATEGORIZATION, StartupPhase.BINDING );
+			// and the timings of the first factory are not accumulated
+			assertThat( secondProfile.getSlowestRoles( StartupPhase.PERSISTER_CREATION ) )
+					.extracting( StartupProfiler.Timing::role )
+					.containsOnlyOnce( Shelf.class.getName(), Drawer.class.getName() );
+		}
+		assertThat( scope.getSessionFactory().getStartupProfile() ).isSameAs( firstProfile );
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "profiled_shelf")
+	public static class Shelf {
+		@Id
+		private Integer id;
+		@ElementCollection
+		private List<String> labels = new ArrayList<>();
+	}
+
+	@Entity(name = "Drawer")
+	@Table(name = "profiled_drawer")
+	public static class Drawer {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
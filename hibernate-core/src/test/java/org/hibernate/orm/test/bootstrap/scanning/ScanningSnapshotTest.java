@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import org.hibernate.boot.scan.internal.ScanningResultImpl;
+import org.hibernate.boot.scan.spi.ScanningResult;
+import org.hibernate.boot.scan.spi.ScanningSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.boot.scan.spi.ScanningSnapshot.DEFAULT_RESOURCE_NAME;
+
+/**
+ * Tests for {@link ScanningSnapshot}
+ */
+public class ScanningSnapshotTest {
+
+	@Test
+	public void testDiscover(@TempDir Path root) throws Exception {
+		copyClass( root );
+		final Path ormXml = root.resolve( "META-INF/orm.xml" );
+		Files.createDirectories( ormXml.getParent() );
+		Files.writeString( ormXml, "<entity-mappings/>" );
+
+		final ScanningResult result = ScanningSnapshot.discover( List.of( root ), getClass().getClassLoader() );
+		assertThat( result.discoveredClasses() ).containsExactly( Pasta.class.getName() );
+		assertThat( result.discoveredPackages() ).isEmpty();
+		// the standard orm.xml is always processed, and so must not be listed
+		assertThat( result.mappingFiles() ).isEmpty();
+	}
+
+	@Test
+	public void testReadWrittenSnapshot(@TempDir Path root) throws Exception {
+		copyClass( root );
+		write( root, Set.of( Pasta.class.getName() ) );
+
+		final ScanningResult result = ScanningSnapshot.read( root.toUri().toURL(), DEFAULT_RESOURCE_NAME );
+		assertThat( result ).isNotNull();
+		assertThat( result.discoveredClasses() ).containsExactly( Pasta.class.getName() );
+		assertThat( result.discoveredPackages() ).containsExactly( Pasta.class.getPackageName() );
+		assertThat( result.mappingFiles() ).isEmpty();
+	}
+
+	@Test
+	public void testReadSnapshotFromJar(@TempDir Path directory) throws Exception {
+		final Path root = Files.createDirectory( directory.resolve( "classes" ) );
+		copyClass( root );
+		write( root, Set.of( Pasta.class.getName() ) );
+		final Path jar = directory.resolve( "pasta.jar" );
+		try ( var jarStream = new JarOutputStream( Files.newOutputStream( jar ) );
+				Stream<Path> files = Files.walk( root ) ) {
+			for ( Path file : (Iterable<Path>) files.filter( Files::isRegularFile )::iterator ) {
+				jarStream.putNextEntry( new JarEntry( root.relativize( file ).toString().replace( '\\', '/' ) ) );
+				Files.copy( file, jarStream );
+				jarStream.closeEntry();
+			}
+		}
+
+		final ScanningResult result = ScanningSnapshot.read( jar.toUri().toURL(), DEFAULT_RESOURCE_NAME );
+		assertThat( result ).isNotNull();
+		assertThat( result.discoveredClasses() ).containsExactly( Pasta.class.getName() );
+	}
+
+	@Test
+	public void testNoSnapshot(@TempDir Path root) throws Exception {
+		copyClass( root );
+
+		assertThat( ScanningSnapshot.read( root.toUri().toURL(), DEFAULT_RESOURCE_NAME ) ).isNull();
+	}
+
+	@Test
+	public void testSnapshotOfOtherArchiveIgnored(@TempDir Path root) throws Exception {
+		// the class is on the classpath, but not in the archive containing the snapshot
+		write( root, Set.of( Pasta.class.getName() ) );
+
+		assertThat( ScanningSnapshot.read( root.toUri().toURL(), DEFAULT_RESOURCE_NAME ) ).isNull();
+	}
+
+	@Test
+	public void testModifiedSnapshotIgnored(@TempDir Path root) throws Exception {
+		copyClass( root );
+		final Path snapshot = write( root, Set.of( Pasta.class.getName() ) );
+		Files.writeString( snapshot,
+				Files.readString( snapshot ).replace( Pasta.class.getName(), Pasta.class.getName() + "2" ) );
+
+		assertThat( ScanningSnapshot.read( root.toUri().toURL(), DEFAULT_RESOURCE_NAME ) ).isNull();
+	}
+
+	@Test
+	public void testStaleSnapshotIgnored(@TempDir Path root) throws Exception {
+		copyClass( root );
+		write( root, Set.of( Pasta.class.getName(), "org.hibernate.orm.test.Missing" ) );
+
+		assertThat( ScanningSnapshot.read( root.toUri().toURL(), DEFAULT_RESOURCE_NAME ) ).isNull();
+	}
+
+	private static void copyClass(Path root) throws Exception {
+		final Path classFile = root.resolve( Pasta.class.getName().replace( '.', '/' ) + ".class" );
+		Files.createDirectories( classFile.getParent() );
+		try ( InputStream stream = Pasta.class.getResourceAsStream( "Pasta.class" ) ) {
+			Files.copy( stream, classFile );
+		}
+	}
+
+	private static Path write(Path root, Set<String> classes) throws Exception {
+		final Path snapshot = root.resolve( DEFAULT_RESOURCE_NAME );
+		Files.createDirectories( snapshot.getParent() );
+		try ( OutputStream stream = Files.newOutputStream( snapshot ) ) {
+			ScanningSnapshot.write(
+					new ScanningResultImpl( Set.of( Pasta.class.getPackageName() ), classes, Set.of() ),
+					stream
+			);
+		}
+		assertThat( Files.readString( snapshot, StandardCharsets.UTF_8 ) ).contains( "checksum=" );
+		return snapshot;
+	}
+}
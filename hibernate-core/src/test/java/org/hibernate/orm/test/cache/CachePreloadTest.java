@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hibernate.cfg.AvailableSettings.CACHE_PRELOAD_PREFIX;
+import static org.hibernate.cfg.AvailableSettings.CACHE_PRELOAD_THREADS;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.HBM2DDL_AUTO;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_HBM2DDL_LOAD_SCRIPT_SOURCE;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value org.hibernate.cfg.CacheSettings#CACHE_PRELOAD_PREFIX}
+ */
+public class CachePreloadTest {
+
+	@Test
+	public void testPreloadAll() throws InterruptedException {
+		try ( var serviceRegistry = serviceRegistry( "all" ) ) {
+			final var preloaded = new CountDownLatch( 1 );
+			try ( var factory = buildSessionFactory( serviceRegistry, preloaded ) ) {
+				assertTrue( preloaded.await( 30, SECONDS ) );
+				assertTrue( factory.getCache().containsEntity( CacheableItem.class, 1L ) );
+				assertTrue( factory.getCache().containsEntity( CacheableItem.class, 2L ) );
+				assertTrue( factory.getCache().containsEntity( CacheableItem.class, 3L ) );
+			}
+		}
+	}
+
+	@Test
+	public void testPreloadQuery() throws InterruptedException {
+		try ( var serviceRegistry = serviceRegistry( "from CacheableItem where id > 1" ) ) {
+			final var preloaded = new CountDownLatch( 1 );
+			try ( var factory = buildSessionFactory( serviceRegistry, preloaded ) ) {
+				assertTrue( preloaded.await( 30, SECONDS ) );
+				assertFalse( factory.getCache().containsEntity( CacheableItem.class, 1L ) );
+				assertTrue( factory.getCache().containsEntity( CacheableItem.class, 2L ) );
+				assertTrue( factory.getCache().containsEntity( CacheableItem.class, 3L ) );
+			}
+		}
+	}
+
+	private static StandardServiceRegistry serviceRegistry(String preloadQuery) {
+		return ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() )
+				.applySetting( HBM2DDL_AUTO, "create-drop" )
+				.applySetting( JAKARTA_HBM2DDL_LOAD_SCRIPT_SOURCE, "org/hibernate/orm/test/cache/preload.sql" )
+				.applySetting( CACHE_PRELOAD_PREFIX + '.' + CacheableItem.class.getName(), preloadQuery )
+				.applySetting( CACHE_PRELOAD_THREADS, 2 )
+				.build();
+	}
+
+	private static SessionFactory buildSessionFactory(
+			StandardServiceRegistry serviceRegistry,
+			CountDownLatch preloaded) {
+		return new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( CacheableItem.class )
+				.buildMetadata()
+				.getSessionFactoryBuilder()
+				.addSessionFactoryObservers( new SessionFactoryObserver() {
+					@Override
+					public void sessionFactoryCachePreloaded(SessionFactory factory) {
+						preloaded.countDown();
+					}
+				} )
+				.build();
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.function.Consumer;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.TenantPartitionedStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cache.spi.RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+/**
+ * Tests for {@value CacheSettings#CACHE_TENANT_QUOTA}
+ */
+@DomainModel(annotatedClasses = TenantPartitionedCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.testing.cache.CachingRegionFactory"),
+				@Setting(name = CacheSettings.CACHE_TENANT_QUOTA, value = "2")
+		}
+)
+public class TenantPartitionedCacheTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testQuotaAndEviction(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "items" );
+
+		inTenantTransaction( scope, "big", session -> {
+			for ( int id = 1; id <= 5; id++ ) {
+				session.persist( new Item( id, "big " + id ) );
+			}
+		} );
+		inTenantTransaction( scope, "small", session -> session.persist( new Item( 11, "small" ) ) );
+
+		final var big = regionStatistics.getTenantStatistics( "big" );
+		final var small = regionStatistics.getTenantStatistics( "small" );
+		assertThat( big.getPutCount() ).isEqualTo( 5 );
+		// the big tenant only evicts its own entries
+		assertThat( big.getEvictionCount() ).isEqualTo( 3 );
+		assertThat( big.getElementCount() ).isEqualTo( 2 );
+		assertThat( small.getEvictionCount() ).isZero();
+		assertThat( small.getElementCount() ).isEqualTo( 1 );
+
+		inTenantTransaction( scope, "small", session -> assertThat( session.find( Item.class, 11 ) ).isNotNull() );
+		assertThat( small.getHitCount() ).isEqualTo( 1 );
+		// the read-write strategy also looks up each entry before caching it
+		final long bigMisses = big.getMissCount();
+		inTenantTransaction( scope, "big", session -> {
+			assertThat( session.find( Item.class, 5 ) ).isNotNull();
+			assertThat( session.find( Item.class, 1 ) ).isNotNull();
+		} );
+		assertThat( big.getHitCount() ).isEqualTo( 1 );
+		assertThat( big.getMissCount() ).isEqualTo( bigMisses + 2 );
+		assertThat( big.getElementCount() ).isEqualTo( 2 );
+		// 4 was evicted rather than 5, which was accessed more recently
+		inTenantTransaction( scope, "big", session -> assertThat( session.find( Item.class, 5 ) ).isNotNull() );
+		assertThat( big.getHitCount() ).isEqualTo( 2 );
+		assertThat( big.getMissCount() ).isEqualTo( bigMisses + 2 );
+
+		scope.getSessionFactory().getCache().evictTenantData( "small" );
+		assertThat( small.getElementCount() ).isZero();
+		assertThat( big.getElementCount() ).isEqualTo( 2 );
+		final long smallMisses = small.getMissCount();
+		inTenantTransaction( scope, "small", session -> assertThat( session.find( Item.class, 11 ) ).isNotNull() );
+		assertThat( small.getMissCount() ).isEqualTo( smallMisses + 2 );
+	}
+
+	@Test
+	public void testLockedEntriesAreNotEvicted(SessionFactoryScope scope) {
+		final var big = scope.getSessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( "items" )
+				.getTenantStatistics( "big" );
+
+		inTenantTransaction( scope, "big", session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				session.persist( new Item( id, "big " + id ) );
+			}
+		} );
+		assertThat( big.getEvictionCount() ).isEqualTo( 1 );
+
+		inTenantTransaction( scope, "big", session -> {
+			session.find( Item.class, 2 ).name = "updated";
+			// locks the entry of 2 until the transaction completes
+			session.flush();
+			session.find( Item.class, 3 );
+			// 2 is the least recently accessed, but locked, so 3 is evicted
+			session.find( Item.class, 1 );
+		} );
+		assertThat( big.getEvictionCount() ).isEqualTo( 2 );
+		assertThat( big.getElementCount() ).isEqualTo( 2 );
+
+		// the entry of 2 was unlocked and updated on completion
+		final long bigHits = big.getHitCount();
+		inTenantTransaction( scope, "big", session ->
+				assertThat( session.find( Item.class, 2 ).name ).isEqualTo( "updated" ) );
+		assertThat( big.getHitCount() ).isEqualTo( bigHits + 1 );
+		assertThat( big.getEvictionCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testExpiredEntriesAreForgotten(SessionFactoryScope scope) {
+		final var big = scope.getSessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( "items" )
+				.getTenantStatistics( "big" );
+		inTenantTransaction( scope, "big", session -> {
+			session.persist( new Item( 1, "big 1" ) );
+			session.persist( new Item( 2, "big 2" ) );
+		} );
+		assertThat( big.getElementCount() ).isEqualTo( 2 );
+
+		// expire every entry behind the back of the partitioned storage
+		final var region = (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( "items" );
+		( (TenantPartitionedStorageAccess) region.getCacheStorageAccess() ).getDelegate().evictData();
+		assertThat( big.getElementCount() ).isZero();
+		assertThat( big.getEvictionCount() ).isZero();
+	}
+
+	@Test
+	public void testQueryResultsRegion(SessionFactoryScope scope) {
+		final var cache = scope.getSessionFactory().getCache();
+		final CacheRegionStatistics regionStatistics =
+				scope.getSessionFactory().getStatistics()
+						.getQueryRegionStatistics( DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME );
+
+		inTenantTransaction( scope, "big", session -> session.persist( new Item( 1, "big" ) ) );
+		inTenantTransaction( scope, "small", session -> session.persist( new Item( 11, "small" ) ) );
+		for ( String tenant : new String[] { "big", "small" } ) {
+			inTenantTransaction( scope, tenant, session ->
+					assertThat( session.createSelectionQuery( "from Item", Item.class )
+							.setCacheable( true )
+							.getResultList() ).hasSize( 1 )
+			);
+		}
+		assertThat( regionStatistics.getTenantStatistics( "big" ).getElementCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getTenantStatistics( "small" ).getElementCount() ).isEqualTo( 1 );
+
+		cache.evictRegion( DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, "small" );
+		assertThat( regionStatistics.getTenantStatistics( "big" ).getElementCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getTenantStatistics( "small" ).getElementCount() ).isZero();
+	}
+
+	private static void inTenantTransaction(SessionFactoryScope scope, String tenant, Consumer<Session> action) {
+		try ( Session session = scope.getSessionFactory().withOptions().tenantIdentifier( tenant ).openSession() ) {
+			session.inTransaction( transaction -> action.accept( session ) );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		@TenantId
+		private String tenant;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connections;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProvider;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.logger.Triggerable;
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.logger.LoggerInspectionExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.internal.log.ConnectionInfoLogger.CONNECTION_INFO_LOGGER;
+
+/**
+ * Tests for the pool of {@link DriverManagerConnectionProvider}, including
+ * {@value DriverManagerConnectionProvider#ACQUISITION_TIMEOUT} and
+ * {@value DriverManagerConnectionProvider#LEAK_DETECTION_THRESHOLD}
+ */
+@BaseUnitTest
+@RequiresDialect(H2Dialect.class)
+public class DriverManagerConnectionPoolTest {
+	@RegisterExtension
+	public LoggerInspectionExtension logInspection =
+			LoggerInspectionExtension.builder().setLogger( CONNECTION_INFO_LOGGER ).build();
+
+	@Test
+	public void testConcurrentGrowth() throws Exception {
+		final var connectionProvider = buildConnectionProvider( 5, 0 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 5 );
+		try {
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final List<Future<Connection>> futures = new ArrayList<>();
+			for ( int i = 0; i < 5; i++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					return connectionProvider.getConnection();
+				} ) );
+			}
+			start.countDown();
+			final List<Connection> connections = new ArrayList<>();
+			for ( Future<Connection> future : futures ) {
+				connections.add( future.get( 10, TimeUnit.SECONDS ) );
+			}
+			assertThat( connections ).doesNotHaveDuplicates();
+			assertThatThrownBy( connectionProvider::getConnection )
+					.isInstanceOf( HibernateException.class );
+			for ( Connection connection : connections ) {
+				connectionProvider.closeConnection( connection );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testWaitForReturnedConnection() throws Exception {
+		final var connectionProvider = buildConnectionProvider( 1, 10_000 );
+		try {
+			final Connection connection = connectionProvider.getConnection();
+			final var returned = CompletableFuture.runAsync( () -> {
+				try {
+					Thread.sleep( 200 );
+					connectionProvider.closeConnection( connection );
+				}
+				catch (Exception e) {
+					throw new RuntimeException( e );
+				}
+			} );
+			final Connection handedOver = connectionProvider.getConnection();
+			assertThat( handedOver ).isSameAs( connection );
+			returned.get( 10, TimeUnit.SECONDS );
+			connectionProvider.closeConnection( handedOver );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		final var connectionProvider = buildConnectionProvider( 1, 100 );
+		try {
+			final Connection connection = connectionProvider.getConnection();
+			assertThatThrownBy( connectionProvider::getConnection )
+					.isInstanceOf( HibernateException.class )
+					.hasMessageContaining( "maximum size" );
+			connectionProvider.closeConnection( connection );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testWaitForEvictedConnection() throws Exception {
+		final var connectionProvider = buildConnectionProvider( 2, 3_000 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Connection> held = List.of( connectionProvider.getConnection(), connectionProvider.getConnection() );
+			final List<Future<Connection>> waiters = new ArrayList<>();
+			for ( int i = 0; i < 4; i++ ) {
+				waiters.add( executor.submit( () -> {
+					final Connection connection = connectionProvider.getConnection();
+					Thread.sleep( 50 );
+					connectionProvider.closeConnection( connection );
+					return connection;
+				} ) );
+			}
+			Thread.sleep( 200 );
+			// the held connections are invalid when they are returned, and so they
+			// are evicted instead of being handed over to the waiting threads
+			for ( Connection connection : held ) {
+				connection.close();
+				connectionProvider.closeConnection( connection );
+			}
+			for ( Future<Connection> waiter : waiters ) {
+				assertThat( waiter.get( 10, TimeUnit.SECONDS ) ).isNotIn( held );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testLeakDetection() throws Exception {
+		final Triggerable leak = logInspection.watchForLogMessages( "HHH10001025" );
+		final var connectionProvider = buildConnectionProvider( 1, 0, Map.of(
+				DriverManagerConnectionProvider.LEAK_DETECTION_THRESHOLD, "1",
+				DriverManagerConnectionProvider.VALIDATION_INTERVAL, "1"
+		) );
+		try {
+			final Connection connection = connectionProvider.getConnection();
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+			while ( !leak.wasTriggered() && System.nanoTime() < deadline ) {
+				Thread.sleep( 100 );
+			}
+			assertThat( leak.wasTriggered() ).isTrue();
+			assertThat( leak.triggerMessage() ).contains( Thread.currentThread().getName() );
+			connectionProvider.closeConnection( connection );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	private static DriverManagerConnectionProvider buildConnectionProvider(int poolSize, long acquisitionTimeout) {
+		return buildConnectionProvider( poolSize, acquisitionTimeout, Map.of() );
+	}
+
+	private static DriverManagerConnectionProvider buildConnectionProvider(
+			int poolSize,
+			long acquisitionTimeout,
+			Map<String, String> settings) {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pool_test" );
+		properties.put( AvailableSettings.POOL_SIZE, Integer.toString( poolSize ) );
+		properties.put( DriverManagerConnectionProvider.ACQUISITION_TIMEOUT, Long.toString( acquisitionTimeout ) );
+		properties.putAll( settings );
+		final var connectionProvider = new DriverManagerConnectionProvider();
+		connectionProvider.configure( PropertiesHelper.map( properties ) );
+		return connectionProvider;
+	}
+}
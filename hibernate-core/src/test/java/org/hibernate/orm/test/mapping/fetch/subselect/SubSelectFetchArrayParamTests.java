@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.fetch.subselect;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#SUBSELECT_FETCH_ARRAY_MAX_SIZE}
+ */
+@DomainModel(annotatedClasses = {
+		SubSelectFetchArrayParamTests.Purchase.class,
+		SubSelectFetchArrayParamTests.PurchaseLine.class,
+		SubSelectFetchArrayParamTests.LineNote.class
+})
+@SessionFactory( useCollectingStatementInspector = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.SUBSELECT_FETCH_ARRAY_MAX_SIZE, value = "3" ) )
+public class SubSelectFetchArrayParamTests {
+
+	@Test
+	public void testOwnerKeysPassedAsArray(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			final List<Purchase> purchases =
+					session.createSelectionQuery( "from Purchase p where p.customer like 'cust%' and p.id <= 3", Purchase.class )
+							.getResultList();
+			assertThat( purchases ).hasSize( 3 );
+			statementInspector.clear();
+
+			assertThat( purchases.get( 0 ).getLines() ).hasSize( 2 );
+			assertThat( purchases ).allMatch( purchase -> Hibernate.isInitialized( purchase.getLines() ) );
+			assertThat( purchases ).allMatch( purchase -> purchase.getLines().size() == 2 );
+
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			if ( supportsArrays( scope ) ) {
+				// the original query is not re-executed
+				assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( " like " );
+			}
+			else {
+				assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( " like " );
+			}
+		} );
+	}
+
+	@Test
+	public void testTooManyOwners(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			final List<Purchase> purchases =
+					session.createSelectionQuery( "from Purchase p where p.customer like 'cust%'", Purchase.class )
+							.getResultList();
+			assertThat( purchases ).hasSize( 4 );
+			statementInspector.clear();
+
+			assertThat( purchases.get( 0 ).getLines() ).hasSize( 2 );
+			assertThat( purchases ).allMatch( purchase -> Hibernate.isInitialized( purchase.getLines() ) );
+
+			// the original query is re-executed as a subquery
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( " like " );
+		} );
+	}
+
+	@Test
+	public void testNestedSubselectFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			final List<Purchase> purchases =
+					session.createSelectionQuery( "from Purchase p where p.customer like 'cust%' and p.id <= 3", Purchase.class )
+							.getResultList();
+			assertThat( purchases ).hasSize( 3 );
+			final List<PurchaseLine> lines = new ArrayList<>();
+			purchases.forEach( purchase -> lines.addAll( purchase.getLines() ) );
+			assertThat( lines ).hasSize( 6 );
+			statementInspector.clear();
+
+			// the lines were loaded by a single query, so are their notes
+			assertThat( lines.get( 0 ).getNotes() ).hasSize( 1 );
+			assertThat( lines ).allMatch( line -> Hibernate.isInitialized( line.getNotes() ) );
+			assertThat( lines ).allMatch( line -> line.getNotes().size() == 1 );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		} );
+	}
+
+	private static boolean supportsArrays(SessionFactoryScope scope) {
+		return MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() );
+	}
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final Purchase purchase = new Purchase( i, "cust-" + i );
+				session.persist( purchase );
+				for ( int j = 1; j <= 2; j++ ) {
+					final PurchaseLine line = new PurchaseLine( i * 10 + j, purchase );
+					session.persist( line );
+					session.persist( new LineNote( line.id * 10, line ) );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Entity( name = "Purchase" )
+	@Table( name = "array_subselect_purchase" )
+	public static class Purchase {
+		@Id
+		private Integer id;
+		private String customer;
+		@OneToMany( mappedBy = "purchase" )
+		@Fetch( FetchMode.SUBSELECT )
+		private Set<PurchaseLine> lines = new HashSet<>();
+
+		protected Purchase() {
+			// for use by Hibernate
+		}
+
+		public Purchase(Integer id, String customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+
+		public Set<PurchaseLine> getLines() {
+			return lines;
+		}
+	}
+
+	@Entity( name = "PurchaseLine" )
+	@Table( name = "array_subselect_line" )
+	public static class PurchaseLine {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Purchase purchase;
+		@OneToMany( mappedBy = "line" )
+		@Fetch( FetchMode.SUBSELECT )
+		private Set<LineNote> notes = new HashSet<>();
+
+		protected PurchaseLine() {
+			// for use by Hibernate
+		}
+
+		public PurchaseLine(Integer id, Purchase purchase) {
+			this.id = id;
+			this.purchase = purchase;
+		}
+
+		public Set<LineNote> getNotes() {
+			return notes;
+		}
+	}
+
+	@Entity( name = "LineNote" )
+	@Table( name = "array_subselect_note" )
+	public static class LineNote {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private PurchaseLine line;
+
+		protected LineNote() {
+			// for use by Hibernate
+		}
+
+		public LineNote(Integer id, PurchaseLine line) {
+			this.id = id;
+			this.line = line;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#DEFER_LOADER_CREATION}
+ */
+@DomainModel(annotatedClasses = {
+		DeferredLoaderCreationTest.Playlist.class,
+		DeferredLoaderCreationTest.Unused.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.DEFER_LOADER_CREATION, value = "true"))
+public class DeferredLoaderCreationTest {
+
+	@Test
+	public void testFirstUse(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Playlist playlist = new Playlist( 1, "favourites" );
+			playlist.getSongs().add( "first" );
+			playlist.getSongs().add( "second" );
+			session.persist( playlist );
+		} );
+
+		scope.inTransaction( session -> {
+			final Playlist playlist = session.find( Playlist.class, 1 );
+			assertThat( playlist.getName() ).isEqualTo( "favourites" );
+			assertThat( playlist.getSongs() ).containsExactly( "first", "second" );
+			playlist.setName( "favorites" );
+			playlist.getSongs().remove( 0 );
+		} );
+
+		scope.inTransaction( session -> {
+			final Playlist playlist = session.find( Playlist.class, 1 );
+			assertThat( playlist.getName() ).isEqualTo( "favorites" );
+			assertThat( playlist.getSongs() ).containsExactly( "second" );
+			assertThat( session.findMultiple( Playlist.class, List.of( 1, 2 ) ) ).containsExactly( playlist, null );
+			session.remove( playlist );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Playlist.class, 1 ) ).isNull() );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Entity(name = "Playlist")
+	@Table(name = "deferred_playlist")
+	public static class Playlist {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		@OrderColumn
+		private List<String> songs = new ArrayList<>();
+
+		protected Playlist() {
+			// for use by Hibernate
+		}
+
+		public Playlist(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<String> getSongs() {
+			return songs;
+		}
+	}
+
+	@Entity(name = "Unused")
+	@Table(name = "deferred_unused")
+	public static class Unused {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
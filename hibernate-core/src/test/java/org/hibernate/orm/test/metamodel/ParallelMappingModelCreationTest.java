@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfiler;
+import org.hibernate.metamodel.MappingMetamodel;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#MAPPING_MODEL_CREATION_PARALLELISM}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelMappingModelCreationTest.Shelf.class,
+		ParallelMappingModelCreationTest.Item.class,
+		ParallelMappingModelCreationTest.Book.class,
+		ParallelMappingModelCreationTest.Record.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.MAPPING_MODEL_CREATION_PARALLELISM, value = "4"))
+public class ParallelMappingModelCreationTest {
+
+	@Test
+	public void testPersistersCreated(SessionFactoryScope scope) {
+		final MappingMetamodel mappingMetamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( mappingMetamodel.getEntityDescriptor( Shelf.class ).getEntityName() ).isEqualTo( "Shelf" );
+		assertThat( mappingMetamodel.getEntityDescriptor( Book.class ).getSuperMappingType().getEntityName() )
+				.isEqualTo( "Item" );
+		assertThat( mappingMetamodel.getCollectionDescriptor( Shelf.class.getName() + ".items" ).getElementType()
+				.getReturnedClass() ).isEqualTo( Item.class );
+	}
+
+	@Test
+	public void testLoadersPreparedOncePerPersister(SessionFactoryScope scope) {
+		// each persister is also registered under its class name, since
+		// its entity name differs, but its loaders are prepared just once
+		assertThat( scope.getSessionFactory().getStartupProfile().getSlowestRoles( StartupPhase.LOADER_CREATION ) )
+				.extracting( StartupProfiler.Timing::role )
+				.containsOnlyOnce( "Shelf", "Item", "Book", "Record" );
+	}
+
+	@Test
+	public void testPersistAndQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf shelf = new Shelf( 1 );
+			session.persist( shelf );
+			session.persist( new Book( 1, shelf ) );
+			session.persist( new Record( 2, shelf ) );
+		} );
+		scope.inTransaction( session -> {
+			final Shelf shelf = session.find( Shelf.class, 1 );
+			assertThat( shelf.getItems() ).hasSize( 2 );
+			assertThat( session.createSelectionQuery( "from Book", Book.class ).getResultList() ).hasSize( 1 );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "parallel_shelf")
+	public static class Shelf {
+		@Id
+		private Integer id;
+		@OneToMany(mappedBy = "shelf")
+		private List<Item> items = new ArrayList<>();
+
+		protected Shelf() {
+			// for use by Hibernate
+		}
+
+		public Shelf(Integer id) {
+			this.id = id;
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "parallel_item")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Item {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Shelf shelf;
+
+		protected Item() {
+			// for use by Hibernate
+		}
+
+		public Item(Integer id, Shelf shelf) {
+			this.id = id;
+			this.shelf = shelf;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "parallel_book")
+	public static class Book extends Item {
+		protected Book() {
+			// for use by Hibernate
+		}
+
+		public Book(Integer id, Shelf shelf) {
+			super( id, shelf );
+		}
+	}
+
+	@Entity(name = "Record")
+	@Table(name = "parallel_record")
+	public static class Record extends Item {
+		protected Record() {
+			// for use by Hibernate
+		}
+
+		public Record(Integer id, Shelf shelf) {
+			super( id, shelf );
+		}
+	}
+}
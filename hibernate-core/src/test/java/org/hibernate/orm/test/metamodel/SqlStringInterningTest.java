@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.metamodel;
+
+import org.hibernate.annotations.Formula;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#INTERN_SQL_STRINGS}
+ */
+@DomainModel(annotatedClasses = SqlStringInterningTest.Invoice.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.INTERN_SQL_STRINGS, value = "true"))
+public class SqlStringInterningTest {
+
+	@Test
+	public void testSharedBetweenFactories(DomainModelScope scope) {
+		try ( var first = (SessionFactoryImplementor) scope.getDomainModel().buildSessionFactory();
+				var second = (SessionFactoryImplementor) scope.getDomainModel().buildSessionFactory() ) {
+			final EntityPersister firstPersister = persister( first );
+			final EntityPersister secondPersister = persister( second );
+			assertThat( firstPersister ).isNotSameAs( secondPersister );
+
+			assertThat( insertSql( secondPersister ) ).isSameAs( insertSql( firstPersister ) );
+			assertThat( selectionExpression( secondPersister, "total" ) )
+					.isSameAs( selectionExpression( firstPersister, "total" ) );
+			assertThat( selectionExpression( secondPersister, "amount" ) )
+					.isSameAs( selectionExpression( firstPersister, "amount" ) );
+		}
+	}
+
+	private static EntityPersister persister(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getMappingMetamodel().getEntityDescriptor( Invoice.class );
+	}
+
+	private static String insertSql(EntityPersister persister) {
+		final var operation = persister.getInsertCoordinator().getStaticMutationOperationGroup().getSingleOperation();
+		return ( (JdbcMutationOperation) operation ).getSqlString();
+	}
+
+	private static String selectionExpression(EntityPersister persister, String attributeName) {
+		return ( (BasicValuedModelPart) persister.findAttributeMapping( attributeName ) ).getSelectionExpression();
+	}
+
+	@Entity(name = "Invoice")
+	@Table(name = "interned_invoice")
+	public static class Invoice {
+		@Id
+		private Integer id;
+		private Integer amount;
+		@Formula("amount * 2")
+		private Integer total;
+	}
+}
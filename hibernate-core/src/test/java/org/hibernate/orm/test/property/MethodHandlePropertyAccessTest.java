@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.property;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.property.access.internal.ConstantHandleAccessors;
+import org.hibernate.property.access.internal.PropertyAccessStrategyMethodHandleImpl;
+import org.hibernate.property.access.spi.GetterFieldHandleImpl;
+import org.hibernate.property.access.spi.GetterMethodHandleImpl;
+import org.hibernate.property.access.spi.SetterFieldHandleImpl;
+import org.hibernate.property.access.spi.SetterMethodHandleImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value AvailableSettings#PROPERTY_ACCESS_METHOD_HANDLES}
+ */
+@DomainModel(annotatedClasses = {
+		MethodHandlePropertyAccessTest.Book.class,
+		MethodHandlePropertyAccessTest.Author.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PROPERTY_ACCESS_METHOD_HANDLES, value = "true"))
+public class MethodHandlePropertyAccessTest {
+
+	@Test
+	public void testAccessors(SessionFactoryScope scope) {
+		final var metamodel = scope.getSessionFactory().getMappingMetamodel();
+		final var title = metamodel.getEntityDescriptor( Book.class ).findAttributeMapping( "title" ).getPropertyAccess();
+		assertThat( title.getGetter() ).isInstanceOf( GetterFieldHandleImpl.class );
+		assertThat( title.getSetter() ).isInstanceOf( SetterFieldHandleImpl.class );
+		final var name = metamodel.getEntityDescriptor( Author.class ).findAttributeMapping( "name" ).getPropertyAccess();
+		assertThat( name.getGetter() ).isInstanceOf( GetterMethodHandleImpl.class );
+		assertThat( name.getSetter() ).isInstanceOf( SetterMethodHandleImpl.class );
+	}
+
+	@Test
+	public void testHiddenClassAccessors() throws Throwable {
+		final var pages = ConstantHandleAccessors.fieldAccessor( Book.class.getDeclaredField( "pages" ) );
+		assertThat( pages ).isNotNull();
+		assertThat( pages.getClass().isHidden() ).isTrue();
+		final var book = new Book( 1L, "Hibernate in Action", 400 );
+		assertThat( pages.get( book ) ).isEqualTo( 400 );
+		pages.set( book, 500 );
+		assertThat( book.pages ).isEqualTo( 500 );
+		final var getName = ConstantHandleAccessors.getterAccessor( Author.class.getMethod( "getName" ) );
+		final var setName = ConstantHandleAccessors.setterAccessor( Author.class.getMethod( "setName", String.class ) );
+		assertThat( getName ).isNotNull();
+		assertThat( setName ).isNotNull();
+		assertThat( getName.getClass() ).isNotSameAs( setName.getClass() );
+		final var author = new Author();
+		setName.set( author, "Gavin" );
+		assertThat( getName.get( author ) ).isEqualTo( "Gavin" );
+	}
+
+	@Test
+	public void testPersistAndLoad(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action", 400 ) );
+			final var author = new Author();
+			author.setId( 1L );
+			author.setName( "Gavin" );
+			session.persist( author );
+		} );
+		scope.inTransaction( session -> {
+			final var book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			assertThat( book.pages ).isEqualTo( 400 );
+			book.title = "Java Persistence with Hibernate";
+			assertThat( session.find( Author.class, 1L ).getName() ).isEqualTo( "Gavin" );
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Java Persistence with Hibernate" ) );
+	}
+
+	@Test
+	public void testNullAssignedToPrimitive() {
+		final var fieldAccess =
+				PropertyAccessStrategyMethodHandleImpl.FIELD.buildPropertyAccess( Book.class, "pages", true );
+		assertThatThrownBy( () -> fieldAccess.getSetter().set( new Book(), null ) )
+				.isInstanceOf( PropertyAccessException.class );
+		final var propertyAccess =
+				PropertyAccessStrategyMethodHandleImpl.BASIC.buildPropertyAccess( Author.class, "id", true );
+		assertThatThrownBy( () -> propertyAccess.getSetter().set( new Author(), null ) )
+				.isInstanceOf( PropertyAccessException.class );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "mh_book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private int pages;
+
+		protected Book() {
+			// for use by Hibernate
+		}
+
+		public Book(Long id, String title, int pages) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "mh_author")
+	@Access(AccessType.PROPERTY)
+	public static class Author {
+		private long id;
+		private String name;
+
+		@Id
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
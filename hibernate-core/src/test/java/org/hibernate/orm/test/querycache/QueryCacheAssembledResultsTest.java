@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#QUERY_CACHE_ASSEMBLED_RESULTS}
+ */
+@DomainModel( annotatedClasses = {
+		BasicEntity.class
+} )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_ASSEMBLED_RESULTS, value = "true" )
+} )
+public class QueryCacheAssembledResultsTest {
+
+	public record Summary(Integer id, String data) implements Serializable {
+	}
+
+	public record UnserializableSummary(Integer id, String data) {
+	}
+
+	@Test
+	public void testRecordResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		final List<Summary> first = scope.fromTransaction( session ->
+				session.createQuery( "select id, data from BasicEntity order by id", Summary.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		assertThat( first ).containsExactly( new Summary( 1, "first" ), new Summary( 2, "second" ) );
+		// only the assembled records
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		final List<Summary> second = scope.fromTransaction( session ->
+				session.createQuery( "select id, data from BasicEntity order by id", Summary.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		assertThat( second ).containsExactly( new Summary( 1, "first" ), new Summary( 2, "second" ) );
+		assertThat( second.get( 0 ) ).isSameAs( first.get( 0 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+
+		// the returned list is a copy which may be freely modified
+		second.clear();
+		final List<Summary> third = scope.fromTransaction( session ->
+				session.createQuery( "select id, data from BasicEntity order by id", Summary.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		assertThat( third ).containsExactly( new Summary( 1, "first" ), new Summary( 2, "second" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testUnserializableRecordResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		final List<UnserializableSummary> first = scope.fromTransaction( session ->
+				session.createQuery( "select id, data from BasicEntity order by id", UnserializableSummary.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		final List<UnserializableSummary> second = scope.fromTransaction( session ->
+				session.createQuery( "select id, data from BasicEntity order by id", UnserializableSummary.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		assertThat( second ).isEqualTo( first );
+		// the JDBC values are cached, and the records are assembled again
+		assertThat( second.get( 0 ) ).isNotSameAs( first.get( 0 ) );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testInvalidation(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session ->
+				session.createQuery( "select id, data from BasicEntity where id = 1", Summary.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		scope.inTransaction( session -> session.find( BasicEntity.class, 1 ).setData( "updated" ) );
+
+		final List<Summary> results = scope.fromTransaction( session ->
+				session.createQuery( "select id, data from BasicEntity where id = 1", Summary.class )
+						.setCacheable( true )
+						.getResultList()
+		);
+		assertThat( results ).containsExactly( new Summary( 1, "updated" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> session.find( BasicEntity.class, 1 ).setData( "first" ) );
+	}
+
+	@Test
+	public void testEntityResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session ->
+					assertThat( session.createQuery( "from BasicEntity order by id", BasicEntity.class )
+										.setCacheable( true )
+										.getResultList() ).hasSize( 2 )
+			);
+		}
+		// entities are never cached in assembled form
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@BeforeEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new BasicEntity( 1, "first" ) );
+			session.persist( new BasicEntity( 2, "second" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.softdelete;
+
+import org.hibernate.annotations.SoftDelete;
+import org.hibernate.cfg.StateManagementSettings;
+import org.hibernate.mapping.Index;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.schema.SchemaCreateHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value StateManagementSettings#SOFT_DELETE_INDEXES}
+ */
+@SuppressWarnings("JUnitMalformedDeclaration")
+@DomainModel(annotatedClasses = { SoftDeletePartialIndexTests.Owner.class, SoftDeletePartialIndexTests.Pet.class })
+@ServiceRegistry(settings = @Setting(name = StateManagementSettings.SOFT_DELETE_INDEXES, value = "true"))
+@SessionFactory
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsPartialIndexes.class)
+public class SoftDeletePartialIndexTests {
+	@Test
+	void verifyModel(DomainModelScope modelScope) {
+		final var table = modelScope.getEntityBinding( Pet.class ).getTable();
+
+		final Index tagIndex = index( table, "tag" );
+		// the name is hashed, like the implicit name of any other index
+		assertThat( tagIndex.getName() ).startsWith( "IDX" ).hasSizeLessThanOrEqualTo( 30 );
+		assertThat( tagIndex.getPredicate() ).startsWith( "deleted = " );
+
+		final Index ownerIndex = index( table, "owner_id" );
+		assertThat( ownerIndex.getName() ).isNotEqualTo( tagIndex.getName() );
+		assertThat( ownerIndex.getPredicate() ).startsWith( "deleted = " );
+
+		// owners are not soft-deleted
+		assertThat( modelScope.getEntityBinding( Owner.class ).getTable().getIndexes() ).isEmpty();
+
+		// but their nicknames are
+		final var nicknamesTable = modelScope.getDomainModel()
+				.getCollectionBinding( Owner.class.getName() + ".nicknames" )
+				.getCollectionTable();
+		assertThat( index( nicknamesTable, "owner_id" ).getPredicate() ).startsWith( "deleted = " );
+
+		final String ddl = SchemaCreateHelper.toCreateDdl( modelScope.getDomainModel() );
+		assertThat( ddl ).contains( tagIndex.getName() + " on pets (tag) where deleted = " );
+	}
+
+	private static Index index(org.hibernate.mapping.Table table, String columnName) {
+		return table.getIndexes().values().stream()
+				.filter( index -> index.getSelectables().size() == 1
+						&& index.getSelectables().get( 0 ).getText().equalsIgnoreCase( columnName ) )
+				.findFirst()
+				.orElseThrow();
+	}
+
+	@Test
+	void verifySchema(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().validateMappedObjects();
+
+		scope.inTransaction( session -> {
+			final var owner = new Owner( 1, "Gavin" );
+			session.persist( owner );
+			session.persist( new Pet( 1, "abc", owner ) );
+			session.persist( new Pet( 2, "def", owner ) );
+		} );
+		scope.inTransaction( session -> session.remove( session.find( Pet.class, 1 ) ) );
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Pet where owner.id = 1", Pet.class ).getResultList() )
+					.extracting( pet -> pet.tag )
+					.containsExactly( "def" );
+			assertThat( session.find( Pet.class, 1 ) ).isNull();
+		} );
+		scope.dropData();
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "owners")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		@SoftDelete
+		private Set<String> nicknames = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	@Table(name = "pets")
+	@SoftDelete
+	public static class Pet {
+		@Id
+		private Integer id;
+		@Column(unique = true)
+		private String tag;
+		@ManyToOne
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String tag, Owner owner) {
+			this.id = id;
+			this.tag = tag;
+			this.owner = owner;
+		}
+	}
+}
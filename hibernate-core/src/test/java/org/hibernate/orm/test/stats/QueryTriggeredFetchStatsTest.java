@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link QueryStatistics#getTriggeredFetchCounts()}
+ */
+@DomainModel(annotatedClasses = {
+		QueryTriggeredFetchStatsTest.Author.class,
+		QueryTriggeredFetchStatsTest.Book.class
+})
+@SessionFactory(generateStatistics = true)
+public class QueryTriggeredFetchStatsTest {
+
+	private static final String BOOKS = "from Book order by id";
+	private static final String BOOKS_WITH_AUTHORS = "from Book b join fetch b.author order by b.id";
+	private static final String BOOK_COUNT = "select count(*) from Book";
+
+	@Test
+	public void testLazyFetchesAttributedToQuery(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( BOOKS, Book.class ).getResultList();
+			for ( Book book : books ) {
+				assertThat( book.getAuthor().getBooks() ).isNotEmpty();
+			}
+		} );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( BOOKS );
+		assertThat( queryStatistics.getTriggeredFetchCounts() )
+				.containsEntry( Author.class.getName(), 3L )
+				.containsEntry( Author.class.getName() + ".books", 3L );
+		assertThat( queryStatistics.getTriggeredFetchCount() ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void testLazyFetchesAttributedToQueryWhichLoadedOwner(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( BOOKS, Book.class ).getResultList();
+			// a later query does not take over the lazy fetches of the books
+			assertThat( session.createSelectionQuery( BOOK_COUNT, Long.class ).getSingleResult() ).isEqualTo( 3L );
+			for ( Book book : books ) {
+				assertThat( book.getAuthor().getName() ).isNotNull();
+			}
+		} );
+
+		assertThat( statistics.getQueryStatistics( BOOKS ).getTriggeredFetchCounts() )
+				.containsExactly( entry( Author.class.getName(), 3L ) );
+		assertThat( statistics.getQueryStatistics( BOOK_COUNT ).getTriggeredFetchCounts() ).isEmpty();
+	}
+
+	@Test
+	public void testNoLazyFetches(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( BOOKS_WITH_AUTHORS, Book.class ).getResultList();
+			for ( Book book : books ) {
+				assertThat( book.getAuthor().getName() ).isNotNull();
+			}
+		} );
+
+		assertThat( statistics.getQueryStatistics( BOOKS_WITH_AUTHORS ).getTriggeredFetchCounts() ).isEmpty();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Author author = new Author( i, "author-" + i );
+				session.persist( author );
+				session.persist( new Book( i, "book-" + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		private Set<Book> books = new HashSet<>();
+
+		protected Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Set<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		protected Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
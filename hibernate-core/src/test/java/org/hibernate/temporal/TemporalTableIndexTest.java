@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.temporal;
+
+import java.time.Instant;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.Temporal;
+import org.hibernate.cfg.StateManagementSettings;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.Table;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.testing.orm.junit.DialectContext.awaitTimestampTick;
+
+/**
+ * Tests for {@value StateManagementSettings#TEMPORAL_TABLE_INDEXES}
+ */
+@SessionFactory
+@DomainModel(annotatedClasses = TemporalTableIndexTest.IndexedEntity.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StateManagementSettings.TEMPORAL_TABLE_STRATEGY, value = "SINGLE_TABLE"),
+		@Setting(name = StateManagementSettings.TEMPORAL_TABLE_INDEXES, value = "true")
+})
+class TemporalTableIndexTest {
+
+	@Test
+	void testIndexOnEffectivityColumns(SessionFactoryScope scope) {
+		final Table table = scope.getMetadataImplementor()
+				.getEntityBinding( IndexedEntity.class.getName() )
+				.getAuxiliaryTable();
+		assertThat( table.getIndexes().values() ).singleElement().satisfies( index -> {
+			// the name is hashed, like the implicit name of any other index
+			assertThat( index.getName() ).startsWith( "IDX" ).hasSizeLessThanOrEqualTo( 30 );
+			assertThat( index.getSelectables() )
+					.extracting( Selectable::getText )
+					.containsExactly( "effective_to", "effective_from" );
+		} );
+	}
+
+	@Test
+	void testReadAsOf(SessionFactoryScope scope) throws InterruptedException {
+		scope.getSessionFactory().inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				final var entity = new IndexedEntity();
+				entity.id = id;
+				entity.text = "hello";
+				session.persist( entity );
+			}
+		} );
+		awaitTimestampTick();
+		final Instant instant = Instant.now();
+		awaitTimestampTick();
+		scope.getSessionFactory().inTransaction( session ->
+				session.createSelectionQuery( "from IndexedEntity", IndexedEntity.class )
+						.getResultList()
+						.forEach( entity -> entity.text = "goodbye" )
+		);
+		scope.getSessionFactory().inTransaction( session ->
+				assertThat( session.createSelectionQuery( "from IndexedEntity", IndexedEntity.class )
+						.getResultList() )
+						.hasSize( 10 )
+						.allSatisfy( entity -> assertThat( entity.text ).isEqualTo( "goodbye" ) )
+		);
+		try (var session = scope.getSessionFactory().withOptions().asOf( instant ).open()) {
+			assertThat( session.createSelectionQuery( "from IndexedEntity", IndexedEntity.class )
+					.getResultList() )
+					.hasSize( 10 )
+					.allSatisfy( entity -> assertThat( entity.text ).isEqualTo( "hello" ) );
+		}
+	}
+
+	@Temporal(rowStart = "effective_from", rowEnd = "effective_to")
+	@Entity(name = "IndexedEntity")
+	@jakarta.persistence.Table(name = "indexed_entity")
+	static class IndexedEntity {
+		@Id
+		long id;
+		String text;
+	}
+}
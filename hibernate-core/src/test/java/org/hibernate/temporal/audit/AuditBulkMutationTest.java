@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.temporal.audit;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.annotations.Audited;
+import org.hibernate.audit.AuditEntry;
+import org.hibernate.audit.AuditLogFactory;
+import org.hibernate.audit.ModificationType;
+import org.hibernate.cfg.StateManagementSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.testing.orm.junit.AuditedTest;
+import org.hibernate.testing.orm.junit.BeforeClassTemplate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.temporal.spi.ChangesetIdentifierSupplier;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that bulk HQL updates and deletes of an audited entity
+ * write its audit rows using set-based statements.
+ */
+@AuditedTest
+@SessionFactory
+@DomainModel(annotatedClasses = {AuditBulkMutationTest.Item.class, AuditBulkMutationTest.Shelf.class})
+@ServiceRegistry(settings = {
+		@Setting(name = StateManagementSettings.CHANGESET_ID_SUPPLIER,
+				value = "org.hibernate.temporal.audit.AuditBulkMutationTest$TxIdSupplier"),
+		@Setting(name = StateManagementSettings.AUDIT_STRATEGY, value = "validity")
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AuditBulkMutationTest {
+	private static int currentTxId;
+
+	public static class TxIdSupplier implements ChangesetIdentifierSupplier<Integer> {
+		@Override
+		public Integer generateIdentifier(SharedSessionContract session) {
+			return ++currentTxId;
+		}
+	}
+
+	@Audited
+	@Entity(name = "Item")
+	static class Item {
+		@Id
+		long id;
+		String name;
+		int price;
+		Dimensions size;
+
+		Item() {
+		}
+
+		Item(long id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Embeddable
+	static class Dimensions {
+		int width;
+		int height;
+	}
+
+	@Audited
+	@Entity(name = "Shelf")
+	static class Shelf {
+		@Id
+		long id;
+		@ElementCollection
+		Set<String> labels = new HashSet<>();
+
+		Shelf() {
+		}
+
+		Shelf(long id, String... labels) {
+			this.id = id;
+			this.labels.addAll( Set.of( labels ) );
+		}
+	}
+
+	@BeforeClassTemplate
+	void initData(SessionFactoryScope scope) {
+		currentTxId = 0;
+		// Rev 1: create the items
+		scope.getSessionFactory().inTransaction( session -> {
+			session.persist( new Item( 1L, "pen", 10 ) );
+			session.persist( new Item( 2L, "book", 50 ) );
+			session.persist( new Item( 3L, "lamp", 150 ) );
+		} );
+	}
+
+	@Test
+	@Order(1)
+	void testBulkUpdate(SessionFactoryScope scope) {
+		// Rev 2: the restriction refers to the assigned column
+		scope.getSessionFactory().inTransaction( session ->
+				assertThat( session.createMutationQuery( "update Item set price = price * 2 where price < 100" )
+						.executeUpdate() ).isEqualTo( 2 )
+		);
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 1L ) ).containsExactly( 1, 2 );
+			assertThat( auditLog.getChangesets( Item.class, 3L ) ).containsExactly( 1 );
+			assertThat( auditLog.find( Item.class, 1L, 1 ).price ).isEqualTo( 10 );
+			assertThat( auditLog.find( Item.class, 1L, 2 ).price ).isEqualTo( 20 );
+			assertThat( auditLog.find( Item.class, 2L, 2 ).price ).isEqualTo( 100 );
+			assertThat( auditLog.getHistory( Item.class, 2L ) )
+					.extracting( AuditEntry::modificationType )
+					.containsExactly( ModificationType.ADD, ModificationType.MOD );
+		}
+	}
+
+	@Test
+	@Order(2)
+	void testRepeatedBulkUpdate(SessionFactoryScope scope) {
+		// Rev 3: both updates are recorded by a single audit row
+		scope.getSessionFactory().inTransaction( session -> {
+			session.createMutationQuery( "update Item set name = 'old ' || name where id = 1" ).executeUpdate();
+			session.createMutationQuery( "update Item set price = :price where id = 1" )
+					.setParameter( "price", 25 )
+					.executeUpdate();
+		} );
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 1L ) ).containsExactly( 1, 2, 3 );
+			final var item = auditLog.find( Item.class, 1L, 3 );
+			assertThat( item.name ).isEqualTo( "old pen" );
+			assertThat( item.price ).isEqualTo( 25 );
+			assertThat( auditLog.find( Item.class, 1L, 2 ).price ).isEqualTo( 20 );
+		}
+	}
+
+	@Test
+	@Order(3)
+	void testBulkDelete(SessionFactoryScope scope) {
+		// Rev 4
+		scope.getSessionFactory().inTransaction( session ->
+				assertThat( session.createMutationQuery( "delete from Item where price > 100" )
+						.executeUpdate() ).isEqualTo( 1 )
+		);
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 3L ) ).containsExactly( 1, 4 );
+			assertThat( auditLog.find( Item.class, 3L, 4 ) ).isNull();
+			assertThat( auditLog.find( Item.class, 3L, 1 ).name ).isEqualTo( "lamp" );
+			assertThat( auditLog.getHistory( Item.class, 3L ) )
+					.extracting( AuditEntry::modificationType )
+					.containsExactly( ModificationType.ADD, ModificationType.DEL );
+			assertThat( auditLog.find( Item.class, 2L, 4 ).price ).isEqualTo( 100 );
+		}
+	}
+
+	@Test
+	@Order(4)
+	void testSessionChangeAfterBulkUpdate(SessionFactoryScope scope) {
+		// Rev 5: the change made through the session supersedes the audit row of the bulk update
+		scope.getSessionFactory().inTransaction( session -> {
+			session.createMutationQuery( "update Item set price = 30 where id = 2" ).executeUpdate();
+			session.find( Item.class, 2L ).name = "novel";
+		} );
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 2L ) ).containsExactly( 1, 2, 5 );
+			final var item = auditLog.find( Item.class, 2L, 5 );
+			assertThat( item.name ).isEqualTo( "novel" );
+			assertThat( item.price ).isEqualTo( 30 );
+			assertThat( auditLog.getHistory( Item.class, 2L ) )
+					.extracting( AuditEntry::modificationType )
+					.containsExactly( ModificationType.ADD, ModificationType.MOD, ModificationType.MOD );
+		}
+	}
+
+	@Test
+	@Order(5)
+	void testBulkUpdateAfterPersist(SessionFactoryScope scope) {
+		// Rev 6: the audit row of the bulk update records the creation of the item
+		scope.getSessionFactory().inTransaction( session -> {
+			session.persist( new Item( 4L, "cup", 5 ) );
+			session.createMutationQuery( "update Item set price = 6 where id = 4" ).executeUpdate();
+		} );
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 4L ) ).containsExactly( 6 );
+			assertThat( auditLog.find( Item.class, 4L, 6 ).price ).isEqualTo( 6 );
+			assertThat( auditLog.getHistory( Item.class, 4L ) )
+					.extracting( AuditEntry::modificationType )
+					.containsExactly( ModificationType.ADD );
+		}
+	}
+
+	@Test
+	@Order(6)
+	void testBulkDeleteAfterPersist(SessionFactoryScope scope) {
+		// Rev 7: an item created and deleted in the same transaction has no audit rows
+		scope.getSessionFactory().inTransaction( session -> {
+			session.persist( new Item( 5L, "vase", 40 ) );
+			session.createMutationQuery( "delete from Item where id = 5" ).executeUpdate();
+		} );
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 5L ) ).isEmpty();
+		}
+	}
+
+	@Test
+	@Order(7)
+	void testPersistAfterBulkDelete(SessionFactoryScope scope) {
+		// Rev 8: an item deleted and created again is recorded as modified
+		scope.getSessionFactory().inTransaction( session -> {
+			session.createMutationQuery( "delete from Item where id = 4" ).executeUpdate();
+			session.persist( new Item( 4L, "mug", 7 ) );
+		} );
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 4L ) ).containsExactly( 6, 8 );
+			assertThat( auditLog.find( Item.class, 4L, 8 ).name ).isEqualTo( "mug" );
+			assertThat( auditLog.getHistory( Item.class, 4L ) )
+					.extracting( AuditEntry::modificationType )
+					.containsExactly( ModificationType.ADD, ModificationType.MOD );
+		}
+	}
+
+	@Test
+	@Order(8)
+	void testBulkDeleteOfCollectionOwner(SessionFactoryScope scope) {
+		// Rev 9: create the shelf
+		scope.getSessionFactory().inTransaction( session -> session.persist( new Shelf( 1L, "a", "b" ) ) );
+		// Rev 10: the rows of the element collection are recorded as deleted
+		scope.getSessionFactory().inTransaction( session ->
+				session.createMutationQuery( "delete from Shelf where id = 1" ).executeUpdate()
+		);
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Shelf.class, 1L ) ).containsExactly( 9, 10 );
+			assertThat( auditLog.find( Shelf.class, 1L, 9 ).labels ).containsExactlyInAnyOrder( "a", "b" );
+		}
+		scope.inSession( session ->
+				assertThat( session.createNativeQuery(
+						"select labels from Shelf_labels_AUD where REVTYPE = 2 and REV = 10", String.class
+				).getResultList() ).containsExactlyInAnyOrder( "a", "b" )
+		);
+	}
+
+	@Test
+	@Order(9)
+	void testBulkUpdateAfterSessionChange(SessionFactoryScope scope) {
+		// Rev 11: the audit row of the bulk update absorbs the change flushed before it
+		scope.getSessionFactory().inTransaction( session -> {
+			session.find( Item.class, 2L ).name = "essay";
+			session.flush();
+			session.createMutationQuery( "update Item set price = 50 where id = 2" ).executeUpdate();
+		} );
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.getChangesets( Item.class, 2L ) ).containsExactly( 1, 2, 5, 11 );
+			final var item = auditLog.find( Item.class, 2L, 11 );
+			assertThat( item.name ).isEqualTo( "essay" );
+			assertThat( item.price ).isEqualTo( 50 );
+			assertThat( auditLog.getHistory( Item.class, 2L ) )
+					.extracting( AuditEntry::modificationType )
+					.containsExactly( ModificationType.ADD, ModificationType.MOD, ModificationType.MOD, ModificationType.MOD );
+		}
+	}
+
+	@Test
+	@Order(10)
+	@RequiresDialect(H2Dialect.class)
+	@RequiresDialect(PostgreSQLDialect.class)
+	void testBulkUpdateAssigningSubquery(SessionFactoryScope scope) {
+		// an embeddable assigned from a subquery cannot be audited set-based,
+		// but the update is still executed
+		scope.getSessionFactory().inTransaction( session ->
+				assertThat( session.createMutationQuery(
+						"update Item set size = (select i.size from Item i where i.id = 2) where id = 1"
+				).executeUpdate() ).isEqualTo( 1 )
+		);
+	}
+}
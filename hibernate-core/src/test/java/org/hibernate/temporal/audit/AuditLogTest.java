@@ -8,6 +8,7 @@
 import jakarta.persistence.Id;
 
 import org.hibernate.annotations.Audited;
+import org.hibernate.audit.AuditEntry;
 import org.hibernate.audit.AuditLog;
 import org.hibernate.audit.AuditLogFactory;
 import org.hibernate.audit.ModificationType;
@@ -522,4 +523,60 @@ void testGetHistoryForNonExistentEntity(SessionFactoryScope scope) {
 			assertTrue( history.isEmpty() );
 		}
 	}
+
+	// --- streamHistory ---
+
+	@Test
+	@Order(26)
+	void testStreamHistory(SessionFactoryScope scope) {
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() );
+				var stream = auditLog.streamHistory( AuditedEntity.class )) {
+			final var history = stream.toList();
+			assertEquals( 5, history.size() );
+
+			// ordered by changeset, and then by id
+			assertEquals( List.of( revCreate1, revCreate2, revCreate2, revUpdate, revDelete ),
+					history.stream().map( AuditEntry::changeset ).toList() );
+			assertEquals( List.of( 1L, 1L, 2L, 2L, 1L ),
+					history.stream().map( entry -> entry.entity().id ).toList() );
+			assertEquals( List.of( ModificationType.ADD, ModificationType.MOD, ModificationType.ADD,
+							ModificationType.MOD, ModificationType.DEL ),
+					history.stream().map( AuditEntry::modificationType ).toList() );
+
+			// each snapshot is a distinct detached instance
+			assertEquals( "first", history.get( 0 ).entity().name );
+			assertEquals( "first-updated", history.get( 1 ).entity().name );
+			assertEquals( "second-updated", history.get( 3 ).entity().name );
+		}
+	}
+
+	@Test
+	@Order(27)
+	void testStreamHistoryAfterChangeset(SessionFactoryScope scope) {
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() );
+				var stream = auditLog.streamHistory( AuditedEntity.class, revCreate2, 2L )) {
+			final var history = stream.toList();
+			assertEquals( 2, history.size() );
+			assertEquals( revUpdate, history.get( 0 ).changeset() );
+			assertEquals( "second-updated", history.get( 0 ).entity().name );
+			assertEquals( revDelete, history.get( 1 ).changeset() );
+			assertEquals( ModificationType.DEL, history.get( 1 ).modificationType() );
+		}
+	}
+
+	@Test
+	@Order(28)
+	void testStreamHistoryResumedWithinChangeset(SessionFactoryScope scope) {
+		// revCreate2 modified entity 1 and created entity 2
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() );
+				var stream = auditLog.streamHistory( AuditedEntity.class, revCreate2, 1L )) {
+			final var history = stream.toList();
+			assertEquals( List.of( revCreate2, revUpdate, revDelete ),
+					history.stream().map( AuditEntry::changeset ).toList() );
+			assertEquals( List.of( 2L, 2L, 1L ),
+					history.stream().map( entry -> entry.entity().id ).toList() );
+			assertEquals( ModificationType.ADD, history.get( 0 ).modificationType() );
+			assertEquals( "second", history.get( 0 ).entity().name );
+		}
+	}
 }
@@ -299,4 +299,20 @@ void testChangelogHasModifiedEntityNames(SessionFactoryScope scope) {
 					.anyMatch( n -> n.contains( "Author" ) ) );
 		}
 	}
+
+	@Test
+	@Order(12)
+	void testChangelogHasModifiedEntityNamesOfBulkUpdate(SessionFactoryScope scope) {
+		scope.getSessionFactory().inTransaction( session ->
+				session.createMutationQuery( "update Book set title = 'Java Persistence with Hibernate' where id = 1" )
+						.executeUpdate()
+		);
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			final var revisions = auditLog.getChangesets( Book.class, 1L );
+			final var revInfo = auditLog.findChangeset( TrackingRevisionInfo.class, revisions.get( revisions.size() - 1 ) );
+			assertEquals( 1, revInfo.modifiedEntityNames.size() );
+			assertTrue( revInfo.modifiedEntityNames.stream()
+					.anyMatch( n -> n.contains( "Book" ) ) );
+		}
+	}
 }
@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.temporal.audit.inheritance;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Audited;
+import org.hibernate.annotations.Changelog;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.audit.AuditLogFactory;
+import org.hibernate.audit.ModificationType;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.testing.orm.junit.AuditedTest;
+import org.hibernate.testing.orm.junit.BeforeClassTemplate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the audit rows of a JOINED hierarchy are written in batches
+ * grouped by audit table, and that the modified entities of a changeset
+ * are loaded with one query per hierarchy.
+ */
+@AuditedTest
+@SessionFactory(useCollectingStatementInspector = true)
+@DomainModel(annotatedClasses = {
+		AuditJoinedInheritanceBatchingTest.Shape.class,
+		AuditJoinedInheritanceBatchingTest.Circle.class,
+		AuditJoinedInheritanceBatchingTest.Square.class,
+		AuditJoinedInheritanceBatchingTest.ShapeRevisionInfo.class
+})
+@ServiceRegistry(settings = @Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "4"))
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AuditJoinedInheritanceBatchingTest {
+
+	@Changelog
+	@Entity(name = "ShapeRevisionInfo")
+	@Table(name = "REVINFO")
+	static class ShapeRevisionInfo {
+		@Id
+		@GeneratedValue
+		@Changelog.ChangesetId
+		@Column(name = "REV")
+		int id;
+
+		@Changelog.Timestamp
+		@Column(name = "REVTSTMP")
+		long timestamp;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@JoinTable(name = "REVCHANGES", joinColumns = @JoinColumn(name = "REV"))
+		@Column(name = "ENTITYNAME")
+		@Fetch(FetchMode.JOIN)
+		@Changelog.ModifiedEntities
+		Set<String> modifiedEntityNames = new HashSet<>();
+	}
+
+	@Audited
+	@Entity(name = "Shape")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	static class Shape {
+		@Id
+		long id;
+		String name;
+
+		Shape() {
+		}
+
+		Shape(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Audited
+	@Entity(name = "Circle")
+	static class Circle extends Shape {
+		double radius;
+
+		Circle() {
+		}
+
+		Circle(long id, String name, double radius) {
+			super( id, name );
+			this.radius = radius;
+		}
+	}
+
+	@Audited
+	@Entity(name = "Square")
+	static class Square extends Shape {
+		double side;
+
+		Square() {
+		}
+
+		Square(long id, String name, double side) {
+			super( id, name );
+			this.side = side;
+		}
+	}
+
+	private Object revCreate;
+	private Object revUpdate;
+
+	@BeforeClassTemplate
+	void initData(SessionFactoryScope scope) {
+		// Interleave the subclasses so that the audit rows of
+		// different tables would alternate if not grouped
+		scope.getSessionFactory().inTransaction( session -> {
+			session.persist( new Shape( 1L, "shape" ) );
+			for ( long id = 2; id < 12; id += 2 ) {
+				session.persist( new Circle( id, "circle", id ) );
+				session.persist( new Square( id + 1, "square", id ) );
+			}
+		} );
+		scope.getSessionFactory().inTransaction( session ->
+				session.createSelectionQuery( "from Shape", Shape.class )
+						.getResultList()
+						.forEach( shape -> shape.name = shape.name + " 2" )
+		);
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			final var changesets = auditLog.getChangesets( Circle.class, 2L );
+			assertThat( changesets ).hasSize( 2 );
+			revCreate = changesets.get( 0 );
+			revUpdate = changesets.get( 1 );
+		}
+	}
+
+	@Test
+	void testFindAllEntitiesModifiedAt(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			inspector.clear();
+			final var entities = auditLog.findAllEntitiesModifiedAt( revCreate );
+			assertThat( entities ).hasSize( 11 ).doesNotHaveDuplicates();
+			assertThat( entities ).filteredOn( Circle.class::isInstance ).hasSize( 5 );
+			assertThat( entities ).filteredOn( Square.class::isInstance ).hasSize( 5 );
+			// the modified entity names, and then the whole hierarchy at once
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+		}
+	}
+
+	@Test
+	void testFindAllEntitiesGroupedByModificationType(SessionFactoryScope scope) {
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			final var grouped = auditLog.findAllEntitiesGroupedByModificationType( revUpdate );
+			assertThat( grouped.get( ModificationType.ADD ) ).isEmpty();
+			assertThat( grouped.get( ModificationType.MOD ) )
+					.hasSize( 11 )
+					.allSatisfy( shape -> assertThat( ( (Shape) shape ).name ).endsWith( " 2" ) );
+			assertThat( grouped.get( ModificationType.DEL ) ).isEmpty();
+		}
+	}
+
+	@Test
+	void testFindEntitiesModifiedAtSubclass(SessionFactoryScope scope) {
+		try (var auditLog = AuditLogFactory.create( scope.getSessionFactory() )) {
+			assertThat( auditLog.findEntitiesModifiedAt( Square.class, revUpdate ) )
+					.hasSize( 5 )
+					.allSatisfy( square -> assertThat( square.name ).isEqualTo( "square 2" ) );
+			assertThat( auditLog.getHistory( Circle.class, 4L ) )
+					.extracting( entry -> entry.entity().radius )
+					.containsExactly( 4d, 4d );
+		}
+	}
+}
@@ -0,0 +1,3 @@
+insert into CacheableItem (id, name) values (1, 'first')
+insert into CacheableItem (id, name) values (2, 'second')
+insert into CacheableItem (id, name) values (3, 'third')
@@ -302,6 +302,18 @@ <T> Map<Number, T> findRevisions(
 	@Deprecated(since = "5.2")
 	<T> T getCurrentRevision(Class<T> revisionEntityClass, boolean persist);
 
+	/**
+	 * Writes the audit rows captured in the
+	 * {@linkplain org.hibernate.envers.configuration.EnversSettings#AUDIT_OUTBOX audit outbox}
+	 * by the committed transactions, so that queries of the audit history see the changes
+	 * of all the committed transactions. The rows are written in separate transactions,
+	 * and so the changes of the current transaction are not written. Does nothing if the
+	 * audit outbox is not enabled.
+	 *
+	 * @since 8.1
+	 */
+	void drainAuditOutbox();
+
 	/**
 	 * Creates an audit query
 	 *
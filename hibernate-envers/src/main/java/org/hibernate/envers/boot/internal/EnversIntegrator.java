@@ -18,6 +18,8 @@
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.internal.synchronization.AuditOutboxDrainer;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
@@ -118,6 +120,14 @@ public void integrate(
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Start draining the audit outbox, if enabled
+		final AuditOutbox auditOutbox = enversService.getAuditProcessManager().getAuditOutbox();
+		final int drainInterval = enversService.getConfig().getAuditOutboxDrainInterval();
+		if ( auditOutbox != null && drainInterval > 0 ) {
+			sessionFactory.addObserver( new AuditOutboxDrainer( auditOutbox, drainInterval ) );
+		}
 	}
 
 	@Override
@@ -31,6 +31,7 @@ public class ManyToOneAttribute implements PluralAttribute, Keyable {
 	private String onDelete;
 	private String name;
 	private String foreignKey;
+	private String index;
 
 	public ManyToOneAttribute(String name, String type, boolean insertable, boolean updatable, boolean key, String explicitType) {
 		this.name = name;
@@ -51,6 +52,7 @@ public ManyToOneAttribute(ManyToOneAttribute other) {
 		this.clazz = other.clazz;
 		this.onDelete = other.onDelete;
 		this.foreignKey = other.foreignKey;
+		this.index = other.index;
 
 		this.columns = new ArrayList<>();
 		for ( Column column : other.columns ) {
@@ -100,6 +102,10 @@ public void setForeignKey(String foreignKey) {
 		this.foreignKey = foreignKey;
 	}
 
+	public void setIndex(String index) {
+		this.index = index;
+	}
+
 	@Override
 	public ManyToOneAttribute deepCopy() {
 		return new ManyToOneAttribute( this );
@@ -142,6 +148,10 @@ private JaxbHbmManyToOneType buildManyToOne() {
 			manyToOne.setForeignKey(foreignKey);
 		}
 
+		if ( !StringTools.isEmpty( index ) ) {
+			manyToOne.setIndex( index );
+		}
+
 		for ( Column column : columns ) {
 			manyToOne.getColumnOrFormula().add( column.build() );
 		}
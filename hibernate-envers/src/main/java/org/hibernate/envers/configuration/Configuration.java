@@ -68,6 +68,7 @@ public class Configuration {
 	private final boolean modifiedFlagsEnabled;
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
+	private final boolean entitiesAtRevisionGroupedSubquery;
 	private final boolean globalLegacyRelationTargetNotFound;
 
 	private final boolean trackEntitiesChanged;
@@ -87,7 +88,11 @@ public class Configuration {
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
+	private final boolean revisionEndIndexed;
 	private final boolean revisionSequenceNoCache;
+	private final int auditBatchSize;
+	private final boolean auditOutbox;
+	private final int auditOutboxDrainInterval;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -176,6 +181,14 @@ public Configuration(Properties properties, EnversService enversService, InFligh
 				EnversSettings.REVISION_SEQUENCE_NOCACHE,
 				false
 		);
+		auditBatchSize = configProps.getInt( EnversSettings.AUDIT_BATCH_SIZE, 0 );
+		auditOutbox = configProps.getBoolean( EnversSettings.AUDIT_OUTBOX, false );
+		auditOutboxDrainInterval = configProps.getInt( EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, 1000 );
+		revisionEndIndexed = configProps.getBoolean( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_INDEX, false );
+		entitiesAtRevisionGroupedSubquery = configProps.getBoolean(
+				EnversSettings.ENTITIES_AT_REVISION_GROUPED_SUBQUERY,
+				false
+		);
 
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
@@ -247,6 +260,26 @@ public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
 
+	public int getAuditBatchSize() {
+		return auditBatchSize;
+	}
+
+	public boolean isAuditOutbox() {
+		return auditOutbox;
+	}
+
+	public int getAuditOutboxDrainInterval() {
+		return auditOutboxDrainInterval;
+	}
+
+	public boolean isRevisionEndIndexed() {
+		return revisionEndIndexed;
+	}
+
+	public boolean isEntitiesAtRevisionGroupedSubquery() {
+		return entitiesAtRevisionGroupedSubquery;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -430,6 +463,10 @@ boolean getBoolean(String propertyName, boolean defaultValue) {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
@@ -128,6 +128,31 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_LEGACY_PLACEMENT = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_legacy_placement";
 
+	/**
+	 * Whether to create an index on the end revision column of each audit table, so that
+	 * the range predicates of queries for entities at a given revision can use it.
+	 * Only used by the {@link org.hibernate.envers.strategy.ValidityAuditStrategy}.
+	 * <p>
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 8.1
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_INDEX = "org.hibernate.envers.audit_strategy_validity_revend_index";
+
+	/**
+	 * Whether queries for entities at a given revision with the default audit strategy
+	 * select the latest revision of each entity using a single grouped subquery, that is,
+	 * {@code (e.id, e.revision) in (select e2.id, max(e2.revision) ... group by e2.id)},
+	 * instead of a {@code max(revision)} subquery correlated with each audit row. The
+	 * grouped subquery is evaluated once, which scales much better on large audit tables
+	 * when most of the entities are selected.
+	 * <p>
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 8.1
+	 */
+	String ENTITIES_AT_REVISION_GROUPED_SUBQUERY = "org.hibernate.envers.entities_at_revision_grouped_subquery";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -190,4 +215,50 @@ public interface EnversSettings {
 	 */
 	@Internal
 	String REVISION_SEQUENCE_NOCACHE = "org.hibernate.envers.revision_sequence_nocache";
+
+	/**
+	 * The JDBC batch size used when writing the revision entity and the audit rows
+	 * of a transaction, overriding the {@linkplain org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_SIZE
+	 * batch size} of the session for the duration of the audit flush. Since the rows
+	 * of each audit table are written together, a large batch size moves most of the
+	 * audit writes of a transaction into a few JDBC batches.
+	 * <p>
+	 * Not applied to a {@link org.hibernate.StatelessSession}.
+	 * <p>
+	 * Defaults to {@literal 0}, meaning the batch size of the session is used.
+	 *
+	 * @since 8.1
+	 */
+	String AUDIT_BATCH_SIZE = "org.hibernate.envers.audit_batch_size";
+
+	/**
+	 * Whether the audit rows of a transaction should be written asynchronously, after the
+	 * transaction commits. When enabled, the revision entity is still written in the
+	 * transaction, but the audit data of the transaction is captured into a single row of
+	 * the {@code AUDIT_OUTBOX} table, from which the audit rows are written later, in large
+	 * batches, by a background drainer, or when the outbox is drained by
+	 * {@link org.hibernate.envers.AuditReader#drainAuditOutbox()}.
+	 * <p>
+	 * Until the outbox is drained, queries of the audit history do not see the changes of
+	 * recent transactions.
+	 * <p>
+	 * Defaults to {@literal false}.
+	 *
+	 * @see #AUDIT_OUTBOX_DRAIN_INTERVAL
+	 *
+	 * @since 8.1
+	 */
+	String AUDIT_OUTBOX = "org.hibernate.envers.audit_outbox";
+
+	/**
+	 * The interval, in milliseconds, between the runs of the background drainer which writes
+	 * the audit rows captured in the {@linkplain #AUDIT_OUTBOX audit outbox}. A value of
+	 * {@literal 0} disables the background drainer, so that the outbox is only drained by
+	 * {@link org.hibernate.envers.AuditReader#drainAuditOutbox()}.
+	 * <p>
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @since 8.1
+	 */
+	String AUDIT_OUTBOX_DRAIN_INTERVAL = "org.hibernate.envers.audit_outbox_drain_interval";
 }
@@ -18,6 +18,7 @@
 import org.hibernate.envers.configuration.internal.metadata.reader.AnnotationsMetadataReader;
 import org.hibernate.envers.configuration.internal.metadata.reader.ClassAuditingData;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.internal.tools.graph.GraphTopologicalSort;
 import org.hibernate.mapping.PersistentClass;
@@ -101,6 +102,14 @@ public EntitiesConfigurations configure(EnversMetadataBuildingContext metadataBu
 
 				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
 			}
+
+			if ( configuration.isAuditOutbox() ) {
+				final EntityMappingData mappingData = new EntityMappingData();
+				mappingData.addMapping( AuditOutbox.generateMapping( configuration ) );
+				mappingData.build();
+
+				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
+			}
 		}
 
 		return new EntitiesConfigurations(
@@ -24,6 +24,7 @@
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
@@ -342,6 +343,15 @@ public <T> T getCurrentRevision(Class<T> revisionEntityClass, boolean persist) {
 		return (T) auditProcess.getCurrentRevisionData( (SessionImplementor) session, persist );
 	}
 
+	@Override
+	public void drainAuditOutbox() {
+		checkSession();
+		final AuditOutbox auditOutbox = enversService.getAuditProcessManager().getAuditOutbox();
+		if ( auditOutbox != null ) {
+			auditOutbox.drainAll( sessionImplementor.getFactory() );
+		}
+	}
+
 	@Override
 	public AuditQueryCreator createQuery() {
 		return new AuditQueryCreator( enversService, this );
@@ -0,0 +1,289 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.boot.model.BasicAttribute;
+import org.hibernate.envers.boot.model.Column;
+import org.hibernate.envers.boot.model.PersistentEntity;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
+import org.hibernate.envers.boot.model.SimpleIdentifier;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.internal.synchronization.work.PersistentCollectionChangeWorkUnit;
+import org.hibernate.envers.internal.tools.OrmTools;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+import org.jboss.logging.Logger;
+
+import static org.hibernate.Length.LONG32;
+
+/**
+ * The outbox of the audit rows of committed transactions, used when the
+ * {@linkplain org.hibernate.envers.configuration.EnversSettings#AUDIT_OUTBOX audit outbox}
+ * is enabled. Instead of writing the audit rows at the end of a transaction, the
+ * {@link AuditProcess} {@linkplain #capture captures} the audit data of all the work
+ * units of the transaction into a single row of the outbox table, which is inserted
+ * in the same transaction. The outbox is {@linkplain #drain drained} later, in other
+ * transactions, by replaying the captured data through the
+ * {@link org.hibernate.envers.strategy.spi.AuditStrategy}, and then removing the rows
+ * of the outbox.
+ * <p>
+ * The revision entity is not captured, since it is still written by the transaction.
+ * It is replaced by a placeholder in the captured data, and loaded again when the
+ * outbox is drained.
+ *
+ * @since 8.1
+ */
+public class AuditOutbox {
+	private static final Logger log = Logger.getLogger( AuditOutbox.class );
+
+	public static final String ENTITY_NAME = "EnversAuditOutbox";
+	public static final String TABLE_NAME = "AUDIT_OUTBOX";
+	public static final String SEQUENCE_NAME = "AUDIT_OUTBOX_SEQ";
+
+	private static final String ID = "id";
+	private static final String REVISION = "revision";
+	private static final String PAYLOAD = "payload";
+
+	/**
+	 * The maximum number of captured transactions written by one draining transaction.
+	 */
+	private static final int DRAIN_LIMIT = 100;
+
+	private final EnversService enversService;
+
+	public AuditOutbox(EnversService enversService) {
+		this.enversService = enversService;
+	}
+
+	/**
+	 * The mapping of the outbox table.
+	 */
+	public static PersistentEntity generateMapping(Configuration configuration) {
+		final RootPersistentEntity mapping = new RootPersistentEntity(
+				new AuditTableData(
+						ENTITY_NAME,
+						TABLE_NAME,
+						configuration.getDefaultSchemaName(),
+						configuration.getDefaultCatalogName()
+				),
+				null
+		);
+
+		final SimpleIdentifier identifier = new SimpleIdentifier( ID, "long" );
+		identifier.setGeneratorClass( SequenceStyleGenerator.class.getName() );
+		identifier.setParameter( SequenceStyleGenerator.SEQUENCE_PARAM, SEQUENCE_NAME );
+		identifier.addColumn( new Column( "ID" ) );
+		mapping.setIdentifier( identifier );
+
+		final BasicAttribute revision = new BasicAttribute( REVISION, "long", true, false );
+		revision.addColumn( new Column( "REV" ) );
+		mapping.addAttribute( revision );
+
+		final BasicAttribute payload = new BasicAttribute( PAYLOAD, "binary", true, false );
+		payload.addColumn( new Column( "PAYLOAD", (long) LONG32, null, null, null, null, null ) );
+		mapping.addAttribute( payload );
+
+		return mapping;
+	}
+
+	/**
+	 * Capture the audit data of the given work units into a row of the outbox, which
+	 * is saved in the given session.
+	 *
+	 * @return {@code false} if the audit data could not be captured, in which case the
+	 * work units should be performed as usual
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean capture(
+			SharedSessionContractImplementor session,
+			Object revisionData,
+			Collection<AuditWorkUnit> workUnits) {
+		final Configuration configuration = enversService.getConfig();
+		final Number revisionNumber = enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionData );
+
+		final ArrayList<CapturedChange> changes = new ArrayList<>( workUnits.size() );
+		for ( AuditWorkUnit workUnit : workUnits ) {
+			if ( workUnit instanceof PersistentCollectionChangeWorkUnit collectionWorkUnit ) {
+				for ( PersistentCollectionChangeData changeData : collectionWorkUnit.getCollectionChanges() ) {
+					final Map<String, Object> data = capture( changeData.getData(), revisionData );
+					// Setting the revision, as done by PersistentCollectionChangeWorkUnit#perform
+					( (Map<String, Object>) data.get( configuration.getOriginalIdPropertyName() ) )
+							.put( configuration.getRevisionFieldName(), RevisionPlaceholder.REVISION );
+					changes.add( new CollectionChange(
+							collectionWorkUnit.getEntityName(),
+							collectionWorkUnit.getReferencingPropertyName(),
+							changeData.getEntityName(),
+							data
+					) );
+				}
+			}
+			else {
+				changes.add( new EntityChange(
+						workUnit.getEntityName(),
+						workUnit.getEntityId(),
+						capture( workUnit.generateData( revisionData ), revisionData )
+				) );
+			}
+		}
+
+		final byte[] payload;
+		try {
+			payload = SerializationHelper.serialize( new CapturedTransaction( revisionNumber, changes ) );
+		}
+		catch (SerializationException e) {
+			log.debugf( e, "Could not capture the audit data of revision %s in the audit outbox", revisionNumber );
+			return false;
+		}
+
+		final Map<String, Object> row = new HashMap<>();
+		row.put( REVISION, revisionNumber.longValue() );
+		row.put( PAYLOAD, payload );
+		OrmTools.saveData( ENTITY_NAME, row, session );
+		return true;
+	}
+
+	/**
+	 * Copy the given audit data, replacing the revision entity with a placeholder.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> capture(Map<String, Object> data, Object revisionData) {
+		final HashMap<String, Object> copy = new HashMap<>( data.size() );
+		for ( Map.Entry<String, Object> entry : data.entrySet() ) {
+			final Object value = entry.getValue();
+			if ( value == revisionData ) {
+				copy.put( entry.getKey(), RevisionPlaceholder.REVISION );
+			}
+			else if ( value instanceof Map<?, ?> map ) {
+				copy.put( entry.getKey(), capture( (Map<String, Object>) map, revisionData ) );
+			}
+			else {
+				copy.put( entry.getKey(), value );
+			}
+		}
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void restore(Map<String, Object> data, Object revisionData) {
+		for ( Map.Entry<String, Object> entry : data.entrySet() ) {
+			final Object value = entry.getValue();
+			if ( value == RevisionPlaceholder.REVISION ) {
+				entry.setValue( revisionData );
+			}
+			else if ( value instanceof Map<?, ?> map ) {
+				restore( (Map<String, Object>) map, revisionData );
+			}
+		}
+	}
+
+	/**
+	 * Drain the outbox, writing the audit rows of all the captured transactions,
+	 * in as many transactions as needed.
+	 */
+	public void drainAll(SessionFactoryImplementor factory) {
+		while ( drain( factory ) > 0 ) {
+			// continue with the next entries
+		}
+	}
+
+	/**
+	 * Write the audit rows of the oldest captured transactions in a new transaction.
+	 *
+	 * @return the number of captured transactions which were written
+	 */
+	public int drain(SessionFactoryImplementor factory) {
+		return factory.fromTransaction( session -> drain( (SessionImplementor) session ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private int drain(SessionImplementor session) {
+		final Configuration configuration = enversService.getConfig();
+		if ( configuration.getAuditBatchSize() > 0 ) {
+			session.setJdbcBatchSize( configuration.getAuditBatchSize() );
+		}
+
+		// The validity strategy ends the previous audit rows when the transaction
+		// completes, so each captured transaction must be written by its own
+		final int limit = enversService.getAuditStrategy() instanceof ValidityAuditStrategy ? 1 : DRAIN_LIMIT;
+		final List<Object> rows = session.createQuery( "from " + ENTITY_NAME + " order by " + REVISION + ", " + ID )
+				.setHibernateLockMode( LockMode.PESSIMISTIC_WRITE )
+				.setMaxResults( limit )
+				.list();
+
+		final String revisionInfoEntityName = configuration.getRevisionInfo().getRevisionInfoEntityName();
+		for ( Object row : rows ) {
+			final byte[] payload = (byte[]) ( (Map<String, Object>) row ).get( PAYLOAD );
+			// The captured data may contain values of application classes
+			final CapturedTransaction transaction = enversService.getClassLoaderService().workWithClassLoader(
+					classLoader -> (CapturedTransaction) SerializationHelper.deserialize( payload, classLoader )
+			);
+			final Object revisionData = session.find( revisionInfoEntityName, transaction.revision() );
+			for ( CapturedChange change : transaction.changes() ) {
+				restore( change.data(), revisionData );
+				change.perform( session, enversService, revisionData );
+			}
+			OrmTools.removeData( row, session );
+		}
+		return rows.size();
+	}
+
+	private enum RevisionPlaceholder {
+		REVISION
+	}
+
+	private record CapturedTransaction(Number revision, ArrayList<CapturedChange> changes)
+			implements Serializable {
+	}
+
+	private interface CapturedChange extends Serializable {
+		Map<String, Object> data();
+
+		void perform(SharedSessionContractImplementor session, EnversService enversService, Object revisionData);
+	}
+
+	private record EntityChange(String entityName, Object id, Map<String, Object> data)
+			implements CapturedChange {
+		@Override
+		public void perform(SharedSessionContractImplementor session, EnversService enversService, Object revisionData) {
+			enversService.getAuditStrategy()
+					.perform( session, entityName, enversService.getConfig(), id, data, revisionData );
+		}
+	}
+
+	private record CollectionChange(
+			String entityName,
+			String referencingPropertyName,
+			String middleEntityName,
+			Map<String, Object> data) implements CapturedChange {
+		@Override
+		public void perform(SharedSessionContractImplementor session, EnversService enversService, Object revisionData) {
+			enversService.getAuditStrategy().performCollectionChange(
+					session,
+					entityName,
+					referencingPropertyName,
+					enversService.getConfig(),
+					new PersistentCollectionChangeData( middleEntityName, data, null ),
+					revisionData
+			);
+		}
+	}
+}
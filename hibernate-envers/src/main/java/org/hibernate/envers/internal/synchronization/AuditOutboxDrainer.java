@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jboss.logging.Logger;
+
+/**
+ * Periodically {@linkplain AuditOutbox#drain drains} the {@link AuditOutbox} in a
+ * background thread, from the creation of the session factory until it is closed.
+ * Since the outbox is durable, the rows which are left in the outbox when the session
+ * factory is closed are drained after it is created again.
+ *
+ * @since 8.1
+ */
+public class AuditOutboxDrainer implements SessionFactoryObserver {
+	private static final Logger log = Logger.getLogger( AuditOutboxDrainer.class );
+
+	private final AuditOutbox auditOutbox;
+	private final long interval;
+
+	private ScheduledExecutorService executor;
+
+	public AuditOutboxDrainer(AuditOutbox auditOutbox, long interval) {
+		this.auditOutbox = auditOutbox;
+		this.interval = interval;
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		executor = Executors.newSingleThreadScheduledExecutor( runnable -> {
+			final Thread thread = new Thread( runnable, "Envers audit outbox drainer" );
+			thread.setDaemon( true );
+			thread.setContextClassLoader( contextClassLoader );
+			return thread;
+		} );
+		executor.scheduleWithFixedDelay(
+				() -> drain( (SessionFactoryImplementor) factory ),
+				interval,
+				interval,
+				TimeUnit.MILLISECONDS
+		);
+	}
+
+	private void drain(SessionFactoryImplementor factory) {
+		try {
+			while ( !executor.isShutdown() && auditOutbox.drain( factory ) > 0 ) {
+				// continue with the next entries
+			}
+		}
+		catch (RuntimeException e) {
+			// Keep the drainer scheduled, the rows are still in the outbox
+			log.warn( "Unable to drain the audit outbox", e );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		if ( executor != null ) {
+			executor.shutdown();
+			try {
+				// Let a running drain complete before the connections are released
+				if ( !executor.awaitTermination( 30, TimeUnit.SECONDS ) ) {
+					executor.shutdownNow();
+				}
+			}
+			catch (InterruptedException e) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -20,6 +20,8 @@
 import org.hibernate.envers.tools.Pair;
 import org.jboss.logging.Logger;
 
+import jakarta.annotation.Nullable;
+
 import static org.hibernate.ConnectionAcquisitionMode.AS_NEEDED;
 import static org.hibernate.ConnectionReleaseMode.AFTER_TRANSACTION;
 
@@ -32,6 +34,8 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SharedSessionContractImplementor session;
+	private final int auditBatchSize;
+	private final @Nullable AuditOutbox auditOutbox;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
@@ -43,8 +47,25 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private boolean revisionDataSaved;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SharedSessionContractImplementor session) {
+		this( revisionInfoGenerator, session, 0 );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SharedSessionContractImplementor session,
+			int auditBatchSize) {
+		this( revisionInfoGenerator, session, auditBatchSize, null );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SharedSessionContractImplementor session,
+			int auditBatchSize,
+			@Nullable AuditOutbox auditOutbox) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.auditBatchSize = auditBatchSize;
+		this.auditOutbox = auditOutbox;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -168,15 +189,33 @@ else if ( FlushMode.MANUAL.equals( session.getHibernateFlushMode() ) || session.
 					.connectionHandling( AS_NEEDED, AFTER_TRANSACTION )
 					.noSessionInterceptorCreation()
 					.openSession()) {
-				executeInSession( temporarySession );
-				temporarySession.flush();
+				executeAndFlushInSession( temporarySession );
 			}
 		}
 		else {
-			executeInSession( (SessionImplementor) session );
-
 			// Explicitly flushing the session, as the auto-flush may have already happened.
-			session.flush();
+			executeAndFlushInSession( (SessionImplementor) session );
+		}
+	}
+
+	private void executeAndFlushInSession(SessionImplementor statefulSession) {
+		if ( auditBatchSize <= 0 ) {
+			executeInSession( statefulSession );
+			statefulSession.flush();
+		}
+		else {
+			// Flush the pending changes of the application using the batch size of the
+			// session, so that only the audit rows are written using the audit batch size
+			statefulSession.flush();
+			final Integer jdbcBatchSize = statefulSession.getJdbcBatchSize();
+			statefulSession.setJdbcBatchSize( auditBatchSize );
+			try {
+				executeInSession( statefulSession );
+				statefulSession.flush();
+			}
+			finally {
+				statefulSession.setJdbcBatchSize( jdbcBatchSize );
+			}
 		}
 	}
 
@@ -191,10 +230,7 @@ private void executeInSession(SessionImplementor statefulSession) {
 			vwu.undo( statefulSession );
 		}
 
-		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( statefulSession, revisionData );
-			entityChangeNotifier.entityChanged( statefulSession, currentRevisionData, vwu );
-		}
+		performWorkUnits( statefulSession, currentRevisionData );
 	}
 
 	private void executeInStatelessSession(StatelessSessionImplementor statelessSession) {
@@ -208,9 +244,22 @@ private void executeInStatelessSession(StatelessSessionImplementor statelessSess
 			vwu.undo( statelessSession );
 		}
 
-		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( statelessSession, revisionData );
-			entityChangeNotifier.entityChanged( statelessSession, currentRevisionData, vwu );
+		performWorkUnits( statelessSession, currentRevisionData );
+	}
+
+	private void performWorkUnits(SharedSessionContractImplementor session, Object currentRevisionData) {
+		AuditWorkUnit vwu;
+		if ( auditOutbox != null && auditOutbox.capture( session, currentRevisionData, workUnits ) ) {
+			// The audit rows are written when the outbox is drained
+			while ( (vwu = workUnits.poll()) != null ) {
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+		}
+		else {
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( session, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
 		}
 	}
 }
@@ -14,17 +14,38 @@
 import org.hibernate.engine.spi.TransactionCompletionCallbacks;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 
+import jakarta.annotation.Nullable;
+
 /**
  * @author Adam Warski (adam at warski dot org)
  */
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final int auditBatchSize;
+	private final @Nullable AuditOutbox auditOutbox;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, 0, null );
+	}
+
+	public AuditProcessManager(
+			RevisionInfoGenerator revisionInfoGenerator,
+			int auditBatchSize,
+			@Nullable AuditOutbox auditOutbox) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditBatchSize = auditBatchSize;
+		this.auditOutbox = auditOutbox;
+	}
+
+	/**
+	 * The outbox of the audit rows, or {@code null} if the audit rows are written
+	 * at the end of each transaction.
+	 */
+	public @Nullable AuditOutbox getAuditOutbox() {
+		return auditOutbox;
 	}
 
 	public AuditProcess get(SharedSessionContractImplementor session) {
@@ -33,7 +54,7 @@ public AuditProcess get(SharedSessionContractImplementor session) {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, auditBatchSize, auditOutbox );
 			auditProcesses.put( transaction, auditProcess );
 
 			final TransactionCompletionCallbacks transactionCompletionCallbacks = session.getTransactionCompletionCallbacks();
@@ -69,6 +69,10 @@ public class QueryBuilder {
 	 * A list of complete projection definitions: either a sole property name, or a function(property name).
 	 */
 	private final List<String> projections;
+	/**
+	 * A list of group by expressions.
+	 */
+	private final List<String> groupBys;
 	/**
 	 * Values of parameters used in projections.
 	 */
@@ -111,6 +115,7 @@ private QueryBuilder(
 		froms = new ArrayList<>();
 		orders = new ArrayList<>();
 		projections = new ArrayList<>();
+		groupBys = new ArrayList<>();
 		projectionQueryParamValues = new HashMap<>();
 		orderFragments = new ArrayList<>();
 
@@ -132,6 +137,7 @@ private QueryBuilder(QueryBuilder other) {
 		froms = new ArrayList<>( other.froms );
 		orders = new ArrayList<>( other.orders );
 		projections = new ArrayList<>( other.projections );
+		groupBys = new ArrayList<>( other.groupBys );
 		projectionQueryParamValues = new HashMap<>( other.projectionQueryParamValues );
 		orderFragments = new ArrayList<>( other.orderFragments );
 	}
@@ -218,6 +224,10 @@ public void addProjection(String function, String alias, String propertyName, bo
 		}
 	}
 
+	public void addGroupBy(String alias, String propertyName) {
+		groupBys.add( alias + "." + propertyName );
+	}
+
 	public void addProjection(
 			Configuration configuration,
 			Map<String, String> aliasToEntityNameMap,
@@ -352,6 +362,11 @@ public void build(StringBuilder sb, Map<String, Object> queryParamValues) {
 				params.build( sb, queryParamValues );
 			}
 		}
+		// group by
+		if ( !groupBys.isEmpty() ) {
+			sb.append( " group by " );
+			StringTools.append( sb, groupBys.iterator(), ", " );
+		}
 		// orders
 		if ( !orders.isEmpty() ) {
 			sb.append( " order by " );
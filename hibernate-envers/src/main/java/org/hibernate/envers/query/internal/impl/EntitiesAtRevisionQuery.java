@@ -18,6 +18,7 @@
 import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.strategy.internal.DefaultAuditStrategy;
 import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
@@ -85,20 +86,38 @@ public List list() {
 
 		// (selecting e entities at revision :revision)
 		// --> based on auditStrategy (see above)
-		enversService.getAuditStrategy().addEntityAtRevisionRestriction(
-				configuration,
-				qb,
-				qb.getRootParameters(),
-				revisionPropertyPath,
-				configuration.getRevisionEndFieldName(),
-				true,
-				referencedIdData,
-				revisionPropertyPath,
-				originalIdPropertyName,
-				REFERENCED_ENTITY_ALIAS,
-				REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
-				true
-		);
+		if ( configuration.isEntitiesAtRevisionGroupedSubquery()
+				&& enversService.getAuditStrategy() instanceof DefaultAuditStrategy defaultAuditStrategy ) {
+			// --> for DefaultAuditStrategy, with a single grouped subquery:
+			//   (e.id, e.revision) in (SELECT e2.id, max(e2.revision) FROM versionsReferencedEntity e2
+			//     WHERE e2.revision <= :revision GROUP BY e2.id)
+			defaultAuditStrategy.addGroupedEntityAtRevisionRestriction(
+					qb,
+					qb.getRootParameters(),
+					referencedIdData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					REFERENCED_ENTITY_ALIAS,
+					REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
+					true
+			);
+		}
+		else {
+			enversService.getAuditStrategy().addEntityAtRevisionRestriction(
+					configuration,
+					qb,
+					qb.getRootParameters(),
+					revisionPropertyPath,
+					configuration.getRevisionEndFieldName(),
+					true,
+					referencedIdData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					REFERENCED_ENTITY_ALIAS,
+					REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
+					true
+			);
+		}
 
 		if ( configuration.isFindByRevisionExactMatch() ) {
 			// When EnversSettings#FIND_BY_REVISION_EXACT_MATCH is true, this forces this condition
@@ -4,10 +4,13 @@
  */
 package org.hibernate.envers.strategy.internal;
 
+import java.util.StringJoiner;
+
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
@@ -108,6 +111,44 @@ public void addEntityAtRevisionRestriction(
 		parameters.addWhere( revisionProperty, addAlias, subqueryOperator, maxERevQb );
 	}
 
+	/**
+	 * Adds a restriction selecting the audit rows of the latest revision of each entity
+	 * up to the given revision, using a single grouped subquery instead of the correlated
+	 * subquery of {@link #addEntityAtRevisionRestriction}:
+	 * <p>
+	 * {@code (e.id, e.revision) in (SELECT e2.id, max(e2.revision) ... GROUP BY e2.id)}
+	 *
+	 * @see org.hibernate.envers.configuration.EnversSettings#ENTITIES_AT_REVISION_GROUPED_SUBQUERY
+	 */
+	public void addGroupedEntityAtRevisionRestriction(
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		// SELECT e2.id, max(e2.revision) FROM versionsReferencedEntity e2
+		QueryBuilder maxERevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
+		final StringJoiner tuple = new StringJoiner( ", ", "(", ")" );
+		for ( QueryParameterData paramData : idData.getOriginalMapper().mapToQueryParametersFromId( null ) ) {
+			final String idPropertyPath = paramData.getProperty( originalIdPropertyName );
+			maxERevQb.addProjection( null, alias2, idPropertyPath, false );
+			// GROUP BY e2.id
+			maxERevQb.addGroupBy( alias2, idPropertyPath );
+			tuple.add( alias1 + "." + idPropertyPath );
+		}
+		maxERevQb.addProjection( "max", alias2, revisionPropertyPath, false );
+		// WHERE e2.revision <= :revision
+		maxERevQb.getRootParameters()
+				.addWhereWithNamedParam( revisionPropertyPath, inclusive ? "<=" : "<", REVISION_PARAMETER );
+
+		// (e.id, e.revision) in (...)
+		tuple.add( alias1 + "." + revisionPropertyPath );
+		parameters.addWhere( null, tuple.toString(), "in", maxERevQb );
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -5,10 +5,15 @@
 package org.hibernate.envers.strategy.internal;
 
 import jakarta.persistence.LockModeType;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.NamingHelper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TransactionCompletionCallbacks;
+import org.hibernate.engine.spi.TransactionCompletionCallbacks.AfterCompletionCallback;
+import org.hibernate.engine.spi.TransactionCompletionCallbacks.BeforeCompletionCallback;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.model.BasicAttribute;
 import org.hibernate.envers.boot.model.Column;
@@ -45,15 +50,19 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
+import static org.hibernate.boot.model.naming.Identifier.toIdentifier;
 
 /**
  * An audit strategy implementation that persists and fetches audit information using a validity
@@ -85,6 +94,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	/**
+	 * The previous revisions to be ended at the completion of each transaction.
+	 */
+	private final Map<Transaction, List<PendingUpdate>> pendingUpdates = new ConcurrentHashMap<>();
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -112,6 +126,18 @@ public void addAdditionalColumns(MappingContext mappingContext) {
 					mappingContext.getConfiguration().getRevisionEndFieldName()
 			);
 
+			if ( mappingContext.getConfiguration().isRevisionEndIndexed() ) {
+				// Index the end revision used by the range predicates of the queries,
+				// with a hashed name, like the implicit name of any other index
+				revEndMapping.setIndex(
+						NamingHelper.INSTANCE.generateHashedConstraintName(
+								"IDX",
+								toIdentifier( mappingContext.getEntityMapping().getAuditTableData().getAuditTableName() ),
+								toIdentifier( mappingContext.getConfiguration().getRevisionEndFieldName() )
+						)
+				);
+			}
+
 			mappingContext.getEntityMapping().addAttribute( revEndMapping );
 		}
 
@@ -168,48 +194,17 @@ public void perform(
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			session.getTransactionCompletionCallbacks().registerCallback( (s) -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						session,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( session, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// Defer the update to transaction completion to guarantee execution of UPDATE statement after INSERT,
+			// and so that the updates of each audit table may be executed together as a JDBC batch.
+			getPendingUpdates( session, configuration ).add( new PendingUpdate(
+					entityName,
+					auditedEntityName,
+					id,
+					revision,
+					reuseEntityIdentifier && revisionType == RevisionType.ADD
+			) );
 		}
 		if ( session instanceof SessionImplementor statefulSession ) {
 			sessionCacheCleaner.scheduleAuditDataRemoval( statefulSession, data );
@@ -472,6 +467,148 @@ private boolean isMaterializedClob(Type collectionElementType) {
 		return false;
 	}
 
+	private List<PendingUpdate> getPendingUpdates(SharedSessionContractImplementor session, Configuration configuration) {
+		final Transaction transaction = session.accessTransaction();
+		List<PendingUpdate> updates = pendingUpdates.get( transaction );
+		if ( updates == null ) {
+			// No worries about registering a transaction twice - a transaction is single thread
+			updates = new ArrayList<>();
+			pendingUpdates.put( transaction, updates );
+
+			final TransactionCompletionCallbacks callbacks = session.getTransactionCompletionCallbacks();
+			callbacks.registerCallback( (BeforeCompletionCallback) s -> {
+				final List<PendingUpdate> registered = pendingUpdates.remove( transaction );
+				if ( registered != null ) {
+					executeUpdates( session, configuration, registered );
+				}
+			} );
+			callbacks.registerCallback( (AfterCompletionCallback) (success, s) -> pendingUpdates.remove( transaction ) );
+		}
+		return updates;
+	}
+
+	private static Integer getBatchSize(SharedSessionContractImplementor session, Configuration configuration) {
+		final int auditBatchSize = configuration.getAuditBatchSize();
+		return auditBatchSize > 0 ? Integer.valueOf( auditBatchSize ) : session.getConfiguredJdbcBatchSize();
+	}
+
+	/**
+	 * Ends the previous revisions of the given updates. The statements are grouped by
+	 * SQL, that is, by audit table, and each group is executed as a JDBC batch if
+	 * {@linkplain org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_SIZE batching} or
+	 * an {@linkplain org.hibernate.envers.configuration.EnversSettings#AUDIT_BATCH_SIZE
+	 * audit batch size} is enabled.
+	 */
+	private void executeUpdates(
+			SharedSessionContractImplementor session,
+			Configuration configuration,
+			List<PendingUpdate> updates) {
+		final Map<String, List<PendingStatement>> statements = new LinkedHashMap<>();
+		for ( PendingUpdate update : updates ) {
+			// Construct the update contexts
+			final List<UpdateContext> contexts = getUpdateContexts(
+					update.entityName(),
+					update.auditedEntityName(),
+					session,
+					configuration,
+					update.id(),
+					update.revision()
+			);
+
+			if ( contexts.isEmpty() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Failed to build update contexts for entity %s and id %s",
+								update.auditedEntityName(),
+								update.id()
+						)
+				);
+			}
+
+			for ( UpdateContext context : contexts ) {
+				statements.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+						.add( new PendingStatement( update, context ) );
+			}
+		}
+
+		final Integer batchSize = getBatchSize( session, configuration );
+		statements.forEach( (sql, pendingStatements) -> {
+			if ( batchSize == null || batchSize <= 1 || pendingStatements.size() == 1 ) {
+				for ( PendingStatement pendingStatement : pendingStatements ) {
+					checkRowCount( pendingStatement.update(), executeUpdate( session, pendingStatement.context() ) );
+				}
+			}
+			else {
+				executeBatch( session, sql, pendingStatements, batchSize );
+			}
+		} );
+	}
+
+	private static void checkRowCount(PendingUpdate update, int rows) {
+		if ( rows != 1 && !update.mayBeFirstRevision() ) {
+			throw new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+							update.auditedEntityName(),
+							update.id(),
+							rows
+					)
+			);
+		}
+	}
+
+	/**
+	 * Executes the given statements, which all have the same SQL, as JDBC batches
+	 * of at most the given size.
+	 */
+	private void executeBatch(
+			SharedSessionContractImplementor session,
+			String sql,
+			List<PendingStatement> pendingStatements,
+			int batchSize) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final var eventHandler = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getEventHandler();
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			for ( int start = 0; start < pendingStatements.size(); start += batchSize ) {
+				final List<PendingStatement> batch =
+						pendingStatements.subList( start, Math.min( start + batchSize, pendingStatements.size() ) );
+				for ( PendingStatement pendingStatement : batch ) {
+					int index = 1;
+					for ( QueryParameterBinding binding : pendingStatement.context().getBindings() ) {
+						index += binding.bind( index, statement, session );
+					}
+					statement.addBatch();
+				}
+				session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+				final int[] rowCounts;
+				try {
+					eventHandler.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					eventHandler.jdbcExecuteBatchEnd();
+				}
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					// some drivers do not report the row count of a batched statement
+					if ( rowCounts[i] != Statement.SUCCESS_NO_INFO ) {
+						checkRowCount( batch.get( i ).update(), rowCounts[i] );
+					}
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "Could not update previous revisions", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
 	/**
 	 * Executes the {@link UpdateContext} within the scope of the specified session.
 	 *
@@ -691,6 +828,23 @@ public void bind(Object value, ModelPart part) {
 		}
 	}
 
+	/**
+	 * A previous revision to be ended when the transaction completes.
+	 *
+	 * @param mayBeFirstRevision whether the entity may have no previous revision,
+	 * since its identifier may be reused
+	 */
+	private record PendingUpdate(
+			String entityName,
+			String auditedEntityName,
+			Object id,
+			Object revision,
+			boolean mayBeFirstRevision) {
+	}
+
+	private record PendingStatement(PendingUpdate update, UpdateContext context) {
+	}
+
 	private interface QueryParameterBinding {
 		int bind(int index, PreparedStatement statement, SharedSessionContractImplementor session) throws SQLException;
 	}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.engine.internal.StatisticalLoggingSessionEventListener;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value EnversSettings#AUDIT_BATCH_SIZE}
+ */
+@EnversTest
+@Jpa(annotatedClasses = StrTestEntity.class,
+		integrationSettings = @Setting(name = EnversSettings.AUDIT_BATCH_SIZE, value = "10"))
+public class AuditBatchSizeTest {
+
+	@Test
+	public void testAuditRowsBatched(EntityManagerFactoryScope scope) {
+		final AtomicInteger batchCount = new AtomicInteger();
+		final List<Integer> ids = new ArrayList<>();
+		scope.inTransaction( em -> {
+			em.unwrap( SessionImplementor.class ).getEventListenerManager()
+					.addListener( new StatisticalLoggingSessionEventListener() {
+						@Override
+						public void jdbcExecuteBatchStart() {
+							super.jdbcExecuteBatchStart();
+							batchCount.incrementAndGet();
+						}
+					} );
+			for ( int i = 0; i < 12; i++ ) {
+				final StrTestEntity entity = new StrTestEntity( "x" + i );
+				em.persist( entity );
+				ids.add( entity.getId() );
+			}
+		} );
+		// the entity inserts are not batched, while the
+		// 12 audit rows are written in 2 batches
+		assertThat( batchCount.get() ).isGreaterThanOrEqualTo( 2 );
+
+		scope.inEntityManager( em -> {
+			assertThat( em.unwrap( Session.class ).getJdbcBatchSize() ).isNull();
+			assertThat( AuditReaderFactory.get( em ).createQuery()
+					.forEntitiesAtRevision( StrTestEntity.class, 1 ).getResultList() )
+					.hasSize( ids.size() );
+		} );
+	}
+
+	@Test
+	public void testSessionBatchSizeRestored(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( em -> {
+			final Session session = em.unwrap( Session.class );
+			session.setJdbcBatchSize( 3 );
+			em.getTransaction().begin();
+			em.persist( new StrTestEntity( "y" ) );
+			em.getTransaction().commit();
+			assertThat( session.getJdbcBatchSize() ).isEqualTo( 3 );
+		} );
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.batch;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.orm.junit.BeforeClassTemplate;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value EnversSettings#AUDIT_OUTBOX}
+ */
+@EnversTest
+@Jpa(annotatedClasses = {StrTestEntity.class, StringSetEntity.class},
+		integrationSettings = {
+				@Setting(name = EnversSettings.AUDIT_OUTBOX, value = "true"),
+				@Setting(name = EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, value = "0")
+		})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AuditOutboxTest {
+	private Integer strId;
+	private Integer setId;
+
+	@BeforeClassTemplate
+	public void initData(EntityManagerFactoryScope scope) {
+		final StrTestEntity str = new StrTestEntity( "x" );
+		final StringSetEntity set = new StringSetEntity();
+
+		// Revision 1
+		scope.inTransaction( em -> {
+			set.getStrings().add( "a" );
+			em.persist( str );
+			em.persist( set );
+		} );
+
+		// Revision 2
+		scope.inTransaction( em -> {
+			em.find( StrTestEntity.class, str.getId() ).setStr( "y" );
+			em.find( StringSetEntity.class, set.getId() ).getStrings().add( "b" );
+		} );
+
+		// Revision 3
+		scope.inTransaction( em -> {
+			em.remove( em.find( StrTestEntity.class, str.getId() ) );
+			em.find( StringSetEntity.class, set.getId() ).getStrings().remove( "a" );
+		} );
+
+		strId = str.getId();
+		setId = set.getId();
+	}
+
+	@Test
+	@Order(1)
+	public void testAuditRowsWrittenWhenDrained(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( em -> {
+			// the revisions are written, but the audit rows are still in the outbox
+			assertThat( em.createNativeQuery( "select count(*) from REVINFO", Long.class ).getSingleResult() )
+					.isEqualTo( 3L );
+			assertThat( em.createNativeQuery( "select count(*) from AUDIT_OUTBOX", Long.class ).getSingleResult() )
+					.isEqualTo( 3L );
+
+			final AuditReader auditReader = AuditReaderFactory.get( em );
+			assertThat( auditReader.getRevisions( StrTestEntity.class, strId ) ).isEmpty();
+			assertThat( auditReader.getRevisions( StringSetEntity.class, setId ) ).isEmpty();
+
+			auditReader.drainAuditOutbox();
+
+			assertThat( em.createNativeQuery( "select count(*) from AUDIT_OUTBOX", Long.class ).getSingleResult() )
+					.isEqualTo( 0L );
+			assertThat( auditReader.getRevisions( StrTestEntity.class, strId ) ).isEqualTo( Arrays.asList( 1, 2, 3 ) );
+			assertThat( auditReader.getRevisions( StringSetEntity.class, setId ) ).isEqualTo( Arrays.asList( 1, 2, 3 ) );
+		} );
+	}
+
+	@Test
+	@Order(2)
+	public void testHistory(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( em -> {
+			final AuditReader auditReader = AuditReaderFactory.get( em );
+			assertThat( auditReader.find( StrTestEntity.class, strId, 1 ) ).isEqualTo( new StrTestEntity( "x", strId ) );
+			assertThat( auditReader.find( StrTestEntity.class, strId, 2 ) ).isEqualTo( new StrTestEntity( "y", strId ) );
+			assertThat( auditReader.find( StrTestEntity.class, strId, 3 ) ).isNull();
+
+			assertThat( auditReader.find( StringSetEntity.class, setId, 1 ).getStrings() )
+					.isEqualTo( Collections.singleton( "a" ) );
+			assertThat( auditReader.find( StringSetEntity.class, setId, 2 ).getStrings() )
+					.isEqualTo( TestTools.makeSet( "a", "b" ) );
+			assertThat( auditReader.find( StringSetEntity.class, setId, 3 ).getStrings() )
+					.isEqualTo( Collections.singleton( "b" ) );
+		} );
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.List;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.ids.EmbId;
+import org.hibernate.orm.test.envers.entities.ids.EmbIdTestEntity;
+
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.orm.junit.BeforeClassTemplate;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value EnversSettings#ENTITIES_AT_REVISION_GROUPED_SUBQUERY}
+ */
+@EnversTest
+@Jpa(annotatedClasses = { StrTestEntity.class, EmbIdTestEntity.class },
+		integrationSettings = @Setting(name = EnversSettings.ENTITIES_AT_REVISION_GROUPED_SUBQUERY, value = "true"))
+public class EntitiesAtRevisionGroupedSubqueryTest {
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+	private final EmbId embId = new EmbId( 1, 2 );
+
+	@BeforeClassTemplate
+	public void initData(EntityManagerFactoryScope scope) {
+		// Revision 1
+		scope.inTransaction( em -> {
+			final StrTestEntity first = new StrTestEntity( "a" );
+			final StrTestEntity second = new StrTestEntity( "b" );
+			em.persist( first );
+			em.persist( second );
+			em.persist( new EmbIdTestEntity( embId, "a" ) );
+			id1 = first.getId();
+			id2 = second.getId();
+		} );
+
+		// Revision 2
+		scope.inTransaction( em -> {
+			em.find( StrTestEntity.class, id1 ).setStr( "a2" );
+			em.find( EmbIdTestEntity.class, embId ).setStr1( "a2" );
+		} );
+
+		// Revision 3
+		scope.inTransaction( em -> {
+			em.remove( em.find( StrTestEntity.class, id2 ) );
+			final StrTestEntity third = new StrTestEntity( "c" );
+			em.persist( third );
+			id3 = third.getId();
+		} );
+	}
+
+	@Test
+	public void testEntitiesAtRevision(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( em -> {
+			final AuditReader auditReader = AuditReaderFactory.get( em );
+			assertThat( entitiesAtRevision( auditReader, 1 ) )
+					.containsExactlyInAnyOrder( new StrTestEntity( "a", id1 ), new StrTestEntity( "b", id2 ) );
+			assertThat( entitiesAtRevision( auditReader, 2 ) )
+					.containsExactlyInAnyOrder( new StrTestEntity( "a2", id1 ), new StrTestEntity( "b", id2 ) );
+			assertThat( entitiesAtRevision( auditReader, 3 ) )
+					.containsExactlyInAnyOrder( new StrTestEntity( "a2", id1 ), new StrTestEntity( "c", id3 ) );
+		} );
+	}
+
+	@Test
+	public void testEntitiesAtRevisionWithCriteria(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( em -> {
+			final List<Object> result = AuditReaderFactory.get( em ).createQuery()
+					.forEntitiesAtRevision( StrTestEntity.class, 2 )
+					.add( AuditEntity.property( "str" ).like( "a%" ) )
+					.getResultList();
+			assertThat( result ).containsExactly( new StrTestEntity( "a2", id1 ) );
+		} );
+	}
+
+	@Test
+	public void testEntitiesAtRevisionIncludingDeletions(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( em -> {
+			final List<Object> result = AuditReaderFactory.get( em ).createQuery()
+					.forEntitiesAtRevision( StrTestEntity.class, StrTestEntity.class.getName(), 3, true )
+					.getResultList();
+			assertThat( result ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testEntitiesWithEmbeddedIdAtRevision(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( em -> {
+			final AuditReader auditReader = AuditReaderFactory.get( em );
+			assertThat( auditReader.createQuery().forEntitiesAtRevision( EmbIdTestEntity.class, 1 ).getResultList() )
+					.containsExactly( new EmbIdTestEntity( embId, "a" ) );
+			assertThat( auditReader.createQuery().forEntitiesAtRevision( EmbIdTestEntity.class, 3 ).getResultList() )
+					.containsExactly( new EmbIdTestEntity( embId, "a2" ) );
+		} );
+	}
+
+	private static List<Object> entitiesAtRevision(AuditReader auditReader, int revision) {
+		return auditReader.createQuery().forEntitiesAtRevision( StrTestEntity.class, revision ).getResultList();
+	}
+}
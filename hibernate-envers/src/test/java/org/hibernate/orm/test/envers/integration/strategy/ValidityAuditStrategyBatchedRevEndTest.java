@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link ValidityAuditStrategy} ends the previous revisions
+ * of many entities using JDBC batches.
+ */
+@EnversTest(auditStrategies = ValidityAuditStrategy.class)
+@Jpa(annotatedClasses = StrTestEntity.class,
+		integrationSettings = @Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"))
+public class ValidityAuditStrategyBatchedRevEndTest {
+
+	@Test
+	public void testBatchedRevisionEnd(EntityManagerFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		scope.inTransaction( em -> {
+			for ( int i = 0; i < 12; i++ ) {
+				final StrTestEntity entity = new StrTestEntity( "x" + i );
+				em.persist( entity );
+				ids.add( entity.getId() );
+			}
+		} );
+
+		// count the batches of updates which end the previous revisions,
+		// ignoring the batches of entity updates and of audit row inserts
+		final AtomicReference<String> lastSql = new AtomicReference<>();
+		final AtomicInteger revisionEndBatchCount = new AtomicInteger();
+		final var sessionFactory = scope.getEntityManagerFactory().unwrap( SessionFactory.class );
+		try ( Session session = sessionFactory.withOptions()
+				.statementInspector( (UnaryOperator<String>) sql -> {
+					lastSql.set( sql );
+					return sql;
+				} )
+				.eventListeners( new SessionEventListener() {
+					@Override
+					public void jdbcExecuteBatchStart() {
+						final String sql = lastSql.get().toLowerCase( Locale.ROOT );
+						if ( sql.startsWith( "update " ) && sql.contains( "_aud" ) ) {
+							revisionEndBatchCount.incrementAndGet();
+						}
+					}
+				} )
+				.openSession() ) {
+			session.inTransaction( tx -> {
+				for ( Integer id : ids ) {
+					session.find( StrTestEntity.class, id ).setStr( "y" );
+				}
+			} );
+		}
+		// the 12 previous revisions are ended in batches of 5, 5 and 2
+		assertThat( revisionEndBatchCount.get() ).isEqualTo( 3 );
+
+		scope.inTransaction( em -> em.find( StrTestEntity.class, ids.get( 0 ) ).setStr( "z" ) );
+
+		scope.inEntityManager( em -> {
+			final var auditReader = AuditReaderFactory.get( em );
+			assertThat( auditReader.createQuery().forEntitiesAtRevision( StrTestEntity.class, 1 ).getResultList() )
+					.hasSize( 12 )
+					.allSatisfy( entity -> assertThat( ( (StrTestEntity) entity ).getStr() ).startsWith( "x" ) );
+			assertThat( auditReader.createQuery().forEntitiesAtRevision( StrTestEntity.class, 2 ).getResultList() )
+					.hasSize( 12 )
+					.allSatisfy( entity -> assertThat( ( (StrTestEntity) entity ).getStr() ).isEqualTo( "y" ) );
+			assertThat( auditReader.createQuery().forEntitiesAtRevision( StrTestEntity.class, 3 ).getResultList() )
+					.hasSize( 12 )
+					.filteredOn( entity -> ( (StrTestEntity) entity ).getStr().equals( "z" ) )
+					.hasSize( 1 );
+		} );
+	}
+}
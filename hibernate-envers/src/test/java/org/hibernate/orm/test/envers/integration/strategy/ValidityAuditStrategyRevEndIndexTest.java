@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import org.hibernate.boot.model.naming.NamingHelper;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.Table;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.boot.model.naming.Identifier.toIdentifier;
+
+/**
+ * Tests for {@value EnversSettings#AUDIT_STRATEGY_VALIDITY_REVEND_INDEX}
+ */
+@EnversTest(auditStrategies = ValidityAuditStrategy.class)
+@DomainModel(annotatedClasses = StrTestEntity.class)
+@ServiceRegistry(settings = @Setting(name = EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_INDEX, value = "true"))
+@SessionFactory
+public class ValidityAuditStrategyRevEndIndexTest {
+
+	@Test
+	public void testRevisionEndIndex(DomainModelScope scope) {
+		final Table auditTable = scope.getDomainModel()
+				.getEntityBinding( StrTestEntity.class.getName() + "_AUD" )
+				.getTable();
+		final Index index = auditTable.getIndex(
+				NamingHelper.INSTANCE.generateHashedConstraintName(
+						"IDX",
+						toIdentifier( auditTable.getName() ),
+						toIdentifier( "REVEND" )
+				)
+		);
+		assertThat( index ).isNotNull();
+		assertThat( index.getName() ).hasSizeLessThanOrEqualTo( 30 );
+		assertThat( index.getSelectables() )
+				.extracting( Selectable::getText )
+				.containsExactly( "REVEND" );
+	}
+}
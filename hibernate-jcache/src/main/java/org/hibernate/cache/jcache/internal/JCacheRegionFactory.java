@@ -72,7 +72,8 @@ public DomainDataRegion buildDomainDataRegion(
 		return new JCacheDomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				partitionByTenant( regionConfig.getRegionName(),
+						createDomainDataStorageAccess( regionConfig, buildingContext ) ),
 				cacheKeysFactory,
 				buildingContext
 		);
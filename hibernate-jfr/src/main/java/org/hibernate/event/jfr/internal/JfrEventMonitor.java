@@ -50,6 +50,7 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType lazyFetchEventType = EventType.getEventType( LazyFetchEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -779,6 +780,39 @@ public void completeCollectionRemoveEvent(
 		}
 	}
 
+	@Override
+	public DiagnosticEvent beginLazyFetchEvent() {
+		if ( lazyFetchEventType.isEnabled() ) {
+			final LazyFetchEvent event = new LazyFetchEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeLazyFetchEvent(
+			DiagnosticEvent event,
+			Object id, String role,
+			String query,
+			boolean success,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final LazyFetchEvent lazyFetchEvent = (LazyFetchEvent) event;
+			lazyFetchEvent.end();
+			if ( lazyFetchEvent.shouldCommit() ) {
+				lazyFetchEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyFetchEvent.role = role;
+				lazyFetchEvent.id = Objects.toString(id);
+				lazyFetchEvent.query = query;
+				lazyFetchEvent.success = success;
+				lazyFetchEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		return session == null ? null : session.getSessionIdentifier().toString();
 	}
@@ -786,5 +820,4 @@ private String getSessionIdentifier(SharedSessionContractImplementor session) {
 	private String getEntityName(EntityPersister persister) {
 		return StatsHelper.getRootEntityRole( persister ).getFullPath();
 	}
-
 }
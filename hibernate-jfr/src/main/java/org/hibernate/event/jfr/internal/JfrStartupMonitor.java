@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.StartupMonitor;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.EventType;
+
+/**
+ * Reports the phases of the bootstrap process to Java Flight Recorder
+ * as {@link StartupPhaseEvent}s.
+ */
+@AllowNonPortable
+public class JfrStartupMonitor implements StartupMonitor {
+
+	private static final EventType startupPhaseEventType = EventType.getEventType( StartupPhaseEvent.class );
+
+	@Override
+	public StartupPhaseEvent beginStartupPhaseEvent() {
+		if ( startupPhaseEventType.isEnabled() ) {
+			final StartupPhaseEvent startupPhaseEvent = new StartupPhaseEvent();
+			startupPhaseEvent.begin();
+			return startupPhaseEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeStartupPhaseEvent(
+			DiagnosticEvent event,
+			StartupPhase phase,
+			String role) {
+		if ( event != null ) {
+			final StartupPhaseEvent startupPhaseEvent = (StartupPhaseEvent) event;
+			startupPhaseEvent.end();
+			if ( startupPhaseEvent.shouldCommit() ) {
+				startupPhaseEvent.phase = phase.name();
+				startupPhaseEvent.role = role;
+				startupPhaseEvent.commit();
+			}
+		}
+	}
+}
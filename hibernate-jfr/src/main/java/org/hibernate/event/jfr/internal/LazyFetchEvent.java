@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+@Name(LazyFetchEvent.NAME)
+@Label("Lazy Fetch")
+@Category("Hibernate ORM")
+@Description("Lazy entity or collection fetched by a separate query")
+@StackTrace
+@AllowNonPortable
+public class LazyFetchEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.LazyFetchEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Entity Identifier or Collection Key")
+	public String id;
+
+	@Label("Entity Name or Collection Role")
+	public String role;
+
+	@Label("Triggering Query")
+	public String query;
+
+	@Label("Success")
+	public boolean success;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(StartupPhaseEvent.NAME)
+@Label("Startup Phase")
+@Category("Hibernate ORM")
+@Description("Startup Phase")
+@AllowNonPortable
+public class StartupPhaseEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.StartupPhase";
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Role")
+	public String role;
+
+	@Override
+	public String toString() {
+		return NAME + "(" + phase + ( role == null ? "" : ", " + role ) + ")";
+	}
+}
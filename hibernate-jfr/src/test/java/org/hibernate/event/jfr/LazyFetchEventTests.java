@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.event.jfr.internal.LazyFetchEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jdk.jfr.consumer.RecordedEvent;
+import org.hibernate.event.jfr.testing.EnableEvent;
+import org.hibernate.event.jfr.testing.JfrEventTest;
+import org.hibernate.event.jfr.testing.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		LazyFetchEventTests.Parent.class,
+		LazyFetchEventTests.Child.class
+})
+@SessionFactory
+public class LazyFetchEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	private static final String QUERY = "from Parent";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent parent = new Parent( 1 );
+			session.persist( parent );
+			session.persist( new Child( 1, parent ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	@EnableEvent(LazyFetchEvent.NAME)
+	public void testLazyFetchEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction( session -> {
+			final Parent parent = session.createSelectionQuery( QUERY, Parent.class ).getSingleResult();
+			assertThat( parent.getChildren() ).hasSize( 1 );
+
+			final List<RecordedEvent> events = jfrEvents.events()
+					.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( LazyFetchEvent.NAME ) )
+					.toList();
+			assertThat( events ).hasSize( 1 );
+
+			final RecordedEvent event = events.get( 0 );
+			assertThat( event.getDuration() ).isPositive();
+			assertThat( event.getString( "sessionIdentifier" ) )
+					.isEqualTo( session.getSessionIdentifier().toString() );
+			assertThat( event.getString( "role" ) ).isEqualTo( Parent.class.getName() + ".children" );
+			assertThat( event.getString( "id" ) ).isEqualTo( "1" );
+			assertThat( event.getString( "query" ) ).isEqualTo( QUERY );
+			assertThat( event.getBoolean( "success" ) ).isTrue();
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		@OneToMany(mappedBy = "parent")
+		private Set<Child> children = new HashSet<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+
+		public Set<Child> getChildren() {
+			return children;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.event.jfr.internal.StartupPhaseEvent;
+import org.hibernate.event.monitor.spi.StartupPhase;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.hibernate.event.jfr.testing.EnableEvent;
+import org.hibernate.event.jfr.testing.JfrEventTest;
+import org.hibernate.event.jfr.testing.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+public class StartupPhaseEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(StartupPhaseEvent.NAME)
+	public void testStartupPhaseEvents() {
+		final var serviceRegistry = ServiceRegistryUtil.serviceRegistry();
+		try ( var sessionFactory = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( TestEntity.class )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			final List<RecordedEvent> events = jfrEvents.events()
+					.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( StartupPhaseEvent.NAME ) )
+					.toList();
+			assertThat( events )
+					.extracting( event -> event.getString( "phase" ) )
+					.contains(
+							StartupPhase.CATEGORIZATION.name(),
+							StartupPhase.BINDING.name(),
+							StartupPhase.SECOND_PASSES.name(),
+							StartupPhase.PERSISTER_CREATION.name(),
+							StartupPhase.MAPPING_MODEL_CREATION.name(),
+							StartupPhase.LOADER_CREATION.name(),
+							StartupPhase.SESSION_FACTORY_INITIALIZATION.name()
+					);
+			assertThat( events )
+					.filteredOn( event -> StartupPhase.PERSISTER_CREATION.name().equals( event.getString( "phase" ) ) )
+					.extracting( event -> event.getString( "role" ) )
+					.contains( TestEntity.class.getName() );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
@@ -11,9 +11,14 @@
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.Nullable;
 import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.monitor.spi.StartupPhase;
+import org.hibernate.event.monitor.spi.StartupProfile;
+import org.hibernate.event.monitor.spi.StartupProfiler;
 import org.hibernate.stat.Statistics;
 
 import java.util.Arrays;
@@ -22,7 +27,8 @@
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate metrics. It exposes the
- * same statistics as would be exposed when calling {@link Statistics#logSummary()}.
+ * same statistics as would be exposed when calling {@link Statistics#logSummary()},
+ * along with the time spent in each phase of the bootstrap process.
  */
 @NonNullApi
 @NonNullFields
@@ -34,6 +40,7 @@ public class HibernateMetrics implements MeterBinder {
 	private final Iterable<Tag> tags;
 
 	private final @Nullable Statistics statistics;
+	private final @Nullable StartupProfile startupProfile;
 
 	/**
 	 * Create {@code HibernateMetrics} and bind to the specified meter registry.
@@ -79,6 +86,9 @@ public HibernateMetrics(SessionFactory sessionFactory, String sessionFactoryName
 		this.cacheFactoryPrefix = sessionFactory.getSessionFactoryOptions().getCacheRegionPrefix();
 		Statistics statistics = sessionFactory.getStatistics();
 		this.statistics = statistics.isStatisticsEnabled() ? statistics : null;
+		this.startupProfile = sessionFactory instanceof SessionFactoryImplementor implementor
+				? implementor.getStartupProfile()
+				: null;
 	}
 
 	private void counter(
@@ -98,8 +108,41 @@ private void counter(
 				.register( registry );
 	}
 
+	/**
+	 * Record the time spent in each phase of the bootstrap process, and by the
+	 * slowest entities and collections of the phases which are timed per entity,
+	 * as recorded in the {@link StartupProfile} of the session factory.
+	 */
+	private void startupTimers(MeterRegistry registry) {
+		if ( this.startupProfile == null ) {
+			return;
+		}
+
+		startupProfile.phaseDurations().forEach( (phase, duration) ->
+				Timer.builder( "hibernate.startup" )
+						.description( "The time spent in a phase of the bootstrap process" )
+						.tags( tags )
+						.tag( "phase", phase.name() )
+						.register( registry )
+						.record( duration )
+		);
+		for ( StartupPhase phase : StartupPhase.values() ) {
+			for ( StartupProfiler.Timing timing : startupProfile.getSlowestRoles( phase ) ) {
+				Timer.builder( "hibernate.startup.slowest" )
+						.description( "The time spent by one of the slowest entities or collections in a phase of the bootstrap process" )
+						.tags( tags )
+						.tag( "phase", phase.name() )
+						.tag( "role", timing.role() )
+						.register( registry )
+						.record( timing.duration() );
+			}
+		}
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
+		startupTimers( registry );
+
 		if ( this.statistics == null ) {
 			return;
 		}
@@ -68,6 +68,15 @@ public void cleanUpMetrics(SessionFactoryScope factoryScope) {
 		factoryScope.dropData();
 	}
 
+	@Test
+	public void testStartupMetrics() {
+		assertEquals( 1, registry.get( "hibernate.startup" ).tags( "phase", "PERSISTER_CREATION" ).timer().count() );
+		assertEquals( 1, registry.get( "hibernate.startup" ).tags( "phase", "SESSION_FACTORY_INITIALIZATION" ).timer().count() );
+		assertNotNull( registry.get( "hibernate.startup.slowest" )
+				.tags( "phase", "PERSISTER_CREATION", "role", Account.class.getName() )
+				.timer() );
+	}
+
 	@Test
 	public void testMicrometerMetrics(SessionFactoryScope factoryScope) {
 		assertNotNull(registry.get("hibernate.sessions.open").functionCounter());
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.scan.jandex;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static org.hibernate.boot.scan.internal.ScannerLogger.SCANNER_LOGGER;
+
+/// Caches the Jandex [Index] of an archive in a directory, so that an unchanged
+/// archive is not indexed again the next time the application starts.
+///
+/// Only archives which are regular files, that is, jars, are cached.  A cached
+/// index is identified by the path of the archive, and is used only while the
+/// size and last-modified time of the archive remain unchanged.  Exploded
+/// directories are always indexed, since detecting a change would require
+/// visiting every entry anyway.
+///
+/// A missing, stale, or unreadable cache entry is never an error: the archive
+/// is simply indexed again, and the cache entry rewritten.
+///
+/// @see ScanningProviderImpl#JANDEX_INDEX_CACHE
+public class ArchiveIndexCache {
+	private static final String SUFFIX = ".idx";
+
+	private final Path directory;
+
+	public ArchiveIndexCache(Path directory) {
+		this.directory = directory;
+	}
+
+	/// The archive file underlying the given archive URL, or `null` if the
+	/// archive is not a file which may be cached.
+	public static Path archiveFile(URL archiveUrl) {
+		try {
+			URI uri = archiveUrl.toURI();
+			if ( "jar".equals( uri.getScheme() ) ) {
+				// only the root of a jar, not some nested entry
+				final String spec = uri.getRawSchemeSpecificPart();
+				final int separator = spec.indexOf( "!/" );
+				if ( separator < 0 || separator + 2 != spec.length() ) {
+					return null;
+				}
+				uri = new URI( spec.substring( 0, separator ) );
+			}
+			if ( !"file".equals( uri.getScheme() ) ) {
+				return null;
+			}
+			final Path path = Path.of( uri );
+			return Files.isRegularFile( path ) ? path : null;
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/// The key identifying the current state of the given archive file, or
+	/// `null` if its attributes cannot be read.
+	public String key(Path archiveFile) {
+		try {
+			final var attributes = Files.readAttributes( archiveFile, BasicFileAttributes.class );
+			return prefix( archiveFile )
+					+ hash( attributes.size() + "|" + attributes.lastModifiedTime().toMillis() );
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	/// Read the cached index for the given key, or return `null` if there is none.
+	public Index read(String key) {
+		final Path cacheFile = directory.resolve( key + SUFFIX );
+		if ( !Files.isRegularFile( cacheFile ) ) {
+			return null;
+		}
+		try ( InputStream stream = Files.newInputStream( cacheFile ) ) {
+			return new IndexReader( stream ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			SCANNER_LOGGER.ignoringCachedIndex( cacheFile, e.getMessage() );
+			return null;
+		}
+	}
+
+	/// Cache the index of the given archive file under the given key, removing
+	/// any index previously cached for an earlier state of the same archive.
+	public void write(Path archiveFile, String key, Index index) {
+		try {
+			Files.createDirectories( directory );
+			// write to a temporary file first, since other processes
+			// may be reading the cache concurrently
+			final Path temporaryFile = Files.createTempFile( directory, key, ".tmp" );
+			try {
+				try ( OutputStream stream = Files.newOutputStream( temporaryFile ) ) {
+					new IndexWriter( stream ).write( index );
+				}
+				Files.move( temporaryFile, directory.resolve( key + SUFFIX ), StandardCopyOption.REPLACE_EXISTING );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+			removeStaleEntries( archiveFile, key );
+		}
+		catch (IOException e) {
+			SCANNER_LOGGER.unableToCacheIndex( archiveFile, e.getMessage() );
+		}
+	}
+
+	private void removeStaleEntries(Path archiveFile, String key) throws IOException {
+		try ( DirectoryStream<Path> entries =
+					Files.newDirectoryStream( directory, prefix( archiveFile ) + "*" + SUFFIX ) ) {
+			for ( Path entry : entries ) {
+				if ( !entry.getFileName().toString().equals( key + SUFFIX ) ) {
+					Files.deleteIfExists( entry );
+				}
+			}
+		}
+	}
+
+	private static String prefix(Path archiveFile) {
+		return hash( archiveFile.toAbsolutePath().normalize().toString() ) + "-";
+	}
+
+	private static String hash(String value) {
+		try {
+			final byte[] digest = MessageDigest.getInstance( "SHA-256" )
+					.digest( value.getBytes( StandardCharsets.UTF_8 ) );
+			return HexFormat.of().formatHex( digest, 0, 16 );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -13,55 +13,130 @@
 import org.hibernate.boot.scan.spi.ScanningContext;
 import org.hibernate.boot.scan.spi.ScanningResult;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+import static org.hibernate.scan.jandex.ScanningProviderImpl.JANDEX_INDEXING_PARALLELISM;
+import static org.hibernate.scan.jandex.ScanningProviderImpl.JANDEX_INDEX_CACHE;
 
 /**
+ * Builds a Jandex index of the scanned archives, and scans it for managed classes.
+ * Each archive is indexed separately, possibly {@linkplain ArchiveIndexCache cached},
+ * and the resulting indexes are combined into a {@link CompositeIndex}.
+ *
  * @author Steve Ebersole
  */
 public class IndexBuildingScanner implements Scanner {
 	private final ScanningContext scanningContext;
+	private final ArchiveIndexCache indexCache;
+	private final int parallelism;
 
 	public IndexBuildingScanner(ScanningContext scanningContext) {
 		this.scanningContext = scanningContext;
+		final var properties = scanningContext.getProperties();
+		final String cacheDirectory = getString( JANDEX_INDEX_CACHE, properties );
+		this.indexCache = cacheDirectory == null ? null : new ArchiveIndexCache( Path.of( cacheDirectory ) );
+		this.parallelism = getInt( JANDEX_INDEXING_PARALLELISM, properties, 1 );
 	}
 
 	@Override
 	public ScanningResult scan(URL... boundaries) {
-		var resultCollector = new ResultCollector();
-		var indexer = IndexerSupport.buildBaselineIndexer();
+		final List<ArchiveDescriptor> archives = new ArrayList<>( boundaries.length );
 		for ( URL boundary : boundaries ) {
-			var archive = scanningContext.getArchiveDescriptorFactory().buildArchiveDescriptor(boundary);
-			archive.visitClassEntries( (entry) -> indexClassEntry( entry, indexer ) );
+			archives.add( scanningContext.getArchiveDescriptorFactory().buildArchiveDescriptor( boundary ) );
 		}
-		var indexToUse = indexer.complete();
-		IndexScanner.scanForClasses( indexToUse, resultCollector );
-		return resultCollector.toResult();
+		return scan( archives );
 	}
 
 	@Override
 	public ScanningResult jpaScan(ArchiveDescriptor rootArchive, JaxbPersistenceUnitImpl jaxbUnit) {
-		var resultCollector = new ResultCollector();
-		var indexer = IndexerSupport.buildBaselineIndexer();
-
+		final List<ArchiveDescriptor> archives = new ArrayList<>();
 		if ( jaxbUnit.isExcludeUnlistedClasses() != Boolean.TRUE ) {
-			rootArchive.visitClassEntries(  (entry) -> indexClassEntry( entry, indexer ) );
+			archives.add( rootArchive );
 		}
 		if ( CollectionHelper.isNotEmpty( jaxbUnit.getJarFiles() ) ) {
-			jaxbUnit.getJarFiles().forEach( jarFileRef -> {
-				final var jarFileArchive = rootArchive.resolveJarFileReference( jarFileRef );
-				jarFileArchive.visitClassEntries(  (entry) -> indexClassEntry( entry, indexer ) );
-			} );
+			jaxbUnit.getJarFiles().forEach( jarFileRef ->
+					archives.add( rootArchive.resolveJarFileReference( jarFileRef ) ) );
 		}
-		var indexToUse = indexer.complete();
+		return scan( archives );
+	}
+
+	private ScanningResult scan(List<ArchiveDescriptor> archives) {
+		final List<IndexView> indexes = new ArrayList<>( archives.size() + 1 );
+		indexes.add( IndexerSupport.buildBaselineIndexer().complete() );
+		indexes.addAll( indexArchives( archives ) );
 
-		IndexScanner.scanForClasses( indexToUse, resultCollector );
+		var resultCollector = new ResultCollector();
+		IndexScanner.scanForClasses( CompositeIndex.create( indexes ), resultCollector );
 		return resultCollector.toResult();
 	}
 
+	private List<Index> indexArchives(List<ArchiveDescriptor> archives) {
+		if ( parallelism > 1 && archives.size() > 1 ) {
+			final ForkJoinPool pool = createPool( Math.min( parallelism, archives.size() ) );
+			try {
+				return pool.submit( () -> archives.parallelStream().map( this::indexArchive ).toList() ).join();
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+		else {
+			return archives.stream().map( this::indexArchive ).toList();
+		}
+	}
+
+	/**
+	 * Creates the pool used to index archives when
+	 * {@value ScanningProviderImpl#JANDEX_INDEXING_PARALLELISM} is enabled.
+	 * The worker threads see the same context class loader as the scanning thread.
+	 */
+	private static ForkJoinPool createPool(int parallelism) {
+		final var classLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "hibernate-jandex-indexing-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( classLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	private Index indexArchive(ArchiveDescriptor archive) {
+		final Path archiveFile = indexCache == null ? null : ArchiveIndexCache.archiveFile( archive.getUrl() );
+		final String cacheKey = archiveFile == null ? null : indexCache.key( archiveFile );
+		if ( cacheKey != null ) {
+			final Index cachedIndex = indexCache.read( cacheKey );
+			if ( cachedIndex != null ) {
+				return cachedIndex;
+			}
+		}
+
+		final var indexer = new Indexer();
+		archive.visitClassEntries( (entry) -> indexClassEntry( entry, indexer ) );
+		final Index index = indexer.complete();
+		if ( cacheKey != null ) {
+			indexCache.write( archiveFile, cacheKey, index );
+		}
+		return index;
+	}
+
 	private void indexClassEntry(ArchiveEntry entry, Indexer indexer) {
 		try (final InputStream stream = entry.getStreamAccess().accessInputStream()) {
 			indexer.index( stream );
@@ -15,6 +15,24 @@
 public class ScanningProviderImpl implements ScanningProvider {
 	public static final String JANDEX_INDEX = "hibernate.jandex.index";
 
+	/// A directory in which the Jandex index of each scanned jar is cached,
+	/// so that unchanged jars are not indexed again on the next startup.
+	/// Ignored when [#JANDEX_INDEX] is specified.
+	///
+	/// By default, indexes are not cached.
+	///
+	/// @see ArchiveIndexCache
+	/// @since 8.1
+	public static final String JANDEX_INDEX_CACHE = "hibernate.jandex.index_cache";
+
+	/// The number of threads used to index scanned archives, each archive being
+	/// indexed by a single thread.  Ignored when [#JANDEX_INDEX] is specified.
+	///
+	/// By default, archives are indexed sequentially by the bootstrap thread.
+	///
+	/// @since 8.1
+	public static final String JANDEX_INDEXING_PARALLELISM = "hibernate.jandex.indexing_parallelism";
+
 	@Override
 	public Scanner builderScanner(ScanningContext scanningContext) {
 		var providedIndex = (IndexView) scanningContext.getProperties().get( JANDEX_INDEX );
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.test.scan.jandex;
+
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.scan.internal.ScanningContextImpl;
+import org.hibernate.boot.scan.spi.ScanningResult;
+import org.hibernate.scan.jandex.ScanningProviderImpl;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Tests for [org.hibernate.scan.jandex.IndexBuildingScanner], including
+/// [ScanningProviderImpl#JANDEX_INDEX_CACHE] and
+/// [ScanningProviderImpl#JANDEX_INDEXING_PARALLELISM]
+public class IndexBuildingScanningTests {
+
+	@Test
+	void testIndexCache(@TempDir File stagingDir, @TempDir Path cacheDir) throws IOException {
+		final File jar = buildJar( "my-model.jar", stagingDir, Entity.class, Book.class, SecondClass.class );
+		final Map<Object, Object> properties = Map.of( ScanningProviderImpl.JANDEX_INDEX_CACHE, cacheDir.toString() );
+
+		assertThat( scan( properties, jar ).discoveredClasses() )
+				.containsExactly( Book.class.getName() );
+		final List<Path> cacheFiles = cacheFiles( cacheDir );
+		assertThat( cacheFiles ).hasSize( 1 );
+
+		// an unchanged jar is read from the cache
+		final FileTime cachedTime = Files.getLastModifiedTime( cacheFiles.get( 0 ) );
+		assertThat( scan( properties, jar ).discoveredClasses() )
+				.containsExactly( Book.class.getName() );
+		assertThat( cacheFiles( cacheDir ) ).isEqualTo( cacheFiles );
+		assertThat( Files.getLastModifiedTime( cacheFiles.get( 0 ) ) ).isEqualTo( cachedTime );
+
+		// a modified jar is indexed again, replacing the stale cache entry
+		buildJar( "my-model.jar", stagingDir, Entity.class, SuperCoolFeature.class, Book.class, FirstClass.class );
+		Files.setLastModifiedTime( jar.toPath(),
+				FileTime.fromMillis( cachedTime.toMillis() + 10_000 ) );
+		assertThat( scan( properties, jar ).discoveredClasses() )
+				.containsExactlyInAnyOrder( Book.class.getName(), FirstClass.class.getName() );
+		assertThat( cacheFiles( cacheDir ) ).hasSize( 1 ).doesNotContainAnyElementsOf( cacheFiles );
+	}
+
+	@Test
+	void testCorruptIndexCache(@TempDir File stagingDir, @TempDir Path cacheDir) throws IOException {
+		final File jar = buildJar( "my-model.jar", stagingDir, Entity.class, Book.class );
+		final Map<Object, Object> properties = Map.of( ScanningProviderImpl.JANDEX_INDEX_CACHE, cacheDir.toString() );
+
+		scan( properties, jar );
+		Files.write( cacheFiles( cacheDir ).get( 0 ), new byte[] { 1, 2, 3 } );
+		assertThat( scan( properties, jar ).discoveredClasses() )
+				.containsExactly( Book.class.getName() );
+	}
+
+	@Test
+	void testParallelIndexing(@TempDir File stagingDir) throws IOException {
+		final File first = buildJar( "first.jar", stagingDir, Entity.class, Book.class );
+		final File second = buildJar( "second.jar", stagingDir, SuperCoolFeature.class, FirstClass.class, SecondClass.class );
+		final File third = buildJar( "third.jar", stagingDir, BookRepository.class );
+		final Map<Object, Object> properties = Map.of( ScanningProviderImpl.JANDEX_INDEXING_PARALLELISM, "3" );
+
+		assertThat( scan( properties, first, second, third ).discoveredClasses() )
+				.containsExactlyInAnyOrder( Book.class.getName(), FirstClass.class.getName() );
+	}
+
+	private static ScanningResult scan(Map<Object, Object> properties, File... jars) throws IOException {
+		final var scanningContext = new ScanningContextImpl(
+				new StandardArchiveDescriptorFactory(),
+				new HashMap<>( properties )
+		);
+		final var scanner = new ScanningProviderImpl().builderScanner( scanningContext );
+		final var urls = new URL[jars.length];
+		for ( int i = 0; i < jars.length; i++ ) {
+			urls[i] = jars[i].toURI().toURL();
+		}
+		return scanner.scan( urls );
+	}
+
+	private static List<Path> cacheFiles(Path cacheDir) throws IOException {
+		try ( Stream<Path> files = Files.list( cacheDir ) ) {
+			return files.toList();
+		}
+	}
+
+	private static File buildJar(String fileName, File stagingDir, Class<?>... classes) {
+		var jarArchive = ShrinkWrap.create( JavaArchive.class, fileName );
+		jarArchive.addClasses( classes );
+		var exportedArchive = new File( stagingDir, fileName );
+		jarArchive.as( ZipExporter.class ).exportTo( exportedArchive, true );
+		return exportedArchive;
+	}
+}
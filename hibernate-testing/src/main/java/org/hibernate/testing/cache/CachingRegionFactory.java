@@ -60,7 +60,7 @@ public DomainDataRegion buildDomainDataRegion(
 		return new DomainDataRegionImpl(
 				regionConfig,
 				this,
-				new MapStorageAccessImpl(),
+				partitionByTenant( regionConfig.getRegionName(), new MapStorageAccessImpl() ),
 				cacheKeysFactory,
 				buildingContext
 		);
@@ -140,6 +140,12 @@ public boolean apply(Dialect dialect) {
 		}
 	}
 
+	public static class SupportsPartialIndexes implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsPartialIndexes();
+		}
+	}
+
 	public static class SupportsExpectedLobUsagePattern implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect.supportsExpectedLobUsagePattern();
@@ -19,6 +19,7 @@
 import org.gradle.api.tasks.SourceSet;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementHelper;
+import org.hibernate.orm.tooling.gradle.misc.ScanningSnapshotHelper;
 import org.hibernate.orm.tooling.gradle.reveng.RevengTask;
 import org.hibernate.orm.tooling.gradle.reveng.GenerateCfgTask;
 import org.hibernate.orm.tooling.gradle.reveng.GenerateDaoTask;
@@ -50,6 +51,7 @@ public void apply(Project project) {
 			);
 
 			prepareEnhancement( ormDsl, project );
+			prepareScanningSnapshot( ormDsl, project );
 			prepareHbmTransformation( ormDsl, project );
 			prepareReveng( ormDsl, project );
 
@@ -110,6 +112,37 @@ public void execute(Task t) {
 		} );
 	}
 
+	private void prepareScanningSnapshot(HibernateOrmSpec ormDsl, Project project) {
+		project.getGradle().getTaskGraph().whenReady( (graph) -> {
+			if ( !ormDsl.getScanningSnapshot().get() ) {
+				return;
+			}
+
+			SourceSet sourceSet = resolveSourceSet( ormDsl.getSourceSet().get(), project );
+			project.getTasks()
+					.matching( task -> task.getName().equals( sourceSet.getClassesTaskName() ) )
+					.configureEach( task -> {
+						FileCollection classesDirs = sourceSet.getOutput().getClassesDirs();
+						Provider<FileCollection> dependencyFiles = project
+								.getConfigurations()
+								.named( sourceSet.getCompileClasspathConfigurationName() )
+								.map(FileCollection.class::cast);
+						//noinspection Convert2Lambda
+						task.doLast(new Action<>() {
+							@Override
+							public void execute(Task t) {
+								final ClassLoader classLoader = Helper.toClassLoader(classesDirs, dependencyFiles.get().getFiles());
+								ScanningSnapshotHelper.writeSnapshot(
+										classesDirs.getFiles(),
+										sourceSet.getOutput().getResourcesDir(),
+										classLoader
+								);
+							}
+						});
+					});
+		} );
+	}
+
 	private SourceSet resolveSourceSet(String name, Project project) {
 		final JavaPluginExtension javaPluginExtension = project.getExtensions().getByType( JavaPluginExtension.class );
 		return javaPluginExtension.getSourceSets().getByName( name );
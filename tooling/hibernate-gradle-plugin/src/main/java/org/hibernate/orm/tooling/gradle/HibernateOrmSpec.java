@@ -31,6 +31,7 @@ public HibernateOrmSpec() {
 		getUseSameVersion().convention( true );
 		getSourceSet().convention( SourceSet.MAIN_SOURCE_SET_NAME );
 		getLanguages().convention( Arrays.asList( "java", "kotlin" ) );
+		getScanningSnapshot().convention( false );
 	}
 
 	@Inject
@@ -68,6 +69,15 @@ public HibernateOrmSpec() {
 	 */
 	abstract public SetProperty<String> getLanguages();
 
+	/**
+	 * Should the plugin write a {@linkplain org.hibernate.boot.scan.spi.ScanningSnapshot snapshot}
+	 * of the managed classes of the source-set, which Hibernate reads at runtime instead of
+	 * scanning the persistence unit?
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	abstract public Property<Boolean> getScanningSnapshot();
+
 	/**
 	 * @see #getEnhancement()
 	 */
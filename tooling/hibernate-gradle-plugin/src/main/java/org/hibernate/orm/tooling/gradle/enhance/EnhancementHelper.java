@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.Map;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.file.Directory;
@@ -60,6 +61,12 @@ public static void enhance(
 
 		discoverTypes( classesDir, classesDir, enhancer, ormDsl.getFileOperations() );
 		doEnhancement( classesDir, classesDir, enhancer, ormDsl.getFileOperations(), classesToEnhance );
+
+		if ( enhancementDsl.getGenerateRuntimeClasses().get() ) {
+			// a new enhancer, so that supertypes are seen in their enhanced form
+			final Enhancer generator = generateEnhancer( classLoader, enhancementDsl );
+			generateRuntimeClasses( classesDir, classesDir, generator, classesToEnhance );
+		}
 	}
 
 	private static void discoverTypes(File classesDir, File dir, Enhancer enhancer, FileOperations fileOperations) {
@@ -106,6 +113,40 @@ else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
 		}
 	}
 
+	private static void generateRuntimeClasses(File classesDir, File dir, Enhancer enhancer, List<String> classesToEnhance) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				generateRuntimeClasses( classesDir, subLocation, enhancer, classesToEnhance );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+				if ( classesToEnhance.isEmpty() || classesToEnhance.contains( className ) ) {
+					generateRuntimeClasses( classesDir, subLocation, className, enhancer );
+				}
+			}
+		}
+	}
+
+	private static void generateRuntimeClasses(File classesDir, File javaClassFile, String className, Enhancer enhancer) {
+		final Map<String, byte[]> generatedClasses;
+		try {
+			generatedClasses = enhancer.generateRuntimeClasses( className, Files.readAllBytes( javaClassFile.toPath() ) );
+		}
+		catch (Exception e) {
+			throw new GradleException( "Unable to generate runtime classes for class : " + className, e );
+		}
+		generatedClasses.forEach( (generatedClassName, bytecode) -> {
+			final File file = new File( classesDir, generatedClassName.replace( '.', File.separatorChar ) + ".class" );
+			try {
+				Files.write( file.toPath(), bytecode );
+			}
+			catch (IOException e) {
+				throw new GradleException( "Error writing generated class to file [" + file.getAbsolutePath() + "]", e );
+			}
+			logger.info( "Successfully generated class : " + generatedClassName );
+		} );
+	}
+
 	private static void discoverTypes(
 			File javaClassFile,
 			String className,
@@ -19,6 +19,7 @@ public EnhancementSpec() {
 		getEnableDirtyTracking().convention( true );
 		getEnableAssociationManagement().convention( false );
 		getEnableExtendedEnhancement().convention( false );
+		getGenerateRuntimeClasses().convention( false );
 		getClassNames().convention(new ArrayList<>());
 	}
 
@@ -46,6 +47,14 @@ public EnhancementSpec() {
 	@Deprecated(forRemoval = true)
 	abstract public Property<Boolean> getEnableExtendedEnhancement();
 
+	/**
+	 * Whether the instantiator and proxy classes of the enhanced classes should be generated
+	 * at build time, instead of by Hibernate at runtime.
+	 *
+	 * @see org.hibernate.bytecode.enhance.spi.Enhancer#generateRuntimeClasses
+	 */
+	abstract public Property<Boolean> getGenerateRuntimeClasses();
+
 	/**
 	 * Returns the classes on which enhancement needs to be done
 	 */
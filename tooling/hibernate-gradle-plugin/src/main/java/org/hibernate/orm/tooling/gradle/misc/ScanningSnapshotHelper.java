@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.gradle.misc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+
+import org.hibernate.boot.scan.spi.ScanningResult;
+import org.hibernate.boot.scan.spi.ScanningSnapshot;
+
+/**
+ * Writes a {@linkplain ScanningSnapshot snapshot} of the managed classes of a source-set
+ * into its resources output directory.
+ *
+ * @see org.hibernate.orm.tooling.gradle.HibernateOrmSpec#getScanningSnapshot()
+ */
+public class ScanningSnapshotHelper {
+	private static final Logger logger = Logging.getLogger( ScanningSnapshotHelper.class );
+
+	public static void writeSnapshot(Set<File> classesDirs, File resourcesDir, ClassLoader classLoader) {
+		final List<Path> roots = new ArrayList<>();
+		for ( File classesDir : classesDirs ) {
+			roots.add( classesDir.toPath() );
+		}
+		if ( resourcesDir != null ) {
+			roots.add( resourcesDir.toPath() );
+		}
+
+		final Path snapshot = (resourcesDir != null ? resourcesDir : classesDirs.iterator().next())
+				.toPath()
+				.resolve( ScanningSnapshot.DEFAULT_RESOURCE_NAME );
+		try {
+			final ScanningResult result = ScanningSnapshot.discover( roots, classLoader );
+			Files.createDirectories( snapshot.getParent() );
+			try ( OutputStream outputStream = Files.newOutputStream( snapshot ) ) {
+				ScanningSnapshot.write( result, outputStream );
+			}
+			logger.info( "Wrote scanning snapshot listing " + result.discoveredClasses().size()
+					+ " managed classes : " + snapshot );
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write scanning snapshot : " + snapshot, e );
+		}
+	}
+
+	private ScanningSnapshotHelper() {
+	}
+}
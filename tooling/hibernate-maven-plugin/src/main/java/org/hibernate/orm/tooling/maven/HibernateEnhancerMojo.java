@@ -27,6 +27,7 @@
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -95,6 +96,15 @@ public class HibernateEnhancerMojo extends AbstractMojo {
 			required = true)
 	private boolean enableExtendedEnhancement;
 
+	/**
+	 * A boolean that indicates whether or not to generate the instantiator and proxy classes
+	 * of the enhanced classes, which Hibernate would otherwise generate at runtime
+	 */
+	@Parameter(
+			defaultValue = "false",
+			required = true)
+	private boolean generateRuntimeClasses;
+
 	/**
 	 * The Maven Project Object
 	 */
@@ -109,6 +119,11 @@ public void execute() throws MojoExecutionException {
 			createEnhancer();
 			discoverTypes();
 			performEnhancement();
+			if (generateRuntimeClasses) {
+				// a new enhancer, so that supertypes are seen in their enhanced form
+				createEnhancer();
+				performRuntimeClassGeneration();
+			}
 		}
 		getLog().debug(ENDING_EXECUTION_OF_ENHANCE_MOJO);
 	}
@@ -289,6 +304,38 @@ private boolean enhanceClass(File classFile) throws MojoExecutionException {
 		return true;
 	}
 
+	private void performRuntimeClassGeneration() throws MojoExecutionException {
+		getLog().debug(STARTING_RUNTIME_CLASS_GENERATION);
+		for (File classFile : sourceSet) {
+			generateRuntimeClasses(classFile);
+		}
+		getLog().debug(ENDING_RUNTIME_CLASS_GENERATION);
+	}
+
+	private void generateRuntimeClasses(File classFile) throws MojoExecutionException {
+		getLog().debug(TRYING_TO_GENERATE_RUNTIME_CLASSES_FOR_CLASS_FILE.formatted(classFile));
+		final Map<String, byte[]> generatedClasses;
+		try {
+			generatedClasses = enhancer.generateRuntimeClasses(
+					determineClassName(classFile),
+					Files.readAllBytes(classFile.toPath()));
+		}
+		catch (EnhancementException | IOException e) {
+			throw new MojoExecutionException(UNABLE_TO_GENERATE_RUNTIME_CLASSES_FOR_CLASS_FILE.formatted(classFile), e);
+		}
+		for (var generatedClass : generatedClasses.entrySet()) {
+			final File file = new File(classFile.getParentFile(),
+					generatedClass.getKey().substring(generatedClass.getKey().lastIndexOf('.') + 1) + ".class");
+			try {
+				Files.write(file.toPath(), generatedClass.getValue());
+			}
+			catch (IOException e) {
+				throw new MojoExecutionException(ERROR_WRITING_BYTES_TO_FILE.formatted(file), e);
+			}
+			getLog().info(SUCCESSFULLY_GENERATED_CLASS_FILE.formatted(file));
+		}
+	}
+
 	private void writeByteCodeToFile(byte[] bytes, File file) throws MojoExecutionException {
 		getLog().debug(WRITING_BYTE_CODE_TO_FILE.formatted(file));
 		if (clearFile(file)) {
@@ -334,6 +381,7 @@ private boolean clearFile(File file) throws MojoExecutionException {
 	static final String SKIPPING_FILE = "Skipping file: %s";
 	static final String SUCCESSFULLY_DISCOVERED_TYPES_FOR_CLASS_FILE = "Successfully discovered types for classes in file: %s";
 	static final String ADDED_FILE_TO_SOURCE_SET = "Added file to source set: %s";
+	static final String SUCCESSFULLY_GENERATED_CLASS_FILE = "Successfully generated class file: %s";
 
 	// warning messages
 	static final String PROBLEM_CLEARING_FILE = "Problem clearing file for writing out enhancements [ %s ]";
@@ -348,6 +396,7 @@ private boolean clearFile(File file) throws MojoExecutionException {
 	static final String ERROR_WHILE_ENHANCING_CLASS_FILE = "An exception occurred while trying to enhance the class file: %s";
 	static final String ERROR_WHILE_ENHANCING_CLASSES = "An exception occurred while trying to enhance class file. See above logs for more details.";
 	static final String UNABLE_TO_DISCOVER_TYPES_FOR_CLASS_FILE = "Unable to discover types for classes in file: %s";
+	static final String UNABLE_TO_GENERATE_RUNTIME_CLASSES_FOR_CLASS_FILE = "Unable to generate runtime classes for class file: %s";
 	static final String UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER = "An unexpected error occurred while constructing the classloader";
 	static final String UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER_ADD_DEPENDENCY_ARTIFACT = "Unable to resolve URL for dependency %s at %s";
 	static final String UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER_DEPENDENCIES = "An unexpected error occurred while constructing the classloader. See above logs for more details.";
@@ -364,6 +413,9 @@ private boolean clearFile(File file) throws MojoExecutionException {
 	static final String TRYING_TO_DISCOVER_TYPES_FOR_CLASS_FILE = "Trying to discover types for classes in file: %s";
 	static final String STARTING_TYPE_DISCOVERY = "Starting type discovery";
 	static final String ENDING_TYPE_DISCOVERY = "Ending type discovery";
+	static final String TRYING_TO_GENERATE_RUNTIME_CLASSES_FOR_CLASS_FILE = "Trying to generate runtime classes for class file: %s";
+	static final String STARTING_RUNTIME_CLASS_GENERATION = "Starting runtime class generation";
+	static final String ENDING_RUNTIME_CLASS_GENERATION = "Ending runtime class generation";
 	static final String CREATE_BYTECODE_ENHANCER = "Creating bytecode enhancer";
 	static final String CREATE_ENHANCEMENT_CONTEXT = "Creating enhancement context";
 	static final String CREATE_URL_CLASSLOADER_FOR_FOLDER = "Creating URL ClassLoader for folder: %s";
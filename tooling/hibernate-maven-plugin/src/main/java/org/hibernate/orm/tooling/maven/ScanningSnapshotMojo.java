@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.maven;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.hibernate.boot.scan.spi.ScanningResult;
+import org.hibernate.boot.scan.spi.ScanningSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maven mojo for writing a {@linkplain ScanningSnapshot snapshot} of the managed
+ * classes of the project, which Hibernate reads at runtime instead of scanning
+ * the persistence unit.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#SCANNING_SNAPSHOT
+ */
+@Mojo(name = "scanning-snapshot", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+		requiresDependencyResolution = ResolutionScope.COMPILE)
+public class ScanningSnapshotMojo extends AbstractMojo {
+
+	/**
+	 * The folder containing the compiled classes and resources of the project,
+	 * into which the snapshot is written.
+	 */
+	@Parameter(
+			defaultValue = "${project.build.directory}/classes",
+			required = true)
+	private File classesDirectory;
+
+	/**
+	 * The Maven Project Object
+	 */
+	@Parameter(defaultValue = "${project}", readonly = true, required = true)
+	private MavenProject project;
+
+	public void execute() throws MojoExecutionException {
+		getLog().debug(STARTING_EXECUTION_OF_SCANNING_SNAPSHOT_MOJO);
+		final Path snapshot = classesDirectory.toPath().resolve(ScanningSnapshot.DEFAULT_RESOURCE_NAME);
+		try {
+			final ScanningResult result =
+					ScanningSnapshot.discover(List.of(classesDirectory.toPath()), createClassLoader());
+			Files.createDirectories(snapshot.getParent());
+			try (OutputStream outputStream = Files.newOutputStream(snapshot)) {
+				ScanningSnapshot.write(result, outputStream);
+			}
+			getLog().info(WROTE_SCANNING_SNAPSHOT.formatted(result.discoveredClasses().size(), snapshot));
+		}
+		catch (IOException e) {
+			throw new MojoExecutionException(UNABLE_TO_WRITE_SCANNING_SNAPSHOT.formatted(snapshot), e);
+		}
+		getLog().debug(ENDING_EXECUTION_OF_SCANNING_SNAPSHOT_MOJO);
+	}
+
+	private ClassLoader createClassLoader() throws MojoExecutionException {
+		List<URL> urls = new ArrayList<>();
+		try {
+			urls.add(classesDirectory.toURI().toURL());
+			// Add dependencies to classpath as well - all but the ones used for testing purposes
+			final Set<Artifact> artifacts = this.project.getArtifacts();
+			if (artifacts != null) {
+				for (var artifact : artifacts) {
+					if (!Artifact.SCOPE_TEST.equals(artifact.getScope())) {
+						urls.add(artifact.getFile().toURI().toURL());
+					}
+				}
+			}
+		}
+		catch (MalformedURLException e) {
+			throw new MojoExecutionException(UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER, e);
+		}
+		return new URLClassLoader(urls.toArray(new URL[0]), ScanningSnapshot.class.getClassLoader());
+	}
+
+	// info messages
+	static final String WROTE_SCANNING_SNAPSHOT = "Wrote scanning snapshot listing %s managed classes: %s";
+
+	// error messages
+	static final String UNABLE_TO_WRITE_SCANNING_SNAPSHOT = "Unable to write scanning snapshot: %s";
+	static final String UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER = "An unexpected error occurred while constructing the classloader";
+
+	// debug messages
+	static final String STARTING_EXECUTION_OF_SCANNING_SNAPSHOT_MOJO = "Starting execution of scanning-snapshot mojo";
+	static final String ENDING_EXECUTION_OF_SCANNING_SNAPSHOT_MOJO = "Ending execution of scanning-snapshot mojo";
+}